@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.groovyscripting.internal;
+
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.jsr223.GroovyCompiledScript;
+import org.codehaus.groovy.jsr223.GroovyScriptEngineImpl;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A Groovy script engine that gets the classes of its scripts from a {@link GroovyScriptCache} shared by all engines,
+ * instead of compiling every script in a class loader of its own.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class CachingGroovyScriptEngine extends GroovyScriptEngineImpl {
+
+    private final GroovyScriptCache cache;
+
+    public CachingGroovyScriptEngine(GroovyScriptCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public @Nullable Object eval(@Nullable String script, @Nullable ScriptContext ctx) throws ScriptException {
+        return compile(script, ctx).eval(ctx);
+    }
+
+    @Override
+    public CompiledScript compile(@Nullable String script) throws ScriptException {
+        return compile(script, getContext());
+    }
+
+    private CompiledScript compile(@Nullable String script, @Nullable ScriptContext ctx) throws ScriptException {
+        if (script == null) {
+            throw new NullPointerException("script is null");
+        }
+        try {
+            return new GroovyCompiledScript(this, cache.getScriptClass(script, getScriptPath(ctx)));
+        } catch (CompilationFailedException e) {
+            throw new ScriptException(e);
+        }
+    }
+
+    /**
+     * Returns the full path of the script file, which the cache uses to name the script class.
+     */
+    private @Nullable String getScriptPath(@Nullable ScriptContext ctx) {
+        Object fileName = ctx == null ? null : ctx.getAttribute(ScriptEngine.FILENAME);
+        return fileName == null ? null : fileName.toString();
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.groovyscripting.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
+import groovy.transform.CompileStatic;
+
+/**
+ * The {@link GroovyScriptCache} compiles Groovy scripts with a class loader shared by all script engines and caches
+ * the resulting classes by the SHA-256 hash of the script content. Reloading an unchanged script file or creating
+ * another engine for the same script therefore does not compile it again.
+ * <p>
+ * The class of a script is named after its file and a hash of its full path, so scripts with the same file name in
+ * different folders do not share a class name in the class loader.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GroovyScriptCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 256;
+    private static final String CODE_BASE = "/groovy/script";
+    private static final int NAME_HASH_LENGTH = 16;
+
+    private final Logger logger = LoggerFactory.getLogger(GroovyScriptCache.class);
+
+    private final ScriptClassLoader classLoader;
+    private final int maxEntries;
+
+    private final Map<String, Class<?>> classes = Collections
+            .synchronizedMap(new LinkedHashMap<String, Class<?>>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.@Nullable Entry<String, Class<?>> eldest) {
+                    if (size() > maxEntries && eldest != null) {
+                        classLoader.removeClass(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            });
+
+    private final Map<String, CompletableFuture<Class<?>>> compilations = new ConcurrentHashMap<>();
+
+    /**
+     * Compile time in milliseconds of the last compilation per script path
+     */
+    private final Map<String, Long> compileTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new cache
+     *
+     * @param parent the parent class loader of the compiled scripts
+     * @param compileStatic whether all scripts are compiled with {@link CompileStatic}
+     */
+    public GroovyScriptCache(ClassLoader parent, boolean compileStatic) {
+        this(parent, compileStatic, DEFAULT_MAX_ENTRIES);
+    }
+
+    GroovyScriptCache(ClassLoader parent, boolean compileStatic, int maxEntries) {
+        this.maxEntries = maxEntries;
+        CompilerConfiguration configuration = new CompilerConfiguration(CompilerConfiguration.DEFAULT);
+        if (compileStatic) {
+            configuration.addCompilationCustomizers(new ASTTransformationCustomizer(CompileStatic.class));
+        }
+        classLoader = new ScriptClassLoader(parent, configuration);
+    }
+
+    /**
+     * Returns the compiled class of the script, compiling it only if a script with the same content has not been
+     * compiled before. Concurrent requests for the same script wait for a single compilation.
+     *
+     * @param script the script source
+     * @param scriptPath the full path of the script file, used for the class name and the compile time metrics
+     * @return the compiled script class
+     * @throws CompilationFailedException if the script cannot be compiled
+     */
+    public Class<?> getScriptClass(String script, @Nullable String scriptPath) throws CompilationFailedException {
+        String key = hash(script);
+        Class<?> scriptClass = classes.get(key);
+        if (scriptClass != null) {
+            logger.trace("Using cached class for script {}", scriptPath);
+            return scriptClass;
+        }
+
+        CompletableFuture<Class<?>> compilation = new CompletableFuture<>();
+        CompletableFuture<Class<?>> runningCompilation = compilations.putIfAbsent(key, compilation);
+        if (runningCompilation != null) {
+            try {
+                return runningCompilation.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+            }
+        }
+
+        try {
+            String className = getClassName(scriptPath, key);
+            scriptClass = compile(script, className, scriptPath != null ? scriptPath : className);
+            classes.put(key, scriptClass);
+            compilation.complete(scriptClass);
+            return scriptClass;
+        } catch (RuntimeException e) {
+            compilation.completeExceptionally(e);
+            throw e;
+        } finally {
+            compilations.remove(key);
+        }
+    }
+
+    private Class<?> compile(String script, String className, String scriptPath) {
+        long start = System.nanoTime();
+        // the source cache of the class loader is not used, the classes are cached by their content here
+        Class<?> scriptClass = classLoader.parseClass(new GroovyCodeSource(script, className + ".groovy", CODE_BASE),
+                false);
+        long compileTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        compileTimes.put(scriptPath, compileTime);
+        logger.debug("Compiled Groovy script {} as {} in {} ms", scriptPath, scriptClass.getName(), compileTime);
+        return scriptClass;
+    }
+
+    /**
+     * Returns a class name that is unique for the script file. It consists of the file name and a hash of the full
+     * path. Scripts without a path are named after the hash of their content.
+     *
+     * @param scriptPath the full path of the script file
+     * @param key the hash of the script content
+     * @return the class name
+     */
+    static String getClassName(@Nullable String scriptPath, String key) {
+        if (scriptPath == null) {
+            return "Script_" + key.substring(0, NAME_HASH_LENGTH);
+        }
+        String fileName = scriptPath
+                .substring(Math.max(scriptPath.lastIndexOf('/'), scriptPath.lastIndexOf('\\')) + 1);
+        int extension = fileName.lastIndexOf('.');
+        if (extension > 0) {
+            fileName = fileName.substring(0, extension);
+        }
+        StringBuilder name = new StringBuilder(fileName.length() + NAME_HASH_LENGTH + 1);
+        for (char c : fileName.toCharArray()) {
+            name.append(Character.isJavaIdentifierPart(c) && c != '$' ? c : '_');
+        }
+        if (name.length() == 0 || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            name.insert(0, "Script_");
+        }
+        return name.append('_').append(hash(scriptPath).substring(0, NAME_HASH_LENGTH)).toString();
+    }
+
+    /**
+     * Returns the compile time in milliseconds of the last compilation of every script
+     *
+     * @return compile times by script path
+     */
+    public Map<String, Long> getCompileTimes() {
+        return Collections.unmodifiableMap(compileTimes);
+    }
+
+    /**
+     * Returns the class that the shared class loader knows under the given name
+     *
+     * @param name the class name
+     * @return the class or null if the class loader does not know it
+     */
+    @Nullable
+    Class<?> getLoadedClass(String name) {
+        return classLoader.getLoadedClass(name);
+    }
+
+    /**
+     * Removes all cached classes
+     */
+    public void clear() {
+        classes.clear();
+        classLoader.clearCache();
+    }
+
+    private static String hash(String script) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(script.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available in every Java runtime
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Class loader that allows removing an evicted script class, so that its inner class loader can be collected.
+     */
+    private static class ScriptClassLoader extends GroovyClassLoader {
+        ScriptClassLoader(ClassLoader parent, CompilerConfiguration configuration) {
+            super(parent, configuration);
+        }
+
+        /**
+         * Removes the class, unless a newer version of the script, which has the same class name, replaced it.
+         */
+        void removeClass(Class<?> scriptClass) {
+            if (getClassCacheEntry(scriptClass.getName()) == scriptClass) {
+                removeClassCacheEntry(scriptClass.getName());
+            }
+        }
+
+        @Nullable
+        Class<?> getLoadedClass(String name) {
+            return getClassCacheEntry(name);
+        }
+    }
+}
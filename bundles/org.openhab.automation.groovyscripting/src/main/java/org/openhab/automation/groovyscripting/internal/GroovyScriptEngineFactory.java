@@ -12,33 +12,92 @@
  */
 package org.openhab.automation.groovyscripting.internal;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.script.ScriptEngine;
 
+import org.codehaus.groovy.control.CompilationFailedException;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.automation.module.script.AbstractScriptEngineFactory;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
+import org.openhab.core.config.core.ConfigurableService;
+import org.osgi.framework.Constants;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This is an implementation of a {@link ScriptEngineFactory} for Groovy.
  *
+ * All engines share a {@link GroovyScriptCache}, so a script is only compiled again when its content changed. The
+ * script files in the automation folder are precompiled in parallel when the factory is activated.
+ *
  * @author Wouter Born - Initial contribution
  */
-@Component(service = ScriptEngineFactory.class)
+@Component(service = ScriptEngineFactory.class, configurationPid = "org.openhab.automation.groovyscripting", property = Constants.SERVICE_PID
+        + "=org.openhab.automation.groovyscripting")
+@ConfigurableService(category = "automation", label = "Groovy Scripting", description_uri = "automation:groovyscripting")
 @NonNullByDefault
 public class GroovyScriptEngineFactory extends AbstractScriptEngineFactory {
 
+    private static final String CONFIG_COMPILE_STATIC = "compileStatic";
+    private static final Path SCRIPT_FOLDER = Paths.get(OpenHAB.getConfigFolder(), "automation", "jsr223");
+
+    private final Logger logger = LoggerFactory.getLogger(GroovyScriptEngineFactory.class);
+
     private final org.codehaus.groovy.jsr223.GroovyScriptEngineFactory factory = new org.codehaus.groovy.jsr223.GroovyScriptEngineFactory();
 
     private final List<String> scriptTypes = (List<String>) Stream.of(factory.getExtensions(), factory.getMimeTypes())
             .flatMap(List::stream) //
             .collect(Collectors.toUnmodifiableList());
 
+    private final ForkJoinPool compilePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private volatile @Nullable GroovyScriptCache cache;
+    private boolean compileStatic;
+
+    @Activate
+    protected void activate(Map<String, Object> config) {
+        modified(config);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        boolean compileStatic = Boolean.parseBoolean(String.valueOf(config.get(CONFIG_COMPILE_STATIC)));
+        if (cache == null || compileStatic != this.compileStatic) {
+            this.compileStatic = compileStatic;
+            GroovyScriptCache cache = new GroovyScriptCache(getClass().getClassLoader(), compileStatic);
+            this.cache = cache;
+            compilePool.execute(() -> precompile(cache));
+        }
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        compilePool.shutdownNow();
+        GroovyScriptCache cache = this.cache;
+        if (cache != null) {
+            cache.clear();
+            this.cache = null;
+        }
+    }
+
     @Override
     public List<String> getScriptTypes() {
         return scriptTypes;
@@ -46,6 +105,51 @@ public class GroovyScriptEngineFactory extends AbstractScriptEngineFactory {
 
     @Override
     public @Nullable ScriptEngine createScriptEngine(String scriptType) {
-        return scriptTypes.contains(scriptType) ? factory.getScriptEngine() : null;
+        if (!scriptTypes.contains(scriptType)) {
+            return null;
+        }
+        GroovyScriptCache cache = this.cache;
+        return cache != null ? new CachingGroovyScriptEngine(cache) : factory.getScriptEngine();
+    }
+
+    /**
+     * Compiles all Groovy script files of the automation folder in parallel, so that loading them does not wait for
+     * their compilation.
+     */
+    private void precompile(GroovyScriptCache cache) {
+        if (!Files.isDirectory(SCRIPT_FOLDER)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(SCRIPT_FOLDER)) {
+            files = paths.filter(Files::isRegularFile).filter(this::isGroovyScript).collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.debug("Failed to list Groovy scripts in '{}': {}", SCRIPT_FOLDER, e.getMessage());
+            return;
+        }
+        if (files.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        AtomicInteger compiled = new AtomicInteger();
+        // runs in the compile pool, so the parallel stream uses its threads instead of the common pool
+        files.parallelStream().forEach(file -> {
+            try {
+                String script = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                cache.getScriptClass(script, file.toString());
+                compiled.incrementAndGet();
+            } catch (IOException | CompilationFailedException e) {
+                logger.debug("Failed to precompile Groovy script '{}': {}", file, e.getMessage());
+            }
+        });
+        logger.debug("Precompiled {} of {} Groovy scripts in {} ms", compiled.get(), files.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private boolean isGroovyScript(Path file) {
+        String fileName = file.getFileName().toString();
+        int index = fileName.lastIndexOf('.');
+        return index > 0 && factory.getExtensions().contains(fileName.substring(index + 1));
     }
 }
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.groovyscripting.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import groovy.lang.Binding;
+
+/**
+ * Tests for {@link GroovyScriptCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GroovyScriptCacheTest {
+
+    private static final String RULE_A = "/etc/openhab/automation/jsr223/a/rule.groovy";
+    private static final String RULE_B = "/etc/openhab/automation/jsr223/b/rule.groovy";
+
+    @Test
+    public void testSameNamedScriptsGetDifferentClasses() {
+        GroovyScriptCache cache = new GroovyScriptCache(getClass().getClassLoader(), false);
+        Class<?> classA = cache.getScriptClass("return 'a'", RULE_A);
+        Class<?> classB = cache.getScriptClass("return 'b'", RULE_B);
+
+        assertNotEquals(classA.getName(), classB.getName());
+        assertTrue(classA.getName().startsWith("rule_"));
+        assertTrue(classB.getName().startsWith("rule_"));
+        assertEquals("a", run(classA));
+        assertEquals("b", run(classB));
+        assertSame(classA, cache.getLoadedClass(classA.getName()));
+        assertSame(classB, cache.getLoadedClass(classB.getName()));
+    }
+
+    @Test
+    public void testEvictionKeepsClassOfSameNamedScript() {
+        GroovyScriptCache cache = new GroovyScriptCache(getClass().getClassLoader(), false, 1);
+        Class<?> classA = cache.getScriptClass("return 'a'", RULE_A);
+        Class<?> classB = cache.getScriptClass("return 'b'", RULE_B);
+
+        // the class of rule a has been evicted
+        assertNull(cache.getLoadedClass(classA.getName()));
+        assertSame(classB, cache.getLoadedClass(classB.getName()));
+        assertEquals("b", run(classB));
+    }
+
+    @Test
+    public void testReload() {
+        GroovyScriptCache cache = new GroovyScriptCache(getClass().getClassLoader(), false, 2);
+        Class<?> first = cache.getScriptClass("return 1", RULE_A);
+        assertSame(first, cache.getScriptClass("return 1", RULE_A));
+
+        // the modified script gets a new class with the same name
+        Class<?> second = cache.getScriptClass("return 2", RULE_A);
+        assertNotSame(first, second);
+        assertEquals(first.getName(), second.getName());
+        assertEquals(2, run(second));
+        assertSame(second, cache.getScriptClass("return 2", RULE_A));
+
+        // evicting the first version must not remove the second one from the class loader
+        cache.getScriptClass("return 3", RULE_B);
+        assertSame(second, cache.getLoadedClass(second.getName()));
+        assertEquals(2, run(cache.getScriptClass("return 2", RULE_A)));
+
+        // going back to the first version compiles it again
+        Class<?> third = cache.getScriptClass("return 1", RULE_A);
+        assertNotSame(first, third);
+        assertEquals(1, run(third));
+    }
+
+    @Test
+    public void testClassNames() {
+        String key = "0123456789abcdef0123456789abcdef";
+        assertEquals("Script_0123456789abcdef", GroovyScriptCache.getClassName(null, key));
+        assertTrue(GroovyScriptCache.getClassName("/scripts/my-rule.groovy", key).matches("my_rule_[0-9a-f]{16}"));
+        assertTrue(GroovyScriptCache.getClassName("C:\\scripts\\1st.groovy", key).matches("Script_1st_[0-9a-f]{16}"));
+        assertNotEquals(GroovyScriptCache.getClassName("/a/rule.groovy", key),
+                GroovyScriptCache.getClassName("/b/rule.groovy", key));
+        assertEquals(GroovyScriptCache.getClassName("/a/rule.groovy", key),
+                GroovyScriptCache.getClassName("/a/rule.groovy", "fedcba9876543210"));
+    }
+
+    private static @Nullable Object run(Class<?> scriptClass) {
+        return InvokerHelper.createScript(scriptClass, new Binding()).run();
+    }
+}
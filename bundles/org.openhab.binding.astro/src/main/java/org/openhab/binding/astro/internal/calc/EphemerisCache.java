@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.astro.internal.calc.EphemerisTable.PositionFunction;
+
+/**
+ * The {@link EphemerisCache} holds the {@link EphemerisTable}s of all sun and moon things. Things at the same
+ * location share their tables and a table is only calculated once per day.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EphemerisCache {
+
+    private static final int MAX_TABLES = 64;
+
+    private final SunCalc sunCalc = new SunCalc();
+    private final MoonCalc moonCalc = new MoonCalc();
+
+    private final Map<String, EphemerisTable> tables = Collections
+            .synchronizedMap(new LinkedHashMap<String, EphemerisTable>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.@Nullable Entry<String, EphemerisTable> eldest) {
+                    return size() > MAX_TABLES;
+                }
+            });
+
+    /**
+     * Returns the sun table for the location of the day containing the given time.
+     */
+    public EphemerisTable getSunTable(double latitude, double longitude, long millis) {
+        return getTable("sun", latitude, longitude, millis,
+                julianDate -> sunCalc.getAzimuthElevation(julianDate, latitude, longitude), elevation -> 0);
+    }
+
+    /**
+     * Returns the moon table for the location of the day containing the given time.
+     */
+    public EphemerisTable getMoonTable(double latitude, double longitude, long millis) {
+        return getTable("moon", latitude, longitude, millis,
+                julianDate -> moonCalc.getAzimuthElevation(julianDate, latitude, longitude), moonCalc::getRefraction);
+    }
+
+    private EphemerisTable getTable(String planet, double latitude, double longitude, long millis,
+            PositionFunction function, DoubleUnaryOperator refraction) {
+        long day = Math.floorDiv(millis, EphemerisTable.DAY_MILLIS);
+        String key = planet + ":" + latitude + ":" + longitude + ":" + day;
+        EphemerisTable table = tables.get(key);
+        if (table == null) {
+            // calculated outside of the lock, a concurrent calculation of the same table is harmless
+            table = new EphemerisTable(day * EphemerisTable.DAY_MILLIS, function, refraction);
+            tables.put(key, table);
+        }
+        return table;
+    }
+
+    /**
+     * Removes all tables.
+     */
+    public void clear() {
+        tables.clear();
+    }
+}
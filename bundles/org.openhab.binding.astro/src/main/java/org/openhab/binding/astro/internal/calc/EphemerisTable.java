@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
+
+/**
+ * The {@link EphemerisTable} holds the azimuth and elevation of a planet at one location for one UTC day on a grid of
+ * fixed time steps. Positions between the grid points are interpolated with the cubic polynomial through the four
+ * surrounding points, which is much cheaper than a full calculation and accurate to a small fraction of a degree.
+ * Close to the zenith and the nadir the azimuth changes too fast to be interpolated, there the position is calculated.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EphemerisTable {
+
+    static final long STEP_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    /**
+     * Grid points before and after the day, so that all four points are available at the bounds of the day
+     */
+    private static final int MARGIN = 2;
+
+    /**
+     * Absolute elevation above which the position is calculated instead of interpolated
+     */
+    private static final double MAX_INTERPOLATED_ELEVATION = 75;
+
+    /**
+     * Calculates the azimuth and elevation in degrees without refraction at a julian date.
+     */
+    @FunctionalInterface
+    interface PositionFunction {
+        double[] getAzimuthElevation(double julianDate);
+    }
+
+    private final PositionFunction function;
+    private final DoubleUnaryOperator refraction;
+    private final long startMillis;
+    private final long endMillis;
+    private final double[] azimuth;
+    private final double[] elevation;
+
+    /**
+     * Creates the table for the UTC day starting at the given time.
+     *
+     * @param dayMillis the start of the UTC day in milliseconds since the epoch
+     * @param function the position function of the planet at the location
+     * @param refraction returns the refraction in degrees that is added to an elevation in degrees
+     */
+    EphemerisTable(long dayMillis, PositionFunction function, DoubleUnaryOperator refraction) {
+        this.function = function;
+        this.refraction = refraction;
+        endMillis = dayMillis + DAY_MILLIS;
+        int size = (int) (DAY_MILLIS / STEP_MILLIS) + 2 * MARGIN + 1;
+        startMillis = dayMillis - MARGIN * STEP_MILLIS;
+        azimuth = new double[size];
+        elevation = new double[size];
+        for (int i = 0; i < size; i++) {
+            long millis = startMillis + i * STEP_MILLIS;
+            double[] position = function.getAzimuthElevation(toJulianDate(millis));
+            double az = position[0];
+            if (i > 0) {
+                // unwrap the azimuth, so that the interpolation does not jump at 0/360 degrees
+                az += 360 * Math.round((azimuth[i - 1] - az) / 360);
+            }
+            azimuth[i] = az;
+            elevation[i] = position[1];
+        }
+    }
+
+    /**
+     * Returns true if the time is within the day of this table.
+     */
+    public boolean covers(long millis) {
+        return millis >= startMillis + MARGIN * STEP_MILLIS && millis < endMillis;
+    }
+
+    /**
+     * Returns the azimuth in degrees in the range [0, 360).
+     */
+    public double getAzimuth(long millis) {
+        int i = getIndex(millis);
+        double az = isNearZenithOrNadir(i) ? function.getAzimuthElevation(toJulianDate(millis))[0]
+                : interpolate(azimuth, i, millis);
+        az %= 360;
+        return az < 0 ? az + 360 : az;
+    }
+
+    /**
+     * Returns the elevation in degrees, including refraction.
+     */
+    public double getElevation(long millis) {
+        int i = getIndex(millis);
+        double el = isNearZenithOrNadir(i) ? function.getAzimuthElevation(toJulianDate(millis))[1]
+                : interpolate(elevation, i, millis);
+        return el + refraction.applyAsDouble(el);
+    }
+
+    /**
+     * Returns the index of the second of the four grid points used for the interpolation.
+     */
+    private int getIndex(long millis) {
+        int i = (int) Math.floorDiv(millis - startMillis, STEP_MILLIS);
+        return Math.max(1, Math.min(elevation.length - 3, i));
+    }
+
+    private boolean isNearZenithOrNadir(int i) {
+        for (int j = i - 1; j <= i + 2; j++) {
+            if (Math.abs(elevation[j]) > MAX_INTERPOLATED_ELEVATION) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double interpolate(double[] values, int i, long millis) {
+        double t = (double) (millis - startMillis) / STEP_MILLIS - i;
+
+        // Lagrange polynomial through the grid points at t = -1, 0, 1 and 2
+        double tm1 = t + 1;
+        double t1 = t - 1;
+        double t2 = t - 2;
+        return -values[i - 1] * t * t1 * t2 / 6 + values[i] * tm1 * t1 * t2 / 2 - values[i + 1] * tm1 * t * t2 / 2
+                + values[i + 2] * tm1 * t * t1 / 6;
+    }
+
+    private static double toJulianDate(long millis) {
+        return millis / DateTimeUtils.MILLISECONDS_PER_DAY - 0.5 + DateTimeUtils.J1970;
+    }
+}
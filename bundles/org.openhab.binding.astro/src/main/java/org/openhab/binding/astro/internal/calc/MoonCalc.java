@@ -113,6 +113,14 @@ public class MoonCalc {
         distance.setDistance(getDistance(julianDate));
     }
 
+    /**
+     * Calculates the moon position (azimuth and elevation) at the given time.
+     */
+    public Position getPosition(Calendar calendar, double latitude, double longitude) {
+        double[] position = getAzimuthElevation(DateTimeUtils.dateToJulianDate(calendar), latitude, longitude);
+        return new Position(position[0], position[1] + getRefraction(position[1]), 0);
+    }
+
     /**
      * Calculates the age and the current phase.
      */
@@ -655,6 +663,46 @@ public class MoonCalc {
      * Sets the azimuth, elevation and zodiac in the moon object.
      */
     private void setAzimuthElevationZodiac(double julianDate, double latitude, double longitude, Moon moon) {
+        double[] position = calcPosition(julianDate, latitude, longitude);
+        double moonLon = position[2];
+
+        moon.getPosition().setAzimuth(position[0]);
+        moon.getPosition().setElevation(position[1] + getRefraction(position[1]));
+
+        // zodiac
+        double idxd = Math.floor(moonLon * SunCalc.RAD2DEG / 30);
+        int idx = 0;
+        if (idxd < 0) {
+            idx = (int) (Math.ceil(idxd));
+        } else {
+            idx = (int) (Math.floor(idxd));
+        }
+
+        if (idx >= 0 || idx <= ZodiacSign.values().length) {
+            moon.setZodiac(new Zodiac(ZodiacSign.values()[idx]));
+        }
+    }
+
+    /**
+     * Calculates the moon azimuth and elevation in degrees at the specified julian date, without refraction.
+     */
+    double[] getAzimuthElevation(double julianDate, double latitude, double longitude) {
+        double[] position = calcPosition(julianDate, latitude, longitude);
+        return new double[] { position[0], position[1] };
+    }
+
+    /**
+     * Returns the refraction in degrees at the given elevation in degrees.
+     */
+    double getRefraction(double elevation) {
+        return refraction(elevation * SunCalc.DEG2RAD);
+    }
+
+    /**
+     * Calculates the azimuth and elevation without refraction in degrees and the ecliptic longitude in radians of the
+     * moon.
+     */
+    private double[] calcPosition(double julianDate, double latitude, double longitude) {
         double lat = latitude * SunCalc.DEG2RAD;
         double lon = longitude * SunCalc.DEG2RAD;
 
@@ -695,22 +743,7 @@ public class MoonCalc {
         double raDecTopo[] = geoEqu2TopoEqu(raDec, distance, lat, lmst);
         double azAlt[] = equ2AzAlt(raDecTopo[0], raDecTopo[1], lat, lmst);
 
-        Position position = moon.getPosition();
-        position.setAzimuth(azAlt[0] * SunCalc.RAD2DEG);
-        position.setElevation(azAlt[1] * SunCalc.RAD2DEG + refraction(azAlt[1]));
-
-        // zodiac
-        double idxd = Math.floor(moonLon * SunCalc.RAD2DEG / 30);
-        int idx = 0;
-        if (idxd < 0) {
-            idx = (int) (Math.ceil(idxd));
-        } else {
-            idx = (int) (Math.floor(idxd));
-        }
-
-        if (idx >= 0 || idx <= ZodiacSign.values().length) {
-            moon.setZodiac(new Zodiac(ZodiacSign.values()[idx]));
-        }
+        return new double[] { azAlt[0] * SunCalc.RAD2DEG, azAlt[1] * SunCalc.RAD2DEG, moonLon };
     }
 
     private double mod2Pi(double x) {
@@ -64,27 +64,47 @@ public class SunCalc {
      * Calculates the sun position (azimuth and elevation).
      */
     public void setPositionalInfo(Calendar calendar, double latitude, double longitude, Double altitude, Sun sun) {
+        double[] azimuthElevation = getAzimuthElevation(DateTimeUtils.dateToJulianDate(calendar), latitude,
+                longitude);
+        setPosition(calendar, azimuthElevation[0], azimuthElevation[1], altitude, sun);
+    }
+
+    /**
+     * Calculates the sun position (azimuth, elevation and shade length) at the given time.
+     */
+    public Position getPosition(Calendar calendar, double latitude, double longitude) {
+        double[] azimuthElevation = getAzimuthElevation(DateTimeUtils.dateToJulianDate(calendar), latitude,
+                longitude);
+        return new Position(azimuthElevation[0], azimuthElevation[1], getShadeLength(azimuthElevation[1]));
+    }
+
+    /**
+     * Sets the given sun position and calculates the shade length and radiation data.
+     */
+    public void setPosition(Calendar calendar, double azimuth, double elevation, Double altitude, Sun sun) {
+        Position position = sun.getPosition();
+        position.setAzimuth(azimuth);
+        position.setElevation(elevation);
+        position.setShadeLength(getShadeLength(elevation));
+
+        setRadiationInfo(calendar, elevation, altitude, sun);
+    }
+
+    /**
+     * Calculates the sun azimuth and elevation in degrees at the specified julian date.
+     */
+    double[] getAzimuthElevation(double julianDate, double latitude, double longitude) {
         double lw = -longitude * DEG2RAD;
         double phi = latitude * DEG2RAD;
 
-        double j = DateTimeUtils.dateToJulianDate(calendar);
-        double m = getSolarMeanAnomaly(j);
+        double m = getSolarMeanAnomaly(julianDate);
         double c = getEquationOfCenter(m);
         double lsun = getEclipticLongitude(m, c);
         double d = getSunDeclination(lsun);
         double a = getRightAscension(lsun);
-        double th = getSiderealTime(j, lw);
-
-        double azimuth = getAzimuth(th, a, phi, d) / DEG2RAD;
-        double elevation = getElevation(th, a, phi, d) / DEG2RAD;
-        double shadeLength = getShadeLength(elevation);
-
-        Position position = sun.getPosition();
-        position.setAzimuth(azimuth + 180);
-        position.setElevation(elevation);
-        position.setShadeLength(shadeLength);
+        double th = getSiderealTime(julianDate, lw);
 
-        setRadiationInfo(calendar, elevation, altitude, sun);
+        return new double[] { getAzimuth(th, a, phi, d) / DEG2RAD + 180, getElevation(th, a, phi, d) / DEG2RAD };
     }
 
     /**
@@ -119,15 +139,14 @@ public class SunCalc {
     /**
      * Returns true, if the sun is up all day (no rise and set).
      */
-    private boolean isSunUpAllDay(Calendar calendar, double latitude, double longitude, Double altitude) {
-        Calendar cal = DateTimeUtils.truncateToMidnight(calendar);
-        Sun sun = new Sun();
+    private boolean isSunUpAllDay(Calendar calendar, double latitude, double longitude) {
+        double midnight = DateTimeUtils.midnightDateToJulianDate(calendar);
         for (int minutes = 0; minutes <= MINUTES_PER_DAY; minutes += CURVE_TIME_INTERVAL) {
-            setPositionalInfo(cal, latitude, longitude, altitude, sun);
-            if (sun.getPosition().getElevationAsDouble() < SUN_ANGLE) {
+            double elevation = getAzimuthElevation(midnight + minutes * JD_ONE_MINUTE_FRACTION, latitude,
+                    longitude)[1];
+            if (elevation < SUN_ANGLE) {
                 return false;
             }
-            cal.add(Calendar.MINUTE, CURVE_TIME_INTERVAL);
         }
         return true;
     }
@@ -188,7 +207,7 @@ public class SunCalc {
         sun.setNauticDawn(new Range(DateTimeUtils.toCalendar(jnau2), DateTimeUtils.toCalendar(jciv2)));
         sun.setNauticDusk(new Range(DateTimeUtils.toCalendar(jnau), DateTimeUtils.toCalendar(jastro)));
 
-        boolean isSunUpAllDay = isSunUpAllDay(calendar, latitude, longitude, altitude);
+        boolean isSunUpAllDay = isSunUpAllDay(calendar, latitude, longitude);
 
         // daylight
         Range daylightRange = new Range();
@@ -251,18 +270,27 @@ public class SunCalc {
         sun.setSeason(seasonCalc.getSeason(calendar, latitude, useMeteorologicalSeason));
 
         // phase
+        setSunPhase(Calendar.getInstance(), sun);
+
+        return sun;
+    }
+
+    /**
+     * Sets the sun phase at the specified time from the ranges of the sun, or no phase if no range matches.
+     */
+    public void setSunPhase(Calendar calendar, Sun sun) {
+        SunPhaseName phaseName = null;
         for (Entry<SunPhaseName, Range> rangeEntry : sun.getAllRanges().entrySet()) {
             SunPhaseName entryPhase = rangeEntry.getKey();
-            if (rangeEntry.getValue().matches(Calendar.getInstance())) {
+            if (rangeEntry.getValue().matches(calendar)) {
                 if (entryPhase == SunPhaseName.MORNING_NIGHT || entryPhase == SunPhaseName.EVENING_NIGHT) {
-                    sun.getPhase().setName(SunPhaseName.NIGHT);
+                    phaseName = SunPhaseName.NIGHT;
                 } else {
-                    sun.getPhase().setName(entryPhase);
+                    phaseName = entryPhase;
                 }
             }
         }
-
-        return sun;
+        sun.getPhase().setName(phaseName);
     }
 
     /**
@@ -321,7 +349,7 @@ public class SunCalc {
         return Math.asin(Math.sin(phi) * Math.sin(d) + Math.cos(phi) * Math.cos(d) * Math.cos(th - a));
     }
 
-    private double getShadeLength(double elevation) {
+    public double getShadeLength(double elevation) {
         return 1 / Math.tan(elevation * DEG2RAD);
     }
 
@@ -14,6 +14,7 @@ package org.openhab.binding.astro.internal.handler;
 
 import static org.openhab.binding.astro.internal.AstroBindingConstants.THING_TYPE_MOON;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -23,6 +24,8 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.astro.internal.calc.EphemerisCache;
+import org.openhab.binding.astro.internal.calc.EphemerisTable;
 import org.openhab.binding.astro.internal.calc.MoonCalc;
 import org.openhab.binding.astro.internal.job.DailyJobMoon;
 import org.openhab.binding.astro.internal.job.Job;
@@ -48,28 +51,59 @@ public class MoonHandler extends AstroThingHandler {
     private final String[] positionalChannelIds = new String[] { "phase#name", "phase#age", "phase#agePercent",
             "phase#ageDegree", "phase#illumination", "position#azimuth", "position#elevation", "zodiac#sign" };
     private final MoonCalc moonCalc = new MoonCalc();
+    private final EphemerisCache ephemerisCache;
     private @NonNullByDefault({}) Moon moon;
+    private @Nullable Moon dailyMoon;
+    private @Nullable LocalDate moonDate;
+    private volatile @Nullable EphemerisTable table;
 
     /**
      * Constructor
      */
-    public MoonHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider) {
+    public MoonHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider,
+            final EphemerisCache ephemerisCache) {
         super(thing, scheduler, timeZoneProvider);
+        this.ephemerisCache = ephemerisCache;
+    }
+
+    @Override
+    public void publishDailyInfo() {
+        synchronized (this) {
+            moonDate = null;
+        }
+        super.publishDailyInfo();
     }
 
     @Override
     public void publishPositionalInfo() {
-        moon = getMoonAt(ZonedDateTime.now());
+        // the daily moon may be read concurrently, so the positional data is set on a copy
+        Moon moon = getDailyMoon(ZonedDateTime.now()).copyDailyData();
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
+        // the zodiac sign is derived from the ecliptic longitude of the same lunar series as the position, so the
+        // position is calculated together with it instead of being taken from the table
         moonCalc.setPositionalInfo(Calendar.getInstance(), latitude != null ? latitude : 0,
                 longitude != null ? longitude : 0, moon);
 
-        moon.getEclipse().setElevations(this, timeZoneProvider);
-
+        this.moon = moon;
         publishPlanet();
     }
 
+    /**
+     * Returns the moon of the day of the given time, the daily data is only calculated once per day.
+     */
+    private synchronized Moon getDailyMoon(ZonedDateTime date) {
+        LocalDate day = date.toLocalDate();
+        Moon moon = dailyMoon;
+        if (moon == null || !day.equals(moonDate)) {
+            moon = getMoonAt(date);
+            moon.getEclipse().setElevations(this, timeZoneProvider);
+            dailyMoon = moon;
+            moonDate = day;
+        }
+        return moon;
+    }
+
     @Override
     public @Nullable Planet getPlanet() {
         return moon;
@@ -78,7 +112,12 @@ public class MoonHandler extends AstroThingHandler {
     @Override
     public void dispose() {
         super.dispose();
-        moon = null;
+        synchronized (this) {
+            moon = null;
+            dailyMoon = null;
+            moonDate = null;
+            table = null;
+        }
     }
 
     @Override
@@ -100,11 +139,31 @@ public class MoonHandler extends AstroThingHandler {
 
     @Override
     public @Nullable Position getPositionAt(ZonedDateTime date) {
-        Moon localMoon = getMoonAt(date);
+        long millis = date.toInstant().toEpochMilli();
+        EphemerisTable table = getTable(System.currentTimeMillis());
+        if (!table.covers(millis)) {
+            // a single position of another day is calculated, the table of the current day is kept
+            Double latitude = thingConfig.latitude;
+            Double longitude = thingConfig.longitude;
+            return moonCalc.getPosition(GregorianCalendar.from(date), latitude != null ? latitude : 0,
+                    longitude != null ? longitude : 0);
+        }
+        return new Position(table.getAzimuth(millis), table.getElevation(millis), 0);
+    }
+
+    /**
+     * Returns the table of the day of the given time, only the table of the current day is kept.
+     */
+    private EphemerisTable getTable(long millis) {
+        EphemerisTable table = this.table;
+        if (table != null && table.covers(millis)) {
+            return table;
+        }
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
-        moonCalc.setPositionalInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, localMoon);
-        return localMoon.getPosition();
+        table = ephemerisCache.getMoonTable(latitude != null ? latitude : 0, longitude != null ? longitude : 0,
+                millis);
+        this.table = table;
+        return table;
     }
 }
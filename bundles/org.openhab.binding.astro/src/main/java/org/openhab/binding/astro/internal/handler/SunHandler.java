@@ -14,6 +14,8 @@ package org.openhab.binding.astro.internal.handler;
 
 import static org.openhab.binding.astro.internal.AstroBindingConstants.THING_TYPE_SUN;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -23,6 +25,8 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.astro.internal.calc.EphemerisCache;
+import org.openhab.binding.astro.internal.calc.EphemerisTable;
 import org.openhab.binding.astro.internal.calc.SunCalc;
 import org.openhab.binding.astro.internal.job.DailyJobSun;
 import org.openhab.binding.astro.internal.job.Job;
@@ -50,29 +54,77 @@ public class SunHandler extends AstroThingHandler {
     private final String[] positionalChannelIds = new String[] { "position#azimuth", "position#elevation",
             "radiation#direct", "radiation#diffuse", "radiation#total" };
     private final SunCalc sunCalc = new SunCalc();
+    private final EphemerisCache ephemerisCache;
     private @NonNullByDefault({}) Sun sun;
+    private @Nullable Sun dailySun;
+    private @Nullable LocalDate sunDate;
+    private volatile @Nullable EphemerisTable table;
 
     /**
      * Constructor
      */
-    public SunHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider) {
+    public SunHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider,
+            final EphemerisCache ephemerisCache) {
         super(thing, scheduler, timeZoneProvider);
+        this.ephemerisCache = ephemerisCache;
+    }
+
+    @Override
+    public void publishDailyInfo() {
+        synchronized (this) {
+            sunDate = null;
+        }
+        super.publishDailyInfo();
     }
 
     @Override
     public void publishPositionalInfo() {
-        sun = getSunAt(ZonedDateTime.now());
-        Double latitude = thingConfig.latitude;
-        Double longitude = thingConfig.longitude;
+        ZonedDateTime now = ZonedDateTime.now();
+        // the daily sun may be read concurrently, so the positional data is set on a copy
+        Sun sun = getDailySun(now).copyDailyData();
+        Calendar calendar = GregorianCalendar.from(now);
+        sunCalc.setSunPhase(calendar, sun);
+
+        long millis = calendar.getTimeInMillis();
+        EphemerisTable table = getTable(millis);
         Double altitude = thingConfig.altitude;
-        sunCalc.setPositionalInfo(Calendar.getInstance(), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, altitude != null ? altitude : 0, sun);
-
-        sun.getEclipse().setElevations(this, timeZoneProvider);
+        sunCalc.setPosition(calendar, table.getAzimuth(millis), table.getElevation(millis),
+                altitude != null ? altitude : 0, sun);
 
+        this.sun = sun;
         publishPlanet();
     }
 
+    /**
+     * Returns the sun of the day of the given time, the daily data is only calculated once per day.
+     */
+    private synchronized Sun getDailySun(ZonedDateTime date) {
+        LocalDate day = date.toLocalDate();
+        Sun sun = dailySun;
+        if (sun == null || !day.equals(sunDate)) {
+            sun = getSunAt(date);
+            sun.getEclipse().setElevations(this, timeZoneProvider);
+            dailySun = sun;
+            sunDate = day;
+        }
+        return sun;
+    }
+
+    /**
+     * Returns the table of the day of the given time, only the table of the current day is kept.
+     */
+    private EphemerisTable getTable(long millis) {
+        EphemerisTable table = this.table;
+        if (table != null && table.covers(millis)) {
+            return table;
+        }
+        Double latitude = thingConfig.latitude;
+        Double longitude = thingConfig.longitude;
+        table = ephemerisCache.getSunTable(latitude != null ? latitude : 0, longitude != null ? longitude : 0, millis);
+        this.table = table;
+        return table;
+    }
+
     @Override
     public @Nullable Planet getPlanet() {
         return sun;
@@ -81,7 +133,12 @@ public class SunHandler extends AstroThingHandler {
     @Override
     public void dispose() {
         super.dispose();
-        sun = null;
+        synchronized (this) {
+            sun = null;
+            dailySun = null;
+            sunDate = null;
+            table = null;
+        }
     }
 
     @Override
@@ -104,7 +161,8 @@ public class SunHandler extends AstroThingHandler {
     }
 
     public @Nullable ZonedDateTime getEventTime(SunPhaseName sunPhase, ZonedDateTime date, boolean begin) {
-        Range eventRange = getSunAt(date).getAllRanges().get(sunPhase);
+        Sun sun = getSunOfDay(date);
+        Range eventRange = (sun != null ? sun : getSunAt(date)).getAllRanges().get(sunPhase);
         if (eventRange != null) {
             Calendar cal = begin ? eventRange.getStart() : eventRange.getEnd();
             return ZonedDateTime.ofInstant(cal.toInstant(), date.getZone());
@@ -113,14 +171,28 @@ public class SunHandler extends AstroThingHandler {
         }
     }
 
+    /**
+     * Returns the current daily sun if it was calculated for the day of the given time, null otherwise.
+     */
+    private synchronized @Nullable Sun getSunOfDay(ZonedDateTime date) {
+        if (date.getZone().equals(ZoneId.systemDefault()) && date.toLocalDate().equals(sunDate)) {
+            return dailySun;
+        }
+        return null;
+    }
+
     @Override
     public @Nullable Position getPositionAt(ZonedDateTime date) {
-        Sun localSun = getSunAt(date);
-        Double latitude = thingConfig.latitude;
-        Double longitude = thingConfig.longitude;
-        Double altitude = thingConfig.altitude;
-        sunCalc.setPositionalInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, altitude != null ? altitude : 0, localSun);
-        return localSun.getPosition();
+        long millis = date.toInstant().toEpochMilli();
+        EphemerisTable table = getTable(System.currentTimeMillis());
+        if (!table.covers(millis)) {
+            // a single position of another day is calculated, the table of the current day is kept
+            Double latitude = thingConfig.latitude;
+            Double longitude = thingConfig.longitude;
+            return sunCalc.getPosition(GregorianCalendar.from(date), latitude != null ? latitude : 0,
+                    longitude != null ? longitude : 0);
+        }
+        double elevation = table.getElevation(millis);
+        return new Position(table.getAzimuth(millis), elevation, sunCalc.getShadeLength(elevation));
     }
 }
@@ -123,4 +123,22 @@ public class Moon extends RiseSet implements Planet {
     public void setZodiac(Zodiac zodiac) {
         this.zodiac = zodiac;
     }
+
+    /**
+     * Returns a new moon with the daily data (rise, set, apogee, perigee, eclipse and the dates of the phases) of this
+     * moon. The position, the distance, the zodiac and the current phase are not copied.
+     */
+    public Moon copyDailyData() {
+        Moon moon = new Moon();
+        moon.setRise(getRise());
+        moon.setSet(getSet());
+        moon.apogee = apogee;
+        moon.perigee = perigee;
+        moon.eclipse = eclipse;
+        moon.phase.setFirstQuarter(phase.getFirstQuarter());
+        moon.phase.setFull(phase.getFull());
+        moon.phase.setThirdQuarter(phase.getThirdQuarter());
+        moon.phase.setNew(phase.getNew());
+        return moon;
+    }
 }
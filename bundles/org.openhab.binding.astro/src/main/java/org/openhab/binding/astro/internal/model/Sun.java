@@ -291,4 +291,19 @@ public class Sun extends RiseSet implements Planet {
     public Map<SunPhaseName, Range> getAllRanges() {
         return ranges;
     }
+
+    /**
+     * Returns a new sun with the daily data (ranges, zodiac, season and eclipse) of this sun. The position, the
+     * radiation and the phase are not copied.
+     */
+    public Sun copyDailyData() {
+        Sun sun = new Sun();
+        sun.ranges.putAll(ranges);
+        sun.setRise(getRise());
+        sun.setSet(getSet());
+        sun.zodiac = zodiac;
+        sun.season = season;
+        sun.eclipse = eclipse;
+        return sun;
+    }
 }
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
+
+/**
+ * Tests that the positions interpolated by the {@link EphemerisCache} match the calculated positions.
+ *
+ * @author agent - Initial contribution
+ */
+public class EphemerisTableTest {
+
+    private static final double AMSTERDAM_LATITUDE = 52.367607;
+    private static final double AMSTERDAM_LONGITUDE = 4.8978293;
+    // 27 February 2019 00:00 UTC
+    private static final long FEB_27_2019 = 1551225600000L;
+    private static final long STEP = TimeUnit.SECONDS.toMillis(97);
+    private static final double ACCURACY = 0.01;
+
+    private final EphemerisCache cache = new EphemerisCache();
+    private final SunCalc sunCalc = new SunCalc();
+    private final MoonCalc moonCalc = new MoonCalc();
+
+    @Test
+    public void testSunPosition() {
+        for (long millis = FEB_27_2019; millis < FEB_27_2019 + EphemerisTable.DAY_MILLIS; millis += STEP) {
+            EphemerisTable table = cache.getSunTable(AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, millis);
+            double[] expected = sunCalc.getAzimuthElevation(toJulianDate(millis), AMSTERDAM_LATITUDE,
+                    AMSTERDAM_LONGITUDE);
+            assertEquals(0, angleDifference(expected[0], table.getAzimuth(millis)), ACCURACY);
+            assertEquals(expected[1], table.getElevation(millis), ACCURACY);
+        }
+    }
+
+    @Test
+    public void testMoonPosition() {
+        for (long millis = FEB_27_2019; millis < FEB_27_2019 + EphemerisTable.DAY_MILLIS; millis += STEP) {
+            EphemerisTable table = cache.getMoonTable(AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, millis);
+            double[] expected = moonCalc.getAzimuthElevation(toJulianDate(millis), AMSTERDAM_LATITUDE,
+                    AMSTERDAM_LONGITUDE);
+            assertEquals(0, angleDifference(expected[0], table.getAzimuth(millis)), ACCURACY);
+            assertEquals(expected[1] + moonCalc.getRefraction(expected[1]), table.getElevation(millis), ACCURACY);
+        }
+    }
+
+    @Test
+    public void testPositionNearZenith() {
+        // the sun passes the zenith at noon on the tropic of cancer in midsummer, 21 June 2019 00:00 UTC
+        long midsummer = 1561075200000L;
+        for (long millis = midsummer; millis < midsummer + EphemerisTable.DAY_MILLIS; millis += STEP) {
+            EphemerisTable table = cache.getSunTable(23.44, 0, millis);
+            double[] expected = sunCalc.getAzimuthElevation(toJulianDate(millis), 23.44, 0);
+            assertEquals(0, angleDifference(expected[0], table.getAzimuth(millis)), ACCURACY);
+            assertEquals(expected[1], table.getElevation(millis), ACCURACY);
+        }
+    }
+
+    @Test
+    public void testAzimuthAtNorth() {
+        // the sun passes north around midnight in midsummer at high latitudes, 21 June 2019 00:00 UTC
+        long midsummer = 1561075200000L;
+        for (long millis = midsummer - TimeUnit.HOURS.toMillis(2); millis < midsummer
+                + TimeUnit.HOURS.toMillis(2); millis += STEP) {
+            EphemerisTable table = cache.getSunTable(69.6, 18.9, millis);
+            double[] expected = sunCalc.getAzimuthElevation(toJulianDate(millis), 69.6, 18.9);
+            double azimuth = table.getAzimuth(millis);
+            assertEquals(0, angleDifference(expected[0], azimuth), ACCURACY);
+            assertEquals(true, azimuth >= 0 && azimuth < 360);
+        }
+    }
+
+    private static double toJulianDate(long millis) {
+        return millis / DateTimeUtils.MILLISECONDS_PER_DAY - 0.5 + DateTimeUtils.J1970;
+    }
+
+    private static double angleDifference(double a, double b) {
+        double difference = (a - b) % 360;
+        if (difference > 180) {
+            difference -= 360;
+        } else if (difference < -180) {
+            difference += 360;
+        }
+        return difference;
+    }
+}
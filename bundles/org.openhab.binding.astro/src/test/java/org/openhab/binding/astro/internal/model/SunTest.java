@@ -15,9 +15,12 @@ package org.openhab.binding.astro.internal.model;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openhab.binding.astro.internal.calc.SunCalc;
 import org.openhab.binding.astro.internal.config.AstroChannelConfig;
 import org.openhab.binding.astro.internal.util.PropertyUtils;
 import org.openhab.core.library.types.StringType;
@@ -168,4 +171,35 @@ public class SunTest {
 
         assertTrue(sun.getAllRanges().containsKey(SunPhaseName.EVENING_NIGHT));
     }
+
+    @Test
+    public void testSetSunPhaseClearsStalePhase() {
+        Calendar start = new GregorianCalendar(2020, Calendar.JUNE, 1, 6, 0);
+        Calendar end = new GregorianCalendar(2020, Calendar.JUNE, 1, 20, 0);
+        sun.setDaylight(new Range(start, end));
+        SunCalc sunCalc = new SunCalc();
+
+        sunCalc.setSunPhase(new GregorianCalendar(2020, Calendar.JUNE, 1, 12, 0), sun);
+        assertEquals(SunPhaseName.DAYLIGHT, sun.getPhase().getName());
+
+        sunCalc.setSunPhase(new GregorianCalendar(2020, Calendar.JUNE, 1, 22, 0), sun);
+        assertNull(sun.getPhase().getName());
+    }
+
+    @Test
+    public void testCopyDailyDataDoesNotModifyOriginal() {
+        Calendar start = new GregorianCalendar(2020, Calendar.JUNE, 1, 6, 0);
+        Calendar end = new GregorianCalendar(2020, Calendar.JUNE, 1, 20, 0);
+        sun.setDaylight(new Range(start, end));
+
+        Sun copy = sun.copyDailyData();
+        new SunCalc().setSunPhase(new GregorianCalendar(2020, Calendar.JUNE, 1, 12, 0), copy);
+        copy.setNight(new Range());
+
+        assertSame(sun.getDaylight(), copy.getDaylight());
+        assertSame(sun.getEclipse(), copy.getEclipse());
+        assertEquals(SunPhaseName.DAYLIGHT, copy.getPhase().getName());
+        assertNull(sun.getPhase().getName());
+        assertFalse(sun.getAllRanges().containsKey(SunPhaseName.NIGHT));
+    }
 }
@@ -48,6 +48,11 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
     private final AtomicReference<@Nullable BluetoothDevice> currentDelegateRef = new AtomicReference<>();
 
+    /**
+     * RSSI of the current delegate at the time it was selected or last reported
+     */
+    private volatile int currentDelegateRssi = Integer.MIN_VALUE;
+
     protected RoamingBluetoothDevice(RoamingBridgeHandler roamingAdapter, BluetoothAddress address) {
         super(roamingAdapter, address);
     }
@@ -61,6 +66,9 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
         if (listener != null) {
             device.removeListener(listener);
         }
+        if (currentDelegateRef.get() == device) {
+            selectDelegate();
+        }
     }
 
     @Override
@@ -70,11 +78,50 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
     @Override
     protected @Nullable BluetoothDevice getDelegate() {
+        BluetoothDevice delegate = currentDelegateRef.get();
+        if (delegate == null && !devices.isEmpty()) {
+            delegate = selectDelegate();
+        }
+        return delegate;
+    }
+
+    /**
+     * Incrementally updates the best delegate after an event from the given device. A full search over all
+     * devices is only done if the current delegate got worse, otherwise only the given device is compared
+     * against the current delegate.
+     *
+     * @param device the device that reported an event
+     * @return the delegate after the update
+     */
+    private @Nullable BluetoothDevice updateDelegate(BluetoothDevice device) {
+        BluetoothDevice current = currentDelegateRef.get();
+        if (current == null || !devices.containsKey(current)) {
+            return selectDelegate();
+        }
+        if (isConnectingOrConnected(current)) {
+            return current;
+        }
+        if (current == device) {
+            Integer rssi = device.getRssi();
+            if (rssi == null || rssi < currentDelegateRssi) {
+                // the current delegate got worse, another device might be better now
+                return selectDelegate();
+            }
+            currentDelegateRssi = rssi;
+            return current;
+        }
+        Integer rssi = device.getRssi();
+        if (isConnectingOrConnected(device) || (rssi != null && rssi > currentDelegateRssi)) {
+            return setDelegate(device, rssi == null ? Integer.MIN_VALUE : rssi);
+        }
+        return current;
+    }
+
+    private @Nullable BluetoothDevice selectDelegate() {
         BluetoothDevice newDelegate = null;
         int newRssi = Integer.MIN_VALUE;
         for (BluetoothDevice device : devices.keySet()) {
-            ConnectionState state = device.getConnectionState();
-            if (state == ConnectionState.CONNECTING || state == ConnectionState.CONNECTED) {
+            if (isConnectingOrConnected(device)) {
                 newDelegate = device;
                 break;
             }
@@ -84,6 +131,11 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
                 newDelegate = device;
             }
         }
+        return setDelegate(newDelegate, newRssi);
+    }
+
+    private @Nullable BluetoothDevice setDelegate(@Nullable BluetoothDevice newDelegate, int rssi) {
+        currentDelegateRssi = rssi;
         BluetoothDevice oldDelegate = currentDelegateRef.getAndSet(newDelegate);
         if (oldDelegate != newDelegate) { // using reference comparison is valid in this case
             notifyListeners(BluetoothEventType.ADAPTER_CHANGED, getAdapter(newDelegate));
@@ -91,6 +143,11 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
         return newDelegate;
     }
 
+    private static boolean isConnectingOrConnected(BluetoothDevice device) {
+        ConnectionState state = device.getConnectionState();
+        return state == ConnectionState.CONNECTING || state == ConnectionState.CONNECTED;
+    }
+
     private BluetoothAdapter getAdapter(@Nullable BluetoothDevice delegate) {
         if (delegate != null) {
             return delegate.getAdapter();
@@ -114,14 +171,14 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
         @Override
         public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
-            if (device == getDelegate()) {
+            if (device == updateDelegate(device)) {
                 notifyListeners(BluetoothEventType.SCAN_RECORD, scanNotification);
             }
         }
 
         @Override
         public void onConnectionStateChange(BluetoothConnectionStatusNotification connectionNotification) {
-            if (device == getDelegate()) {
+            if (device == selectDelegate()) {
                 notifyListeners(BluetoothEventType.CONNECTION_STATE, connectionNotification);
             }
         }
@@ -102,10 +102,8 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         }
         this.inactiveRemovalJob = null;
 
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                removeDevice(device);
-            }
+        for (BD device : devices.values()) {
+            removeDevice(device);
         }
     }
 
@@ -114,22 +112,31 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     }
 
     private void removeInactiveDevices() {
+        long received = 0;
+        long delivered = 0;
         // clean up orphaned entries
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                if (shouldRemove(device)) {
-                    logger.debug("Removing device '{}' due to inactivity", device.getAddress());
-                    removeDevice(device);
-                }
+        for (BD device : devices.values()) {
+            received += device.getScanRecordsReceived();
+            delivered += device.getScanRecordsDelivered();
+            // the check and the removal are atomic for this address, so a concurrent getDevice() either sees the
+            // device before it is removed or creates a new one afterwards
+            if (devices.computeIfPresent(device.getAddress(),
+                    (address, current) -> current == device && shouldRemove(device) ? null : current) == null) {
+                logger.debug("Removing device '{}' due to inactivity", device.getAddress());
+                disposeDevice(device);
             }
         }
+        logger.debug("{} scan records received, {} delivered to listeners for {} devices", received, delivered,
+                devices.size());
     }
 
     protected void removeDevice(BD device) {
+        devices.remove(device.getAddress(), device);
+        disposeDevice(device);
+    }
+
+    private void disposeDevice(BD device) {
         device.dispose();
-        synchronized (devices) {
-            devices.remove(device.getAddress());
-        }
         discoveryListeners.forEach(listener -> listener.deviceRemoved(device));
     }
 
@@ -172,9 +179,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     protected void refreshDiscoveredDevices() {
         logger.debug("Refreshing Bluetooth device list...");
-        synchronized (devices) {
-            devices.values().forEach(this::deviceDiscovered);
-        }
+        devices.values().forEach(this::deviceDiscovered);
     }
 
     @Override
@@ -186,9 +191,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     @Override
     public BD getDevice(BluetoothAddress address) {
-        synchronized (devices) {
-            return Objects.requireNonNull(devices.computeIfAbsent(address, this::createDevice));
-        }
+        return Objects.requireNonNull(devices.computeIfAbsent(address, this::createDevice));
     }
 
     protected abstract BD createDevice(BluetoothAddress address);
@@ -22,6 +22,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +81,11 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
      */
     private final Set<BluetoothDeviceListener> eventListeners = new CopyOnWriteArraySet<>();
 
+    /**
+     * Smooths the RSSI of scan records and drops duplicate advertisements before they reach the listeners
+     */
+    private final ScanRecordFilter scanRecordFilter = new ScanRecordFilter();
+
     /**
      * Construct a Bluetooth device taking the Bluetooth address
      *
@@ -250,6 +256,25 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
         return eventListeners;
     }
 
+    /**
+     * Returns the number of scan records received from the adapter for this device
+     *
+     * @return the number of received scan records
+     */
+    public long getScanRecordsReceived() {
+        return scanRecordFilter.getReceived();
+    }
+
+    /**
+     * Returns the number of scan records that have been delivered to the listeners of this device.
+     * Duplicate advertisements are not delivered.
+     *
+     * @return the number of delivered scan records
+     */
+    public long getScanRecordsDelivered() {
+        return scanRecordFilter.getDelivered();
+    }
+
     /**
      * Releases resources that this device is using.
      *
@@ -262,6 +287,11 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
     protected void notifyListeners(BluetoothEventType event, Object... args) {
         switch (event) {
             case SCAN_RECORD:
+                updateLastSeenTime();
+                if (!scanRecordFilter.accept((BluetoothScanNotification) args[0], System.currentTimeMillis())) {
+                    return;
+                }
+                break;
             case CHARACTERISTIC_UPDATED:
             case DESCRIPTOR_UPDATED:
             case SERVICES_DISCOVERED:
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * The {@link ScanRecordFilter} sits between an adapter and the listeners of a single device.
+ * It smooths the RSSI of incoming scan records with an exponentially weighted moving average and drops
+ * scan records that carry the same payload and the same smoothed RSSI as the last delivered one.
+ * A duplicate is still delivered once {@link #MAX_SUPPRESSION_MILLIS} have passed, so that handlers
+ * keep seeing activity from the device.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ScanRecordFilter {
+
+    /**
+     * Weight of a new RSSI sample in the moving average
+     */
+    static final double RSSI_SMOOTHING_FACTOR = 0.25;
+
+    /**
+     * Maximum time a duplicate scan record may be suppressed
+     */
+    static final long MAX_SUPPRESSION_MILLIS = 10000;
+
+    private double smoothedRssi = Double.NaN;
+
+    private int lastDeliveredRssi = Integer.MIN_VALUE;
+    private byte @Nullable [] lastManufacturerData;
+    private byte @Nullable [] lastData;
+    private @Nullable String lastName;
+    private long lastDeliveryTime;
+
+    private long received;
+    private long delivered;
+
+    /**
+     * Smooths the RSSI of the given notification and decides whether it has to be passed on to the listeners.
+     *
+     * @param notification the received scan record, its RSSI is replaced by the smoothed value
+     * @param now the current time in milliseconds
+     * @return true if the scan record should be delivered
+     */
+    synchronized boolean accept(BluetoothScanNotification notification, long now) {
+        received++;
+
+        int rssi = notification.getRssi();
+        if (rssi != Integer.MIN_VALUE) {
+            smoothedRssi = Double.isNaN(smoothedRssi) ? rssi
+                    : smoothedRssi + RSSI_SMOOTHING_FACTOR * (rssi - smoothedRssi);
+            rssi = (int) Math.round(smoothedRssi);
+            notification.setRssi(rssi);
+        }
+
+        byte[] manufacturerData = notification.getManufacturerData();
+        byte[] data = notification.getData();
+        String name = notification.getDeviceName();
+
+        boolean duplicate = delivered > 0 && now - lastDeliveryTime < MAX_SUPPRESSION_MILLIS
+                && (rssi == Integer.MIN_VALUE || rssi == lastDeliveredRssi)
+                && Arrays.equals(manufacturerData, lastManufacturerData) && Arrays.equals(data, lastData)
+                && name.equals(lastName);
+        if (duplicate) {
+            return false;
+        }
+
+        if (rssi != Integer.MIN_VALUE) {
+            lastDeliveredRssi = rssi;
+        }
+        lastManufacturerData = manufacturerData;
+        lastData = data;
+        lastName = name;
+        lastDeliveryTime = now;
+        delivered++;
+        return true;
+    }
+
+    /**
+     * Returns the number of scan records received from the adapter
+     *
+     * @return the number of received scan records
+     */
+    synchronized long getReceived() {
+        return received;
+    }
+
+    /**
+     * Returns the number of scan records passed on to the listeners
+     *
+     * @return the number of delivered scan records
+     */
+    synchronized long getDelivered() {
+        return delivered;
+    }
+}
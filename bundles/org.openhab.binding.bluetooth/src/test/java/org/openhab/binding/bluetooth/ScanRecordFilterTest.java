@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Tests {@link ScanRecordFilter}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ScanRecordFilterTest {
+
+    private static BluetoothScanNotification createNotification(int rssi, byte... manufacturerData) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        notification.setManufacturerData(manufacturerData);
+        return notification;
+    }
+
+    @Test
+    public void testDuplicateIsDropped() {
+        ScanRecordFilter filter = new ScanRecordFilter();
+        assertTrue(filter.accept(createNotification(-60, (byte) 1, (byte) 2), 0));
+        assertFalse(filter.accept(createNotification(-60, (byte) 1, (byte) 2), 100));
+        assertEquals(2, filter.getReceived());
+        assertEquals(1, filter.getDelivered());
+    }
+
+    @Test
+    public void testChangedManufacturerDataIsDelivered() {
+        ScanRecordFilter filter = new ScanRecordFilter();
+        assertTrue(filter.accept(createNotification(-60, (byte) 1, (byte) 2), 0));
+        assertTrue(filter.accept(createNotification(-60, (byte) 1, (byte) 3), 100));
+    }
+
+    @Test
+    public void testDuplicateIsDeliveredAfterSuppressionTime() {
+        ScanRecordFilter filter = new ScanRecordFilter();
+        assertTrue(filter.accept(createNotification(-60, (byte) 1), 0));
+        assertTrue(filter.accept(createNotification(-60, (byte) 1), ScanRecordFilter.MAX_SUPPRESSION_MILLIS));
+    }
+
+    @Test
+    public void testRssiIsSmoothed() {
+        ScanRecordFilter filter = new ScanRecordFilter();
+        filter.accept(createNotification(-60, (byte) 1), 0);
+        BluetoothScanNotification notification = createNotification(-80, (byte) 1);
+        assertTrue(filter.accept(notification, 100));
+        assertEquals(-65, notification.getRssi());
+    }
+
+    @Test
+    public void testRssiJitterIsDropped() {
+        ScanRecordFilter filter = new ScanRecordFilter();
+        filter.accept(createNotification(-60, (byte) 1), 0);
+        // -61 moves the average by 0.25 dBm only, which rounds to the same value
+        assertFalse(filter.accept(createNotification(-61, (byte) 1), 100));
+    }
+}
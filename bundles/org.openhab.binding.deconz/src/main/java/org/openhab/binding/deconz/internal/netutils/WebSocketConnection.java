@@ -12,9 +12,16 @@
  */
 package org.openhab.binding.deconz.internal.netutils;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.websocket.api.Session;
@@ -33,12 +40,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * Establishes and keeps a websocket connection to the deCONZ software.
  *
  * The connection is closed by deCONZ now and then and needs to be re-established.
  *
+ * The resource type and id of a message are read with a streaming reader, which stops as soon as both are found. Only
+ * messages with a registered listener are deserialized, directly into the resource specific message class. Messages
+ * are delivered on the given executor, serialised per listener, so that a slow thing handler does not block the
+ * websocket thread.
+ *
  * @author David Graeff - Initial contribution
  */
 @WebSocket
@@ -52,16 +67,22 @@ public class WebSocketConnection {
 
     private final WebSocketClient client;
     private final WebSocketConnectionListener connectionListener;
-    private final Map<Map.Entry<ResourceType, String>, WebSocketMessageListener> listeners = new ConcurrentHashMap<>();
+    private final Map<ResourceType, Map<String, ListenerContext>> listeners = new EnumMap<>(ResourceType.class);
 
     private final Gson gson;
+    private final Executor executor;
     private boolean connected = false;
 
-    public WebSocketConnection(WebSocketConnectionListener listener, WebSocketClient client, Gson gson) {
+    public WebSocketConnection(WebSocketConnectionListener listener, WebSocketClient client, Gson gson,
+            Executor executor) {
         this.connectionListener = listener;
         this.client = client;
         this.client.setMaxIdleTimeout(0);
         this.gson = gson;
+        this.executor = executor;
+        for (ResourceType resourceType : EXPECTED_MESSAGE_TYPES.keySet()) {
+            listeners.put(resourceType, new ConcurrentHashMap<>());
+        }
     }
 
     public void start(String ip) {
@@ -91,11 +112,20 @@ public class WebSocketConnection {
     }
 
     public void registerListener(ResourceType resourceType, String sensorID, WebSocketMessageListener listener) {
-        listeners.put(Map.entry(resourceType, sensorID), listener);
+        Map<String, ListenerContext> resourceListeners = listeners.get(resourceType);
+        if (resourceListeners == null) {
+            logger.warn("BUG! Could not register listener for resource type {}. Please report this incident.",
+                    resourceType);
+            return;
+        }
+        resourceListeners.put(sensorID, new ListenerContext(sensorID, listener));
     }
 
     public void unregisterListener(ResourceType resourceType, String sensorID) {
-        listeners.remove(Map.entry(resourceType, sensorID));
+        Map<String, ListenerContext> resourceListeners = listeners.get(resourceType);
+        if (resourceListeners != null) {
+            resourceListeners.remove(sensorID);
+        }
     }
 
     @OnWebSocketConnect
@@ -105,38 +135,78 @@ public class WebSocketConnection {
         connectionListener.connectionEstablished();
     }
 
-    @SuppressWarnings("null")
     @OnWebSocketMessage
     public void onMessage(String message) {
         logger.trace("Raw data received by websocket: {}", message);
 
-        DeconzBaseMessage changedMessage = gson.fromJson(message, DeconzBaseMessage.class);
-        if (changedMessage.r == ResourceType.UNKNOWN) {
+        String resource = null;
+        String id = null;
+        try (JsonReader reader = new JsonReader(new StringReader(message))) {
+            reader.setLenient(true);
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                logger.debug("Received message is not a JSON object. Skipping message.");
+                return;
+            }
+            reader.beginObject();
+            while ((resource == null || id == null) && reader.hasNext()) {
+                String name = reader.nextName();
+                if ("r".equals(name)) {
+                    resource = nextString(reader);
+                } else if ("id".equals(name)) {
+                    id = nextString(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Could not parse websocket message '{}': {}", message, e.getMessage());
+            return;
+        }
+
+        ResourceType resourceType = ResourceType.fromString(resource != null ? resource : "");
+        if (resourceType == ResourceType.UNKNOWN) {
             logger.trace("Received message has unknown resource type. Skipping message.");
             return;
         }
 
-        WebSocketMessageListener listener = listeners.get(Map.entry(changedMessage.r, changedMessage.id));
-        if (listener == null) {
+        Map<String, ListenerContext> resourceListeners = listeners.get(resourceType);
+        ListenerContext listenerContext = resourceListeners != null && id != null ? resourceListeners.get(id) : null;
+        if (listenerContext == null) {
             logger.debug(
                     "Couldn't find listener for id {} with resource type {}. Either no thing for this id has been defined or this is a bug.",
-                    changedMessage.id, changedMessage.r);
+                    id, resourceType);
             return;
         }
 
-        Class<? extends DeconzBaseMessage> expectedMessageType = EXPECTED_MESSAGE_TYPES.get(changedMessage.r);
+        Class<? extends DeconzBaseMessage> expectedMessageType = EXPECTED_MESSAGE_TYPES.get(resourceType);
         if (expectedMessageType == null) {
             logger.warn("BUG! Could not get expected message type for resource type {}. Please report this incident.",
-                    changedMessage.r);
+                    resourceType);
             return;
         }
 
-        DeconzBaseMessage deconzMessage = gson.fromJson(message, expectedMessageType);
+        DeconzBaseMessage deconzMessage;
+        try {
+            deconzMessage = gson.fromJson(message, expectedMessageType);
+        } catch (JsonParseException e) {
+            logger.debug("Could not map websocket message '{}' to {}: {}", message, expectedMessageType.getSimpleName(),
+                    e.getMessage());
+            return;
+        }
         if (deconzMessage != null) {
-            listener.messageReceived(changedMessage.id, deconzMessage);
+            listenerContext.enqueue(deconzMessage);
         }
     }
 
+    private static String nextString(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return reader.nextString();
+        }
+        reader.skipValue();
+        return "";
+    }
+
     @OnWebSocketError
     public void onError(Throwable cause) {
         connected = false;
@@ -152,4 +222,43 @@ public class WebSocketConnection {
     public boolean isConnected() {
         return connected;
     }
+
+    /**
+     * Delivers the messages of one listener in order on the shared executor. At most one delivery task per listener is
+     * active at any time.
+     */
+    private class ListenerContext implements Runnable {
+        private final String sensorID;
+        private final WebSocketMessageListener listener;
+        private final Queue<DeconzBaseMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        public ListenerContext(String sensorID, WebSocketMessageListener listener) {
+            this.sensorID = sensorID;
+            this.listener = listener;
+        }
+
+        public void enqueue(DeconzBaseMessage message) {
+            pendingMessages.add(message);
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                DeconzBaseMessage message;
+                while ((message = pendingMessages.poll()) != null) {
+                    try {
+                        listener.messageReceived(sensorID, message);
+                    } catch (RuntimeException e) {
+                        logger.warn("Listener for id {} failed to process message: {}", sensorID, e.getMessage());
+                    }
+                }
+                scheduled.set(false);
+                // a message may have been added after the queue was drained but before the flag was reset
+            } while (!pendingMessages.isEmpty() && scheduled.compareAndSet(false, true));
+        }
+    }
 }
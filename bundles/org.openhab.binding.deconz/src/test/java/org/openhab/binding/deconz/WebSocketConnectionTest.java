@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.deconz;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.binding.deconz.internal.dto.DeconzBaseMessage;
+import org.openhab.binding.deconz.internal.dto.LightMessage;
+import org.openhab.binding.deconz.internal.dto.SensorMessage;
+import org.openhab.binding.deconz.internal.netutils.WebSocketConnection;
+import org.openhab.binding.deconz.internal.netutils.WebSocketConnectionListener;
+import org.openhab.binding.deconz.internal.netutils.WebSocketMessageListener;
+import org.openhab.binding.deconz.internal.types.ResourceType;
+import org.openhab.binding.deconz.internal.types.ResourceTypeDeserializer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * This class provides tests for the message dispatching of the deconz websocket connection
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class WebSocketConnectionTest {
+    private @Mock @NonNullByDefault({}) WebSocketConnectionListener connectionListener;
+    private @Mock @NonNullByDefault({}) WebSocketClient client;
+    private @Mock @NonNullByDefault({}) WebSocketMessageListener lightListener;
+    private @Mock @NonNullByDefault({}) WebSocketMessageListener sensorListener;
+
+    private @NonNullByDefault({}) WebSocketConnection connection;
+
+    @BeforeEach
+    public void initialize() {
+        Gson gson = new GsonBuilder().registerTypeAdapter(ResourceType.class, new ResourceTypeDeserializer())
+                .create();
+        connection = new WebSocketConnection(connectionListener, client, gson, Runnable::run);
+        connection.registerListener(ResourceType.LIGHTS, "1", lightListener);
+        connection.registerListener(ResourceType.SENSORS, "1", sensorListener);
+    }
+
+    @Test
+    public void dispatchByResourceType() {
+        connection.onMessage("{\"e\":\"changed\",\"id\":\"1\",\"r\":\"sensors\",\"t\":\"event\",\"state\":{}}");
+
+        ArgumentCaptor<DeconzBaseMessage> captor = ArgumentCaptor.forClass(DeconzBaseMessage.class);
+        verify(sensorListener).messageReceived(eq("1"), captor.capture());
+        verify(lightListener, never()).messageReceived(any(), any());
+        assertTrue(captor.getValue() instanceof SensorMessage);
+        assertEquals(ResourceType.SENSORS, captor.getValue().r);
+    }
+
+    @Test
+    public void unregisteredListenerIsSkipped() {
+        connection.unregisterListener(ResourceType.LIGHTS, "1");
+        connection.onMessage("{\"e\":\"changed\",\"id\":\"1\",\"r\":\"lights\",\"t\":\"event\",\"state\":{}}");
+        connection.onMessage("{\"e\":\"changed\",\"id\":\"2\",\"r\":\"sensors\",\"t\":\"event\",\"state\":{}}");
+
+        verify(lightListener, never()).messageReceived(any(), any());
+        verify(sensorListener, never()).messageReceived(any(), any());
+    }
+
+    @Test
+    public void lightMessageIsMappedToLightMessage() {
+        connection.onMessage("{\"e\":\"changed\",\"id\":\"1\",\"r\":\"lights\",\"t\":\"event\",\"state\":{\"on\":true}}");
+
+        ArgumentCaptor<DeconzBaseMessage> captor = ArgumentCaptor.forClass(DeconzBaseMessage.class);
+        verify(lightListener).messageReceived(eq("1"), captor.capture());
+        assertTrue(captor.getValue() instanceof LightMessage);
+    }
+
+    @Test
+    public void resourceFieldsAfterStateAreFound() {
+        connection.onMessage(
+                "{\"e\":\"changed\",\"state\":{\"on\":true,\"xy\":[0.1,0.2]},\"t\":\"event\",\"r\":\"lights\",\"id\":\"1\"}");
+
+        verify(lightListener).messageReceived(eq("1"), any(LightMessage.class));
+    }
+
+    @Test
+    public void invalidMessageIsSkipped() {
+        connection.onMessage("[\"lights\"]");
+        connection.onMessage("{\"r\":\"lights\",\"id\":");
+        connection.onMessage("{\"r\":\"lights\",\"id\":{\"nested\":\"1\"}}");
+
+        verify(lightListener, never()).messageReceived(any(), any());
+    }
+}
@@ -115,6 +115,13 @@ public class Config {
     public static final int DEFAULT_SENSOR_READING_WAIT_TIME = 60000;
     private int sensorReadingWaitTime = DEFAULT_SENSOR_READING_WAIT_TIME;
 
+    /**
+     * Default minimum time between two {@link SensorJob}s over all circuits. It is the request budget of the dSS for
+     * sensor readings, which will be stretched if the dSS responds slowly.
+     */
+    public static final int DEFAULT_SENSOR_JOB_INTERVAL = 1000;
+    private int sensorJobInterval = DEFAULT_SENSOR_JOB_INTERVAL;
+
     // sensor data Prioritys
     /**
      * Priority for never refresh the sensor value.
@@ -478,6 +485,24 @@ public class Config {
         this.sensorReadingWaitTime = sensorReadingWaitTime;
     }
 
+    /**
+     * Returns the minimum time in milliseconds between two {@link SensorJob}s over all circuits.
+     *
+     * @return the sensor job interval in milliseconds
+     */
+    public int getSensorJobInterval() {
+        return sensorJobInterval;
+    }
+
+    /**
+     * Sets the minimum time in milliseconds between two {@link SensorJob}s over all circuits.
+     *
+     * @param sensorJobInterval in milliseconds
+     */
+    public void setSensorJobInterval(int sensorJobInterval) {
+        this.sensorJobInterval = sensorJobInterval;
+    }
+
     /**
      * Returns the factor to prioritize medium {@link SensorJob}s in the {@link SensorJobExecutor} down.
      *
@@ -599,6 +624,7 @@ public class Config {
         setSensordataRefreshInterval(config.getSensordataRefreshInterval());
         setTotalPowerUpdateInterval(config.getTotalPowerUpdateInterval());
         setSensorReadingWaitTime(config.getSensorReadingWaitTime());
+        setSensorJobInterval(config.getSensorJobInterval());
         setMediumPriorityFactor(config.getMediumPriorityFactor());
         setLowPriorityFactor(config.getLowPriorityFactor());
         setEventListenerRefreshinterval(config.getEventListenerRefreshinterval());
@@ -615,8 +641,8 @@ public class Config {
                 + ", trashDeviceDeleteTime=" + trashDeviceDeleteTime + ", binCheckTime=" + binCheckTime
                 + ", pollingFrequency=" + pollingFrequency + ", sensordataRefreshInterval=" + sensordataRefreshInterval
                 + ", totalPowerUpdateInterval=" + totalPowerUpdateInterval + ", sensorReadingWaitTime="
-                + sensorReadingWaitTime + ", mediumPriorityFactor=" + mediumPriorityFactor + ", lowPriorityFactor="
-                + lowPriorityFactor + ", eventListenerRefreshinterval=" + eventListenerRefreshinterval
-                + ", standbyActivePower=" + standbyActivePower + "]";
+                + sensorReadingWaitTime + ", sensorJobInterval=" + sensorJobInterval + ", mediumPriorityFactor="
+                + mediumPriorityFactor + ", lowPriorityFactor=" + lowPriorityFactor + ", eventListenerRefreshinterval="
+                + eventListenerRefreshinterval + ", standbyActivePower=" + standbyActivePower + "]";
     }
 }
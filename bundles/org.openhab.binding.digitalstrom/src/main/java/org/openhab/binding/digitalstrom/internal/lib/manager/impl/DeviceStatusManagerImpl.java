@@ -42,6 +42,7 @@ import org.openhab.binding.digitalstrom.internal.lib.manager.SceneManager;
 import org.openhab.binding.digitalstrom.internal.lib.manager.StructureManager;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.SceneReadingJobExecutor;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.SensorJobExecutor;
+import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.SensorJobScheduler;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.impl.DeviceConsumptionSensorJob;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.impl.DeviceOutputValueSensorJob;
@@ -109,6 +110,7 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
     private DsAPI digitalSTROMClient;
     private Config config;
 
+    private SensorJobScheduler sensorJobScheduler;
     private SensorJobExecutor sensorJobExecutor;
     private SceneReadingJobExecutor sceneJobExecutor;
     private EventListener eventListener;
@@ -1014,10 +1016,23 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
         }
     }
 
+    /**
+     * Returns the {@link SensorJobScheduler} which is shared by the {@link SensorJobExecutor} and the
+     * {@link SceneReadingJobExecutor}, so all {@link SensorJob}s share the request budget of the dSS.
+     *
+     * @return the sensor job scheduler
+     */
+    private synchronized SensorJobScheduler getSensorJobScheduler() {
+        if (sensorJobScheduler == null) {
+            sensorJobScheduler = new SensorJobScheduler(connMan);
+        }
+        return sensorJobScheduler;
+    }
+
     @Override
     public void updateSensorData(SensorJob sensorJob, String priority) {
         if (sensorJobExecutor == null) {
-            sensorJobExecutor = new SensorJobExecutor(connMan);
+            sensorJobExecutor = new SensorJobExecutor(connMan, getSensorJobScheduler());
             this.sensorJobExecutor.startExecutor();
         }
         if (sensorJob != null && priority != null) {
@@ -1047,7 +1062,7 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
     @Override
     public void updateSceneData(Device device, DeviceStateUpdate deviceStateUpdate) {
         if (sceneJobExecutor == null) {
-            sceneJobExecutor = new SceneReadingJobExecutor(connMan);
+            sceneJobExecutor = new SceneReadingJobExecutor(connMan, getSensorJobScheduler());
             this.sceneJobExecutor.startExecutor();
         }
 
@@ -12,27 +12,22 @@
  */
 package org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor;
 
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.openhab.binding.digitalstrom.internal.lib.config.Config;
 import org.openhab.binding.digitalstrom.internal.lib.manager.ConnectionManager;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob;
-import org.openhab.binding.digitalstrom.internal.lib.serverconnection.DsAPI;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.Device;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DSID;
-import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The {@link AbstractSensorJobExecutor} provides the working process to execute implementations of {@link SensorJob}'s
- * in the time interval set at the {@link Config}.
+ * The {@link AbstractSensorJobExecutor} manages the {@link SensorJob}'s per circuit, which are executed by a
+ * {@link SensorJobScheduler} in the time interval set at the {@link Config}. Several executors can share one
+ * {@link SensorJobScheduler}, so the {@link SensorJob}'s of all executors share the request budget of the
+ * digitalSTROM-Server.
  * <p>
  * The following methods can be overridden by subclasses to implement a execution priority:
  * </p>
@@ -50,91 +45,63 @@ public abstract class AbstractSensorJobExecutor {
 
     private final Logger logger = LoggerFactory.getLogger(AbstractSensorJobExecutor.class);
 
-    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(Config.THREADPOOL_NAME);
-    private Map<DSID, ScheduledFuture<?>> pollingSchedulers;
-
-    private final DsAPI dSAPI;
     protected Config config;
-    private final ConnectionManager connectionManager;
-
-    private final List<CircuitScheduler> circuitSchedulerList = new LinkedList<>();
-
-    private class ExecutorRunnable implements Runnable {
-        private final CircuitScheduler circuit;
-
-        public ExecutorRunnable(CircuitScheduler circuit) {
-            this.circuit = circuit;
-        }
-
-        @Override
-        public void run() {
-            // pollingSchedulers is not final and might be set to null by another thread. See #8214
-            Map<DSID, ScheduledFuture<?>> pollingSchedulers = AbstractSensorJobExecutor.this.pollingSchedulers;
+    private final SensorJobScheduler sensorJobScheduler;
 
-            SensorJob sensorJob = circuit.getNextSensorJob();
-            DSID meter = circuit.getMeterDSID();
+    private final List<CircuitScheduler> circuitSchedulerList = new CopyOnWriteArrayList<>();
 
-            if (sensorJob != null) {
-                sensorJob.execute(dSAPI, connectionManager.getSessionToken());
-            }
-            if (circuit.noMoreJobs() && pollingSchedulers != null) {
-                logger.debug("no more jobs... stop circuit schedduler with id = {}", meter);
-                ScheduledFuture<?> scheduler = pollingSchedulers.get(meter);
-                if (scheduler != null) {
-                    scheduler.cancel(true);
-                }
-            }
-        }
+    /**
+     * Creates a new {@link AbstractSensorJobExecutor} with its own {@link SensorJobScheduler}.
+     *
+     * @param connectionManager must not be null
+     */
+    public AbstractSensorJobExecutor(ConnectionManager connectionManager) {
+        this(connectionManager, new SensorJobScheduler(connectionManager));
     }
 
     /**
-     * Creates a new {@link AbstractSensorJobExecutor}.
+     * Creates a new {@link AbstractSensorJobExecutor}, whose {@link SensorJob}'s will be executed by the given
+     * {@link SensorJobScheduler}.
      *
      * @param connectionManager must not be null
+     * @param sensorJobScheduler must not be null
      */
-    public AbstractSensorJobExecutor(ConnectionManager connectionManager) {
-        this.connectionManager = connectionManager;
+    public AbstractSensorJobExecutor(ConnectionManager connectionManager, SensorJobScheduler sensorJobScheduler) {
         config = connectionManager.getConfig();
-        this.dSAPI = connectionManager.getDigitalSTROMAPI();
+        this.sensorJobScheduler = sensorJobScheduler;
+        sensorJobScheduler.registerExecutor(this);
     }
 
     /**
-     * Stops all circuit schedulers.
+     * Stops the execution of the {@link SensorJob}'s.
      */
     public synchronized void shutdown() {
-        if (pollingSchedulers != null) {
-            for (ScheduledFuture<?> scheduledExecutor : pollingSchedulers.values()) {
-                scheduledExecutor.cancel(true);
-            }
-            pollingSchedulers = null;
-            logger.debug("stop all circuit schedulers.");
-        }
+        sensorJobScheduler.stop();
     }
 
     /**
-     * Starts all circuit schedulers.
+     * Starts the execution of the {@link SensorJob}'s.
      */
     public synchronized void startExecutor() {
-        logger.debug("start all circuit schedulers.");
-        if (pollingSchedulers == null) {
-            pollingSchedulers = new HashMap<>();
-        }
-        if (circuitSchedulerList != null && !circuitSchedulerList.isEmpty()) {
-            for (CircuitScheduler circuit : circuitSchedulerList) {
-                startSchedduler(circuit);
-            }
-        }
+        sensorJobScheduler.start();
     }
 
-    private void startSchedduler(CircuitScheduler circuit) {
-        if (pollingSchedulers != null) {
-            if (pollingSchedulers.get(circuit.getMeterDSID()) == null
-                    || pollingSchedulers.get(circuit.getMeterDSID()).isCancelled()) {
-                pollingSchedulers.put(circuit.getMeterDSID(),
-                        scheduler.scheduleWithFixedDelay(new ExecutorRunnable(circuit), circuit.getNextExecutionDelay(),
-                                config.getSensorReadingWaitTime(), TimeUnit.MILLISECONDS));
-            }
-        }
+    /**
+     * Returns the {@link SensorJobScheduler} that executes the {@link SensorJob}'s of this executor.
+     *
+     * @return the sensor job scheduler
+     */
+    public SensorJobScheduler getSensorJobScheduler() {
+        return sensorJobScheduler;
+    }
+
+    /**
+     * Returns the {@link CircuitScheduler}s of this executor.
+     *
+     * @return the circuit schedulers
+     */
+    List<CircuitScheduler> getCircuitSchedulers() {
+        return circuitSchedulerList;
     }
 
     /**
@@ -189,16 +156,17 @@ public abstract class AbstractSensorJobExecutor {
      * @param sensorJob to add
      */
     protected void addSensorJobToCircuitScheduler(SensorJob sensorJob) {
+        boolean added = true;
         synchronized (this.circuitSchedulerList) {
             CircuitScheduler circuit = getCircuitScheduler(sensorJob.getMeterDSID());
             if (circuit != null) {
-                circuit.addSensorJob(sensorJob);
+                added = circuit.addSensorJob(sensorJob);
             } else {
-                circuit = new CircuitScheduler(sensorJob, config);
+                circuit = new CircuitScheduler(sensorJob);
                 this.circuitSchedulerList.add(circuit);
             }
-            startSchedduler(circuit);
         }
+        sensorJobScheduler.sensorJobAdded(added);
     }
 
     private CircuitScheduler getCircuitScheduler(DSID dsid) {
@@ -13,18 +13,20 @@
 package org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.PriorityQueue;
 
-import org.openhab.binding.digitalstrom.internal.lib.config.Config;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DSID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This {@link CircuitScheduler} represents a circuit in the digitalSTROM-System and manages the priorities and
- * execution times for the {@link SensorJob}s on this circuit.
+ * This {@link CircuitScheduler} represents a circuit in the digitalSTROM-System and manages the priorities of the
+ * {@link SensorJob}s on this circuit. The execution times of all circuits are managed by the
+ * {@link SensorJobScheduler}.
  *
  * @author Michael Ochel - Initial contribution
  * @author Matthias Siegele - Initial contribution
@@ -42,35 +44,32 @@ public class CircuitScheduler {
     }
 
     private final DSID meterDSID;
-    private long nextExecutionTime = System.currentTimeMillis();
     private final PriorityQueue<SensorJob> sensorJobQueue = new PriorityQueue<>(10, new SensorJobComparator());
-    private final Config config;
+    // time when a job was added, the identical job can be found in constant time, too
+    private final Map<SensorJob, Long> queuedSince = new HashMap<>();
 
     /**
      * Creates a new {@link CircuitScheduler}.
      *
      * @param meterDSID must not be null
-     * @param config must not be null
      * @throws IllegalArgumentException if the meterDSID is null
      */
-    public CircuitScheduler(DSID meterDSID, Config config) {
+    public CircuitScheduler(DSID meterDSID) {
         if (meterDSID == null) {
             throw new IllegalArgumentException("The meterDSID must not be null!");
         }
         this.meterDSID = meterDSID;
-        this.config = config;
     }
 
     /**
      * Creates a new {@link CircuitScheduler} and add the first {@link SensorJob} to this {@link CircuitScheduler}.
      *
      * @param sensorJob to add, must not be null
-     * @param config must not be null
      */
-    public CircuitScheduler(SensorJob sensorJob, Config config) {
+    public CircuitScheduler(SensorJob sensorJob) {
         this.meterDSID = sensorJob.getMeterDSID();
         this.sensorJobQueue.add(sensorJob);
-        this.config = config;
+        this.queuedSince.put(sensorJob, System.currentTimeMillis());
         logger.debug("create circuitScheduler: {} and add sensorJob: {}", this.getMeterDSID(),
                 sensorJob.getDSID().toString());
     }
@@ -88,18 +87,22 @@ public class CircuitScheduler {
      * Adds a new SensorJob to this {@link CircuitScheduler}, if no {@link SensorJob} with a higher priority exists.
      *
      * @param sensorJob to add
+     * @return true, if the {@link SensorJob} was added, false if an identical {@link SensorJob} is already pending
      */
-    public void addSensorJob(SensorJob sensorJob) {
+    public boolean addSensorJob(SensorJob sensorJob) {
         synchronized (sensorJobQueue) {
-            if (!this.sensorJobQueue.contains(sensorJob)) {
+            if (!this.queuedSince.containsKey(sensorJob)) {
                 sensorJobQueue.add(sensorJob);
+                queuedSince.put(sensorJob, System.currentTimeMillis());
                 logger.debug("Add sensorJob: {} to circuitScheduler: {}", sensorJob.toString(), this.getMeterDSID());
+                return true;
             } else if (checkSensorJobPrio(sensorJob)) {
                 logger.debug("add sensorJob: {} with higher priority to circuitScheduler: {}", sensorJob.toString(),
                         this.getMeterDSID());
             } else {
                 logger.debug("sensorJob: {} allready exist with a higher priority", sensorJob.getDSID());
             }
+            return false;
         }
     }
 
@@ -111,6 +114,8 @@ public class CircuitScheduler {
                     if (sensorJob.getInitalisationTime() < existSensorJob.getInitalisationTime()) {
                         iter.remove();
                         sensorJobQueue.add(sensorJob);
+                        // the job keeps waiting since the identical job was added
+                        queuedSince.put(sensorJob, queuedSince.remove(existSensorJob));
                         return true;
                     }
                 }
@@ -120,39 +125,55 @@ public class CircuitScheduler {
     }
 
     /**
-     * Returns the next {@link SensorJob} which can be executed or null, if there are no more {@link SensorJob} to
-     * execute or the wait time between the {@link SensorJob}s executions has not expired yet.
+     * Returns the {@link SensorJob} with the highest priority without removing it or null, if there are no more
+     * {@link SensorJob}s to execute.
      *
      * @return next SensorJob or null
      */
-    public SensorJob getNextSensorJob() {
+    public SensorJob peekSensorJob() {
         synchronized (sensorJobQueue) {
-            if (sensorJobQueue.peek() != null && this.nextExecutionTime <= System.currentTimeMillis()) {
-                nextExecutionTime = System.currentTimeMillis() + config.getSensorReadingWaitTime();
-                return sensorJobQueue.poll();
-            } else {
-                return null;
+            return sensorJobQueue.peek();
+        }
+    }
+
+    /**
+     * Removes and returns the {@link SensorJob} with the highest priority or null, if there are no more
+     * {@link SensorJob}s to execute.
+     *
+     * @return next SensorJob or null
+     */
+    public SensorJob pollSensorJob() {
+        synchronized (sensorJobQueue) {
+            SensorJob sensorJob = sensorJobQueue.poll();
+            if (sensorJob != null) {
+                queuedSince.remove(sensorJob);
             }
+            return sensorJob;
         }
     }
 
     /**
-     * Returns the time when the next {@link SensorJob} can be executed.
+     * Returns the time when the given pending {@link SensorJob} was added, or the current time if it is not pending.
      *
-     * @return next SesnorJob execution time
+     * @param sensorJob pending job
+     * @return time in milliseconds
      */
-    public Long getNextExecutionTime() {
-        return this.nextExecutionTime;
+    public long getQueuedSince(SensorJob sensorJob) {
+        synchronized (sensorJobQueue) {
+            Long time = queuedSince.get(sensorJob);
+            return time != null ? time : System.currentTimeMillis();
+        }
     }
 
     /**
-     * Returns the delay when the next {@link SensorJob} can be executed.
+     * Returns the number of pending {@link SensorJob}s.
      *
-     * @return next SesnorJob execution delay
+     * @return number of pending jobs
      */
-    public Long getNextExecutionDelay() {
-        long delay = this.nextExecutionTime - System.currentTimeMillis();
-        return delay > 0 ? delay : 0;
+    public int size() {
+        synchronized (sensorJobQueue) {
+            return sensorJobQueue.size();
+        }
     }
 
     /**
@@ -166,6 +187,7 @@ public class CircuitScheduler {
                 SensorJob job = iter.next();
                 if (job.getDSID().equals(dSID)) {
                     iter.remove();
+                    queuedSince.remove(job);
                     logger.debug("Remove SensorJob with ID {}.", job.getID());
                 }
             }
@@ -183,6 +205,7 @@ public class CircuitScheduler {
                 SensorJob job = iter.next();
                 if (job.getID().equals(id)) {
                     iter.remove();
+                    queuedSince.remove(job);
                     logger.debug("Remove SensorJob with ID {}.", id);
                     return;
                 }
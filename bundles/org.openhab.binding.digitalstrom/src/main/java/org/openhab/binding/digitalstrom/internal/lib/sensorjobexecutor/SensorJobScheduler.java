@@ -0,0 +1,330 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.binding.digitalstrom.internal.lib.config.Config;
+import org.openhab.binding.digitalstrom.internal.lib.manager.ConnectionManager;
+import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob;
+import org.openhab.binding.digitalstrom.internal.lib.serverconnection.DsAPI;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DSID;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SensorJobScheduler} executes the {@link SensorJob}s of all registered {@link AbstractSensorJobExecutor}s
+ * one after another, so the requests of all circuits share the request budget of the digitalSTROM-Server.
+ * <p>
+ * The rules of the execution are:
+ * </p>
+ * <ul>
+ * <li>Between two {@link SensorJob}s at least {@link Config#getSensorJobInterval()} has to pass. If the dSS responds
+ * slowly, the interval is stretched to a multiple of the average response time.</li>
+ * <li>Between two {@link SensorJob}s on the same circuit at least {@link Config#getSensorReadingWaitTime()} has to
+ * pass.</li>
+ * <li>From all circuits that are ready, the {@link SensorJob} of a device which is shown to the user is executed
+ * first, after that the {@link SensorJob} which waits the longest.</li>
+ * </ul>
+ * <p>
+ * A single job of the thread pool is scheduled for the next execution, it is not scheduled at all, if there are no
+ * {@link SensorJob}s. While a {@link SensorJob} is executed, nothing is scheduled, the next execution is scheduled
+ * after the response of the dSS.
+ * </p>
+ *
+ * @author agent - Initial contribution
+ */
+public class SensorJobScheduler {
+
+    private final Logger logger = LoggerFactory.getLogger(SensorJobScheduler.class);
+
+    /**
+     * Weight of the latest response time in the average response time.
+     */
+    private static final double RESPONSE_TIME_WEIGHT = 0.2;
+    /**
+     * The interval between two {@link SensorJob}s is at least this factor times the average response time.
+     */
+    private static final int RESPONSE_TIME_FACTOR = 2;
+    /**
+     * The statistics are logged after every this number of executed {@link SensorJob}s.
+     */
+    private static final int STATISTICS_LOG_INTERVAL = 100;
+
+    private final ScheduledExecutorService scheduler;
+    private final DsAPI dSAPI;
+    private final Config config;
+    private final ConnectionManager connectionManager;
+
+    private final List<AbstractSensorJobExecutor> executors = new CopyOnWriteArrayList<>();
+    private final Map<DSID, Long> nextCircuitExecutionTimes = new HashMap<>();
+
+    private ScheduledFuture<?> executionJob;
+    private long nextExecutionTime;
+    private long lastExecutionTime;
+    private boolean running;
+    private boolean executing;
+
+    // statistics
+    private long executedJobs;
+    private long duplicateJobs;
+    private long visibleJobs;
+    private double averageResponseTime;
+    private long maxResponseTime;
+    private long totalWaitTime;
+    private long maxWaitTime;
+
+    /**
+     * Creates a new {@link SensorJobScheduler}.
+     *
+     * @param connectionManager must not be null
+     */
+    public SensorJobScheduler(ConnectionManager connectionManager) {
+        this(connectionManager, ThreadPoolManager.getScheduledPool(Config.THREADPOOL_NAME));
+    }
+
+    /**
+     * Creates a new {@link SensorJobScheduler}, which uses the given {@link ScheduledExecutorService}.
+     *
+     * @param connectionManager must not be null
+     * @param scheduler must not be null
+     */
+    public SensorJobScheduler(ConnectionManager connectionManager, ScheduledExecutorService scheduler) {
+        this.connectionManager = connectionManager;
+        this.config = connectionManager.getConfig();
+        this.dSAPI = connectionManager.getDigitalSTROMAPI();
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Registers an {@link AbstractSensorJobExecutor}, whose {@link SensorJob}s will be executed by this scheduler.
+     *
+     * @param executor to register
+     */
+    public void registerExecutor(AbstractSensorJobExecutor executor) {
+        if (!executors.contains(executor)) {
+            executors.add(executor);
+        }
+    }
+
+    /**
+     * Starts the execution of the {@link SensorJob}s.
+     */
+    public synchronized void start() {
+        if (!running) {
+            running = true;
+            logger.debug("start sensor job scheduler.");
+            scheduleNextExecution();
+        }
+    }
+
+    /**
+     * Stops the execution of the {@link SensorJob}s. The pending {@link SensorJob}s will be kept.
+     */
+    public synchronized void stop() {
+        if (running) {
+            running = false;
+            cancelExecutionJob();
+            logger.debug("stop sensor job scheduler, {}", getStatistics());
+        }
+    }
+
+    /**
+     * Returns true, if the {@link SensorJobScheduler} is running, otherwise false.
+     *
+     * @return true, if running
+     */
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Informs the scheduler that a {@link SensorJob} was added to a {@link CircuitScheduler}.
+     *
+     * @param added true, if the job was added, false if an identical job was already pending
+     */
+    synchronized void sensorJobAdded(boolean added) {
+        if (!added) {
+            duplicateJobs++;
+        }
+        scheduleNextExecution();
+    }
+
+    /**
+     * Returns the current interval between two {@link SensorJob}s, i.e. the configured interval or, if the dSS
+     * responds slowly, the stretched interval.
+     *
+     * @return interval in milliseconds
+     */
+    public synchronized long getCurrentInterval() {
+        return Math.max(config.getSensorJobInterval(), (long) (RESPONSE_TIME_FACTOR * averageResponseTime));
+    }
+
+    /**
+     * Returns the number of pending {@link SensorJob}s of all circuits.
+     *
+     * @return number of pending jobs
+     */
+    public int getPendingJobs() {
+        int pending = 0;
+        for (AbstractSensorJobExecutor executor : executors) {
+            for (CircuitScheduler circuit : executor.getCircuitSchedulers()) {
+                pending += circuit.size();
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Returns a summary of the executed {@link SensorJob}s, the response times of the dSS and the time the jobs had to
+     * wait.
+     *
+     * @return statistics
+     */
+    public synchronized String getStatistics() {
+        return String.format(
+                "executed jobs: %d (%d visible), pending jobs: %d, duplicate jobs: %d, "
+                        + "response time avg %d ms max %d ms, wait time avg %d ms max %d ms, interval: %d ms",
+                executedJobs, visibleJobs, getPendingJobs(), duplicateJobs, (long) averageResponseTime,
+                maxResponseTime, executedJobs > 0 ? totalWaitTime / executedJobs : 0, maxWaitTime,
+                getCurrentInterval());
+    }
+
+    private void cancelExecutionJob() {
+        if (executionJob != null) {
+            executionJob.cancel(false);
+            executionJob = null;
+        }
+    }
+
+    /**
+     * Schedules the execution job for the earliest time a pending {@link SensorJob} can be executed.
+     */
+    private void scheduleNextExecution() {
+        if (!running || executing) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long time = Long.MAX_VALUE;
+        for (AbstractSensorJobExecutor executor : executors) {
+            for (CircuitScheduler circuit : executor.getCircuitSchedulers()) {
+                if (!circuit.noMoreJobs()) {
+                    time = Math.min(time, getNextCircuitExecutionTime(circuit.getMeterDSID()));
+                }
+            }
+        }
+        if (time == Long.MAX_VALUE) {
+            return;
+        }
+        time = Math.max(Math.max(time, lastExecutionTime + getCurrentInterval()), now);
+        if (executionJob != null && !executionJob.isDone()) {
+            if (nextExecutionTime <= time) {
+                return;
+            }
+            executionJob.cancel(false);
+        }
+        nextExecutionTime = time;
+        executionJob = scheduler.schedule(this::executeNextSensorJob, time - now, TimeUnit.MILLISECONDS);
+    }
+
+    private long getNextCircuitExecutionTime(DSID meterDSID) {
+        Long time = nextCircuitExecutionTimes.get(meterDSID);
+        return time != null ? time : 0;
+    }
+
+    /**
+     * Returns the {@link CircuitScheduler} with the most urgent {@link SensorJob} of all circuits that are ready.
+     */
+    private CircuitScheduler selectCircuit(long now) {
+        CircuitScheduler selected = null;
+        boolean selectedVisible = false;
+        long selectedQueuedSince = Long.MAX_VALUE;
+        for (AbstractSensorJobExecutor executor : executors) {
+            for (CircuitScheduler circuit : executor.getCircuitSchedulers()) {
+                SensorJob sensorJob = circuit.peekSensorJob();
+                if (sensorJob == null || getNextCircuitExecutionTime(circuit.getMeterDSID()) > now) {
+                    continue;
+                }
+                boolean visible = sensorJob.isDeviceListenerRegistered();
+                long queuedSince = circuit.getQueuedSince(sensorJob);
+                if (selected == null || (visible && !selectedVisible)
+                        || (visible == selectedVisible && queuedSince < selectedQueuedSince)) {
+                    selected = circuit;
+                    selectedVisible = visible;
+                    selectedQueuedSince = queuedSince;
+                }
+            }
+        }
+        return selected;
+    }
+
+    private void executeNextSensorJob() {
+        SensorJob sensorJob;
+        long waitTime;
+        synchronized (this) {
+            executionJob = null;
+            if (!running) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            CircuitScheduler circuit = selectCircuit(now);
+            sensorJob = circuit != null ? circuit.peekSensorJob() : null;
+            if (sensorJob == null) {
+                scheduleNextExecution();
+                return;
+            }
+            waitTime = now - circuit.getQueuedSince(sensorJob);
+            circuit.pollSensorJob();
+            if (sensorJob.isDeviceListenerRegistered()) {
+                visibleJobs++;
+            }
+            nextCircuitExecutionTimes.put(circuit.getMeterDSID(), now + config.getSensorReadingWaitTime());
+            executing = true;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            sensorJob.execute(dSAPI, connectionManager.getSessionToken());
+        } catch (RuntimeException e) {
+            logger.debug("Execution of {} failed: {}", sensorJob, e.getMessage());
+        }
+        long responseTime = System.currentTimeMillis() - start;
+
+        synchronized (this) {
+            executing = false;
+            updateStatistics(responseTime, waitTime);
+            // the interval starts after the response, so a slow dSS is not flooded with requests
+            lastExecutionTime = System.currentTimeMillis();
+            scheduleNextExecution();
+        }
+    }
+
+    private void updateStatistics(long responseTime, long waitTime) {
+        executedJobs++;
+        averageResponseTime = executedJobs == 1 ? responseTime
+                : RESPONSE_TIME_WEIGHT * responseTime + (1 - RESPONSE_TIME_WEIGHT) * averageResponseTime;
+        maxResponseTime = Math.max(maxResponseTime, responseTime);
+        totalWaitTime += waitTime;
+        maxWaitTime = Math.max(maxWaitTime, waitTime);
+        if (executedJobs % STATISTICS_LOG_INTERVAL == 0) {
+            logger.debug("sensor job scheduler {}", getStatistics());
+        }
+    }
+}
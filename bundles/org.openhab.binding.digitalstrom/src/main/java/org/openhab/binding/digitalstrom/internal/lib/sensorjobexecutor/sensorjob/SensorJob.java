@@ -40,6 +40,14 @@ public interface SensorJob {
      */
     DSID getMeterDSID();
 
+    /**
+     * Returns true, if a {@link DeviceStatusListener} is registered to the {@link Device} of this job, so the values
+     * read by this job are shown to the user, otherwise false.
+     *
+     * @return true, if the device has a registered listener
+     */
+    boolean isDeviceListenerRegistered();
+
     /**
      * Executes the SensorJob.
      *
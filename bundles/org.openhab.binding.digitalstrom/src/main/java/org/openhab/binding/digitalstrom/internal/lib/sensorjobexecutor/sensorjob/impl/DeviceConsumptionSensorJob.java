@@ -97,6 +97,11 @@ public class DeviceConsumptionSensorJob implements SensorJob {
         return device.getDSID();
     }
 
+    @Override
+    public boolean isDeviceListenerRegistered() {
+        return device.isListenerRegisterd();
+    }
+
     @Override
     public DSID getMeterDSID() {
         return this.meterDSID;
@@ -103,6 +103,11 @@ public class DeviceOutputValueSensorJob implements SensorJob {
         return device.getDSID();
     }
 
+    @Override
+    public boolean isDeviceListenerRegistered() {
+        return device.isListenerRegisterd();
+    }
+
     @Override
     public DSID getMeterDSID() {
         return this.meterDSID;
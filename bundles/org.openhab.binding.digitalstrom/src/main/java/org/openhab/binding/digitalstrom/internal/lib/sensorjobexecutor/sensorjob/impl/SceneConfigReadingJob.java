@@ -80,6 +80,11 @@ public class SceneConfigReadingJob implements SensorJob {
         return device.getDSID();
     }
 
+    @Override
+    public boolean isDeviceListenerRegistered() {
+        return device.isListenerRegisterd();
+    }
+
     @Override
     public DSID getMeterDSID() {
         return this.meterDSID;
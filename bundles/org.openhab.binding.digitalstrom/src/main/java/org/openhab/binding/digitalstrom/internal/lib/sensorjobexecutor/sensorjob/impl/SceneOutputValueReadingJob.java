@@ -83,6 +83,11 @@ public class SceneOutputValueReadingJob implements SensorJob {
         return device.getDSID();
     }
 
+    @Override
+    public boolean isDeviceListenerRegistered() {
+        return device.isListenerRegisterd();
+    }
+
     @Override
     public DSID getMeterDSID() {
         return this.meterDSID;
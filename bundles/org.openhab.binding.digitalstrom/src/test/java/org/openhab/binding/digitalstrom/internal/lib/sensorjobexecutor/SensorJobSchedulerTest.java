@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.digitalstrom.internal.lib.config.Config;
+import org.openhab.binding.digitalstrom.internal.lib.manager.ConnectionManager;
+import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob;
+import org.openhab.binding.digitalstrom.internal.lib.serverconnection.DsAPI;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DSID;
+
+/**
+ * Tests for the {@link SensorJobScheduler}. The {@link DsAPI} is faked, every request of a {@link SensorJob} takes
+ * {@link #RESPONSE_TIME} milliseconds.
+ *
+ * @author agent - Initial contribution
+ */
+public class SensorJobSchedulerTest {
+
+    private static final int SENSOR_JOB_INTERVAL = 20;
+    private static final long RESPONSE_TIME = 100;
+
+    private final AtomicInteger runningRequests = new AtomicInteger();
+    private final AtomicInteger maxRunningRequests = new AtomicInteger();
+    private final List<String> executedJobs = new CopyOnWriteArrayList<>();
+    private final List<Long> requestTimes = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    private ScheduledExecutorService scheduler;
+    private SensorJobScheduler sensorJobScheduler;
+    private SensorJobExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        Config config = new Config();
+        config.setSensorJobInterval(SENSOR_JOB_INTERVAL);
+        config.setSensorReadingWaitTime(0);
+
+        DsAPI dsAPI = fake(DsAPI.class, (proxy, method, args) -> {
+            if ("checkConnection".equals(method.getName())) {
+                maxRunningRequests.accumulateAndGet(runningRequests.incrementAndGet(), Math::max);
+                requestTimes.add(System.currentTimeMillis());
+                Thread.sleep(RESPONSE_TIME);
+                release.await(5, TimeUnit.SECONDS);
+                runningRequests.decrementAndGet();
+                return 200;
+            }
+            return null;
+        });
+        ConnectionManager connectionManager = fake(ConnectionManager.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getConfig":
+                    return config;
+                case "getDigitalSTROMAPI":
+                    return dsAPI;
+                case "getSessionToken":
+                    return "token";
+                default:
+                    return null;
+            }
+        });
+
+        scheduler = Executors.newScheduledThreadPool(4);
+        sensorJobScheduler = new SensorJobScheduler(connectionManager, scheduler);
+        executor = new SensorJobExecutor(connectionManager, sensorJobScheduler);
+        executor.startExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testSensorJobsAreNotExecutedConcurrently() throws InterruptedException {
+        CountDownLatch executed = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            // each job is on an other circuit, so only the interval keeps them apart
+            executor.addHighPriorityJob(new TestSensorJob("job" + i, "0000000" + i, executed));
+        }
+
+        assertTrue(executed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, maxRunningRequests.get());
+        for (int i = 1; i < requestTimes.size(); i++) {
+            assertTrue(requestTimes.get(i) - requestTimes.get(i - 1) >= RESPONSE_TIME + SENSOR_JOB_INTERVAL - 5,
+                    "the interval must start after the response");
+        }
+    }
+
+    @Test
+    public void testJobAddedDuringExecutionWaitsForResponse() throws InterruptedException {
+        release = new CountDownLatch(1);
+        CountDownLatch first = new CountDownLatch(1);
+        executor.addHighPriorityJob(new TestSensorJob("first", "00000001", first));
+        waitForRunningRequest();
+
+        CountDownLatch second = new CountDownLatch(1);
+        executor.addHighPriorityJob(new TestSensorJob("second", "00000002", second));
+        // the dSS has not responded yet, so the second job must wait although the interval is over
+        assertFalse(second.await(RESPONSE_TIME + 5 * SENSOR_JOB_INTERVAL, TimeUnit.MILLISECONDS));
+        assertEquals(List.of("first"), executedJobs);
+
+        long released = System.currentTimeMillis();
+        release.countDown();
+        assertTrue(second.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "second"), executedJobs);
+        assertEquals(1, maxRunningRequests.get());
+        assertTrue(requestTimes.get(1) - released >= SENSOR_JOB_INTERVAL - 5);
+    }
+
+    @Test
+    public void testStopDuringExecution() throws InterruptedException {
+        release = new CountDownLatch(1);
+        executor.addHighPriorityJob(new TestSensorJob("first", "00000001", new CountDownLatch(1)));
+        waitForRunningRequest();
+        CountDownLatch second = new CountDownLatch(1);
+        executor.addHighPriorityJob(new TestSensorJob("second", "00000002", second));
+
+        executor.shutdown();
+        release.countDown();
+        assertFalse(second.await(RESPONSE_TIME + 5 * SENSOR_JOB_INTERVAL, TimeUnit.MILLISECONDS));
+        assertEquals(1, sensorJobScheduler.getPendingJobs());
+
+        // the pending job is kept and executed after a restart
+        executor.startExecutor();
+        assertTrue(second.await(5, TimeUnit.SECONDS));
+    }
+
+    private void waitForRunningRequest() throws InterruptedException {
+        for (int i = 0; i < 100 && runningRequests.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, runningRequests.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T fake(Class<T> type, java.lang.reflect.InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private class TestSensorJob implements SensorJob {
+        private final String id;
+        private final DSID meterDSID;
+        private final CountDownLatch executed;
+        private long initialisationTime = System.currentTimeMillis();
+
+        TestSensorJob(String id, String meterDSID, CountDownLatch executed) {
+            this.id = id;
+            this.meterDSID = new DSID(meterDSID);
+            this.executed = executed;
+        }
+
+        @Override
+        public DSID getDSID() {
+            return meterDSID;
+        }
+
+        @Override
+        public DSID getMeterDSID() {
+            return meterDSID;
+        }
+
+        @Override
+        public boolean isDeviceListenerRegistered() {
+            return true;
+        }
+
+        @Override
+        public void execute(DsAPI dSAPI, String sessionToken) {
+            executedJobs.add(id);
+            dSAPI.checkConnection(sessionToken);
+            executed.countDown();
+        }
+
+        @Override
+        public long getInitalisationTime() {
+            return initialisationTime;
+        }
+
+        @Override
+        public void setInitalisationTime(long time) {
+            initialisationTime = time;
+        }
+
+        @Override
+        public String getID() {
+            return id;
+        }
+    }
+}
@@ -12,8 +12,10 @@
  */
 package org.openhab.binding.dsmr.internal.device.cosem;
 
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,9 +29,20 @@ import org.slf4j.LoggerFactory;
  * Factory for constructing Cosem Objects from Strings
  *
  * @author M. Volaart - Initial contribution
+ * @author agent - Lookup of received OBIS identifiers in a trie
  */
 @NonNullByDefault
 public class CosemObjectFactory {
+    /**
+     * Number of characters that can occur in an OBIS identifier: the digits and the separators '-', ':', '.' and '*'
+     */
+    private static final int TRIE_ALPHABET_SIZE = 14;
+
+    /**
+     * Maximum number of nodes of the lookup trie, bounds the memory used when corrupted identifiers are received
+     */
+    private static final int MAX_TRIE_NODES = 4096;
+
     private final Logger logger = LoggerFactory.getLogger(CosemObjectFactory.class);
 
     /**
@@ -43,14 +56,17 @@ public class CosemObjectFactory {
     private final Map<OBISIdentifier, List<CosemObjectType>> obisLookupTableMultipleFixed = new HashMap<>();
 
     /**
-     * Lookup cache for dynamic OBIS Identifiers
+     * Lookup cache for wild card Cosem Object types
      */
-    private final Map<OBISIdentifier, CosemObjectType> obisLookupTableDynamic = new HashMap<>();
+    private final List<CosemObjectType> obisWildcardCosemTypeList = new ArrayList<>();
 
     /**
-     * Lookup cache for wild card Cosem Object types
+     * Lookup trie of the received OBIS identifiers, keyed by their characters. The node of a complete identifier
+     * holds the parsed identifier and the Cosem Object types it is resolved to with the lookup tables above. This
+     * way the lookup tables are only used the first time an identifier is received.
      */
-    private final List<CosemObjectType> obisWildcardCosemTypeList = new ArrayList<>();
+    private final TrieNode obisLookupTrie = new TrieNode();
+    private int trieNodeCount = 1;
 
     /**
      * Creates a new CosemObjectFactory
@@ -60,16 +76,14 @@ public class CosemObjectFactory {
          * Fill lookup tables. There are 3 entities:
          * - obisLookupTableFixed. This lookup table contains all CosemObjectType with a fixed OBISIdentifier
          * (i.e. groupA != null && groupB != null && groupC != null).
-         * - obisLookupTableDynamic. This lookup table contains all CosemObjectType with a wildcard OBISIdentifier
-         * (i.e. groupA == null || groupB == null || groupC == null). This lookuptable will be filled
-         * dynamically with unique wildcard OBISIdentifiers when values are received and matches a particular real
-         * device (if the device is changed, this lookupTable must be cleared by removing the corresponding DSMRDevice
-         * Thing from the configuration.
+         * - obisLookupTableMultipleFixed. This lookup table contains the fixed OBISIdentifiers that are used for
+         * different data types.
          * - obisWildCardCosemTypeList. This is the list of all wild card Cosem Object types. Multiple Cosem Object
          * Types can have the same wild card OBISIdentifer.
          *
          * To facilitate autodiscovery the list has all supported CosemObjectTypes. To improve performance once the
-         * correct OBISIdentifier is discovered for a certain OBISMsgType this is added to the obisLookupTableDynamic.
+         * correct wild card type is discovered for a received OBISIdentifier, it is stored in the obisLookupTrie
+         * (if the device is changed, the corresponding DSMRDevice Thing must be removed from the configuration).
          */
         for (CosemObjectType msgType : CosemObjectType.values()) {
             if (msgType.obisId.reducedOBISIdentifierIsWildCard()) {
@@ -91,64 +105,146 @@ public class CosemObjectFactory {
      * @return CosemObject or null if parsing failed
      */
     public @Nullable CosemObject getCosemObject(String obisIdString, String cosemStringValues) {
-        OBISIdentifier obisId;
-        OBISIdentifier reducedObisId;
-        OBISIdentifier reducedObisIdGroupE;
+        final byte[] obisIdData = obisIdString.getBytes(StandardCharsets.ISO_8859_1);
+
+        return getCosemObject(obisIdData, obisIdData.length, cosemStringValues);
+    }
+
+    /**
+     * Return Cosem Object from the specified OBIS identifier characters or null if the identifier couldn't be
+     * parsed correctly or no corresponding Cosem Object was found
+     *
+     * @param obisIdData buffer containing the characters of the OBIS message identifier
+     * @param length number of characters of the OBIS message identifier in the buffer
+     * @param cosemStringValues String containing Cosem values
+     * @return CosemObject or null if parsing failed
+     */
+    public @Nullable CosemObject getCosemObject(byte[] obisIdData, int length, String cosemStringValues) {
+        final TrieNode node = getTrieNode(obisIdData, length);
+        ObisLookup lookup = node == null ? null : node.lookup;
+
+        if (lookup == null) {
+            lookup = createLookup(new String(obisIdData, 0, length, StandardCharsets.ISO_8859_1));
+            if (lookup == null) {
+                return null;
+            }
+            if (node != null) {
+                node.lookup = lookup;
+            }
+        }
+        logger.trace("Received obisId: {}, values: {}", lookup.obisId, cosemStringValues);
+
+        final List<CosemObjectType> candidates = lookup.candidates;
+        for (int i = 0; i < candidates.size(); i++) {
+            final CosemObjectType objectType = candidates.get(i);
+            final CosemObject cosemObject = getCosemObjectInternal(objectType, lookup.obisId, cosemStringValues);
+
+            if (cosemObject != null) {
+                if (lookup.wildcardIndex >= 0 && i >= lookup.wildcardIndex && candidates.size() > i + 1) {
+                    // Remember the matching wild card type for this device, as the dynamic lookup table did
+                    final List<CosemObjectType> learned = new ArrayList<>(candidates.subList(0, lookup.wildcardIndex));
+                    learned.add(objectType);
+                    lookup.candidates = learned;
+                    logger.trace("Searched obisId {} in the wild card type list, result: {}", lookup.obisId,
+                            cosemObject);
+                }
+                return cosemObject;
+            }
+        }
+        logger.debug("Received unknown Cosem Object(OBIS id: {})", lookup.obisId);
+
+        return null;
+    }
+
+    /**
+     * Returns the trie node for the given OBIS identifier characters. Missing nodes are added.
+     *
+     * @return the node or null if the identifier contains an unexpected character or the trie is full
+     */
+    private @Nullable TrieNode getTrieNode(byte[] obisIdData, int length) {
+        TrieNode node = obisLookupTrie;
+
+        for (int i = 0; i < length; i++) {
+            final int index = getTrieIndex(obisIdData[i]);
+
+            if (index < 0) {
+                return null;
+            }
+            TrieNode child = node.children[index];
+            if (child == null) {
+                if (trieNodeCount >= MAX_TRIE_NODES) {
+                    return null;
+                }
+                child = new TrieNode();
+                node.children[index] = child;
+                trieNodeCount++;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private static int getTrieIndex(byte b) {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        switch (b) {
+            case '-':
+                return 10;
+            case ':':
+                return 11;
+            case '.':
+                return 12;
+            case '*':
+                return 13;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Parses the OBIS identifier and resolves the Cosem Object types it can be constructed from with the lookup
+     * tables, in the order they are to be tried.
+     *
+     * @param obisIdString String containing the OBIS message identifier
+     * @return the lookup or null if the identifier couldn't be parsed
+     */
+    private @Nullable ObisLookup createLookup(String obisIdString) {
+        final OBISIdentifier obisId;
 
         try {
             obisId = new OBISIdentifier(obisIdString);
-            reducedObisId = obisId.getReducedOBISIdentifier();
-            reducedObisIdGroupE = obisId.getReducedOBISIdentifierGroupE();
         } catch (final ParseException pe) {
             logger.debug("Received invalid OBIS identifier: {}", obisIdString);
             return null;
         }
-
-        logger.trace("Received obisIdString {}, obisId: {}, values: {}", obisIdString, obisId, cosemStringValues);
+        final OBISIdentifier reducedObisId = obisId.getReducedOBISIdentifier();
 
         CosemObjectType objectType = obisLookupTableFixed.get(reducedObisId);
         if (objectType != null) {
             logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
+            return new ObisLookup(obisId, Collections.singletonList(objectType), -1);
         }
 
-        List<CosemObjectType> objectTypeList = obisLookupTableMultipleFixed.get(reducedObisId);
+        final List<CosemObjectType> candidates = new ArrayList<>();
+        final List<CosemObjectType> objectTypeList = obisLookupTableMultipleFixed.get(reducedObisId);
         if (objectTypeList != null) {
-            for (CosemObjectType cosemObjectType : objectTypeList) {
-                CosemObject cosemObject = getCosemObjectInternal(cosemObjectType, obisId, cosemStringValues);
-                if (cosemObject != null) {
-                    logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-                    return cosemObject;
-                }
-            }
+            candidates.addAll(objectTypeList);
         }
 
-        objectType = obisLookupTableDynamic.get(reducedObisId);
+        objectType = obisLookupTableFixed.get(obisId.getReducedOBISIdentifierGroupE());
         if (objectType != null) {
-            logger.trace("Found obisId {} in the dynamic lookup table", reducedObisId);
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
-        }
-
-        objectType = obisLookupTableFixed.get(reducedObisIdGroupE);
-        if (objectType != null) {
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
+            candidates.add(objectType);
+            return new ObisLookup(obisId, candidates, -1);
         }
 
+        final int wildcardIndex = candidates.size();
         for (CosemObjectType obisMsgType : obisWildcardCosemTypeList) {
             if (obisMsgType.obisId.equalsWildCard(reducedObisId)) {
-                CosemObject cosemObject = getCosemObjectInternal(obisMsgType, obisId, cosemStringValues);
-                if (cosemObject != null) {
-                    logger.trace("Searched reducedObisId {} in the wild card type list, result: {}", reducedObisId,
-                            cosemObject);
-                    obisLookupTableDynamic.put(reducedObisId, obisMsgType);
-                    return cosemObject;
-                }
+                candidates.add(obisMsgType);
             }
         }
-
-        logger.debug("Received unknown Cosem Object(OBIS id: {})", obisId);
-
-        return null;
+        return new ObisLookup(obisId, candidates, wildcardIndex);
     }
 
     /**
@@ -175,4 +271,30 @@ public class CosemObjectFactory {
         }
         return null;
     }
+
+    /**
+     * Node of the OBIS identifier lookup trie
+     */
+    private static class TrieNode {
+        private final @Nullable TrieNode[] children = new TrieNode[TRIE_ALPHABET_SIZE];
+        private @Nullable ObisLookup lookup;
+    }
+
+    /**
+     * A received OBIS identifier and the Cosem Object types it is resolved to
+     */
+    private static class ObisLookup {
+        private final OBISIdentifier obisId;
+        private List<CosemObjectType> candidates;
+        /**
+         * Index of the first wild card type in the candidates, -1 if there are none
+         */
+        private final int wildcardIndex;
+
+        ObisLookup(OBISIdentifier obisId, List<CosemObjectType> candidates, int wildcardIndex) {
+            this.obisId = obisId;
+            this.candidates = candidates;
+            this.wildcardIndex = wildcardIndex;
+        }
+    }
 }
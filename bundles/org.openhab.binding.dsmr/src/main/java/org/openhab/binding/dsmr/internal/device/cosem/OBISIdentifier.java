@@ -14,8 +14,6 @@ package org.openhab.binding.dsmr.internal.device.cosem;
 
 import java.text.ParseException;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,16 +26,6 @@ import org.eclipse.jdt.annotation.Nullable;
  */
 @NonNullByDefault
 public class OBISIdentifier {
-    /**
-     * String representing a-b:c.d.e.f OBIS ID
-     */
-    private static final String OBISID_REGEX = "((\\d+)\\-)?((\\d+):)?((\\d+)\\.)(\\d+)(\\.(\\d+))?(.(\\d+))?";
-
-    /**
-     * OBIS ID pattern
-     */
-    private static final Pattern OBIS_ID_PATTERN = Pattern.compile(OBISID_REGEX);
-
     /* the six individual group values of the OBIS ID */
     private int groupA;
     private @Nullable Integer groupB;
@@ -92,35 +80,84 @@ public class OBISIdentifier {
      * @throws ParseException if obisIDString is not a valid OBIS Identifier
      */
     public OBISIdentifier(String obisIDString) throws ParseException {
-        Matcher m = OBIS_ID_PATTERN.matcher(obisIDString);
+        /*
+         * Hand written scanner for the a-b:c.d.e.f OBIS ID. It accepts the same input as the regular expression
+         * ((\d+)\-)?((\d+):)?((\d+)\.)(\d+)(\.(\d+))?(.(\d+))? but avoids the matcher on every received line.
+         */
+        final int length = obisIDString.length();
+        int position = 0;
+        int end = scanDigits(obisIDString, position);
+        int value = parseGroup(obisIDString, position, end);
+
+        // Optional value A
+        if (end < length && obisIDString.charAt(end) == '-') {
+            this.groupA = value;
+            position = end + 1;
+            end = scanDigits(obisIDString, position);
+            value = parseGroup(obisIDString, position, end);
+        }
+        // Optional value B
+        if (end < length && obisIDString.charAt(end) == ':') {
+            this.groupB = value;
+            position = end + 1;
+            end = scanDigits(obisIDString, position);
+            value = parseGroup(obisIDString, position, end);
+        }
+        // Required value C & D
+        if (end >= length || obisIDString.charAt(end) != '.') {
+            throw new ParseException("Invalid OBIS identifier:" + obisIDString, end);
+        }
+        this.groupC = value;
+        position = end + 1;
+        end = scanDigits(obisIDString, position);
+        this.groupD = parseGroup(obisIDString, position, end);
+
+        // Optional value E
+        if (end + 1 < length && obisIDString.charAt(end) == '.' && isDigit(obisIDString.charAt(end + 1))) {
+            position = end + 1;
+            end = scanDigits(obisIDString, position);
+            this.groupE = parseGroup(obisIDString, position, end);
+        }
+        // Optional value F, separated by any character
+        if (end + 1 < length && isDigit(obisIDString.charAt(end + 1))) {
+            position = end + 1;
+            end = scanDigits(obisIDString, position);
+            this.groupF = parseGroup(obisIDString, position, end);
+        }
+        if (end != length) {
+            throw new ParseException("Invalid OBIS identifier:" + obisIDString, end);
+        }
+    }
 
-        if (m.matches()) {
-            // Optional value A
-            if (m.group(2) != null) {
-                this.groupA = Integer.parseInt(m.group(2));
-            }
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 
-            // Optional value B
-            if (m.group(4) != null) {
-                this.groupB = Integer.valueOf(m.group(4));
-            }
+    /**
+     * @return the index of the first non digit character at or after the given position
+     */
+    private static int scanDigits(String obisIDString, int position) {
+        int end = position;
 
-            // Required value C & D
-            this.groupC = Integer.parseInt(m.group(6));
-            this.groupD = Integer.parseInt(m.group(7));
+        while (end < obisIDString.length() && isDigit(obisIDString.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
 
-            // Optional value E
-            if (m.group(9) != null) {
-                this.groupE = Integer.valueOf(m.group(9));
-            }
+    private static int parseGroup(String obisIDString, int begin, int end) throws ParseException {
+        if (begin == end) {
+            throw new ParseException("Invalid OBIS identifier:" + obisIDString, begin);
+        }
+        long value = 0;
 
-            // Optional value F
-            if (m.group(11) != null) {
-                this.groupF = Integer.valueOf(m.group(11));
+        for (int i = begin; i < end; i++) {
+            value = value * 10 + (obisIDString.charAt(i) - '0');
+            if (value > Integer.MAX_VALUE) {
+                throw new ParseException("Invalid OBIS identifier:" + obisIDString, begin);
             }
-        } else {
-            throw new ParseException("Invalid OBIS identifier:" + obisIDString, 0);
         }
+        return (int) value;
     }
 
     public boolean isConflict() {
@@ -15,10 +15,10 @@ package org.openhab.binding.dsmr.internal.device.p1telegram;
 import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.dsmr.internal.device.cosem.CosemObject;
@@ -60,9 +60,9 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Pattern for the CRC-code
+     * Number of hexadecimal characters of the CRC-code
      */
-    private static final String CRC_PATTERN = "[0-9A-Z]{4}";
+    private static final int CRC_LENGTH = 4;
 
     private final Logger logger = LoggerFactory.getLogger(P1TelegramParser.class);
 
@@ -71,12 +71,12 @@ public class P1TelegramParser implements TelegramParser {
     /**
      * current obisId buffer.
      */
-    private final StringBuilder obisId = new StringBuilder();
+    private final AsciiBuffer obisId = new AsciiBuffer(32);
 
     /**
      * Current cosem object values buffer.
      */
-    private final StringBuilder obisValue = new StringBuilder();
+    private final AsciiBuffer obisValue = new AsciiBuffer(128);
 
     /**
      * In lenient mode store raw data and log when a complete message is received.
@@ -84,9 +84,19 @@ public class P1TelegramParser implements TelegramParser {
     private final StringBuilder rawData = new StringBuilder();
 
     /**
-     * Current crc value read.
+     * Current crc value read, accumulated while the characters are received.
      */
-    private final StringBuilder crcValue = new StringBuilder();
+    private int crcValue;
+
+    /**
+     * Number of characters read for the current crc value.
+     */
+    private int crcValueLength;
+
+    /**
+     * Set if the current crc value contained a character that is not a (upper case) hexadecimal digit.
+     */
+    private boolean crcValueInvalid;
 
     /**
      * CRC calculation helper
@@ -161,7 +171,8 @@ public class P1TelegramParser implements TelegramParser {
             }
         }
         for (int i = 0; i < length; i++) {
-            char c = (char) data[i];
+            byte b = data[i];
+            char c = (char) (b & 0xFF);
 
             switch (state) {
                 case WAIT_FOR_START:
@@ -242,18 +253,20 @@ public class P1TelegramParser implements TelegramParser {
                      * P1 telegram is correctly finished
                      */
                     if (c == '\r' || c == '/') {
-                        logger.trace("telegramState {}, crcValue to check 0x{}", telegramState, crcValue);
+                        if (logger.isTraceEnabled()) {
+                            logger.trace("telegramState {}, crcValue to check 0x{}", telegramState,
+                                    String.format("%04X", crcValue));
+                        }
                         // Only perform CRC check if telegram is still ok
-                        if (telegramState == TelegramState.OK && crcValue.length() > 0) {
-                            if (Pattern.matches(CRC_PATTERN, crcValue)) {
-                                int crcP1Telegram = Integer.parseInt(crcValue.toString(), 16);
+                        if (telegramState == TelegramState.OK && crcValueLength > 0) {
+                            if (!crcValueInvalid && crcValueLength == CRC_LENGTH) {
                                 int calculatedCRC = crc.getCurrentCRCCode();
 
-                                if (logger.isDebugEnabled()) {
-                                    logger.trace("received CRC value: {}, calculated CRC value: 0x{}", crcValue,
-                                            String.format("%04X", calculatedCRC));
+                                if (logger.isTraceEnabled()) {
+                                    logger.trace("received CRC value: 0x{}, calculated CRC value: 0x{}",
+                                            String.format("%04X", crcValue), String.format("%04X", calculatedCRC));
                                 }
-                                if (crcP1Telegram != calculatedCRC) {
+                                if (crcValue != calculatedCRC) {
                                     logger.trace("CRC value does not match, p1 Telegram failed");
 
                                     telegramState = TelegramState.CRC_ERROR;
@@ -275,7 +288,7 @@ public class P1TelegramParser implements TelegramParser {
                     break;
             }
 
-            handleCharacter(c);
+            handleByte(b);
         }
         logger.trace("State after parsing: {}", state);
     }
@@ -308,38 +321,38 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Stores a single character
+     * Stores a single byte
      *
-     * @param c the character to process
+     * @param b the byte to process
      */
-    private void handleCharacter(char c) {
+    private void handleByte(byte b) {
         switch (state) {
             case WAIT_FOR_START:
                 // ignore the data
                 break;
             case HEADER:
-                crc.processByte((byte) c);
+                crc.processByte(b);
                 break;
             case CRLF:
-                crc.processByte((byte) c);
+                crc.processByte(b);
                 break;
             case DATA_OBIS_ID:
-                obisId.append(c);
-                crc.processByte((byte) c);
+                obisId.append(b);
+                crc.processByte(b);
                 break;
             case DATA_OBIS_VALUE:
-                obisValue.append(c);
-                crc.processByte((byte) c);
+                obisValue.append(b);
+                crc.processByte(b);
                 break;
             case DATA_OBIS_VALUE_END:
-                obisValue.append(c);
-                crc.processByte((byte) c);
+                obisValue.append(b);
+                crc.processByte(b);
                 break;
             case CRC_VALUE:
-                if (c == '!') {
-                    crc.processByte((byte) c);
+                if (b == '!') {
+                    crc.processByte(b);
                 } else {
-                    crcValue.append(c);
+                    appendCrcValue(b);
                 }
                 // CRC data is not part of received data
                 break;
@@ -348,14 +361,36 @@ public class P1TelegramParser implements TelegramParser {
         }
     }
 
+    /**
+     * Adds a character of the received CRC value. Only upper case hexadecimal digits are valid.
+     *
+     * @param b the CRC character to process
+     */
+    private void appendCrcValue(byte b) {
+        int digit;
+
+        if (b >= '0' && b <= '9') {
+            digit = b - '0';
+        } else if (b >= 'A' && b <= 'F') {
+            digit = b - 'A' + 10;
+        } else {
+            digit = 0;
+            crcValueInvalid = true;
+        }
+        crcValue = (crcValue << 4 | digit) & 0xFFFF;
+        crcValueLength++;
+    }
+
     /**
      * Clears all internal state
      */
     private void clearInternalData() {
-        obisId.setLength(0);
-        obisValue.setLength(0);
+        obisId.clear();
+        obisValue.clear();
         rawData.setLength(0);
-        crcValue.setLength(0);
+        crcValue = 0;
+        crcValueLength = 0;
+        crcValueInvalid = false;
         crc.initialize();
         cosemObjects.clear();
         unknownCosemObjects.clear();
@@ -367,23 +402,21 @@ public class P1TelegramParser implements TelegramParser {
      * - current OBIS value
      */
     private void clearObisData() {
-        obisId.setLength(0);
-        obisValue.setLength(0);
+        obisId.clear();
+        obisValue.clear();
     }
 
     /**
      * Store the current CosemObject in the list of received cosem Objects
      */
     private void storeCurrentCosemObject() {
-        String obisIdString = obisId.toString();
-
-        if (!obisIdString.isEmpty()) {
+        if (!obisId.isEmpty()) {
             final String obisValueString = obisValue.toString();
-            CosemObject cosemObject = factory.getCosemObject(obisIdString, obisValueString);
+            CosemObject cosemObject = factory.getCosemObject(obisId.buffer, obisId.length, obisValueString);
 
             if (cosemObject == null) {
                 if (lenientMode) {
-                    unknownCosemObjects.add(new SimpleEntry<>(obisIdString, obisValueString));
+                    unknownCosemObjects.add(new SimpleEntry<>(obisId.toString(), obisValueString));
                 }
             } else {
                 logger.trace("Adding {} to list of Cosem Objects", cosemObject);
@@ -428,4 +461,38 @@ public class P1TelegramParser implements TelegramParser {
     public void setLenientMode(boolean lenientMode) {
         this.lenientMode = lenientMode;
     }
+
+    /**
+     * Reusable buffer for the received bytes of a single OBIS identifier or value. The data is only converted to a
+     * String when the Cosem object is complete, instead of appending every single character to a StringBuilder. The
+     * OBIS identifier is looked up directly from the bytes.
+     */
+    private static class AsciiBuffer {
+        private byte[] buffer;
+        private int length;
+
+        AsciiBuffer(int initialCapacity) {
+            buffer = new byte[initialCapacity];
+        }
+
+        void append(byte b) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, length * 2);
+            }
+            buffer[length++] = b;
+        }
+
+        boolean isEmpty() {
+            return length == 0;
+        }
+
+        void clear() {
+            length = 0;
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
+        }
+    }
 }
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dsmr.internal.device.p1telegram;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.dsmr.internal.TelegramReaderUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of the {@link P1TelegramParser} over the test telegrams. It is not part of the regular
+ * build and has to be run manually.
+ *
+ * @author agent - Initial contribution
+ */
+@Disabled
+public class P1TelegramParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final Logger logger = LoggerFactory.getLogger(P1TelegramParserBenchmark.class);
+
+    @Test
+    public void benchmarkParsing() {
+        for (Object[] data : P1TelegramParserTest.data()) {
+            benchmarkParsing((String) data[0]);
+        }
+    }
+
+    private void benchmarkParsing(String telegramName) {
+        byte[] telegram = TelegramReaderUtil.readRawTelegram(telegramName);
+        int[] received = new int[1];
+        P1TelegramParser parser = new P1TelegramParser(p1Telegram -> received[0]++);
+
+        parse(parser, telegram, WARMUP_ITERATIONS);
+        long start = System.nanoTime();
+        parse(parser, telegram, ITERATIONS);
+        long time = System.nanoTime() - start;
+
+        logger.info("{}: {} telegrams/s, {} ns/telegram, {} telegrams received", telegramName,
+                ITERATIONS * TimeUnit.SECONDS.toNanos(1) / time, time / ITERATIONS, received[0]);
+    }
+
+    private void parse(P1TelegramParser parser, byte[] telegram, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            parser.parse(telegram, telegram.length);
+        }
+    }
+}
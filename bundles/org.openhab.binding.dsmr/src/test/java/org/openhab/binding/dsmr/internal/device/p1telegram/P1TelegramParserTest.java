@@ -12,11 +12,13 @@
  */
 package org.openhab.binding.dsmr.internal.device.p1telegram;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.binding.dsmr.internal.TelegramReaderUtil;
@@ -56,4 +58,77 @@ public class P1TelegramParserTest {
                 telegram.getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum(),
                 "Expected number of objects");
     }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testParsingInChunks(final String telegramName, final int numberOfCosemObjects) {
+        byte[] telegram = TelegramReaderUtil.readRawTelegram(telegramName);
+        P1Telegram p1Telegram = parse(telegram, 7);
+
+        assertNotNull(p1Telegram, "Telegram should have been received");
+        assertEquals(TelegramState.OK, p1Telegram.getTelegramState(), "Expected TelegramState should be as expected");
+        assertEquals(numberOfCosemObjects,
+                p1Telegram.getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum(),
+                "Expected number of objects");
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testRepeatedParsing(final String telegramName, final int numberOfCosemObjects) {
+        byte[] telegram = TelegramReaderUtil.readRawTelegram(telegramName);
+        AtomicReference<P1Telegram> p1Telegram = new AtomicReference<>();
+        P1TelegramParser parser = new P1TelegramParser(p1Telegram::set);
+
+        parser.setLenientMode(true);
+        // the OBIS identifiers of the second telegram are found in the lookup trie
+        for (int i = 0; i < 2; i++) {
+            p1Telegram.set(null);
+            parser.parse(telegram, telegram.length);
+
+            assertNotNull(p1Telegram.get(), "Telegram should have been received");
+            assertEquals(TelegramState.OK, p1Telegram.get().getTelegramState(),
+                    "Expected TelegramState should be as expected");
+            assertEquals(0, p1Telegram.get().getUnknownCosemObjects().size(),
+                    "Should not have any unknown cosem objects");
+            assertEquals(numberOfCosemObjects,
+                    p1Telegram.get().getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum(),
+                    "Expected number of objects");
+        }
+    }
+
+    @Test
+    public void testCrcError() {
+        byte[] telegram = TelegramReaderUtil.readRawTelegram("dsmr_50");
+        int crcStart = new String(telegram).lastIndexOf('!') + 1;
+
+        telegram[crcStart] = (byte) (telegram[crcStart] == '0' ? '1' : '0');
+        P1Telegram p1Telegram = parse(telegram, telegram.length);
+
+        assertNotNull(p1Telegram, "Telegram should have been received");
+        assertEquals(TelegramState.CRC_ERROR, p1Telegram.getTelegramState(), "CRC should not match");
+    }
+
+    @Test
+    public void testInvalidCrcCharacter() {
+        byte[] telegram = TelegramReaderUtil.readRawTelegram("dsmr_50");
+        int crcStart = new String(telegram).lastIndexOf('!') + 1;
+
+        telegram[crcStart] = 'Z';
+        P1Telegram p1Telegram = parse(telegram, telegram.length);
+
+        assertNotNull(p1Telegram, "Telegram should have been received");
+        assertEquals(TelegramState.CRC_ERROR, p1Telegram.getTelegramState(), "CRC should be rejected");
+    }
+
+    private static P1Telegram parse(byte[] telegram, int chunkSize) {
+        AtomicReference<P1Telegram> p1Telegram = new AtomicReference<>();
+        P1TelegramParser parser = new P1TelegramParser(p1Telegram::set);
+
+        parser.setLenientMode(true);
+        for (int offset = 0; offset < telegram.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, telegram.length - offset);
+            parser.parse(Arrays.copyOfRange(telegram, offset, offset + length), length);
+        }
+        return p1Telegram.get();
+    }
 }
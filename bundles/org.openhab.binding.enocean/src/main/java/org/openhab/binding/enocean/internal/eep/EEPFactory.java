@@ -14,7 +14,13 @@ package org.openhab.binding.enocean.internal.eep;
 
 import static org.openhab.binding.enocean.internal.messages.ESP3Packet.*;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import org.openhab.binding.enocean.internal.eep.Base.UTEResponse;
 import org.openhab.binding.enocean.internal.eep.Base._4BSMessage;
@@ -32,6 +38,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * The constructors of all EEPs are looked up once and kept in a registry per {@link EEPType}, so a received telegram
+ * is decoded without reflection.
  *
  * @author Daniel Weber - Initial contribution
  */
@@ -39,27 +47,84 @@ public class EEPFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(EEPFactory.class);
 
-    public static EEP createEEP(EEPType eepType) {
-        try {
+    private static final MethodType SENDING_CONSTRUCTOR = MethodType.methodType(EEP.class);
+    private static final MethodType RECEIVING_CONSTRUCTOR = MethodType.methodType(EEP.class, ERP1Message.class);
+
+    private static final Map<EEPType, MethodHandle> SENDING_CONSTRUCTORS = new EnumMap<>(EEPType.class);
+    private static final Map<EEPType, MethodHandle> RECEIVING_CONSTRUCTORS = new EnumMap<>(EEPType.class);
+
+    /**
+     * The EEP of a RPS teach in telegram indexed by its data byte. The candidates are evaluated in the order of
+     * {@link #RPS_TEACH_IN_CANDIDATES} with their own data validation when the table is built.
+     */
+    private static final MethodHandle[] RPS_TEACH_IN = new MethodHandle[256];
+
+    private static final List<Class<? extends EEP>> RPS_TEACH_IN_CANDIDATES = List.of(F6_01_01.class,
+            F6_02_01.class, F6_10_00.class, F6_10_00_EltakoFPE.class, F6_10_01.class);
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (EEPType eepType : EEPType.values()) {
             Class<? extends EEP> cl = eepType.getEEPClass();
-            if (cl == null) {
-                throw new IllegalArgumentException("Message " + eepType + " not implemented");
+            if (cl != null) {
+                MethodHandle constructor = findConstructor(lookup, cl, SENDING_CONSTRUCTOR);
+                if (constructor != null) {
+                    SENDING_CONSTRUCTORS.put(eepType, constructor);
+                }
+                constructor = findConstructor(lookup, cl, RECEIVING_CONSTRUCTOR);
+                if (constructor != null) {
+                    RECEIVING_CONSTRUCTORS.put(eepType, constructor);
+                }
+            }
+        }
+
+        List<EEP> prototypes = new ArrayList<>();
+        for (Class<? extends EEP> cl : RPS_TEACH_IN_CANDIDATES) {
+            prototypes.add(createEEP(EEPType.getType(cl)));
+        }
+        for (int data = 0; data < RPS_TEACH_IN.length; data++) {
+            for (EEP prototype : prototypes) {
+                if (prototype.validateData(new byte[] { (byte) data })) {
+                    RPS_TEACH_IN[data] = RECEIVING_CONSTRUCTORS.get(prototype.getEEPType());
+                    break;
+                }
             }
-            return cl.newInstance();
-        } catch (IllegalAccessException | InstantiationException e) {
+        }
+    }
+
+    private static MethodHandle findConstructor(MethodHandles.Lookup lookup, Class<? extends EEP> cl,
+            MethodType type) {
+        try {
+            return lookup.findConstructor(cl, type.changeReturnType(void.class)).asType(type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    public static EEP createEEP(EEPType eepType) {
+        MethodHandle constructor = SENDING_CONSTRUCTORS.get(eepType);
+        if (constructor == null) {
+            throw new IllegalArgumentException("Message " + eepType + " not implemented");
+        }
+        try {
+            return (EEP) constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new IllegalArgumentException(e);
         }
     }
 
     public static EEP buildEEP(EEPType eepType, ERP1Message packet) {
+        MethodHandle constructor = RECEIVING_CONSTRUCTORS.get(eepType);
+        if (constructor == null) {
+            throw new IllegalArgumentException("Message " + eepType + " not implemented");
+        }
         try {
-            Class<? extends EEP> cl = eepType.getEEPClass();
-            if (cl == null) {
-                throw new IllegalArgumentException("Message " + eepType + " not implemented");
-            }
-            return cl.getConstructor(ERP1Message.class).newInstance(packet);
-        } catch (IllegalAccessException | InstantiationException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
+            return (EEP) constructor.invokeExact(packet);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             logger.error("Cannot instantiate EEP {}-{}-{}: {}",
                     HexUtils.bytesToHex(new byte[] { eepType.getRORG().getValue() }),
                     HexUtils.bytesToHex(new byte[] { (byte) eepType.getFunc() }),
@@ -75,46 +140,24 @@ public class EEPFactory {
         }
 
         switch (msg.getRORG()) {
-            case RPS:
-                try {
-                    EEP result = new F6_01_01(msg);
-                    if (result.isValid()) { // check if t21 is set, nu not set, and data == 0x10 or 0x00
-                        return result;
-                    }
-                } catch (Exception e) {
-                }
-
-                try {
-                    EEP result = new F6_02_01(msg);
-                    if (result.isValid()) { // check if highest bit is not set
-                        return result;
-                    }
-                } catch (Exception e) {
-                }
-
-                try {
-                    EEP result = new F6_10_00(msg);
-                    if (result.isValid()) {
-                        return result;
-                    }
-                } catch (Exception e) {
+            case RPS: {
+                byte[] payload = msg.getPayload();
+                if (payload.length <= ESP3_RORG_LENGTH) {
+                    return null;
                 }
-                try {
-                    EEP result = new F6_10_00_EltakoFPE(msg);
-                    if (result.isValid()) { // check if data == 0x10 or 0x00
-                        return result;
-                    }
-                } catch (Exception e) {
+                MethodHandle constructor = RPS_TEACH_IN[payload[ESP3_RORG_LENGTH] & 0xFF];
+                if (constructor == null) {
+                    return null;
                 }
                 try {
-                    EEP result = new F6_10_01(msg);
-                    if (result.isValid()) {
-                        return result;
-                    }
-                } catch (Exception e) {
+                    EEP result = (EEP) constructor.invokeExact(msg);
+                    return result.isValid() ? result : null;
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    return null;
                 }
-
-                return null;
+            }
             case _1BS:
                 return new D5_00_01(msg);
             case _4BS: {
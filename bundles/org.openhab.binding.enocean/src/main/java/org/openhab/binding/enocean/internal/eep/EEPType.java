@@ -15,6 +15,7 @@ package org.openhab.binding.enocean.internal.eep;
 import static org.openhab.binding.enocean.internal.EnOceanBindingConstants.*;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Map;
 
@@ -459,6 +460,19 @@ public enum EEPType {
             CHANNEL_REMAININGPLT, CHANNEL_TEMPERATURE, CHANNEL_HUMIDITY, CHANNEL_HYGROCOMFORTINDEX,
             CHANNEL_INDOORAIRANALYSIS);
 
+    /**
+     * Every received telegram creates an EEP which looks up its type, so the types are indexed by their class.
+     */
+    private static final Map<Class<? extends EEP>, EEPType> TYPES_BY_CLASS = new HashMap<>();
+
+    static {
+        for (EEPType eep : values()) {
+            if (eep.eepClass != null) {
+                TYPES_BY_CLASS.putIfAbsent(eep.eepClass, eep);
+            }
+        }
+    }
+
     private RORG rorg;
     private int func;
     private int type;
@@ -622,10 +636,9 @@ public enum EEPType {
     }
 
     public static EEPType getType(Class<? extends EEP> eepClass) {
-        for (EEPType eep : values()) {
-            if (eep.eepClass != null && eep.eepClass.equals(eepClass)) {
-                return eep;
-            }
+        EEPType eep = TYPES_BY_CLASS.get(eepClass);
+        if (eep != null) {
+            return eep;
         }
 
         throw new IllegalArgumentException(String.format("EEP with class %s could not be found", eepClass.getName()));
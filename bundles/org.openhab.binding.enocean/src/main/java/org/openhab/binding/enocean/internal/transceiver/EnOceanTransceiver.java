@@ -15,11 +15,12 @@ package org.openhab.binding.enocean.internal.transceiver;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.TooManyListenersException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -137,8 +138,9 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
     RequestQueue requestQueue;
     Request currentRequest = null;
 
-    protected Map<Long, HashSet<PacketListener>> listeners;
-    protected PacketListener teachInListener;
+    // packets are dispatched by the reading thread without locking, while handlers register and unregister
+    protected Map<Long, Set<PacketListener>> listeners;
+    protected volatile PacketListener teachInListener;
 
     protected InputStream inputStream;
     protected OutputStream outputStream;
@@ -150,7 +152,7 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
             SerialPortManager serialPortManager) {
         requestQueue = new RequestQueue(scheduler);
 
-        listeners = new HashMap<>();
+        listeners = new ConcurrentHashMap<>();
         teachInListener = null;
 
         this.errorListener = errorListener;
@@ -277,6 +279,7 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
                     return;
                 }
 
+                PacketListener teachInListener = this.teachInListener;
                 if (teachInListener != null) {
                     if (msg.getIsTeachIn() || (msg.getRORG() == RORG.RPS)) {
                         logger.info("Received teach in message from {}", HexUtils.bytesToHex(msg.getSenderId()));
@@ -291,8 +294,11 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
                     }
                 }
 
-                long s = Long.parseLong(HexUtils.bytesToHex(senderId), 16);
-                HashSet<PacketListener> pl = listeners.get(s);
+                long s = 0;
+                for (byte b : senderId) {
+                    s = (s << 8) | (b & 0xFF);
+                }
+                Set<PacketListener> pl = listeners.get(s);
                 if (pl != null) {
                     pl.forEach(l -> l.packetReceived(msg));
                 }
@@ -339,19 +345,21 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
     protected abstract byte[] serializePacket(BasePacket packet) throws EnOceanException;
 
     public void addPacketListener(PacketListener listener, long senderIdToListenTo) {
-        if (listeners.computeIfAbsent(senderIdToListenTo, k -> new HashSet<>()).add(listener)) {
-            logger.debug("Listener added: {}", senderIdToListenTo);
-        }
+        // the set is changed within compute, so it cannot be removed by a concurrent removal at the same time
+        listeners.compute(senderIdToListenTo, (k, pl) -> {
+            Set<PacketListener> packetListeners = pl != null ? pl : new CopyOnWriteArraySet<>();
+            if (packetListeners.add(listener)) {
+                logger.debug("Listener added: {}", senderIdToListenTo);
+            }
+            return packetListeners;
+        });
     }
 
     public void removePacketListener(PacketListener listener, long senderIdToListenTo) {
-        HashSet<PacketListener> pl = listeners.get(senderIdToListenTo);
-        if (pl != null) {
+        listeners.computeIfPresent(senderIdToListenTo, (k, pl) -> {
             pl.remove(listener);
-            if (pl.isEmpty()) {
-                listeners.remove(senderIdToListenTo);
-            }
-        }
+            return pl.isEmpty() ? null : pl;
+        });
     }
 
     public void startDiscovery(PacketListener teachInListener) {
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.enocean.internal.eep;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.enocean.internal.messages.ERP1Message;
+import org.openhab.binding.enocean.internal.messages.ERP1Message.RORG;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of the {@link EEPFactory} for received telegrams. It is not part of the regular build and
+ * has to be run manually.
+ *
+ * @author agent - Initial contribution
+ */
+@Disabled
+public class EEPFactoryBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 100_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private final Logger logger = LoggerFactory.getLogger(EEPFactoryBenchmark.class);
+
+    @Test
+    public void benchmarkBuildEEP() {
+        byte[] payload = { RORG.RPS.getValue(), 0x30, 0x01, 0x02, 0x03, 0x04, 0x30 };
+        ERP1Message packet = new ERP1Message(payload.length, 0, payload);
+
+        run(() -> EEPFactory.buildEEP(EEPType.PTM200, packet), WARMUP_ITERATIONS);
+        long time = run(() -> EEPFactory.buildEEP(EEPType.PTM200, packet), ITERATIONS);
+        log("buildEEP", time);
+    }
+
+    @Test
+    public void benchmarkBuildEEPFromRPSTeachIn() {
+        ERP1Message[] packets = new ERP1Message[256];
+        for (int data = 0; data < packets.length; data++) {
+            byte[] payload = { RORG.RPS.getValue(), (byte) data, 0x01, 0x02, 0x03, 0x04, 0x20 };
+            packets[data] = new ERP1Message(payload.length, 0, payload);
+        }
+
+        int[] index = new int[1];
+        Runnable teachIn = () -> EEPFactory.buildEEPFromTeachInERP1(packets[index[0]++ & 0xFF]);
+        run(teachIn, WARMUP_ITERATIONS);
+        long time = run(teachIn, ITERATIONS);
+        log("buildEEPFromTeachInERP1", time);
+    }
+
+    private long run(Runnable runnable, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            runnable.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void log(String name, long time) {
+        logger.info("{}: {} telegrams/s, {} ns/telegram", name, ITERATIONS * TimeUnit.SECONDS.toNanos(1) / time,
+                time / ITERATIONS);
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.enocean.internal.eep;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.enocean.internal.eep.F6_01.F6_01_01;
+import org.openhab.binding.enocean.internal.eep.F6_02.F6_02_01;
+import org.openhab.binding.enocean.internal.eep.F6_10.F6_10_00;
+import org.openhab.binding.enocean.internal.eep.F6_10.F6_10_00_EltakoFPE;
+import org.openhab.binding.enocean.internal.eep.F6_10.F6_10_01;
+import org.openhab.binding.enocean.internal.messages.ERP1Message;
+import org.openhab.binding.enocean.internal.messages.ERP1Message.RORG;
+
+/**
+ * Compares the constructor registry and the RPS teach in table of the {@link EEPFactory} with a reflective lookup of
+ * the EEPs.
+ *
+ * @author agent - Initial contribution
+ */
+public class EEPFactoryTest {
+
+    private static final byte[] SENDER_ID = { 0x01, 0x02, 0x03, 0x04 };
+    private static final byte[] RPS_STATUS = { 0x00, 0x10, 0x20, 0x30 };
+
+    @Test
+    public void testCreateEEP() {
+        for (EEPType eepType : EEPType.values()) {
+            Class<? extends EEP> expected = createReflective(eepType);
+            if (expected == null) {
+                assertThrows(IllegalArgumentException.class, () -> EEPFactory.createEEP(eepType), eepType.name());
+            } else {
+                EEP eep = EEPFactory.createEEP(eepType);
+                assertEquals(expected, eep.getClass(), eepType.name());
+            }
+        }
+    }
+
+    @Test
+    public void testBuildEEP() {
+        Random random = new Random(0);
+        byte[][] payloads = { new byte[32], new byte[32], new byte[32] };
+        Arrays.fill(payloads[1], (byte) 0xFF);
+        random.nextBytes(payloads[2]);
+
+        for (EEPType eepType : EEPType.values()) {
+            for (byte[] payload : payloads) {
+                byte[] data = Arrays.copyOf(payload, payload.length);
+                data[0] = eepType.getRORG().getValue();
+
+                Class<? extends EEP> expected = buildReflective(eepType, new ERP1Message(data.length, 0, data));
+                if (expected == null) {
+                    assertThrows(IllegalArgumentException.class,
+                            () -> EEPFactory.buildEEP(eepType, new ERP1Message(data.length, 0, data)),
+                            eepType.name());
+                } else {
+                    EEP eep = EEPFactory.buildEEP(eepType, new ERP1Message(data.length, 0, data));
+                    assertEquals(expected, eep.getClass(), eepType.name());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBuildEEPFromRPSTeachIn() {
+        for (byte status : RPS_STATUS) {
+            for (int data = 0; data < 256; data++) {
+                String message = String.format("data %02X, status %02X", data, status);
+                Class<? extends EEP> expected = buildRPSTeachInSequentially(createRPSMessage((byte) data, status));
+                EEP eep = EEPFactory.buildEEPFromTeachInERP1(createRPSMessage((byte) data, status));
+
+                if (expected == null) {
+                    assertNull(eep, message);
+                } else {
+                    assertNotNull(eep, message);
+                    assertEquals(expected, eep.getClass(), message);
+                    assertEquals(EEPType.getType(expected), eep.getEEPType(), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBuildEEPFromTruncatedRPSTeachIn() {
+        byte[] payload = { RORG.RPS.getValue() };
+        assertNull(EEPFactory.buildEEPFromTeachInERP1(new ERP1Message(payload.length, 0, payload)));
+    }
+
+    private static ERP1Message createRPSMessage(byte data, byte status) {
+        byte[] payload = new byte[] { RORG.RPS.getValue(), data, SENDER_ID[0], SENDER_ID[1], SENDER_ID[2],
+                SENDER_ID[3], status };
+        return new ERP1Message(payload.length, 0, payload);
+    }
+
+    private static Class<? extends EEP> createReflective(EEPType eepType) {
+        Class<? extends EEP> cl = eepType.getEEPClass();
+        if (cl == null) {
+            return null;
+        }
+        try {
+            return cl.getConstructor().newInstance().getClass();
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static Class<? extends EEP> buildReflective(EEPType eepType, ERP1Message packet) {
+        Class<? extends EEP> cl = eepType.getEEPClass();
+        if (cl == null) {
+            return null;
+        }
+        try {
+            return cl.getConstructor(ERP1Message.class).newInstance(packet).getClass();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The RPS teach in lookup as it was done before the table was introduced: every candidate is tried in turn.
+     */
+    private static Class<? extends EEP> buildRPSTeachInSequentially(ERP1Message msg) {
+        Class<?>[] candidates = { F6_01_01.class, F6_02_01.class, F6_10_00.class, F6_10_00_EltakoFPE.class,
+                F6_10_01.class };
+        for (Class<?> candidate : candidates) {
+            try {
+                EEP result = (EEP) candidate.getConstructor(ERP1Message.class).newInstance(msg);
+                if (result.isValid()) {
+                    return result.getClass();
+                }
+            } catch (ReflectiveOperationException | RuntimeException e) {
+            }
+        }
+        return null;
+    }
+}
@@ -39,6 +39,7 @@ import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationHelper;
@@ -82,11 +83,13 @@ public class ExecHandler extends BaseThingHandler {
     public static final String COMMAND = "command";
     public static final String TRANSFORM = "transform";
     public static final String AUTORUN = "autorun";
+    public static final String PERSISTENT = "persistent";
 
     // RegEx to extract a parse a function String <code>'(.*?)\((.*)\)'</code>
     private static final Pattern EXTRACT_FUNCTION_PATTERN = Pattern.compile("(.*?)\\((.*)\\)");
 
     private @Nullable ScheduledFuture<?> executionJob;
+    private @Nullable ExecProcessSupervisor processSupervisor;
     private @Nullable String lastInput;
 
     private static Runtime rt = Runtime.getRuntime();
@@ -102,14 +105,24 @@ public class ExecHandler extends BaseThingHandler {
         if (command instanceof RefreshType) {
             // Placeholder for later refinement
         } else {
+            ExecProcessSupervisor supervisor = processSupervisor;
             if (channelUID.getId().equals(RUN)) {
                 if (command instanceof OnOffType) {
                     if (command == OnOffType.ON) {
-                        scheduler.schedule(this::execute, 0, TimeUnit.SECONDS);
+                        if (supervisor != null) {
+                            supervisor.start();
+                        } else {
+                            scheduler.schedule(this::execute, 0, TimeUnit.SECONDS);
+                        }
                     }
                 }
             } else if (channelUID.getId().equals(INPUT)) {
-                if (command instanceof StringType) {
+                if (command instanceof StringType && supervisor != null) {
+                    if (!supervisor.write(command.toString())) {
+                        logger.debug("Process '{}' is not running, discarding input '{}'", getConfig().get(COMMAND),
+                                command);
+                    }
+                } else if (command instanceof StringType) {
                     String previousInput = lastInput;
                     lastInput = command.toString();
                     if (lastInput != null && !lastInput.equals(previousInput)) {
@@ -126,6 +139,12 @@ public class ExecHandler extends BaseThingHandler {
 
     @Override
     public void initialize() {
+        if (isPersistent()) {
+            // the status is updated by the process supervisor once the process is started
+            startPersistentProcess();
+            return;
+        }
+
         if (executionJob == null || executionJob.isCancelled()) {
             if ((getConfig().get(INTERVAL)) != null && ((BigDecimal) getConfig().get(INTERVAL)).intValue() > 0) {
                 int pollingInterval = ((BigDecimal) getConfig().get(INTERVAL)).intValue();
@@ -142,6 +161,87 @@ public class ExecHandler extends BaseThingHandler {
             executionJob.cancel(true);
             executionJob = null;
         }
+        ExecProcessSupervisor supervisor = processSupervisor;
+        if (supervisor != null) {
+            supervisor.stop();
+            processSupervisor = null;
+        }
+    }
+
+    private boolean isPersistent() {
+        Object persistent = getConfig().get(PERSISTENT);
+        return persistent instanceof Boolean && (Boolean) persistent;
+    }
+
+    /**
+     * Starts the command once and keeps it running. Each line of its output updates the output channel, the input
+     * channel is written to its standard input.
+     */
+    private void startPersistentProcess() {
+        String commandLine = (String) getConfig().get(COMMAND);
+        if (commandLine == null || commandLine.isEmpty()) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, "No command configured");
+            return;
+        }
+        if (!execWhitelistWatchService.isWhitelisted(commandLine)) {
+            logger.warn("Tried to execute '{}', but it is not contained in whitelist.", commandLine);
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                    "The command is not contained in the whitelist");
+            return;
+        }
+
+        try {
+            commandLine = String.format(commandLine, Calendar.getInstance().getTime());
+        } catch (IllegalFormatException e) {
+            logger.warn("An exception occurred while formatting the command line with the current time : '{}'",
+                    e.getMessage());
+            updateState(OUTPUT, new StringType(e.getMessage()));
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+            return;
+        }
+
+        String[] cmdArray = createCommandArray(commandLine);
+        if (cmdArray == null || cmdArray.length == 0) {
+            logger.trace("Empty command received, not executing");
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, "The command is empty");
+            return;
+        }
+
+        logger.trace("The command to be kept running will be '{}'", Arrays.asList(cmdArray));
+        ExecProcessSupervisor supervisor = new ExecProcessSupervisor(getThing().getUID().getId(), cmdArray, scheduler,
+                new ExecProcessSupervisor.Listener() {
+                    @Override
+                    public void processStarted() {
+                        updateStatus(ThingStatus.ONLINE);
+                        updateState(RUN, OnOffType.ON);
+                        updateState(LAST_EXECUTION, new DateTimeType(ZonedDateTime.now()));
+                    }
+
+                    @Override
+                    public void processFailed(String message) {
+                        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, message);
+                    }
+
+                    @Override
+                    public void lineReceived(String line) {
+                        String response = line;
+                        String transformation = (String) getConfig().get(TRANSFORM);
+                        if (transformation != null && transformation.length() > 0) {
+                            response = transformResponse(line, transformation);
+                        }
+                        if (response != null) {
+                            updateState(OUTPUT, new StringType(response));
+                        }
+                    }
+
+                    @Override
+                    public void processExited(int exitValue) {
+                        updateState(RUN, OnOffType.OFF);
+                        updateState(EXIT, new DecimalType(exitValue));
+                    }
+                });
+        processSupervisor = supervisor;
+        supervisor.start();
     }
 
     public void execute() {
@@ -183,42 +283,9 @@ public class ExecHandler extends BaseThingHandler {
                 return;
             }
 
-            String[] cmdArray;
-            String[] shell;
-            if (commandLine.contains(CMD_LINE_DELIMITER)) {
-                logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
-                try {
-                    cmdArray = commandLine.split(CMD_LINE_DELIMITER);
-                } catch (PatternSyntaxException e) {
-                    logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
-                    updateState(RUN, OnOffType.OFF);
-                    updateState(OUTPUT, new StringType(e.getMessage()));
-                    return;
-                }
-            } else {
-                // Invoke shell with 'c' option and pass string
-                logger.debug("Passing to shell for parsing command.");
-                switch (getOperatingSystemType()) {
-                    case WINDOWS:
-                        shell = SHELL_WINDOWS;
-                        logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "/c", commandLine);
-                        break;
-                    case LINUX:
-                    case MAC:
-                    case SOLARIS:
-                        // assume sh is present, should all be POSIX-compliant
-                        shell = SHELL_NIX;
-                        logger.debug("OS: *NIX ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "-c", commandLine);
-                        break;
-                    default:
-                        logger.debug("OS: Unknown ({})", getOperatingSystemName());
-                        logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
-                        updateState(RUN, OnOffType.OFF);
-                        updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
-                        return;
-                }
+            String[] cmdArray = createCommandArray(commandLine);
+            if (cmdArray == null) {
+                return;
             }
 
             if (cmdArray.length == 0) {
@@ -300,6 +367,49 @@ public class ExecHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Splits the command line at the {@link #CMD_LINE_DELIMITER} or passes it to the shell of the operating system.
+     *
+     * @param commandLine the formatted command line
+     * @return command array, or null if the command line can't be executed
+     */
+    private String @Nullable [] createCommandArray(String commandLine) {
+        String[] shell;
+        if (commandLine.contains(CMD_LINE_DELIMITER)) {
+            logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
+            try {
+                return commandLine.split(CMD_LINE_DELIMITER);
+            } catch (PatternSyntaxException e) {
+                logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
+                updateState(RUN, OnOffType.OFF);
+                updateState(OUTPUT, new StringType(e.getMessage()));
+                return null;
+            }
+        }
+
+        // Invoke shell with 'c' option and pass string
+        logger.debug("Passing to shell for parsing command.");
+        switch (getOperatingSystemType()) {
+            case WINDOWS:
+                shell = SHELL_WINDOWS;
+                logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
+                return createCmdArray(shell, "/c", commandLine);
+            case LINUX:
+            case MAC:
+            case SOLARIS:
+                // assume sh is present, should all be POSIX-compliant
+                shell = SHELL_NIX;
+                logger.debug("OS: *NIX ({})", getOperatingSystemName());
+                return createCmdArray(shell, "-c", commandLine);
+            default:
+                logger.debug("OS: Unknown ({})", getOperatingSystemName());
+                logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
+                updateState(RUN, OnOffType.OFF);
+                updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
+                return null;
+        }
+    }
+
     protected @Nullable String transformResponse(String response, String transformation) {
         String transformedResponse;
 
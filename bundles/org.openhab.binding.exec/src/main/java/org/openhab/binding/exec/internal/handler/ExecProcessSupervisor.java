@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal.handler;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ExecProcessSupervisor} keeps a command running as a co-process. The output of the process (stdout and
+ * stderr) is read line by line by a dedicated thread and passed to the {@link Listener}, lines can be written to the
+ * standard input of the process.
+ *
+ * When the process exits, it is restarted after a delay, which is doubled after each restart (up to
+ * {@link #MAX_RESTART_DELAY} seconds) and reset once the process kept running for {@link #STABLE_RUN_TIME} seconds.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ExecProcessSupervisor {
+
+    private static final long MIN_RESTART_DELAY = 1;
+    private static final long MAX_RESTART_DELAY = 300;
+    private static final long STABLE_RUN_TIME = 60;
+
+    /**
+     * Listener for the life cycle and the output of the supervised process. The methods are called by the reader
+     * thread of the process or the scheduler.
+     */
+    public interface Listener {
+        void processStarted();
+
+        void processFailed(String message);
+
+        void lineReceived(String line);
+
+        void processExited(int exitValue);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ExecProcessSupervisor.class);
+
+    private final String name;
+    private final String[] cmdArray;
+    private final ScheduledExecutorService scheduler;
+    private final Listener listener;
+
+    private @Nullable Process process;
+    private @Nullable Writer stdin;
+    private @Nullable ScheduledFuture<?> restartJob;
+    private boolean supervised;
+    private long restartDelay = MIN_RESTART_DELAY;
+    private long startTime;
+
+    // statistics
+    private int starts;
+    private long lines;
+
+    /**
+     * @param name the name of the process, used for the name of the reader thread
+     * @param cmdArray the command and its arguments
+     * @param scheduler the scheduler for the restarts
+     * @param listener the listener for the life cycle and the output of the process
+     */
+    public ExecProcessSupervisor(String name, String[] cmdArray, ScheduledExecutorService scheduler,
+            Listener listener) {
+        this.name = name;
+        this.cmdArray = cmdArray;
+        this.scheduler = scheduler;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts the process, if it is not running. A pending restart is executed immediately.
+     */
+    public synchronized void start() {
+        supervised = true;
+        if (process == null) {
+            cancelRestartJob();
+            startProcess();
+        }
+    }
+
+    /**
+     * Stops the supervision and terminates the process.
+     */
+    public synchronized void stop() {
+        supervised = false;
+        cancelRestartJob();
+        Process localProcess = process;
+        if (localProcess != null) {
+            process = null;
+            stdin = null;
+            localProcess.destroy();
+            try {
+                if (!localProcess.waitFor(1, TimeUnit.SECONDS)) {
+                    localProcess.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                localProcess.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        logger.debug("Stopped process '{}', it was started {} times and sent {} lines", Arrays.asList(cmdArray), starts,
+                lines);
+    }
+
+    /**
+     * Writes a line to the standard input of the process. The line is written without holding the lock of the
+     * supervisor, so a process that does not read its input does not block the reader thread.
+     *
+     * @param line the line to write, without line terminator
+     * @return true if the line was written, false if the process is not running
+     */
+    public boolean write(String line) {
+        Writer localStdin;
+        synchronized (this) {
+            localStdin = stdin;
+        }
+        if (localStdin == null) {
+            return false;
+        }
+        try {
+            // keeps the lines of concurrent writes apart
+            synchronized (localStdin) {
+                localStdin.write(line);
+                localStdin.write(System.lineSeparator());
+                localStdin.flush();
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warn("An exception occurred while writing to the process '{}' : '{}'", Arrays.asList(cmdArray),
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return the number of times the process was started
+     */
+    public synchronized int getStarts() {
+        return starts;
+    }
+
+    private void startProcess() {
+        Process localProcess;
+        try {
+            localProcess = new ProcessBuilder(cmdArray).redirectErrorStream(true).start();
+        } catch (IOException e) {
+            logger.warn("An exception occurred while executing '{}' : '{}'", Arrays.asList(cmdArray), e.getMessage());
+            listener.processFailed(String.valueOf(e.getMessage()));
+            scheduleRestart();
+            return;
+        }
+
+        process = localProcess;
+        stdin = new BufferedWriter(new OutputStreamWriter(localProcess.getOutputStream()));
+        startTime = System.nanoTime();
+        starts++;
+        logger.debug("Started process '{}'", Arrays.asList(cmdArray));
+
+        Thread reader = new Thread(() -> readOutput(localProcess), "OH-binding-exec-" + name);
+        reader.setDaemon(true);
+        reader.start();
+
+        listener.processStarted();
+    }
+
+    private void readOutput(Process localProcess) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(localProcess.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                logger.debug("Exec [{}]: '{}'", "OUTPUT", line);
+                synchronized (this) {
+                    if (process != localProcess) {
+                        return;
+                    }
+                    lines++;
+                }
+                listener.lineReceived(line);
+            }
+        } catch (IOException e) {
+            logger.debug("An exception occurred while reading the output of '{}' : '{}'", Arrays.asList(cmdArray),
+                    e.getMessage());
+        }
+
+        try {
+            processExited(localProcess, localProcess.waitFor());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void processExited(Process localProcess, int exitValue) {
+        if (process != localProcess) {
+            // the process has been stopped
+            return;
+        }
+        process = null;
+        stdin = null;
+        logger.debug("Process '{}' exited with {}", Arrays.asList(cmdArray), exitValue);
+        listener.processExited(exitValue);
+
+        if (TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime) >= STABLE_RUN_TIME) {
+            restartDelay = MIN_RESTART_DELAY;
+        }
+        scheduleRestart();
+    }
+
+    private void scheduleRestart() {
+        if (!supervised) {
+            return;
+        }
+        logger.debug("Restarting process '{}' in {} s", Arrays.asList(cmdArray), restartDelay);
+        restartJob = scheduler.schedule(this::restart, restartDelay, TimeUnit.SECONDS);
+        restartDelay = Math.min(restartDelay * 2, MAX_RESTART_DELAY);
+    }
+
+    private synchronized void restart() {
+        restartJob = null;
+        if (supervised && process == null) {
+            startProcess();
+        }
+    }
+
+    private void cancelRestartJob() {
+        ScheduledFuture<?> localRestartJob = restartJob;
+        if (localRestartJob != null) {
+            localRestartJob.cancel(false);
+            restartJob = null;
+        }
+    }
+}
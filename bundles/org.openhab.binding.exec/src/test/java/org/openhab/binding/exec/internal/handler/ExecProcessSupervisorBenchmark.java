@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares forking the command for every poll with a persistent co-process that answers one line per poll. The CPU
+ * time includes the terminated child processes on Linux. It is not part of the regular build and has to be run
+ * manually.
+ *
+ * @author agent - Initial contribution
+ */
+@Disabled
+public class ExecProcessSupervisorBenchmark {
+
+    private static final int ITERATIONS = 500;
+
+    private final Logger logger = LoggerFactory.getLogger(ExecProcessSupervisorBenchmark.class);
+
+    @Test
+    public void benchmarkForkVersusPersistentProcess() throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        long cpuStart = getCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Process process = new ProcessBuilder("sh", "-c", "echo " + i).redirectErrorStream(true).start();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                assertEquals(String.valueOf(i), reader.readLine());
+            }
+            process.waitFor();
+        }
+        report("fork per poll", System.nanoTime() - start, getCpuTime() - cpuStart);
+
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecProcessSupervisor supervisor = new ExecProcessSupervisor("benchmark",
+                new String[] { "sh", "-c", "while read line; do echo \"$line\"; done" }, scheduler,
+                new ExecProcessSupervisor.Listener() {
+                    @Override
+                    public void processStarted() {
+                    }
+
+                    @Override
+                    public void processFailed(String message) {
+                    }
+
+                    @Override
+                    public void lineReceived(String line) {
+                        lines.add(line);
+                    }
+
+                    @Override
+                    public void processExited(int exitValue) {
+                    }
+                });
+        try {
+            start = System.nanoTime();
+            cpuStart = getCpuTime();
+            supervisor.start();
+            for (int i = 0; i < ITERATIONS; i++) {
+                supervisor.write(String.valueOf(i));
+                assertEquals(String.valueOf(i), lines.poll(5, TimeUnit.SECONDS));
+            }
+            // the CPU time of the co-process is only accounted once it has terminated
+            supervisor.stop();
+            report("persistent process", System.nanoTime() - start, getCpuTime() - cpuStart);
+        } finally {
+            supervisor.stop();
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void report(String mode, long wallTime, long cpuTime) {
+        logger.info("{}: {} us wall time and {} us CPU time per poll, {} ms CPU time per minute at a 1 s interval",
+                mode, TimeUnit.NANOSECONDS.toMicros(wallTime / ITERATIONS),
+                TimeUnit.NANOSECONDS.toMicros(cpuTime / ITERATIONS),
+                TimeUnit.NANOSECONDS.toMillis(cpuTime * 60 / ITERATIONS));
+    }
+
+    /**
+     * @return the CPU time of the JVM and its terminated child processes in nanoseconds
+     */
+    private static long getCpuTime() throws IOException {
+        long cpuTime = ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+        if (Files.exists(Paths.get("/proc/self/stat"))) {
+            // the fields cutime and cstime in clock ticks, which are 10 ms on almost all Linux systems
+            String stat = new String(Files.readAllBytes(Paths.get("/proc/self/stat")));
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            cpuTime += (Long.parseLong(fields[13]) + Long.parseLong(fields[14])) * TimeUnit.MILLISECONDS.toNanos(10);
+        }
+        return cpuTime;
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ExecProcessSupervisor}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ExecProcessSupervisorTest {
+
+    private static final long TIMEOUT = 5;
+
+    private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+    private final ExecProcessSupervisor.Listener listener = new ExecProcessSupervisor.Listener() {
+        @Override
+        public void processStarted() {
+            events.add("started");
+        }
+
+        @Override
+        public void processFailed(String message) {
+            events.add("failed");
+        }
+
+        @Override
+        public void lineReceived(String line) {
+            events.add("line " + line);
+        }
+
+        @Override
+        public void processExited(int exitValue) {
+            events.add("exited " + exitValue);
+        }
+    };
+
+    private ScheduledExecutorService scheduler;
+    private ExecProcessSupervisor supervisor;
+
+    @BeforeEach
+    public void setUp() {
+        assumeFalse(System.getProperty("os.name").startsWith("Windows"));
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (supervisor != null) {
+            supervisor.stop();
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLinesAreStreamed() throws InterruptedException {
+        supervisor = create("echo ready; while read line; do echo \"got $line\"; done");
+        supervisor.start();
+        assertEvent("started");
+        assertEvent("line ready");
+
+        assertTrue(supervisor.write("a"));
+        assertEvent("line got a");
+        assertTrue(supervisor.write("b"));
+        assertEvent("line got b");
+
+        // stopping the process is not reported as an exit and does not restart it
+        supervisor.stop();
+        assertNull(events.poll(1500, TimeUnit.MILLISECONDS));
+        assertFalse(supervisor.write("c"));
+        assertEquals(1, supervisor.getStarts());
+    }
+
+    @Test
+    public void testBlockedWriteDoesNotBlockOutput() throws InterruptedException {
+        supervisor = create("echo ready; sleep 1; echo late; sleep 10");
+        supervisor.start();
+        assertEvent("started");
+        assertEvent("line ready");
+
+        // the process does not read its input, so a line larger than the pipe buffer blocks the writer
+        char[] line = new char[1 << 20];
+        Arrays.fill(line, 'x');
+        Thread writer = new Thread(() -> supervisor.write(new String(line)));
+        writer.setDaemon(true);
+        writer.start();
+
+        assertEvent("line late");
+        assertTrue(writer.isAlive());
+    }
+
+    @Test
+    public void testProcessIsRestartedAfterExit() throws InterruptedException {
+        supervisor = create("echo run; exit 3");
+        supervisor.start();
+        assertEvent("started");
+        assertEvent("line run");
+        assertEvent("exited 3");
+
+        // restarted after the minimum delay of one second
+        assertEvent("started");
+        assertEvent("line run");
+        assertEvent("exited 3");
+        assertEquals(2, supervisor.getStarts());
+    }
+
+    @Test
+    public void testStartRestartsImmediately() throws InterruptedException {
+        supervisor = create("exit 0");
+        supervisor.start();
+        assertEvent("started");
+        assertEvent("exited 0");
+
+        supervisor.start();
+        assertEquals("started", events.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testFailedStartIsReported() throws InterruptedException {
+        supervisor = new ExecProcessSupervisor("test", new String[] { "/nonexistent/command" }, scheduler, listener);
+        supervisor.start();
+        assertEvent("failed");
+        assertFalse(supervisor.write("a"));
+        assertEquals(0, supervisor.getStarts());
+
+        // the start is retried after the minimum delay of one second
+        assertEvent("failed");
+    }
+
+    private ExecProcessSupervisor create(String script) {
+        return new ExecProcessSupervisor("test", new String[] { "sh", "-c", script }, scheduler, listener);
+    }
+
+    private void assertEvent(String expected) throws InterruptedException {
+        assertEquals(expected, events.poll(TIMEOUT, TimeUnit.SECONDS));
+    }
+}
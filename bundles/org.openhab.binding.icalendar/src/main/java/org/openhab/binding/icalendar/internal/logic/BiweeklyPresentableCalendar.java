@@ -16,12 +16,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -55,10 +64,31 @@ import biweekly.util.com.google.ical.compat.javautil.DateIterator;
  * @author Michael Wodniok - Initial contribution
  * @author Andrew Fiddian-Green - Methods getJustBegunEvents() & getJustEndedEvents()
  * @author Michael Wodniok - Extension for filtered events
+ * @author agent - Pre-expanded occurrence index for lookups
  */
 @NonNullByDefault
 class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
+    /**
+     * Time before the first requested instant that is covered by a newly built occurrence index. The length of the
+     * longest event is added, so lookups of current events, which start their search that much earlier, are
+     * covered, too.
+     */
+    static final Duration INDEX_HORIZON_PAST = Duration.ofDays(1);
+    /**
+     * Time after the first requested instant that is covered by a newly built occurrence index.
+     */
+    static final Duration INDEX_HORIZON_FUTURE = Duration.ofDays(31);
+    /**
+     * Number of occurrence indexes that are kept, so that a lookup for a distant time frame does not replace the index
+     * for the current time frame.
+     */
+    static final int MAXIMUM_INDEX_COUNT = 4;
+
     private final ICalendar usedCalendar;
+    private final Duration maximumEventLength;
+    // most recently used index first
+    private final Deque<OccurrenceIndex> occurrenceIndexes = new ArrayDeque<>(MAXIMUM_INDEX_COUNT);
+    private volatile int indexBuildCount = 0;
 
     BiweeklyPresentableCalendar(InputStream streamed) throws IOException, CalendarException {
         try (final ICalReader reader = new ICalReader(streamed)) {
@@ -68,6 +98,14 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             }
             this.usedCalendar = currentCalendar;
         }
+        Duration maximumLength = Duration.ZERO;
+        for (final VEvent event : usedCalendar.getEvents()) {
+            final Duration length = getEventLength(event);
+            if (length != null && length.compareTo(maximumLength) > 0) {
+                maximumLength = length;
+            }
+        }
+        this.maximumEventLength = maximumLength;
     }
 
     @Override
@@ -82,59 +120,75 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
 
     @Override
     public List<Event> getJustBegunEvents(Instant frameBegin, Instant frameEnd) {
-        final List<Event> eventList = new ArrayList<>();
-        // process all the events in the iCalendar
-        for (final VEvent event : usedCalendar.getEvents()) {
-            // iterate over all begin dates
-            final DateIterator begDates = getRecurredEventDateIterator(event);
-            while (begDates.hasNext()) {
-                final Instant begInst = begDates.next().toInstant();
-                if (begInst.isBefore(frameBegin)) {
-                    continue;
-                } else if (begInst.isAfter(frameEnd)) {
-                    break;
-                }
-                // fall through => means we are within the time frame
-                Duration duration = getEventLength(event);
-                if (duration == null) {
-                    duration = Duration.ofMinutes(1);
-                }
-                eventList.add(new VEventWPeriod(event, begInst, begInst.plus(duration)).toEvent());
+        final OccurrenceIndex index = getOccurrenceIndex(frameBegin, frameEnd);
+        // only the first occurrence of each event within the frame is reported, in calendar order
+        final Map<Integer, Occurrence> firstOccurrences = new TreeMap<>();
+        for (int i = index.firstStartingAtOrAfter(frameBegin); i < index.occurrences.length; i++) {
+            final Occurrence occurrence = index.occurrences[i];
+            if (occurrence.start.isAfter(frameEnd)) {
                 break;
             }
+            firstOccurrences.putIfAbsent(occurrence.eventIndex, occurrence);
+        }
+        final List<Event> eventList = new ArrayList<>(firstOccurrences.size());
+        for (final Occurrence occurrence : firstOccurrences.values()) {
+            Duration duration = occurrence.duration;
+            if (duration == null) {
+                duration = Duration.ofMinutes(1);
+            }
+            eventList.add(new VEventWPeriod(occurrence.vEvent, occurrence.start, occurrence.start.plus(duration))
+                    .toEvent());
         }
         return eventList;
     }
 
     @Override
     public List<Event> getJustEndedEvents(Instant frameBegin, Instant frameEnd) {
-        final List<Event> eventList = new ArrayList<>();
-        // process all the events in the iCalendar
-        for (final VEvent event : usedCalendar.getEvents()) {
-            final Duration duration = getEventLength(event);
-            if (duration == null) {
-                continue;
-            }
-            // iterate over all begin dates
-            final DateIterator begDates = getRecurredEventDateIterator(event);
-            while (begDates.hasNext()) {
-                final Instant begInst = begDates.next().toInstant();
-                final Instant endInst = begInst.plus(duration);
-                if (endInst.isBefore(frameBegin)) {
-                    continue;
-                } else if (endInst.isAfter(frameEnd)) {
-                    break;
-                }
-                // fall through => means we are within the time frame
-                eventList.add(new VEventWPeriod(event, begInst, endInst).toEvent());
+        final OccurrenceIndex index = getOccurrenceIndex(frameBegin.minus(maximumEventLength), frameEnd);
+        // only the first occurrence of each event ending within the frame is reported, in calendar order
+        final Map<Integer, Occurrence> firstOccurrences = new TreeMap<>();
+        final Instant earliestStart = frameBegin.minus(maximumEventLength);
+        for (int i = index.firstStartingAtOrAfter(earliestStart); i < index.occurrences.length; i++) {
+            final Occurrence occurrence = index.occurrences[i];
+            if (occurrence.start.isAfter(frameEnd)) {
                 break;
             }
+            final Instant end = occurrence.getEnd();
+            if (end != null && !end.isBefore(frameBegin) && !end.isAfter(frameEnd)) {
+                firstOccurrences.putIfAbsent(occurrence.eventIndex, occurrence);
+            }
+        }
+        final List<Event> eventList = new ArrayList<>(firstOccurrences.size());
+        for (final Occurrence occurrence : firstOccurrences.values()) {
+            eventList.add(occurrence.toVEventWPeriod().toEvent());
         }
         return eventList;
     }
 
     @Override
     public @Nullable Event getNextEvent(Instant instant) {
+        final OccurrenceIndex index = getOccurrenceIndex(instant, instant);
+        for (int i = index.firstStartingAfter(instant); i < index.occurrences.length; i++) {
+            final Occurrence occurrence = index.occurrences[i];
+            if (occurrence.positive && !occurrence.countered && occurrence.duration != null) {
+                return occurrence.toVEventWPeriod().toEvent();
+            }
+        }
+        // nothing within the index, search the whole calendar after its end once for this index
+        if (!index.nextEventAfterHorizonSearched) {
+            index.nextEventAfterHorizon = getNextEventAfter(index.horizonEnd);
+            index.nextEventAfterHorizonSearched = true;
+        }
+        return index.nextEventAfterHorizon;
+    }
+
+    /**
+     * Searches the next event by iterating over the occurrences of all events.
+     *
+     * @param instant The Instant after which the event has to begin.
+     * @return The next event or null if there is none.
+     */
+    private @Nullable Event getNextEventAfter(Instant instant) {
         final Collection<VEventWPeriod> candidates = new ArrayList<VEventWPeriod>();
         final Collection<VEvent> negativeEvents = new ArrayList<VEvent>();
         final Collection<VEvent> positiveEvents = new ArrayList<VEvent>();
@@ -240,33 +294,19 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      * @return All events which begin in the time frame.
      */
     private List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd) {
-        final List<VEvent> positiveEvents = new ArrayList<>();
-        final List<VEvent> negativeEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
-
+        final OccurrenceIndex index = getOccurrenceIndex(frameBegin, frameEnd);
         final List<VEventWPeriod> eventList = new ArrayList<>();
-        for (final VEvent positiveEvent : positiveEvents) {
-            final DateIterator positiveBeginDates = getRecurredEventDateIterator(positiveEvent);
-            positiveBeginDates.advanceTo(Date.from(frameBegin));
-            while (positiveBeginDates.hasNext()) {
-                final Instant begInst = positiveBeginDates.next().toInstant();
-                if (begInst.isAfter(frameEnd)) {
-                    break;
-                }
-                Duration duration = getEventLength(positiveEvent);
+        for (int i = index.firstStartingAtOrAfter(frameBegin); i < index.occurrences.length; i++) {
+            final Occurrence occurrence = index.occurrences[i];
+            if (occurrence.start.isAfter(frameEnd)) {
+                break;
+            }
+            if (occurrence.positive && !occurrence.countered) {
+                Duration duration = occurrence.duration;
                 if (duration == null) {
                     duration = Duration.ZERO;
                 }
-
-                final VEventWPeriod resultingVEWP = new VEventWPeriod(positiveEvent, begInst, begInst.plus(duration));
-                final Uid eventUid = positiveEvent.getUid();
-                if (eventUid != null) {
-                    if (!isCounteredBy(begInst, eventUid, negativeEvents)) {
-                        eventList.add(resultingVEWP);
-                    }
-                } else {
-                    eventList.add(resultingVEWP);
-                }
+                eventList.add(new VEventWPeriod(occurrence.vEvent, occurrence.start, occurrence.start.plus(duration)));
             }
         }
 
@@ -295,33 +335,116 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      * @return A VEventWPeriod describing the event or null if there is none.
      */
     private @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
-        final List<VEvent> negativeEvents = new ArrayList<VEvent>();
-        final List<VEvent> positiveEvents = new ArrayList<VEvent>();
-        classifyEvents(positiveEvents, negativeEvents);
+        final Instant earliestStart = instant.minus(maximumEventLength);
+        final OccurrenceIndex index = getOccurrenceIndex(earliestStart, instant);
+
+        // the first matching event in calendar order wins, like with an iteration over all events
+        Occurrence current = null;
+        for (int i = index.firstStartingAtOrAfter(earliestStart); i < index.occurrences.length; i++) {
+            final Occurrence occurrence = index.occurrences[i];
+            if (!occurrence.start.isBefore(instant)) {
+                break;
+            }
+            final Instant end = occurrence.getEnd();
+            if (occurrence.positive && !occurrence.countered && end != null && end.isAfter(instant)
+                    && (current == null || occurrence.eventIndex < current.eventIndex)) {
+                current = occurrence;
+            }
+        }
 
-        for (final VEvent currentEvent : positiveEvents) {
-            final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
-            final Duration duration = getEventLength(currentEvent);
-            if (duration == null) {
-                continue;
+        return current != null ? current.toVEventWPeriod() : null;
+    }
+
+    /**
+     * Returns an occurrence index that covers the given time frame. A kept index is reused if it covers the frame,
+     * otherwise a new one is built around it, which replaces the least recently used index.
+     *
+     * @param frameBegin The earliest start of an occurrence that must be contained in the index.
+     * @param frameEnd The latest start of an occurrence that must be contained in the index.
+     * @return An index that contains all occurrences starting within the frame.
+     */
+    private OccurrenceIndex getOccurrenceIndex(Instant frameBegin, Instant frameEnd) {
+        synchronized (occurrenceIndexes) {
+            for (final Iterator<OccurrenceIndex> iterator = occurrenceIndexes.iterator(); iterator.hasNext();) {
+                final OccurrenceIndex index = iterator.next();
+                if (index.covers(frameBegin, frameEnd)) {
+                    if (index != occurrenceIndexes.peekFirst()) {
+                        iterator.remove();
+                        occurrenceIndexes.addFirst(index);
+                    }
+                    return index;
+                }
+            }
+        }
+
+        final Instant horizonBegin = frameBegin.minus(INDEX_HORIZON_PAST).minus(maximumEventLength);
+        Instant horizonEnd = frameBegin.plus(INDEX_HORIZON_FUTURE);
+        if (frameEnd.isAfter(horizonEnd)) {
+            horizonEnd = frameEnd;
+        }
+        final OccurrenceIndex index = buildOccurrenceIndex(horizonBegin, horizonEnd);
+        synchronized (occurrenceIndexes) {
+            occurrenceIndexes.addFirst(index);
+            while (occurrenceIndexes.size() > MAXIMUM_INDEX_COUNT) {
+                occurrenceIndexes.removeLast();
             }
-            startDates.advanceTo(Date.from(instant.minus(duration)));
+        }
+        return index;
+    }
+
+    /**
+     * @return The number of times the occurrence index has been built.
+     */
+    int getIndexBuildCount() {
+        return indexBuildCount;
+    }
+
+    /**
+     * Expands all events of the calendar into their occurrences within the given horizon. Counter events are applied
+     * while expanding, so that lookups do not have to consider them anymore.
+     *
+     * @param horizonBegin The begin of the horizon.
+     * @param horizonEnd The end of the horizon.
+     * @return The index holding all occurrences sorted by their start.
+     */
+    private OccurrenceIndex buildOccurrenceIndex(Instant horizonBegin, Instant horizonEnd) {
+        final List<VEvent> events = usedCalendar.getEvents();
+        final List<Occurrence> occurrences = new ArrayList<>();
+        final Map<String, Set<Instant>> counteredStarts = new HashMap<>();
+
+        for (int eventIndex = 0; eventIndex < events.size(); eventIndex++) {
+            final VEvent event = events.get(eventIndex);
+            final Status eventStatus = event.getStatus();
+            final boolean positive = (eventStatus == null || (eventStatus.isTentative() || eventStatus.isConfirmed()));
+            final Duration duration = getEventLength(event);
+            final Uid eventUid = event.getUid();
+
+            final DateIterator startDates = getRecurredEventDateIterator(event);
+            startDates.advanceTo(Date.from(horizonBegin));
             while (startDates.hasNext()) {
                 final Instant startInstant = startDates.next().toInstant();
-                final Instant endInstant = startInstant.plus(duration);
-                if (startInstant.isBefore(instant) && endInstant.isAfter(instant)) {
-                    final Uid eventUid = currentEvent.getUid();
-                    if (eventUid == null || !isCounteredBy(startInstant, eventUid, negativeEvents)) {
-                        return new VEventWPeriod(currentEvent, startInstant, endInstant);
-                    }
-                }
-                if (startInstant.isAfter(instant.plus(duration))) {
+                if (startInstant.isAfter(horizonEnd)) {
                     break;
                 }
+                occurrences.add(new Occurrence(eventIndex, event, startInstant, duration, positive));
+                if (!positive && eventUid != null) {
+                    counteredStarts.computeIfAbsent(eventUid.getValue(), uid -> new HashSet<>()).add(startInstant);
+                }
             }
         }
 
-        return null;
+        for (final Occurrence occurrence : occurrences) {
+            final Uid eventUid = occurrence.vEvent.getUid();
+            if (occurrence.positive && eventUid != null) {
+                final Set<Instant> counterStarts = counteredStarts.get(eventUid.getValue());
+                occurrence.countered = counterStarts != null && counterStarts.contains(occurrence.start);
+            }
+        }
+
+        occurrences.sort(Comparator.comparing((Occurrence occurrence) -> occurrence.start)
+                .thenComparingInt(occurrence -> occurrence.eventIndex));
+        indexBuildCount++;
+        return new OccurrenceIndex(horizonBegin, horizonEnd, occurrences.toArray(new Occurrence[0]));
     }
 
     /**
@@ -413,4 +536,98 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             return new Event(title, start, end, description);
         }
     }
+
+    /**
+     * A single occurrence of an event, as expanded into the {@link OccurrenceIndex}.
+     *
+     * @author agent - Initial contribution.
+     */
+    private static class Occurrence {
+        final int eventIndex;
+        final VEvent vEvent;
+        final Instant start;
+        final @Nullable Duration duration;
+        final boolean positive;
+        boolean countered = false;
+
+        Occurrence(int eventIndex, VEvent vEvent, Instant start, @Nullable Duration duration, boolean positive) {
+            this.eventIndex = eventIndex;
+            this.vEvent = vEvent;
+            this.start = start;
+            this.duration = duration;
+            this.positive = positive;
+        }
+
+        @Nullable Instant getEnd() {
+            final Duration duration = this.duration;
+            return duration != null ? start.plus(duration) : null;
+        }
+
+        VEventWPeriod toVEventWPeriod() {
+            final Duration duration = this.duration;
+            return new VEventWPeriod(vEvent, start, start.plus(duration != null ? duration : Duration.ZERO));
+        }
+    }
+
+    /**
+     * All occurrences of the calendar's events starting within a horizon, sorted by start and calendar order.
+     * Lookups use a binary search to find the first relevant occurrence.
+     *
+     * @author agent - Initial contribution.
+     */
+    private static class OccurrenceIndex {
+        final Instant horizonBegin;
+        final Instant horizonEnd;
+        final Occurrence[] occurrences;
+        // the next event after the end of the horizon, searched only once per index
+        volatile @Nullable Event nextEventAfterHorizon;
+        volatile boolean nextEventAfterHorizonSearched = false;
+
+        OccurrenceIndex(Instant horizonBegin, Instant horizonEnd, Occurrence[] occurrences) {
+            this.horizonBegin = horizonBegin;
+            this.horizonEnd = horizonEnd;
+            this.occurrences = occurrences;
+        }
+
+        /**
+         * @return Whether all occurrences starting within the frame are contained in this index.
+         */
+        boolean covers(Instant frameBegin, Instant frameEnd) {
+            return !frameBegin.isBefore(horizonBegin) && !frameEnd.isAfter(horizonEnd);
+        }
+
+        /**
+         * @return The position of the first occurrence starting at or after the instant.
+         */
+        int firstStartingAtOrAfter(Instant instant) {
+            int low = 0;
+            int high = occurrences.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (occurrences[mid].start.isBefore(instant)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @return The position of the first occurrence starting after the instant.
+         */
+        int firstStartingAfter(Instant instant) {
+            int low = 0;
+            int high = occurrences.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (occurrences[mid].start.isAfter(instant)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
 }
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.icalendar.internal.logic;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of the lookups of the {@link BiweeklyPresentableCalendar}, as done by the calendar handler
+ * on each refresh. It is not part of the regular build and has to be run manually.
+ *
+ * @author agent - Initial contribution
+ */
+@Disabled
+public class BiweeklyPresentableCalendarBenchmark {
+
+    private static final int WARMUP_REFRESHES = 10_000;
+    private static final int REFRESHES = 100_000;
+    private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private final Logger logger = LoggerFactory.getLogger(BiweeklyPresentableCalendarBenchmark.class);
+
+    @Test
+    public void benchmarkRefresh() throws IOException, CalendarException {
+        benchmarkRefresh("src/test/resources/test.ics", Instant.parse("2019-09-08T00:00:00Z"));
+        benchmarkRefresh("src/test/resources/test4.ics", Instant.parse("2020-01-01T00:00:00Z"));
+    }
+
+    private void benchmarkRefresh(String file, Instant start) throws IOException, CalendarException {
+        BiweeklyPresentableCalendar calendar;
+        try (FileInputStream stream = new FileInputStream(file)) {
+            calendar = new BiweeklyPresentableCalendar(stream);
+        }
+        refresh(calendar, start, WARMUP_REFRESHES);
+
+        long startTime = System.nanoTime();
+        refresh(calendar, start, REFRESHES);
+        long time = System.nanoTime() - startTime;
+
+        logger.info("{}: {} refreshes/s, {} ns/refresh, {} index builds", file,
+                REFRESHES * TimeUnit.SECONDS.toNanos(1) / time, time / REFRESHES, calendar.getIndexBuildCount());
+    }
+
+    private void refresh(BiweeklyPresentableCalendar calendar, Instant start, int refreshes) {
+        Instant instant = start;
+        for (int i = 0; i < refreshes; i++) {
+            Instant frameBegin = instant;
+            instant = instant.plus(REFRESH_INTERVAL);
+            calendar.getCurrentEvent(instant);
+            calendar.getNextEvent(instant);
+            calendar.getJustBegunEvents(frameBegin, instant);
+            calendar.getJustEndedEvents(frameBegin, instant);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
@@ -38,18 +39,21 @@ import org.openhab.core.types.Command;
  * @author Michael Wodniok - Initial contribution.
  * @author Andrew Fiddian-Green - Tests for Command Tag code
  * @author Michael Wodniok - Extended Tests for filtered Events
+ * @author agent - Tests for the occurrence index
  *
  */
 public class BiweeklyPresentableCalendarTest {
     private AbstractPresentableCalendar calendar;
     private AbstractPresentableCalendar calendar2;
     private AbstractPresentableCalendar calendar3;
+    private BiweeklyPresentableCalendar calendar4;
 
     @BeforeEach
     public void setUp() throws IOException, CalendarException {
         calendar = new BiweeklyPresentableCalendar(new FileInputStream("src/test/resources/test.ics"));
         calendar2 = new BiweeklyPresentableCalendar(new FileInputStream("src/test/resources/test2.ics"));
         calendar3 = new BiweeklyPresentableCalendar(new FileInputStream("src/test/resources/test3.ics"));
+        calendar4 = new BiweeklyPresentableCalendar(new FileInputStream("src/test/resources/test4.ics"));
     }
 
     /**
@@ -585,4 +589,97 @@ public class BiweeklyPresentableCalendarTest {
                 Instant.parse("2019-12-31T00:00:00Z"), null, 3);
         assertEquals(0, realFilteredEvents6.size());
     }
+
+    /**
+     * Tests that lookups of current events, which look back by the length of the longest event (3 days), do not
+     * rebuild the occurrence index that was built for other lookups.
+     */
+    @Test
+    public void testOccurrenceIndexIsNotRebuiltForLongEvents() {
+        Instant instant = Instant.parse("2020-01-03T12:00:00Z");
+        Event nextEvent = calendar4.getNextEvent(instant);
+        assertNotNull(nextEvent);
+        assertEquals("Daily", nextEvent.title);
+        assertEquals(Instant.parse("2020-01-04T08:00:00Z"), nextEvent.start);
+        Event currentEvent = calendar4.getCurrentEvent(instant);
+        assertNotNull(currentEvent);
+        assertEquals("Long", currentEvent.title);
+        assertEquals(1, calendar4.getIndexBuildCount());
+
+        for (int i = 0; i < 144; i++) {
+            Instant frameBegin = instant;
+            instant = instant.plus(Duration.ofMinutes(10));
+            calendar4.isEventPresent(instant);
+            calendar4.getCurrentEvent(instant);
+            calendar4.getNextEvent(instant);
+            calendar4.getJustBegunEvents(frameBegin, instant);
+            calendar4.getJustEndedEvents(frameBegin, instant);
+        }
+        assertEquals(1, calendar4.getIndexBuildCount());
+        List<Event> justEnded = calendar4.getJustEndedEvents(Instant.parse("2020-01-03T23:50:00Z"),
+                Instant.parse("2020-01-04T00:00:00Z"));
+        assertEquals(1, justEnded.size());
+        assertEquals("Long", justEnded.get(0).title);
+    }
+
+    /**
+     * Tests lookups at and beyond the edges of the occurrence index.
+     */
+    @Test
+    public void testOccurrenceIndexHorizonEdges() {
+        Instant instant = Instant.parse("2020-01-10T12:00:00Z");
+        assertEquals(Instant.parse("2020-01-11T08:00:00Z"), calendar4.getNextEvent(instant).start);
+        assertEquals(1, calendar4.getIndexBuildCount());
+
+        // the last instant of the horizon, the next event is after it
+        Instant horizonEnd = instant.plus(BiweeklyPresentableCalendar.INDEX_HORIZON_FUTURE);
+        assertEquals(Instant.parse("2020-02-11T08:00:00Z"), calendar4.getNextEvent(horizonEnd).start);
+        assertEquals(1, calendar4.getIndexBuildCount());
+
+        // beyond the horizon
+        instant = horizonEnd.plusSeconds(1);
+        assertEquals(Instant.parse("2020-02-11T08:00:00Z"), calendar4.getNextEvent(instant).start);
+        assertEquals(2, calendar4.getIndexBuildCount());
+
+        // the first instant of the horizon for current events, which start at most 3 days earlier
+        Instant current = instant.minus(BiweeklyPresentableCalendar.INDEX_HORIZON_PAST);
+        assertFalse(calendar4.isEventPresent(current));
+        assertEquals(2, calendar4.getIndexBuildCount());
+
+        // before the horizon of the second index, but within the first one, which is kept
+        Event currentEvent = calendar4.getCurrentEvent(Instant.parse("2020-02-09T08:15:00Z"));
+        assertNotNull(currentEvent);
+        assertEquals("Daily", currentEvent.title);
+        assertEquals(2, calendar4.getIndexBuildCount());
+
+        // no occurrence left within the horizon (until 2020-03-12), the event after it is found
+        instant = Instant.parse("2020-03-01T00:00:00Z");
+        assertEquals(Instant.parse("2020-06-01T10:00:00Z"), calendar4.getNextEvent(instant).start);
+        assertEquals(Instant.parse("2020-06-01T10:00:00Z"),
+                calendar4.getNextEvent(instant.plus(Duration.ofDays(5))).start);
+        assertEquals(2, calendar4.getIndexBuildCount());
+        assertNull(calendar4.getNextEvent(Instant.parse("2020-06-01T10:00:00Z")));
+        assertEquals(3, calendar4.getIndexBuildCount());
+    }
+
+    /**
+     * Tests that lookups for distant time frames do not replace the index of the current time frame.
+     */
+    @Test
+    public void testDistantLookupsKeepCurrentIndex() {
+        Instant instant = Instant.parse("2020-01-10T08:15:00Z");
+        assertTrue(calendar4.isEventPresent(instant));
+        assertEquals(1, calendar4.getIndexBuildCount());
+
+        Instant distant = Instant.parse("2021-01-01T00:00:00Z");
+        for (int i = 0; i < BiweeklyPresentableCalendar.MAXIMUM_INDEX_COUNT; i++) {
+            assertFalse(calendar4.isEventPresent(distant.plus(Duration.ofDays(365 * i))));
+            assertTrue(calendar4.isEventPresent(instant));
+        }
+        assertEquals(1 + BiweeklyPresentableCalendar.MAXIMUM_INDEX_COUNT, calendar4.getIndexBuildCount());
+
+        // the least recently used index has been replaced
+        assertFalse(calendar4.isEventPresent(distant));
+        assertEquals(2 + BiweeklyPresentableCalendar.MAXIMUM_INDEX_COUNT, calendar4.getIndexBuildCount());
+    }
 }
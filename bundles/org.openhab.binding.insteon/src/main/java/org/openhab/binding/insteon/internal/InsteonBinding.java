@@ -439,6 +439,7 @@ public class InsteonBinding {
         String msg = String.format("devices: %3d configured, %3d polling, msgs received: %5d", devices.size(),
                 Poller.instance().getSizeOfQueue(), messagesReceived);
         logger.debug("{}", msg);
+        logger.debug("transmit {}", driver.getTransmitStatistics());
         messagesReceived = 0;
         for (InsteonDevice dev : devices.values()) {
             if (dev.isModem()) {
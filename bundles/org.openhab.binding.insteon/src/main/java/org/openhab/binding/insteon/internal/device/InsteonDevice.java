@@ -248,7 +248,8 @@ public class InsteonDevice {
     /**
      * Execute poll on this device: create an array of messages,
      * add them to the request queue, and schedule the queue
-     * for processing.
+     * for processing. Features that still have a poll waiting
+     * in the request queue are not polled again.
      *
      * @param delay scheduling delay (in milliseconds)
      */
@@ -256,13 +257,12 @@ public class InsteonDevice {
         long now = System.currentTimeMillis();
         List<QEntry> l = new ArrayList<>();
         synchronized (features) {
-            int spacing = 0;
             for (DeviceFeature i : features.values()) {
                 if (i.hasListeners()) {
                     Msg m = i.makePollMsg();
                     if (m != null) {
-                        l.add(new QEntry(i, m, now + delay + spacing));
-                        spacing += TIME_BETWEEN_POLL_MESSAGES;
+                        m.setIsPoll(true);
+                        l.add(new QEntry(i, m, now + delay));
                     }
                 }
             }
@@ -271,8 +271,14 @@ public class InsteonDevice {
             return;
         }
         synchronized (mrequestQueue) {
+            int spacing = 0;
             for (QEntry e : l) {
-                mrequestQueue.add(e);
+                if (hasQueuedPoll(e.getFeature())) {
+                    logger.trace("poll of {} for {} is still queued", e.getFeature(), address);
+                    continue;
+                }
+                mrequestQueue.add(new QEntry(e.getFeature(), e.getMsg(), now + delay + spacing));
+                spacing += TIME_BETWEEN_POLL_MESSAGES;
             }
         }
         RequestQueueManager instance = RequestQueueManager.instance();
@@ -458,7 +464,7 @@ public class InsteonDevice {
                     logger.debug("gave up waiting for query reply from device {}", address);
                 }
             }
-            QEntry qe = mrequestQueue.poll(); // take it off the queue!
+            QEntry qe = takeNextEntry(timeNow); // take it off the queue!
             if (qe == null) {
                 return 0L;
             }
@@ -488,6 +494,42 @@ public class InsteonDevice {
         }
     }
 
+    /**
+     * Takes the next entry off the request queue. Messages that are due go before
+     * polls that have been waiting longer, so commands are not held up by polling.
+     * The iteration order of the queue is not the order of expiration, so the
+     * due message that expired first is searched for.
+     *
+     * @param timeNow the current time
+     * @return the next entry of the request queue
+     */
+    private @Nullable QEntry takeNextEntry(long timeNow) {
+        QEntry head = mrequestQueue.peek();
+        if (head != null && head.getMsg().isPoll()) {
+            QEntry next = null;
+            for (QEntry e : mrequestQueue) {
+                if (e != null && !e.getMsg().isPoll() && e.getExpirationTime() <= timeNow
+                        && (next == null || e.getExpirationTime() < next.getExpirationTime())) {
+                    next = e;
+                }
+            }
+            if (next != null) {
+                mrequestQueue.remove(next);
+                return next;
+            }
+        }
+        return mrequestQueue.poll();
+    }
+
+    private boolean hasQueuedPoll(DeviceFeature f) {
+        for (QEntry e : mrequestQueue) {
+            if (e != null && e.getFeature() == f && e.getMsg().isPoll()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Enqueues message to be sent at the next possible time
      *
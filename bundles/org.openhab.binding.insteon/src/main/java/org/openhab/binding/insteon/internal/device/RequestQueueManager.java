@@ -12,10 +12,11 @@
  */
 package org.openhab.binding.insteon.internal.device;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -25,27 +26,50 @@ import org.slf4j.LoggerFactory;
 /**
  * Class that manages all the per-device request queues using a single thread.
  *
- * - Each device has its own request queue, and the RequestQueueManager keeps a
- * queue of queues.
- * - Each entry in m_requestQueues corresponds to a single device's request queue.
- * A device should never be more than once in m_requestQueues.
- * - A hash map (m_requestQueueHash) is kept in sync with m_requestQueues for
+ * - Each device has its own request queue, and the RequestQueueManager keeps the
+ * queues in a timer wheel, i.e. a ring of slots that each cover one tick.
+ * A queue is put into the slot of the tick in which it expires, so adding and
+ * rescheduling a queue takes constant time no matter how many devices there are.
+ * - A device should never be more than once in the wheel.
+ * - A hash map (requestQueueHash) is kept in sync with the wheel for
  * faster lookup in case a request queue is modified and needs to be
  * rescheduled.
+ * - Queues that expire more than one round ahead stay in their slot until
+ * their round has come.
+ * - The thread sleeps until the tick of the earliest queue, which is found by
+ * looking for the first slot that holds a queue of the current round.
  *
  * @author Bernd Pfrommer - Initial contribution
  * @author Rob Nielsen - Port to openHAB 2 insteon binding
  */
 @NonNullByDefault
 public class RequestQueueManager {
+    private static final long DEFAULT_TICK_MSEC = 50L;
+    private static final int DEFAULT_WHEEL_SIZE = 256;
+
     private static @Nullable RequestQueueManager instance = null;
     private final Logger logger = LoggerFactory.getLogger(RequestQueueManager.class);
     private @Nullable Thread queueThread = null;
-    private Queue<RequestQueue> requestQueues = new PriorityQueue<>();
+    private final long tickMsec;
+    private final int wheelSize;
+    private List<List<RequestQueue>> wheel;
     private Map<InsteonDevice, RequestQueue> requestQueueHash = new HashMap<>();
+    private List<RequestQueue> expiredQueues = new ArrayList<>();
+    private long nextTick;
     private boolean keepRunning = true;
 
     private RequestQueueManager() {
+        this(DEFAULT_TICK_MSEC, DEFAULT_WHEEL_SIZE);
+    }
+
+    RequestQueueManager(long tickMsec, int wheelSize) {
+        this.tickMsec = tickMsec;
+        this.wheelSize = wheelSize;
+        wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        nextTick = System.currentTimeMillis() / tickMsec;
         queueThread = new Thread(new RequestQueueReader());
         setParamsAndStart(queueThread);
     }
@@ -65,42 +89,95 @@ public class RequestQueueManager {
      * @param time the time when the queue should be processed
      */
     public void addQueue(InsteonDevice dev, long time) {
-        synchronized (requestQueues) {
+        synchronized (wheel) {
             RequestQueue q = requestQueueHash.get(dev);
             if (q == null) {
                 logger.trace("scheduling request for device {} in {} msec", dev.getAddress(),
                         time - System.currentTimeMillis());
+                if (requestQueueHash.isEmpty()) {
+                    // skip the ticks that passed while there was nothing to do
+                    nextTick = Math.max(nextTick, System.currentTimeMillis() / tickMsec);
+                }
                 q = new RequestQueue(dev, time);
             } else {
                 logger.trace("queue for dev {} is already scheduled in {} msec", dev.getAddress(),
                         q.getExpirationTime() - System.currentTimeMillis());
-                if (!requestQueues.remove(q)) {
+                if (q.getExpirationTime() <= time) {
+                    return;
+                }
+                if (!wheel.get(q.slot).remove(q)) {
                     logger.warn("queue for {} should be there, report as bug!", dev);
                 }
-                requestQueueHash.remove(dev);
-            }
-            long expTime = q.getExpirationTime();
-            if (expTime > time) {
                 q.setExpirationTime(time);
             }
-            // add the queue back in after (maybe) having modified
-            // the expiration time
-            requestQueues.add(q);
-            requestQueueHash.put(dev, q);
-            requestQueues.notify();
+            schedule(q);
+            wheel.notify();
+        }
+    }
+
+    /**
+     * Puts a queue into the slot of the tick in which it expires. Queues that
+     * are already expired go into the next slot that is processed.
+     *
+     * @param q the queue to schedule
+     */
+    private void schedule(RequestQueue q) {
+        long tick = Math.max(getTick(q), nextTick);
+        q.slot = (int) (tick % wheelSize);
+        wheel.get(q.slot).add(q);
+        requestQueueHash.put(q.getDevice(), q);
+    }
+
+    /**
+     * @param q the queue
+     * @return the tick in which the queue expires
+     */
+    private long getTick(RequestQueue q) {
+        return (q.getExpirationTime() + tickMsec - 1) / tickMsec;
+    }
+
+    /**
+     * Finds the first tick that has a queue to process. The slots are searched
+     * starting with the next tick, so usually only a few slots are looked at.
+     *
+     * @return the first tick with a queue that expires in it
+     */
+    private long getNextBusyTick() {
+        for (long tick = nextTick; tick < nextTick + wheelSize; tick++) {
+            for (RequestQueue q : wheel.get((int) (tick % wheelSize))) {
+                // skip the queues that expire in a later round
+                if (getTick(q) <= tick) {
+                    return tick;
+                }
+            }
+        }
+        // all queues expire in a later round
+        long next = Long.MAX_VALUE;
+        for (RequestQueue q : requestQueueHash.values()) {
+            next = Math.min(next, getTick(q));
+        }
+        return next;
+    }
+
+    /**
+     * @return the number of device queues that are scheduled
+     */
+    int size() {
+        synchronized (wheel) {
+            return requestQueueHash.size();
         }
     }
 
     /**
      * Stops request queue thread
      */
-    private void stopThread() {
+    void stopThread() {
         logger.debug("stopping thread");
         Thread queueThread = this.queueThread;
         if (queueThread != null) {
-            synchronized (requestQueues) {
+            synchronized (wheel) {
                 keepRunning = false;
-                requestQueues.notifyAll();
+                wheel.notifyAll();
             }
             try {
                 logger.debug("waiting for thread to join");
@@ -117,46 +194,31 @@ public class RequestQueueManager {
         @Override
         public void run() {
             logger.debug("starting request queue thread");
-            synchronized (requestQueues) {
+            synchronized (wheel) {
                 while (keepRunning) {
                     try {
-                        RequestQueue q;
-                        while (keepRunning && (q = requestQueues.peek()) != null) {
-                            long now = System.currentTimeMillis();
-                            long expTime = q.getExpirationTime();
-                            InsteonDevice dev = q.getDevice();
-                            if (expTime > now) {
-                                //
-                                // The head of the queue is not up for processing yet, wait().
-                                //
-                                logger.trace("request queue head: {} must wait for {} msec", dev.getAddress(),
-                                        expTime - now);
-                                requestQueues.wait(expTime - now);
-                                //
-                                // note that the wait() can also return because of changes to
-                                // the queue, not just because the time expired!
-                                //
-                                continue;
-                            }
+                        if (requestQueueHash.isEmpty()) {
+                            logger.trace("waiting for request queues to fill");
+                            wheel.wait();
+                            continue;
+                        }
+                        long now = System.currentTimeMillis();
+                        long dt = getNextBusyTick() * tickMsec - now;
+                        if (dt > 0) {
                             //
-                            // The head of the queue has expired and can be processed!
+                            // No queue has expired yet, wait() until the tick of the earliest one.
+                            // Note that the wait() can also return because of changes to
+                            // the wheel, not just because the time expired!
                             //
-                            q = requestQueues.poll(); // remove front element
-                            requestQueueHash.remove(dev); // and remove from hash map
-                            long nextExp = dev.processRequestQueue(now);
-                            if (nextExp > 0) {
-                                q = new RequestQueue(dev, nextExp);
-                                requestQueues.add(q);
-                                requestQueueHash.put(dev, q);
-                                logger.trace("device queue for {} rescheduled in {} msec", dev.getAddress(),
-                                        nextExp - now);
-                            } else {
-                                // remove from hash since queue is no longer scheduled
-                                logger.debug("device queue for {} is empty!", dev.getAddress());
-                            }
+                            wheel.wait(dt);
+                            continue;
+                        }
+                        // process all ticks up to now, but each slot at most once
+                        long lastTick = now / tickMsec;
+                        nextTick = Math.max(nextTick, lastTick - wheelSize + 1);
+                        while (nextTick <= lastTick) {
+                            processSlot(nextTick++, now);
                         }
-                        logger.trace("waiting for request queues to fill");
-                        requestQueues.wait();
                     } catch (InterruptedException e) {
                         logger.warn("request queue thread got interrupted, breaking..", e);
                         break;
@@ -165,11 +227,44 @@ public class RequestQueueManager {
             }
             logger.debug("exiting request queue thread!");
         }
+
+        /**
+         * Processes the queues of a slot that have expired and reschedules them
+         * if they have more requests.
+         *
+         * @param tick the tick to process
+         * @param now the current time
+         */
+        private void processSlot(long tick, long now) {
+            List<RequestQueue> slot = wheel.get((int) (tick % wheelSize));
+            for (Iterator<RequestQueue> it = slot.iterator(); it.hasNext();) {
+                RequestQueue q = it.next();
+                if (q.getExpirationTime() <= now) {
+                    it.remove();
+                    requestQueueHash.remove(q.getDevice());
+                    expiredQueues.add(q);
+                }
+            }
+            // the devices may add requests while being processed, so the
+            // slot is not iterated any more at this point
+            for (RequestQueue q : expiredQueues) {
+                InsteonDevice dev = q.getDevice();
+                long nextExp = dev.processRequestQueue(now);
+                if (nextExp > 0) {
+                    addQueue(dev, nextExp);
+                    logger.trace("device queue for {} rescheduled in {} msec", dev.getAddress(), nextExp - now);
+                } else {
+                    logger.debug("device queue for {} is empty!", dev.getAddress());
+                }
+            }
+            expiredQueues.clear();
+        }
     }
 
-    public static class RequestQueue implements Comparable<RequestQueue> {
+    public static class RequestQueue {
         private InsteonDevice device;
         private long expirationTime;
+        private int slot;
 
         RequestQueue(InsteonDevice dev, long expirationTime) {
             this.device = dev;
@@ -187,11 +282,6 @@ public class RequestQueueManager {
         public void setExpirationTime(long t) {
             expirationTime = t;
         }
-
-        @Override
-        public int compareTo(RequestQueue a) {
-            return (int) (expirationTime - a.expirationTime);
-        }
     }
 
     public static synchronized @Nullable RequestQueueManager instance() {
@@ -80,6 +80,10 @@ public class Driver {
         port.writeMessage(m);
     }
 
+    public String getTransmitStatistics() {
+        return port.getTransmitStatistics();
+    }
+
     public String getPortName() {
         return portName;
     }
@@ -16,7 +16,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -48,7 +47,7 @@ import org.slf4j.LoggerFactory;
  * In combination with the MsgFactory class, the incoming data stream is turned into a Msg structure
  * for further processing by the upper layers (MsgListeners).
  *
- * A write queue is maintained to pace the flow of outgoing messages. Sending messages back-to-back
+ * A transmit scheduler is maintained to pace the flow of outgoing messages. Sending messages back-to-back
  * can lead to dropped messages.
  *
  *
@@ -84,7 +83,7 @@ public class Port {
     private Driver driver;
     private ModemDBBuilder mdbb;
     private ArrayList<MsgListener> listeners = new ArrayList<>();
-    private LinkedBlockingQueue<Msg> writeQueue = new LinkedBlockingQueue<>();
+    private TransmitScheduler transmitScheduler = new TransmitScheduler();
     private AtomicBoolean disconnected = new AtomicBoolean(false);
 
     /**
@@ -170,7 +169,7 @@ public class Port {
             return;
         }
 
-        writeQueue.clear();
+        transmitScheduler.clear();
         if (!ioStream.open()) {
             logger.debug("failed to open port {}", logName);
             return;
@@ -242,9 +241,9 @@ public class Port {
     }
 
     /**
-     * Adds message to the write queue
+     * Adds message to the transmit scheduler
      *
-     * @param m message to be added to the write queue
+     * @param m message to be added to the transmit scheduler
      * @throws IOException
      */
     public void writeMessage(@Nullable Msg m) throws IOException {
@@ -256,12 +255,15 @@ public class Port {
             logger.warn("trying to write message without data!");
             throw new IOException("trying to write message without data!");
         }
-        try {
-            writeQueue.add(m);
-            logger.trace("enqueued msg: {}", m);
-        } catch (IllegalStateException e) {
-            logger.warn("cannot write message {}, write queue is full!", m);
-        }
+        transmitScheduler.add(m);
+        logger.trace("enqueued msg: {}", m);
+    }
+
+    /**
+     * @return a summary of the transmit queues and their latency
+     */
+    public String getTransmitStatistics() {
+        return transmitScheduler.getStatistics();
     }
 
     /**
@@ -405,6 +407,8 @@ public class Port {
                         logger.trace("writer got ack: {}", (reply == ReplyType.GOT_ACK));
                     }
                 } catch (InterruptedException e) {
+                    // keep the interrupt, so the writer exits instead of waiting for the next message
+                    Thread.currentThread().interrupt();
                     break; // done for the day...
                 }
             }
@@ -426,30 +430,24 @@ public class Port {
             logger.debug("starting writer...");
             while (true) {
                 try {
-                    // this call blocks until the lock on the queue is released
-                    logger.trace("writer checking message queue");
-                    Msg msg = writeQueue.take();
-                    if (msg.getData() == null) {
-                        logger.warn("found null message in write queue!");
+                    // this call blocks until the quiet time of the previous message is over
+                    // and a message is available
+                    logger.trace("writer checking transmit scheduler");
+                    Msg msg = transmitScheduler.take();
+                    logger.debug("writing ({}): {}", msg.getQuietTime(), msg);
+                    boolean nack;
+                    synchronized (reader.getRequestReplyLock()) {
+                        ioStream.write(msg.getData());
+                        nack = reader.waitForReply();
+                    }
+                    if (nack) {
+                        // the modem is busy, the scheduler writes this message again before
+                        // all others once the wait time is over
+                        logger.trace("retransmitting msg: {}", msg);
+                        transmitScheduler.retransmit(msg, WAIT_TIME);
                     } else {
-                        logger.debug("writing ({}): {}", msg.getQuietTime(), msg);
-                        // To debug race conditions during startup (i.e. make the .items
-                        // file definitions be available *before* the modem link records,
-                        // slow down the modem traffic with the following statement:
-                        // Thread.sleep(500);
-                        synchronized (reader.getRequestReplyLock()) {
-                            ioStream.write(msg.getData());
-                            while (reader.waitForReply()) {
-                                Thread.sleep(WAIT_TIME);
-                                logger.trace("retransmitting msg: {}", msg);
-                                ioStream.write(msg.getData());
-                            }
-
-                        }
-                        // if rate limited, need to sleep now.
-                        if (msg.getQuietTime() > 0) {
-                            Thread.sleep(msg.getQuietTime());
-                        }
+                        // if rate limited, the scheduler holds back the next message
+                        transmitScheduler.written(msg);
                     }
                 } catch (InterruptedException e) {
                     logger.debug("got interrupted exception in write thread");
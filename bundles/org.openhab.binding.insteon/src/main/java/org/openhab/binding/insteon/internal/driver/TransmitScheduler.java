@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.driver;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.insteon.internal.message.Msg;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The TransmitScheduler decides which message is written to the modem next.
+ *
+ * - After a message has been written, the modem must be left alone for the quiet time
+ * of that message. The writer waits for the end of the quiet time on a condition instead
+ * of sleeping, so it can pick the most urgent message at the moment the modem is free again.
+ * - Messages that need to be retransmitted go first, then all interactive messages (commands,
+ * modem database queries) in the order they were added, and only then the polls.
+ * - A poll that is identical to a poll which is still waiting in the queue is merged with it.
+ * - The time each message spent in the queue is recorded for the statistics.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TransmitScheduler {
+    private final Logger logger = LoggerFactory.getLogger(TransmitScheduler.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private final Deque<Entry> interactive = new ArrayDeque<>();
+    private final Deque<Entry> polls = new ArrayDeque<>();
+    private final Map<ByteBuffer, Entry> queuedPolls = new HashMap<>();
+    private @Nullable Msg retransmit = null;
+    private long quietUntil = 0; // System.nanoTime() before which nothing may be written
+
+    private final Statistics interactiveStatistics = new Statistics();
+    private final Statistics pollStatistics = new Statistics();
+    private long mergedPolls = 0;
+    private long retransmits = 0;
+
+    /**
+     * Adds a message to the queue of its priority
+     *
+     * @param msg the message to write to the modem
+     */
+    public void add(Msg msg) {
+        byte[] data = msg.getData();
+        if (data == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            Entry entry = new Entry(msg, System.nanoTime());
+            if (msg.isPoll()) {
+                ByteBuffer key = ByteBuffer.wrap(data);
+                if (queuedPolls.containsKey(key)) {
+                    mergedPolls++;
+                    logger.trace("merged poll with queued poll: {}", msg);
+                    return;
+                }
+                queuedPolls.put(key, entry);
+                polls.add(entry);
+            } else {
+                interactive.add(entry);
+            }
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the quiet time of the previous message is over and a message is queued.
+     *
+     * @return the message to write next
+     * @throws InterruptedException if the writer got interrupted while waiting
+     */
+    public Msg take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                long wait = quietUntil - System.nanoTime();
+                if (wait > 0) {
+                    changed.awaitNanos(wait);
+                    continue;
+                }
+                Msg msg = poll();
+                if (msg != null) {
+                    return msg;
+                }
+                changed.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts the quiet time of a message that has been written and acknowledged by the modem
+     *
+     * @param msg the message that has been written
+     */
+    public void written(Msg msg) {
+        setQuietTime(msg.getQuietTime());
+    }
+
+    /**
+     * Schedules the retransmission of a message that was not acknowledged by the modem. It is written
+     * again before all other messages as soon as the delay is over.
+     *
+     * @param msg the message to write again
+     * @param delay the time (in milliseconds) to wait before writing it again
+     */
+    public void retransmit(Msg msg, long delay) {
+        lock.lock();
+        try {
+            retransmit = msg;
+            retransmits++;
+            setQuietTime(delay);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all queued messages
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            interactive.clear();
+            polls.clear();
+            queuedPolls.clear();
+            retransmit = null;
+            quietUntil = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return a one line summary of the queue sizes and the time the messages spent in the queues
+     */
+    public String getStatistics() {
+        lock.lock();
+        try {
+            return String.format("queued: %d interactive, %d polls; sent: %s interactive, %s polls; "
+                    + "merged polls: %d, retransmits: %d", interactive.size(), polls.size(), interactiveStatistics,
+                    pollStatistics, mergedPolls, retransmits);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void setQuietTime(long quietTime) {
+        lock.lock();
+        try {
+            quietUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(quietTime);
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private @Nullable Msg poll() {
+        Msg msg = retransmit;
+        if (msg != null) {
+            retransmit = null;
+            return msg;
+        }
+        long now = System.nanoTime();
+        Entry entry = interactive.poll();
+        if (entry != null) {
+            interactiveStatistics.add(now - entry.time);
+            return entry.msg;
+        }
+        entry = polls.poll();
+        if (entry != null) {
+            byte[] data = entry.msg.getData();
+            if (data != null) {
+                queuedPolls.remove(ByteBuffer.wrap(data));
+            }
+            pollStatistics.add(now - entry.time);
+            return entry.msg;
+        }
+        return null;
+    }
+
+    private static class Entry {
+        private final Msg msg;
+        private final long time;
+
+        Entry(Msg msg, long time) {
+            this.msg = msg;
+            this.time = time;
+        }
+    }
+
+    /**
+     * Queue latency of the messages of one priority
+     */
+    private static class Statistics {
+        private long count = 0;
+        private long totalLatency = 0;
+        private long maxLatency = 0;
+
+        void add(long latency) {
+            count++;
+            totalLatency += latency;
+            maxLatency = Math.max(maxLatency, latency);
+        }
+
+        @Override
+        public String toString() {
+            long average = count == 0 ? 0 : totalLatency / count;
+            return String.format("%d (latency avg %d msec, max %d msec)", count,
+                    TimeUnit.NANOSECONDS.toMillis(average), TimeUnit.NANOSECONDS.toMillis(maxLatency));
+        }
+    }
+}
@@ -232,6 +232,13 @@ public class InsteonNetworkHandler extends BaseBridgeHandler {
         }
     }
 
+    public void displayTransmitStatistics(Console console) {
+        InsteonBinding insteonBinding = this.insteonBinding;
+        if (insteonBinding != null) {
+            console.println(insteonBinding.getDriver().getTransmitStatistics());
+        }
+    }
+
     public void initialized(ThingUID uid, String msg) {
         deviceInfo.put(uid.getAsString(), msg);
     }
@@ -25,6 +25,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.insteon.internal.device.InsteonAddress;
 import org.openhab.binding.insteon.internal.utils.Utils;
 import org.openhab.binding.insteon.internal.utils.Utils.ParsingException;
+import org.osgi.framework.Bundle;
 import org.osgi.framework.FrameworkUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,6 +90,7 @@ public class Msg {
     private MsgDefinition definition = new MsgDefinition();
     private Direction direction = Direction.TO_MODEM;
     private long quietTime = 0;
+    private boolean isPoll = false;
 
     /**
      * Constructor
@@ -122,7 +124,10 @@ public class Msg {
     static {
         // Use xml msg loader to load configs
         try {
-            InputStream stream = FrameworkUtil.getBundle(Msg.class).getResource("/msg_definitions.xml").openStream();
+            // outside of an OSGi framework (e.g. in unit tests) the class loader provides the resource
+            Bundle bundle = FrameworkUtil.getBundle(Msg.class);
+            InputStream stream = bundle != null ? bundle.getResource("/msg_definitions.xml").openStream()
+                    : Msg.class.getResourceAsStream("/msg_definitions.xml");
             if (stream != null) {
                 Map<String, Msg> msgs = XMLMessageReader.readMessageDefinitions(stream);
                 MSG_MAP.putAll(msgs);
@@ -155,6 +160,16 @@ public class Msg {
         return quietTime;
     }
 
+    /**
+     * Poll messages are sent in the background, so they give way to all other messages
+     * that are waiting for the modem.
+     *
+     * @return true if the message is a poll of a device feature
+     */
+    public boolean isPoll() {
+        return isPoll;
+    }
+
     public byte @Nullable [] getData() {
         return data;
     }
@@ -257,6 +272,10 @@ public class Msg {
         quietTime = t;
     }
 
+    public void setIsPoll(boolean poll) {
+        isPoll = poll;
+    }
+
     public void addField(Field f) {
         definition.addField(f);
     }
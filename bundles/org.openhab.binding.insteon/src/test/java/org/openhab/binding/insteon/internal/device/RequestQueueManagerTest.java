@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.device;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the timer wheel of the {@link RequestQueueManager}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RequestQueueManagerTest {
+
+    private static final long TICK_MSEC = 10;
+    private static final int WHEEL_SIZE = 16;
+
+    // the tick and the time measurement may each be off by a bit
+    private static final long TOLERANCE_MSEC = 2 * TICK_MSEC + 50;
+
+    private final RequestQueueManager manager = new RequestQueueManager(TICK_MSEC, WHEEL_SIZE);
+    private final List<TestDevice> processed = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        manager.stopThread();
+    }
+
+    @Test
+    public void testQueuesAreProcessedInOrderOfExpiration() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        // one of the queues expires more than one round of the wheel ahead
+        TestDevice late = new TestDevice(now + 3 * WHEEL_SIZE * TICK_MSEC);
+        TestDevice second = new TestDevice(now + 80);
+        TestDevice third = new TestDevice(now + 120);
+        TestDevice first = new TestDevice(now + 20);
+        CountDownLatch latch = new CountDownLatch(4);
+        for (TestDevice device : List.of(late, second, third, first)) {
+            device.latch = latch;
+            manager.addQueue(device, device.expirationTime);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        synchronized (processed) {
+            assertEquals(List.of(first, second, third, late), processed);
+        }
+        for (TestDevice device : List.of(late, second, third, first)) {
+            device.assertProcessedOnTime();
+        }
+        assertEquals(0, manager.size());
+    }
+
+    @Test
+    public void testQueueIsRescheduledEarlier() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        TestDevice device = new TestDevice(now + 50);
+        manager.addQueue(device, now + 2000);
+        manager.addQueue(device, now + 50);
+        // a later time does not postpone the queue
+        manager.addQueue(device, now + 3000);
+        assertEquals(1, manager.size());
+
+        assertTrue(device.latch.await(1, TimeUnit.SECONDS));
+        device.assertProcessedOnTime();
+        assertEquals(0, manager.size());
+    }
+
+    @Test
+    public void testQueueWithMoreRequestsIsRescheduled() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        TestDevice device = new TestDevice(now + 30);
+        device.latch = new CountDownLatch(2);
+        device.nextExpirationTime = now + 100;
+        manager.addQueue(device, device.expirationTime);
+
+        assertTrue(device.latch.await(1, TimeUnit.SECONDS));
+        assertTrue(device.processingTime >= now + 100);
+        assertEquals(0, manager.size());
+    }
+
+    @Test
+    public void testQueueAddedAfterIdlePeriod() throws InterruptedException {
+        TestDevice device = new TestDevice(System.currentTimeMillis() + 20);
+        manager.addQueue(device, device.expirationTime);
+        assertTrue(device.latch.await(1, TimeUnit.SECONDS));
+
+        // the wheel has been idle for more than one round
+        Thread.sleep(2 * WHEEL_SIZE * TICK_MSEC);
+        TestDevice next = new TestDevice(System.currentTimeMillis() + 30);
+        manager.addQueue(next, next.expirationTime);
+        assertTrue(next.latch.await(1, TimeUnit.SECONDS));
+        next.assertProcessedOnTime();
+    }
+
+    private class TestDevice extends InsteonDevice {
+        private final long expirationTime;
+        private long nextExpirationTime = 0;
+        private long processingTime = 0;
+        private CountDownLatch latch = new CountDownLatch(1);
+
+        TestDevice(long expirationTime) {
+            this.expirationTime = expirationTime;
+        }
+
+        @Override
+        public long processRequestQueue(long timeNow) {
+            processingTime = System.currentTimeMillis();
+            synchronized (processed) {
+                processed.add(this);
+            }
+            long next = nextExpirationTime;
+            nextExpirationTime = 0;
+            latch.countDown();
+            return next;
+        }
+
+        void assertProcessedOnTime() {
+            assertTrue(processingTime >= expirationTime, "processed too early");
+            assertTrue(processingTime <= expirationTime + TOLERANCE_MSEC, "processed too late");
+        }
+    }
+}
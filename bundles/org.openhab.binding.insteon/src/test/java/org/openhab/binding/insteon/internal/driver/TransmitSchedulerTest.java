@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.driver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.insteon.internal.message.Msg;
+import org.openhab.binding.insteon.internal.message.Msg.Direction;
+
+/**
+ * Tests for {@link TransmitScheduler}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TransmitSchedulerTest {
+
+    private final TransmitScheduler scheduler = new TransmitScheduler();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRetransmitsGoBeforeInteractiveMessagesAndPolls() throws Exception {
+        Msg poll = createMsg(1, true);
+        Msg command = createMsg(2, false);
+        Msg otherCommand = createMsg(3, false);
+        Msg retransmit = createMsg(4, false);
+
+        scheduler.add(poll);
+        scheduler.add(command);
+        scheduler.add(otherCommand);
+        scheduler.retransmit(retransmit, 0);
+
+        assertSame(retransmit, scheduler.take());
+        assertSame(command, scheduler.take());
+        assertSame(otherCommand, scheduler.take());
+        assertSame(poll, scheduler.take());
+    }
+
+    @Test
+    public void testIdenticalPollsAreMerged() throws Exception {
+        Msg poll = createMsg(1, true);
+        scheduler.add(poll);
+        scheduler.add(createMsg(1, true));
+        scheduler.add(createMsg(2, true));
+
+        assertSame(poll, scheduler.take());
+        assertEquals(2, scheduler.take().getData()[1]);
+        assertTrue(scheduler.getStatistics().contains("merged polls: 1"));
+
+        // the poll has been sent, so the same poll is queued again
+        Msg next = createMsg(1, true);
+        scheduler.add(next);
+        assertSame(next, scheduler.take());
+    }
+
+    @Test
+    public void testQuietTimeIsRespected() throws Exception {
+        Msg msg = createMsg(1, false);
+        msg.setQuietTime(200);
+        scheduler.written(msg);
+        scheduler.add(createMsg(2, false));
+
+        long start = System.nanoTime();
+        scheduler.take();
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(190));
+    }
+
+    @Test
+    public void testRetransmitWaitsForDelay() throws Exception {
+        Msg msg = createMsg(1, false);
+        long start = System.nanoTime();
+        scheduler.retransmit(msg, 200);
+
+        assertSame(msg, scheduler.take());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(190));
+    }
+
+    @Test
+    public void testTakeWaitsForMessage() throws Exception {
+        Future<Msg> future = executor.submit(scheduler::take);
+        assertThrows(TimeoutException.class, () -> future.get(100, TimeUnit.MILLISECONDS));
+
+        Msg msg = createMsg(1, false);
+        scheduler.add(msg);
+        assertSame(msg, future.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        scheduler.add(createMsg(1, true));
+        scheduler.add(createMsg(2, false));
+        scheduler.clear();
+
+        Msg msg = createMsg(1, true);
+        scheduler.add(msg);
+        assertSame(msg, scheduler.take());
+    }
+
+    private static Msg createMsg(int id, boolean poll) {
+        byte[] data = new byte[] { 0x02, (byte) id, 0x03 };
+        Msg msg = new Msg(2, data, data.length, Direction.TO_MODEM);
+        msg.setIsPoll(poll);
+        return msg;
+    }
+}
@@ -15,11 +15,18 @@ package org.openhab.binding.knx.internal.dpt;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjusters;
 import java.util.Arrays;
-import java.util.Calendar;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -68,6 +75,7 @@ import tuwien.auto.calimero.dptxlator.DPTXlatorString;
 import tuwien.auto.calimero.dptxlator.DPTXlatorTime;
 import tuwien.auto.calimero.dptxlator.DPTXlatorUtf8;
 import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes.MainType;
 
 /**
  * This class provides type mapping between all openHAB core types and KNX data point types.
@@ -92,8 +100,11 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
 
     private final Logger logger = LoggerFactory.getLogger(KNXCoreTypeMapper.class);
 
-    private static final String TIME_DAY_FORMAT = new String("EEE, HH:mm:ss");
-    private static final String DATE_FORMAT = new String("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME_DAY_FORMATTER = DateTimeFormatter.ofPattern("EEE, HH:mm:ss",
+            Locale.US);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter
+            .ofPattern(DateTimeType.DATE_PATTERN);
 
     /**
      * stores the openHAB type class for (supported) KNX datapoint types in a generic way.
@@ -107,6 +118,18 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     /** stores the default KNX DPT to use for each openHAB type */
     private final Map<Class<? extends Type>, String> defaultDptMap;
 
+    /**
+     * stores the resolved openHAB type class for all KNX datapoint types known by calimero,
+     * so the type class of a datapoint is found by a single lookup.
+     */
+    private final Map<String, Class<? extends Type>> typeClassMap;
+
+    /**
+     * caches the translators by datapoint type id. Translators are not thread-safe, but they can be reused for any
+     * data of their datapoint type, so each thread keeps its own ones.
+     */
+    private final ThreadLocal<Map<String, DPTXlator>> translators = ThreadLocal.withInitial(HashMap::new);
+
     public KNXCoreTypeMapper() {
         @SuppressWarnings("unused")
         final List<Class<?>> xlators = Arrays.<Class<?>> asList(DPTXlator1BitControlled.class,
@@ -568,6 +591,22 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
         defaultDptMap.put(DateTimeType.class, DPTXlatorTime.DPT_TIMEOFDAY.getID());
         defaultDptMap.put(StringType.class, DPTXlatorString.DPT_STRING_8859_1.getID());
         defaultDptMap.put(HSBType.class, DPTXlatorRGB.DPT_RGB.getID());
+
+        typeClassMap = new HashMap<>();
+        for (Map.Entry<Integer, Class<? extends Type>> entry : dptMainTypeMap.entrySet()) {
+            MainType mainType = TranslatorTypes.getMainType(entry.getKey());
+            if (mainType == null) {
+                continue;
+            }
+            try {
+                for (String dptId : mainType.getSubTypes().keySet()) {
+                    typeClassMap.put(dptId, entry.getValue());
+                }
+            } catch (KNXException e) {
+                logger.debug("Couldn't get datapoint types of main number {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+        typeClassMap.putAll(dptTypeMap);
     }
 
     @Override
@@ -585,7 +624,7 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
         }
 
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(mainNumber, dptID);
+            DPTXlator translator = getTranslator(mainNumber, dptID);
             dpt = translator.getType();
         } catch (KNXException e) {
             return null;
@@ -673,7 +712,7 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     @Override
     public Type toType(Datapoint datapoint, byte[] data) {
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(datapoint.getMainNumber(), datapoint.getDPT());
+            DPTXlator translator = getTranslator(datapoint.getMainNumber(), datapoint.getDPT());
             translator.setData(data);
             String value = translator.getValue();
 
@@ -786,27 +825,25 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
                         return null;
                     }
 
-                    Calendar cal = Calendar.getInstance();
                     if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
                             && !translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
                         // Pure date format, no time information
-                        cal.setTimeInMillis(translatorDateTime.getValueMilliseconds());
-                        value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
+                        value = Instant.ofEpochMilli(translatorDateTime.getValueMilliseconds())
+                                .atZone(ZoneId.systemDefault()).format(DATE_TIME_FORMATTER);
                         return DateTimeType.valueOf(value);
                     } else if (!translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
                             && translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
                         // Pure time format, no date information
-                        cal.clear();
-                        cal.set(Calendar.HOUR_OF_DAY, translatorDateTime.getHour());
-                        cal.set(Calendar.MINUTE, translatorDateTime.getMinute());
-                        cal.set(Calendar.SECOND, translatorDateTime.getSecond());
-                        value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
+                        // added up, as hour 24 is a valid KNX time
+                        value = LocalDate.ofEpochDay(0).atStartOfDay().plusHours(translatorDateTime.getHour())
+                                .plusMinutes(translatorDateTime.getMinute())
+                                .plusSeconds(translatorDateTime.getSecond()).format(DATE_TIME_FORMATTER);
                         return DateTimeType.valueOf(value);
                     } else if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
                             && translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
                         // Date format and time information
-                        cal.setTimeInMillis(translatorDateTime.getValueMilliseconds());
-                        value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
+                        value = Instant.ofEpochMilli(translatorDateTime.getValueMilliseconds())
+                                .atZone(ZoneId.systemDefault()).format(DATE_TIME_FORMATTER);
                         return DateTimeType.valueOf(value);
                     }
                     break;
@@ -867,7 +904,7 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
      */
     @Override
     public Class<? extends Type> toTypeClass(String dptId) {
-        Class<? extends Type> ohClass = dptTypeMap.get(dptId);
+        Class<? extends Type> ohClass = typeClassMap.get(dptId);
         if (ohClass == null) {
             int mainNumber = getMainNumber(dptId);
             if (mainNumber == -1) {
@@ -900,33 +937,34 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
      *         is target format of the {@link DateTimeType}
      */
     private String formatDateTime(String value, String dpt) {
-        Date date = null;
+        LocalDateTime dateTime = null;
 
         try {
             if (DPTXlatorDate.DPT_DATE.getID().equals(dpt)) {
-                date = new SimpleDateFormat(DATE_FORMAT).parse(value);
+                dateTime = LocalDate.parse(value, DATE_FORMATTER).atStartOfDay();
             } else if (DPTXlatorTime.DPT_TIMEOFDAY.getID().equals(dpt)) {
                 if (value.contains("no-day")) {
                     /*
                      * KNX "no-day" needs special treatment since openHAB's DateTimeType doesn't support "no-day".
-                     * Workaround: remove the "no-day" String, parse the remaining time string, which will result in a
-                     * date of "1970-01-01".
-                     * Replace "no-day" with the current day name
+                     * Workaround: replace "no-day" with the current day name
                      */
-                    StringBuffer stb = new StringBuffer(value);
-                    int start = stb.indexOf("no-day");
-                    int end = start + "no-day".length();
-                    stb.replace(start, end, String.format(Locale.US, "%1$ta", Calendar.getInstance()));
-                    value = stb.toString();
+                    value = value.replace("no-day",
+                            LocalDate.now().getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.US));
                 }
-                date = new SimpleDateFormat(TIME_DAY_FORMAT, Locale.US).parse(value);
+                /*
+                 * The time of day has no date, the day of week is kept by using the first day with this day of week
+                 * starting at "1970-01-01".
+                 */
+                TemporalAccessor timeOfDay = TIME_DAY_FORMATTER.parse(value);
+                dateTime = LocalDate.ofEpochDay(0).with(TemporalAdjusters.nextOrSame(DayOfWeek.from(timeOfDay)))
+                        .atTime(LocalTime.from(timeOfDay));
             }
-        } catch (ParseException pe) {
+        } catch (DateTimeException e) {
             // do nothing but logging
             logger.warn("Could not parse '{}' to a valid date", value);
         }
 
-        return date != null ? new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(date) : "";
+        return dateTime != null ? dateTime.format(DATE_TIME_FORMATTER) : "";
     }
 
     /**
@@ -955,6 +993,24 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
         }
     }
 
+    /**
+     * Gets the translator for a datapoint type from the cache of the current thread, or creates it.
+     *
+     * @param mainNumber main number of the datapoint type, or 0 to determine it from the DPT ID
+     * @param dptID String with DPT ID
+     * @return a translator, which must not be used by other threads
+     * @throws KNXException if no translator is available for the datapoint type
+     */
+    private DPTXlator getTranslator(int mainNumber, String dptID) throws KNXException {
+        Map<String, DPTXlator> cache = translators.get();
+        DPTXlator translator = cache.get(dptID);
+        if (translator == null) {
+            translator = TranslatorTypes.createTranslator(mainNumber, dptID);
+            cache.put(dptID, translator);
+        }
+        return translator;
+    }
+
     /**
      * Retrieves sub number from a DTP ID such as "14.001"
      *
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.types.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * Measures the throughput of {@link KNXCoreTypeMapper#toType}. It is not part of the regular build and has to be run
+ * manually.
+ *
+ * @author agent - Initial contribution
+ */
+@Disabled
+public class KNXCoreTypeMapperBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10000;
+    private static final int ITERATIONS = 100000;
+
+    private final Logger logger = LoggerFactory.getLogger(KNXCoreTypeMapperBenchmark.class);
+
+    @Test
+    public void benchmarkToType() throws KNXFormatException {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        // a mix of telegrams as seen on a typical bus
+        Datapoint[] datapoints = { datapoint("1.001"), datapoint("5.001"), datapoint("9.001"), datapoint("10.001"),
+                datapoint("11.001"), datapoint("14.056"), datapoint("232.600") };
+        byte[][] data = { { 0x01 }, { (byte) 0x80 }, { 0x0C, 0x33 }, { 0x2C, 0x1E, 0x00 }, { 0x05, 0x01, 0x13 },
+                { 0x44, (byte) 0x9A, 0x50, 0x00 }, { (byte) 0xFF, (byte) 0x80, 0x00 } };
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.toType(datapoints[i % datapoints.length], data[i % data.length]);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Type type = mapper.toType(datapoints[i % datapoints.length], data[i % data.length]);
+            assertNotNull(type);
+        }
+        long time = System.nanoTime() - start;
+
+        logger.info("{} telegrams/s", ITERATIONS * TimeUnit.SECONDS.toNanos(1) / time);
+    }
+
+    private static Datapoint datapoint(String dptId) throws KNXFormatException {
+        return new CommandDP(new GroupAddress("1/2/3"), "test", 0, dptId);
+    }
+}
@@ -14,8 +14,22 @@ package org.openhab.binding.knx.internal.dpt;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+
 import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
 
 /**
  *
@@ -29,4 +43,44 @@ public class KNXCoreTypeMapperTest {
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3"), "17.001"));
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3.0"), "17.001"));
     }
+
+    @Test
+    public void testToType() throws KNXFormatException {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+
+        assertEquals(OnOffType.ON, mapper.toType(datapoint("1.001"), new byte[] { 0x01 }));
+        // the cached translator must not keep the data of the previous telegram
+        assertEquals(OnOffType.OFF, mapper.toType(datapoint("1.001"), new byte[] { 0x00 }));
+        assertEquals(new PercentType(50), mapper.toType(datapoint("5.001"), new byte[] { (byte) 0x80 }));
+        assertEquals(21.5, ((DecimalType) mapper.toType(datapoint("9.001"), new byte[] { 0x0C, 0x33 })).doubleValue());
+        assertEquals(1234.5, ((DecimalType) mapper.toType(datapoint("14.056"),
+                new byte[] { 0x44, (byte) 0x9A, 0x50, 0x00 })).doubleValue());
+        assertEquals(HSBType.fromRGB(255, 128, 0),
+                mapper.toType(datapoint("232.600"), new byte[] { (byte) 0xFF, (byte) 0x80, 0x00 }));
+
+        ZonedDateTime date = ((DateTimeType) mapper.toType(datapoint("11.001"), new byte[] { 0x05, 0x01, 0x13 }))
+                .getZonedDateTime();
+        assertEquals(LocalDate.of(2019, 1, 5), date.toLocalDate());
+
+        ZonedDateTime time = ((DateTimeType) mapper.toType(datapoint("10.001"), new byte[] { 0x2C, 0x1E, 0x00 }))
+                .getZonedDateTime();
+        assertEquals(DayOfWeek.MONDAY, time.getDayOfWeek());
+        assertEquals(LocalTime.of(12, 30), time.toLocalTime());
+    }
+
+    @Test
+    public void testToTypeClass() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+
+        assertEquals(OnOffType.class, mapper.toTypeClass("1.001"));
+        assertEquals(PercentType.class, mapper.toTypeClass("5.001"));
+        assertEquals(DecimalType.class, mapper.toTypeClass("9.001"));
+        assertEquals(DateTimeType.class, mapper.toTypeClass("10.001"));
+        assertEquals(HSBType.class, mapper.toTypeClass("232.600"));
+        assertNull(mapper.toTypeClass("unknown"));
+    }
+
+    private static Datapoint datapoint(String dptId) throws KNXFormatException {
+        return new CommandDP(new GroupAddress("1/2/3"), "test", 0, dptId);
+    }
 }
@@ -12,19 +12,13 @@
  */
 package org.openhab.binding.lifx.internal;
 
-import static org.openhab.binding.lifx.internal.LifxBindingConstants.PACKET_INTERVAL;
 import static org.openhab.binding.lifx.internal.fields.MACAddress.BROADCAST_ADDRESS;
 import static org.openhab.binding.lifx.internal.util.LifxMessageUtil.randomSourceId;
-import static org.openhab.binding.lifx.internal.util.LifxSelectorUtil.*;
 
-import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.nio.channels.SelectionKey;
-import java.nio.channels.Selector;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
@@ -38,7 +32,6 @@ import org.openhab.binding.lifx.internal.listener.LifxResponsePacketListener;
 import org.openhab.binding.lifx.internal.protocol.GetServiceRequest;
 import org.openhab.binding.lifx.internal.protocol.Packet;
 import org.openhab.binding.lifx.internal.protocol.StateServiceResponse;
-import org.openhab.binding.lifx.internal.util.LifxNetworkUtil;
 import org.openhab.binding.lifx.internal.util.LifxSelectorUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +49,7 @@ public class LifxLightCommunicationHandler {
     private final String logId;
     private final CurrentLightState currentLightState;
     private final ScheduledExecutorService scheduler;
+    private final LifxNetworkReactor reactor;
 
     private final ReentrantLock lock = new ReentrantLock();
     private final long sourceId = randomSourceId();
@@ -63,18 +57,12 @@ public class LifxLightCommunicationHandler {
 
     private int service;
     private int unicastPort;
-    private final int broadcastPort = LifxNetworkUtil.getNewBroadcastPort();
 
-    private @Nullable ScheduledFuture<?> networkJob;
-
-    private @Nullable MACAddress macAddress;
-    private @Nullable InetSocketAddress host;
+    private volatile @Nullable MACAddress macAddress;
+    private volatile @Nullable InetSocketAddress host;
     private boolean broadcastEnabled;
 
-    private @Nullable Selector selector;
-    private @Nullable SelectionKey broadcastKey;
-    private @Nullable SelectionKey unicastKey;
-    private @Nullable LifxSelectorContext selectorContext;
+    private volatile @Nullable LifxSelectorContext selectorContext;
 
     public LifxLightCommunicationHandler(LifxLightContext context) {
         this.logId = context.getLogId();
@@ -82,6 +70,7 @@ public class LifxLightCommunicationHandler {
         this.host = context.getConfiguration().getHost();
         this.currentLightState = context.getCurrentLightState();
         this.scheduler = context.getScheduler();
+        this.reactor = context.getNetworkReactor();
         this.broadcastEnabled = context.getConfiguration().getHost() == null;
     }
 
@@ -102,31 +91,17 @@ public class LifxLightCommunicationHandler {
             logger.debug("{} : Starting communication handler", logId);
             logger.debug("{} : Using '{}' as source identifier", logId, Long.toString(sourceId, 16));
 
-            ScheduledFuture<?> localNetworkJob = networkJob;
-            if (localNetworkJob == null || localNetworkJob.isCancelled()) {
-                networkJob = scheduler.scheduleWithFixedDelay(this::receiveAndHandlePackets, 0, PACKET_INTERVAL,
-                        TimeUnit.MILLISECONDS);
-            }
-
             currentLightState.setOffline();
 
-            Selector localSelector = Selector.open();
-            selector = localSelector;
+            selectorContext = new LifxSelectorContext(reactor, sourceId, sequenceNumberSupplier, logId, host,
+                    macAddress);
+            reactor.addPacketListener(sourceId, this::handlePacket);
 
             if (isBroadcastEnabled()) {
-                broadcastKey = openBroadcastChannel(selector, logId, broadcastPort);
-                selectorContext = new LifxSelectorContext(localSelector, sourceId, sequenceNumberSupplier, logId, host,
-                        macAddress, broadcastKey, unicastKey);
                 broadcastPacket(new GetServiceRequest());
             } else {
-                unicastKey = openUnicastChannel(selector, logId, host);
-                selectorContext = new LifxSelectorContext(localSelector, sourceId, sequenceNumberSupplier, logId, host,
-                        macAddress, broadcastKey, unicastKey);
                 sendPacket(new GetServiceRequest());
             }
-        } catch (IOException e) {
-            logger.error("{} while starting LIFX communication handler for light '{}' : {}",
-                    e.getClass().getSimpleName(), logId, e.getMessage(), e);
         } finally {
             lock.unlock();
         }
@@ -136,16 +111,7 @@ public class LifxLightCommunicationHandler {
         try {
             lock.lock();
 
-            ScheduledFuture<?> localNetworkJob = networkJob;
-            if (localNetworkJob != null && !localNetworkJob.isCancelled()) {
-                localNetworkJob.cancel(true);
-                networkJob = null;
-            }
-
-            closeSelector(selector, logId);
-            selector = null;
-            broadcastKey = null;
-            unicastKey = null;
+            reactor.removePacketListener(sourceId);
             selectorContext = null;
         } finally {
             lock.unlock();
@@ -160,25 +126,22 @@ public class LifxLightCommunicationHandler {
         return macAddress;
     }
 
-    public void receiveAndHandlePackets() {
+    /**
+     * Handles a packet received by the {@link LifxNetworkReactor}. The reactor thread should not be blocked, so the
+     * response packet listeners are notified with the scheduler.
+     */
+    private void handlePacket(Packet packet, InetSocketAddress address) {
         try {
             lock.lock();
-            Selector localSelector = selector;
-            if (localSelector == null || !localSelector.isOpen()) {
-                logger.debug("{} : Unable to receive and handle packets with null or closed selector", logId);
-            } else {
-                LifxSelectorUtil.receiveAndHandlePackets(localSelector, logId,
-                        (packet, address) -> handlePacket(packet, address));
-            }
-        } catch (Exception e) {
-            logger.error("{} while receiving a packet from the light ({}): {}", e.getClass().getSimpleName(), logId,
-                    e.getMessage());
+            handlePacketLocked(packet, address);
         } finally {
             lock.unlock();
         }
     }
 
-    private void handlePacket(Packet packet, InetSocketAddress address) {
+    private void handlePacketLocked(Packet packet, InetSocketAddress address) {
+        MACAddress macAddress = this.macAddress;
+        InetSocketAddress host = this.host;
         boolean packetFromConfiguredMAC = macAddress != null && (packet.getTarget().equals(macAddress));
         boolean packetFromConfiguredHost = host != null && (address.equals(host));
         boolean broadcastPacket = packet.getTarget().equals(BROADCAST_ADDRESS);
@@ -193,12 +156,12 @@ public class LifxLightCommunicationHandler {
                 StateServiceResponse response = (StateServiceResponse) packet;
                 MACAddress discoveredAddress = response.getTarget();
                 if (packetFromConfiguredHost && macAddress == null) {
-                    macAddress = discoveredAddress;
+                    this.macAddress = discoveredAddress;
                     currentLightState.setOnline(discoveredAddress);
 
                     LifxSelectorContext context = selectorContext;
                     if (context != null) {
-                        context.setMACAddress(macAddress);
+                        context.setMACAddress(discoveredAddress);
                     }
                     return;
                 } else if (macAddress != null && macAddress.equals(discoveredAddress)) {
@@ -214,22 +177,12 @@ public class LifxLightCommunicationHandler {
                             logger.warn("Light ({}) service with ID '{}' is currently not available", logId, service);
                             currentLightState.setOfflineByCommunicationError();
                         } else {
-                            this.host = new InetSocketAddress(address.getAddress(), unicastPort);
-
-                            try {
-                                cancelKey(unicastKey, logId);
-                                unicastKey = openUnicastChannel(selector, logId, host);
-
-                                LifxSelectorContext context = selectorContext;
-                                if (context != null) {
-                                    context.setHost(host);
-                                    context.setUnicastKey(unicastKey);
-                                }
-                            } catch (IOException e) {
-                                logger.warn("{} while opening the unicast channel of the light ({}): {}",
-                                        e.getClass().getSimpleName(), logId, e.getMessage());
-                                currentLightState.setOfflineByCommunicationError();
-                                return;
+                            InetSocketAddress lightAddress = new InetSocketAddress(address.getAddress(), unicastPort);
+                            this.host = lightAddress;
+
+                            LifxSelectorContext context = selectorContext;
+                            if (context != null) {
+                                context.setHost(lightAddress);
                             }
 
                             currentLightState.setOnline();
@@ -268,15 +221,10 @@ public class LifxLightCommunicationHandler {
     private void wrappedPacketSend(BiFunction<LifxSelectorContext, Packet, Boolean> function, Packet packet) {
         LifxSelectorContext localSelectorContext = selectorContext;
         if (localSelectorContext != null) {
-            boolean result = false;
-            try {
-                lock.lock();
-                result = function.apply(localSelectorContext, packet);
-            } finally {
-                lock.unlock();
-                if (!result) {
-                    currentLightState.setOfflineByCommunicationError();
-                }
+            // not locked, so the reactor thread is not blocked while a packet waits for the throttling of this light
+            boolean result = function.apply(localSelectorContext, packet);
+            if (!result) {
+                currentLightState.setOfflineByCommunicationError();
             }
         }
     }
@@ -16,15 +16,15 @@ import static org.openhab.binding.lifx.internal.LifxBindingConstants.MIN_ZONE_IN
 import static org.openhab.binding.lifx.internal.protocol.Product.Feature.*;
 import static org.openhab.binding.lifx.internal.util.LifxMessageUtil.infraredToPercentType;
 
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.lifx.internal.LifxPollingScheduler.PollingJob;
 import org.openhab.binding.lifx.internal.fields.HSBK;
 import org.openhab.binding.lifx.internal.handler.LifxLightHandler.CurrentLightState;
+import org.openhab.binding.lifx.internal.listener.LifxResponsePacketListener;
 import org.openhab.binding.lifx.internal.protocol.GetColorZonesRequest;
 import org.openhab.binding.lifx.internal.protocol.GetLightInfraredRequest;
 import org.openhab.binding.lifx.internal.protocol.GetRequest;
@@ -59,21 +59,22 @@ public class LifxLightCurrentStateUpdater {
     private final String logId;
     private final Product product;
     private final CurrentLightState currentLightState;
-    private final ScheduledExecutorService scheduler;
+    private final LifxPollingScheduler pollingScheduler;
     private final LifxLightCommunicationHandler communicationHandler;
+    private final LifxResponsePacketListener responsePacketListener = this::handleResponsePacket;
 
     private final ReentrantLock lock = new ReentrantLock();
 
     private boolean wasOnline;
     private boolean updateSignalStrength;
 
-    private @Nullable ScheduledFuture<?> statePollingJob;
+    private @Nullable PollingJob statePollingJob;
 
     public LifxLightCurrentStateUpdater(LifxLightContext context, LifxLightCommunicationHandler communicationHandler) {
         this.logId = context.getLogId();
         this.product = context.getProduct();
         this.currentLightState = context.getCurrentLightState();
-        this.scheduler = context.getScheduler();
+        this.pollingScheduler = context.getNetworkReactor().getPollingScheduler();
         this.communicationHandler = communicationHandler;
     }
 
@@ -101,10 +102,9 @@ public class LifxLightCurrentStateUpdater {
     public void start() {
         try {
             lock.lock();
-            communicationHandler.addResponsePacketListener(this::handleResponsePacket);
-            ScheduledFuture<?> localStatePollingJob = statePollingJob;
-            if (localStatePollingJob == null || localStatePollingJob.isCancelled()) {
-                statePollingJob = scheduler.scheduleWithFixedDelay(this::pollLightState, 0, STATE_POLLING_INTERVAL,
+            communicationHandler.addResponsePacketListener(responsePacketListener);
+            if (statePollingJob == null) {
+                statePollingJob = pollingScheduler.schedule(this::pollLightState, STATE_POLLING_INTERVAL,
                         TimeUnit.SECONDS);
             }
         } catch (Exception e) {
@@ -117,10 +117,10 @@ public class LifxLightCurrentStateUpdater {
     public void stop() {
         try {
             lock.lock();
-            communicationHandler.removeResponsePacketListener(this::handleResponsePacket);
-            ScheduledFuture<?> localStatePollingJob = statePollingJob;
-            if (localStatePollingJob != null && !localStatePollingJob.isCancelled()) {
-                localStatePollingJob.cancel(true);
+            communicationHandler.removeResponsePacketListener(responsePacketListener);
+            PollingJob localStatePollingJob = statePollingJob;
+            if (localStatePollingJob != null) {
+                localStatePollingJob.cancel();
                 statePollingJob = null;
             }
         } catch (Exception e) {
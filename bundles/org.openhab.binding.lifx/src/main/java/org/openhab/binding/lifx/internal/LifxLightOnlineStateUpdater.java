@@ -14,14 +14,14 @@ package org.openhab.binding.lifx.internal;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.lifx.internal.LifxPollingScheduler.PollingJob;
 import org.openhab.binding.lifx.internal.handler.LifxLightHandler.CurrentLightState;
+import org.openhab.binding.lifx.internal.listener.LifxResponsePacketListener;
 import org.openhab.binding.lifx.internal.protocol.GetEchoRequest;
 import org.openhab.binding.lifx.internal.protocol.GetServiceRequest;
 import org.openhab.binding.lifx.internal.protocol.Packet;
@@ -43,18 +43,19 @@ public class LifxLightOnlineStateUpdater {
 
     private final String logId;
     private final CurrentLightState currentLightState;
-    private final ScheduledExecutorService scheduler;
+    private final LifxPollingScheduler pollingScheduler;
     private final LifxLightCommunicationHandler communicationHandler;
+    private final LifxResponsePacketListener responsePacketListener = this::handleResponsePacket;
 
     private final ReentrantLock lock = new ReentrantLock();
 
-    private @Nullable ScheduledFuture<?> echoJob;
+    private @Nullable PollingJob echoJob;
     private LocalDateTime lastSeen = LocalDateTime.MIN;
     private int unansweredEchoPackets;
 
     public LifxLightOnlineStateUpdater(LifxLightContext context, LifxLightCommunicationHandler communicationHandler) {
         this.logId = context.getLogId();
-        this.scheduler = context.getScheduler();
+        this.pollingScheduler = context.getNetworkReactor().getPollingScheduler();
         this.currentLightState = context.getCurrentLightState();
         this.communicationHandler = communicationHandler;
     }
@@ -92,11 +93,9 @@ public class LifxLightOnlineStateUpdater {
     public void start() {
         try {
             lock.lock();
-            communicationHandler.addResponsePacketListener(this::handleResponsePacket);
-            ScheduledFuture<?> localEchoJob = echoJob;
-            if (localEchoJob == null || localEchoJob.isCancelled()) {
-                echoJob = scheduler.scheduleWithFixedDelay(this::sendEchoPackets, 0, ECHO_POLLING_INTERVAL,
-                        TimeUnit.SECONDS);
+            communicationHandler.addResponsePacketListener(responsePacketListener);
+            if (echoJob == null) {
+                echoJob = pollingScheduler.schedule(this::sendEchoPackets, ECHO_POLLING_INTERVAL, TimeUnit.SECONDS);
             }
         } catch (Exception e) {
             logger.error("Error occurred while starting online state poller for a light ({})", logId, e);
@@ -108,10 +107,10 @@ public class LifxLightOnlineStateUpdater {
     public void stop() {
         try {
             lock.lock();
-            communicationHandler.removeResponsePacketListener(this::handleResponsePacket);
-            ScheduledFuture<?> localEchoJob = echoJob;
-            if (localEchoJob != null && !localEchoJob.isCancelled()) {
-                localEchoJob.cancel(true);
+            communicationHandler.removeResponsePacketListener(responsePacketListener);
+            PollingJob localEchoJob = echoJob;
+            if (localEchoJob != null) {
+                localEchoJob.cancel();
                 echoJob = null;
             }
         } catch (Exception e) {
@@ -0,0 +1,306 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.lifx.internal;
+
+import static org.openhab.binding.lifx.internal.util.LifxNetworkUtil.isRemoteAddress;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.lifx.internal.protocol.Packet;
+import org.openhab.binding.lifx.internal.protocol.PacketFactory;
+import org.openhab.binding.lifx.internal.protocol.PacketHandler;
+import org.openhab.binding.lifx.internal.util.LifxNetworkUtil;
+import org.openhab.core.common.ThreadPoolManager;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link LifxNetworkReactor} owns the single UDP socket that is used for the communications with all lights and
+ * the discovery. A dedicated thread waits on the {@link Selector} of the socket, parses the received datagrams into a
+ * reused buffer and passes the packets to the listener that registered the source identifier of the packet.
+ *
+ * It also provides the {@link LifxPollingScheduler} that spreads the periodic polling of all lights over time.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = LifxNetworkReactor.class)
+public class LifxNetworkReactor {
+
+    private static final String THREAD_NAME = "OH-binding-lifx-network";
+    private static final String THREAD_POOL_NAME = "thingHandler";
+    private static final int DEFAULT_BUFFER_SIZE = 1500;
+    private static final int MAX_SEND_RETRIES = 10;
+    private static final long SEND_RETRY_INTERVAL = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(LifxNetworkReactor.class);
+
+    private final Map<Long, BiConsumer<Packet, InetSocketAddress>> packetListeners = new ConcurrentHashMap<>();
+    private final LifxPollingScheduler pollingScheduler = new LifxPollingScheduler(
+            ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME));
+
+    private @Nullable Selector selector;
+    private @Nullable DatagramChannel channel;
+    private @Nullable Thread thread;
+    private volatile boolean running;
+
+    /**
+     * The receive buffer is only used by the reactor thread.
+     */
+    private ByteBuffer readBuffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+
+    @Activate
+    protected void activate() throws IOException {
+        Selector localSelector = Selector.open();
+        DatagramChannel localChannel = DatagramChannel.open(StandardProtocolFamily.INET)
+                .setOption(StandardSocketOptions.SO_REUSEADDR, true)
+                .setOption(StandardSocketOptions.SO_BROADCAST, true);
+        try {
+            localChannel.configureBlocking(false);
+            localChannel.bind(new InetSocketAddress(0));
+            localChannel.register(localSelector, SelectionKey.OP_READ);
+        } catch (IOException e) {
+            localChannel.close();
+            localSelector.close();
+            throw e;
+        }
+        logger.debug("Communicating with LIFX lights via {}", localChannel.getLocalAddress());
+
+        selector = localSelector;
+        channel = localChannel;
+        running = true;
+
+        Thread localThread = new Thread(this::run, THREAD_NAME);
+        localThread.setDaemon(true);
+        localThread.start();
+        thread = localThread;
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        running = false;
+        pollingScheduler.stop();
+        packetListeners.clear();
+
+        Selector localSelector = selector;
+        if (localSelector != null) {
+            localSelector.wakeup();
+            try {
+                localSelector.close();
+            } catch (IOException e) {
+                logger.debug("{} while closing the selector: {}", e.getClass().getSimpleName(), e.getMessage());
+            }
+            selector = null;
+        }
+
+        DatagramChannel localChannel = channel;
+        if (localChannel != null) {
+            try {
+                localChannel.close();
+            } catch (IOException e) {
+                logger.debug("{} while closing the channel: {}", e.getClass().getSimpleName(), e.getMessage());
+            }
+            channel = null;
+        }
+
+        Thread localThread = thread;
+        if (localThread != null) {
+            try {
+                localThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * Registers the listener for all packets that are received with the given source identifier. Packets without a
+     * source identifier (0) are passed to all listeners.
+     *
+     * @param sourceId the source identifier that is used by the listener when sending packets
+     * @param listener the listener that is called by the reactor thread, so it should not block
+     */
+    public void addPacketListener(long sourceId, BiConsumer<Packet, InetSocketAddress> listener) {
+        packetListeners.put(sourceId, listener);
+    }
+
+    public void removePacketListener(long sourceId) {
+        packetListeners.remove(sourceId);
+    }
+
+    public LifxPollingScheduler getPollingScheduler() {
+        return pollingScheduler;
+    }
+
+    /**
+     * Sends the packet to the given address. The caller is responsible for throttling the packets.
+     *
+     * @param packet the packet to send
+     * @param address the address of the light or a broadcast address
+     * @param logId the log identifier of the light
+     * @return true if the packet was sent, false otherwise
+     */
+    public boolean send(Packet packet, InetSocketAddress address, String logId) {
+        DatagramChannel localChannel = channel;
+        if (localChannel == null || !localChannel.isOpen()) {
+            logger.debug("{} : Unable to send a packet with a closed channel", logId);
+            return false;
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("{} : Sending packet type '{}' to '{}' for '{}' with sequence '{}' and source '{}'",
+                    new Object[] { logId, packet.getClass().getSimpleName(), address.toString(),
+                            packet.getTarget().getHex(), packet.getSequence(), Long.toString(packet.getSource(), 16) });
+        }
+
+        try {
+            ByteBuffer bytes = packet.bytes();
+            for (int i = 0; i <= MAX_SEND_RETRIES; i++) {
+                // a non-blocking channel does not send anything when the socket buffer is full
+                if (localChannel.send(bytes, address) > 0) {
+                    return true;
+                }
+                Thread.sleep(SEND_RETRY_INTERVAL);
+            }
+            logger.debug("Failed to send packet after {} retries to the light ({})", MAX_SEND_RETRIES, logId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.debug("{} while sending a packet to the light ({}): {}", e.getClass().getSimpleName(), logId,
+                    e.getMessage());
+        }
+        return false;
+    }
+
+    private void run() {
+        logger.debug("Started LIFX network reactor");
+        while (running) {
+            Selector localSelector = selector;
+            DatagramChannel localChannel = channel;
+            if (localSelector == null || localChannel == null) {
+                break;
+            }
+            try {
+                localSelector.select();
+                Iterator<SelectionKey> keyIterator = localSelector.selectedKeys().iterator();
+                while (keyIterator.hasNext()) {
+                    SelectionKey key = keyIterator.next();
+                    keyIterator.remove();
+                    if (key.isValid() && key.isReadable()) {
+                        receivePackets(localChannel);
+                    }
+                }
+            } catch (ClosedSelectorException e) {
+                break;
+            } catch (IOException e) {
+                if (running) {
+                    logger.debug("{} while receiving packets: {}", e.getClass().getSimpleName(), e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                logger.warn("{} while handling a received packet: {}", e.getClass().getSimpleName(), e.getMessage(),
+                        e);
+            }
+        }
+        logger.debug("Stopped LIFX network reactor");
+    }
+
+    /**
+     * Receives all datagrams that are available on the channel.
+     */
+    private void receivePackets(DatagramChannel channel) throws IOException {
+        while (true) {
+            ByteBuffer buffer = getReadBuffer();
+            InetSocketAddress address = (InetSocketAddress) channel.receive(buffer);
+            if (address == null) {
+                return;
+            }
+            if (isRemoteAddress(address.getAddress())) {
+                Packet packet = parsePacket(buffer, address);
+                if (packet != null) {
+                    dispatchPacket(packet, address);
+                }
+            }
+        }
+    }
+
+    private ByteBuffer getReadBuffer() {
+        int bufferSize = LifxNetworkUtil.getBufferSize();
+        if (readBuffer.capacity() < bufferSize) {
+            readBuffer = ByteBuffer.allocate(bufferSize);
+        }
+        readBuffer.clear();
+        return readBuffer;
+    }
+
+    private @Nullable Packet parsePacket(ByteBuffer readBuffer, InetSocketAddress address) {
+        int messageLength = readBuffer.position();
+        readBuffer.rewind();
+
+        ByteBuffer packetSize = readBuffer.slice();
+        packetSize.position(0);
+        packetSize.limit(2);
+        int size = Packet.FIELD_SIZE.value(packetSize);
+
+        if (messageLength != size) {
+            return null;
+        }
+
+        ByteBuffer packetType = readBuffer.slice();
+        packetType.position(32);
+        packetType.limit(34);
+        int type = Packet.FIELD_PACKET_TYPE.value(packetType);
+
+        PacketHandler<?> handler = PacketFactory.createHandler(type);
+        if (handler == null) {
+            logger.trace("Unknown packet type: {} (source: {})", String.format("0x%02X", type), address.toString());
+            return null;
+        }
+
+        // the packet fields are copied from the buffer, so it can be reused for the next datagram
+        return handler.handle(readBuffer);
+    }
+
+    private void dispatchPacket(Packet packet, InetSocketAddress address) {
+        long source = packet.getSource();
+        if (source == 0) {
+            packetListeners.values().forEach(listener -> listener.accept(packet, address));
+            return;
+        }
+
+        BiConsumer<Packet, InetSocketAddress> listener = packetListeners.get(source);
+        if (listener != null) {
+            listener.accept(packet, address);
+        } else if (logger.isTraceEnabled()) {
+            logger.trace("Ignoring packet type '{}' from '{}' with unknown source '{}'",
+                    packet.getClass().getSimpleName(), address, Long.toString(source, 16));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.lifx.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link LifxPollingScheduler} runs the periodic polling jobs of all lights with a single timer. The polling
+ * interval is divided into slots of {@link #TICK_MILLIS} and every job is assigned to the slot with the fewest jobs, so
+ * the polls of many lights are evenly spread in waves over the interval instead of being sent all at once. A job is
+ * skipped in its slot while its previous run has not finished yet.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LifxPollingScheduler {
+
+    static final long TICK_MILLIS = 250;
+
+    private final Logger logger = LoggerFactory.getLogger(LifxPollingScheduler.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final Map<Integer, Wave> waves = new HashMap<>();
+    private final List<PollingJob> dueJobs = new ArrayList<>();
+
+    private @Nullable ScheduledFuture<?> tickJob;
+    private long ticks;
+
+    public LifxPollingScheduler(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Schedules the job so it is run immediately and then periodically with the given interval.
+     *
+     * @param job the job to run
+     * @param interval the polling interval, which is rounded down to a multiple of {@link #TICK_MILLIS}
+     * @param unit the unit of the interval
+     * @return the polling job which can be used for cancelling it
+     */
+    public synchronized PollingJob schedule(Runnable job, long interval, TimeUnit unit) {
+        int slotCount = (int) Math.max(1, unit.toMillis(interval) / TICK_MILLIS);
+        Wave wave = waves.computeIfAbsent(slotCount, Wave::new);
+        PollingJob pollingJob = new PollingJob(wave, job);
+        wave.add(pollingJob);
+
+        ScheduledFuture<?> localTickJob = tickJob;
+        if (localTickJob == null || localTickJob.isCancelled()) {
+            tickJob = scheduler.scheduleWithFixedDelay(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        pollingJob.start();
+        return pollingJob;
+    }
+
+    /**
+     * Cancels all polling jobs.
+     */
+    public synchronized void stop() {
+        waves.clear();
+        cancelTickJob();
+    }
+
+    private synchronized void cancel(PollingJob pollingJob) {
+        Wave wave = pollingJob.wave;
+        if (wave.remove(pollingJob) && wave.isEmpty()) {
+            waves.remove(wave.slots.size());
+            if (waves.isEmpty()) {
+                cancelTickJob();
+            }
+        }
+    }
+
+    private void cancelTickJob() {
+        ScheduledFuture<?> localTickJob = tickJob;
+        if (localTickJob != null) {
+            localTickJob.cancel(false);
+            tickJob = null;
+        }
+    }
+
+    private void tick() {
+        synchronized (this) {
+            ticks++;
+            for (Wave wave : waves.values()) {
+                dueJobs.addAll(wave.slots.get((int) (ticks % wave.slots.size())));
+            }
+        }
+
+        // the jobs are run in parallel, because sending packets to a light may wait for its throttling interval
+        try {
+            dueJobs.forEach(PollingJob::start);
+        } finally {
+            dueJobs.clear();
+        }
+    }
+
+    /**
+     * The jobs with the same polling interval, distributed over the slots of the interval.
+     */
+    private static class Wave {
+        private final List<List<PollingJob>> slots;
+
+        Wave(int slotCount) {
+            slots = new ArrayList<>(slotCount);
+            for (int i = 0; i < slotCount; i++) {
+                slots.add(new ArrayList<>());
+            }
+        }
+
+        void add(PollingJob pollingJob) {
+            List<PollingJob> leastUsedSlot = slots.get(0);
+            for (List<PollingJob> slot : slots) {
+                if (slot.size() < leastUsedSlot.size()) {
+                    leastUsedSlot = slot;
+                }
+            }
+            leastUsedSlot.add(pollingJob);
+        }
+
+        boolean remove(PollingJob pollingJob) {
+            for (List<PollingJob> slot : slots) {
+                if (slot.remove(pollingJob)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isEmpty() {
+            return slots.stream().allMatch(List::isEmpty);
+        }
+    }
+
+    /**
+     * A job that is periodically run by the {@link LifxPollingScheduler}.
+     */
+    public class PollingJob implements Runnable {
+        private final Wave wave;
+        private final Runnable job;
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private PollingJob(Wave wave, Runnable job) {
+            this.wave = wave;
+            this.job = job;
+        }
+
+        private void start() {
+            if (!running.compareAndSet(false, true)) {
+                logger.trace("Skipping polling job, its previous run has not finished yet");
+                return;
+            }
+            try {
+                scheduler.execute(this);
+            } catch (RejectedExecutionException e) {
+                running.set(false);
+                logger.debug("Polling job was rejected: {}", e.getMessage());
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                job.run();
+            } finally {
+                running.set(false);
+            }
+        }
+
+        public void cancel() {
+            LifxPollingScheduler.this.cancel(this);
+        }
+    }
+}
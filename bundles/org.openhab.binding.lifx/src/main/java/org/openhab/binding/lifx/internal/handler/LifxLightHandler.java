@@ -38,6 +38,7 @@ import org.openhab.binding.lifx.internal.LifxLightOnlineStateUpdater;
 import org.openhab.binding.lifx.internal.LifxLightPropertiesUpdater;
 import org.openhab.binding.lifx.internal.LifxLightState;
 import org.openhab.binding.lifx.internal.LifxLightStateChanger;
+import org.openhab.binding.lifx.internal.LifxNetworkReactor;
 import org.openhab.binding.lifx.internal.fields.HSBK;
 import org.openhab.binding.lifx.internal.fields.MACAddress;
 import org.openhab.binding.lifx.internal.protocol.Effect;
@@ -90,6 +91,7 @@ public class LifxLightHandler extends BaseThingHandler {
     private static final Duration MAX_STATE_CHANGE_DURATION = Duration.ofSeconds(4);
 
     private final LifxChannelFactory channelFactory;
+    private final LifxNetworkReactor networkReactor;
     private @NonNullByDefault({}) Product product;
 
     private @Nullable PercentType powerOnBrightness;
@@ -230,9 +232,10 @@ public class LifxLightHandler extends BaseThingHandler {
         }
     }
 
-    public LifxLightHandler(Thing thing, LifxChannelFactory channelFactory) {
+    public LifxLightHandler(Thing thing, LifxChannelFactory channelFactory, LifxNetworkReactor networkReactor) {
         super(thing);
         this.channelFactory = channelFactory;
+        this.networkReactor = networkReactor;
     }
 
     @Override
@@ -263,7 +266,7 @@ public class LifxLightHandler extends BaseThingHandler {
             pendingLightState = new LifxLightState();
 
             LifxLightContext context = new LifxLightContext(logId, product, configuration, currentLightState,
-                    pendingLightState, scheduler);
+                    pendingLightState, scheduler, networkReactor);
 
             communicationHandler = new LifxLightCommunicationHandler(context);
             currentStateUpdater = new LifxLightCurrentStateUpdater(context, communicationHandler);
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.lifx.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.lifx.internal.LifxPollingScheduler.PollingJob;
+
+/**
+ * Tests for the distribution of the polling jobs over the slots of the {@link LifxPollingScheduler}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+@NonNullByDefault
+public class LifxPollingSchedulerTest {
+
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> tickFuture;
+
+    private final List<Runnable> executedJobs = new ArrayList<>();
+
+    private @NonNullByDefault({}) LifxPollingScheduler pollingScheduler;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(tickFuture).when(scheduler).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        doAnswer(invocation -> executedJobs.add(invocation.getArgument(0))).when(scheduler).execute(any());
+        pollingScheduler = new LifxPollingScheduler(scheduler);
+    }
+
+    private Runnable tickJob() {
+        ArgumentCaptor<Runnable> tick = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).scheduleWithFixedDelay(tick.capture(), eq(LifxPollingScheduler.TICK_MILLIS),
+                eq(LifxPollingScheduler.TICK_MILLIS), eq(TimeUnit.MILLISECONDS));
+        return tick.getValue();
+    }
+
+    private int runExecutedJobs() {
+        List<Runnable> jobs = new ArrayList<>(executedJobs);
+        executedJobs.clear();
+        jobs.forEach(Runnable::run);
+        return jobs.size();
+    }
+
+    @Test
+    public void jobsAreDistributedOverTheSlots() {
+        AtomicInteger[] runs = new AtomicInteger[8];
+        for (int i = 0; i < runs.length; i++) {
+            AtomicInteger localRuns = runs[i] = new AtomicInteger();
+            pollingScheduler.schedule(localRuns::incrementAndGet, 1, TimeUnit.SECONDS);
+        }
+        assertEquals(8, runExecutedJobs());
+
+        // 1 second is divided into 4 slots, so every tick runs 2 of the 8 jobs
+        Runnable tick = tickJob();
+        for (int i = 0; i < 4; i++) {
+            tick.run();
+            assertEquals(2, runExecutedJobs());
+        }
+
+        for (AtomicInteger localRuns : runs) {
+            assertEquals(2, localRuns.get());
+        }
+    }
+
+    @Test
+    public void cancelledJobsAreNotRunAnymore() {
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        pollingScheduler.schedule(runs::incrementAndGet, 250, TimeUnit.MILLISECONDS);
+        PollingJob cancelledJob = pollingScheduler.schedule(cancelledRuns::incrementAndGet, 250,
+                TimeUnit.MILLISECONDS);
+        runExecutedJobs();
+
+        cancelledJob.cancel();
+        Runnable tick = tickJob();
+        tick.run();
+        assertEquals(1, runExecutedJobs());
+        tick.run();
+        assertEquals(1, runExecutedJobs());
+
+        assertEquals(3, runs.get());
+        assertEquals(1, cancelledRuns.get());
+        verify(tickFuture, never()).cancel(anyBoolean());
+    }
+
+    @Test
+    public void tickIsStoppedWhenAllJobsAreCancelled() {
+        PollingJob job1 = pollingScheduler.schedule(() -> {
+        }, 1, TimeUnit.SECONDS);
+        PollingJob job2 = pollingScheduler.schedule(() -> {
+        }, 2, TimeUnit.SECONDS);
+
+        job1.cancel();
+        verify(tickFuture, never()).cancel(anyBoolean());
+
+        job2.cancel();
+        verify(tickFuture).cancel(false);
+    }
+
+    @Test
+    public void jobIsSkippedWhileItsPreviousRunHasNotFinished() {
+        AtomicInteger runs = new AtomicInteger();
+        pollingScheduler.schedule(runs::incrementAndGet, 250, TimeUnit.MILLISECONDS);
+        assertEquals(1, executedJobs.size());
+
+        // the first run is still pending, so the ticks must not start the job again
+        Runnable tick = tickJob();
+        tick.run();
+        tick.run();
+        assertEquals(1, executedJobs.size());
+
+        runExecutedJobs();
+        assertEquals(1, runs.get());
+
+        tick.run();
+        assertEquals(1, runExecutedJobs());
+        assertEquals(2, runs.get());
+    }
+}
@@ -24,7 +24,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -41,8 +40,9 @@ import org.openhab.binding.loxone.internal.types.LxConfig.LxServerInfo;
 import org.openhab.binding.loxone.internal.types.LxErrorCode;
 import org.openhab.binding.loxone.internal.types.LxResponse;
 import org.openhab.binding.loxone.internal.types.LxState;
-import org.openhab.binding.loxone.internal.types.LxStateUpdate;
+import org.openhab.binding.loxone.internal.types.LxStateUpdateQueue;
 import org.openhab.binding.loxone.internal.types.LxUuid;
+import org.openhab.binding.loxone.internal.types.LxUuidMap;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
@@ -86,7 +86,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     // State with a unique UUID can be configured in many controls and each control can even have a different name of
     // the state. It must be ensured that updates received for this state UUID are passed to all controls that have this
     // state UUID configured.
-    private Map<LxUuid, Map<LxUuid, LxState>> states = new HashMap<>();
+    private final LxUuidMap<Map<LxUuid, LxState>> states = new LxUuidMap<>();
 
     private LxWebSocket socket;
     private WebSocketClient wsClient;
@@ -101,7 +101,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     // Data structures
     private final Map<LxUuid, LxControl> controls = new HashMap<>();
     private final Map<ChannelUID, LxControl> channels = new HashMap<>();
-    private final ConcurrentLinkedQueue<LxStateUpdate> stateUpdateQueue = new ConcurrentLinkedQueue<>();
+    private final LxStateUpdateQueue stateUpdateQueue = new LxStateUpdateQueue();
 
     private LxDynamicStateDescriptionProvider dynamicStateDescriptionProvider;
     private final Logger logger = LoggerFactory.getLogger(LxServerHandler.class);
@@ -460,13 +460,33 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     }
 
     /**
-     * Put a new state update event to the queue for processing and signal thread to process it
+     * Put a new state value to the queue for processing. A value that has not been processed yet is replaced.
+     * {@link #signalStateUpdates()} must be called to process the queued updates.
      *
-     * @param uuid state uuid (null indicates websocket session should be closed)
+     * @param msb most significant bits of the state uuid
+     * @param lsb least significant bits of the state uuid
      * @param value new state value
      */
-    void queueStateUpdate(LxUuid uuid, Object value) {
-        stateUpdateQueue.add(new LxStateUpdate(uuid, value));
+    void queueStateUpdate(long msb, long lsb, double value) {
+        stateUpdateQueue.add(msb, lsb, value);
+    }
+
+    /**
+     * Put a new state text to the queue for processing. A text that has not been processed yet is replaced.
+     * {@link #signalStateUpdates()} must be called to process the queued updates.
+     *
+     * @param msb most significant bits of the state uuid
+     * @param lsb least significant bits of the state uuid
+     * @param value new state text
+     */
+    void queueStateUpdate(long msb, long lsb, String value) {
+        stateUpdateQueue.add(msb, lsb, value);
+    }
+
+    /**
+     * Signal thread to process the queued state updates
+     */
+    void signalStateUpdates() {
         queueUpdatedLock.lock();
         try {
             queueUpdated.signalAll();
@@ -480,13 +500,18 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
      * state UUID and update their value, which will trigger corresponding control state update method in each control
      * that has this state.
      *
-     * @param update Miniserver's update event
+     * @param msb most significant bits of the state uuid
+     * @param lsb least significant bits of the state uuid
+     * @param value new state value
      */
-    private void updateStateValue(LxStateUpdate update) {
-        Map<LxUuid, LxState> perStateUuid = states.get(update.getUuid());
+    private void updateStateValue(long msb, long lsb, Object value) {
+        if (!sessionActive.get()) {
+            return;
+        }
+        Map<LxUuid, LxState> perStateUuid = states.get(msb, lsb);
         if (perStateUuid != null) {
             perStateUuid.forEach((controlUuid, state) -> {
-                state.setStateValue(update.getValue());
+                state.setStateValue(value);
             });
         }
     }
@@ -505,10 +530,17 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
         LxUuid uuid = control.getUuid();
         logger.debug("[{}] Adding control to handler: {}, {}", debugId, uuid, control.getName());
         control.getStates().values().forEach(state -> {
-            Map<LxUuid, LxState> perUuid = states.get(state.getUuid());
+            LxUuid stateUuid = state.getUuid();
+            if (!stateUuid.isNumeric()) {
+                // Miniserver sends updates in binary events, which can only address UUIDs in the standard format
+                logger.debug("[{}] State {} of control {} has no binary UUID: {}", debugId, state.getName(),
+                        control.getName(), stateUuid);
+                return;
+            }
+            Map<LxUuid, LxState> perUuid = states.get(stateUuid);
             if (perUuid == null) {
                 perUuid = new HashMap<>();
-                states.put(state.getUuid(), perUuid);
+                states.put(stateUuid, perUuid);
             }
             perUuid.put(uuid, state);
         });
@@ -685,10 +717,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
                 if (elapsed >= bindingConfig.keepAlivePeriod) {
                     sendKeepAlive();
                 }
-                LxStateUpdate update;
-                while ((update = stateUpdateQueue.poll()) != null && sessionActive.get()) {
-                    updateStateValue(update);
-                }
+                stateUpdateQueue.drain(LxServerHandler.this::updateStateValue);
             }
         }
 
@@ -237,24 +237,29 @@ public class LxWebSocket {
                 switch (header.getType()) {
                     case EVENT_TABLE_OF_VALUE_STATES:
                         stopResponseTimeout();
+                        ByteBuffer values = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
                         while (length > 0) {
-                            Double value = ByteBuffer.wrap(data, offset + 16, 8).order(ByteOrder.LITTLE_ENDIAN)
-                                    .getDouble();
-                            thingHandler.queueStateUpdate(new LxUuid(data, offset), value);
+                            double value = values.getDouble(offset + 16);
+                            thingHandler.queueStateUpdate(LxUuid.msbOf(data, offset), LxUuid.lsbOf(data, offset),
+                                    value);
                             offset += 24;
                             length -= 24;
                         }
+                        thingHandler.signalStateUpdates();
                         break;
                     case EVENT_TABLE_OF_TEXT_STATES:
+                        ByteBuffer texts = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
                         while (length > 0) {
                             // unused today at (offset + 16): iconUuid
-                            int textLen = ByteBuffer.wrap(data, offset + 32, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+                            int textLen = texts.getInt(offset + 32);
                             String value = new String(data, offset + 36, textLen);
                             int size = 36 + (textLen % 4 > 0 ? textLen + 4 - (textLen % 4) : textLen);
-                            thingHandler.queueStateUpdate(new LxUuid(data, offset), value);
+                            thingHandler.queueStateUpdate(LxUuid.msbOf(data, offset), LxUuid.lsbOf(data, offset),
+                                    value);
                             offset += size;
                             length -= size;
                         }
+                        thingHandler.signalStateUpdates();
                         break;
                     case KEEPALIVE_RESPONSE:
                     case TEXT_MESSAGE:
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal.types;
+
+import java.util.Arrays;
+
+/**
+ * A queue of state update events. It is used to defer and queue processing of Loxone state updates, so they are not
+ * processed in the websocket thread.
+ * <p>
+ * Updates are coalesced per state UUID. If a state is updated again before its previous update was processed, the new
+ * value replaces the queued one at its original position. Values are kept in primitive arrays, so queuing an update
+ * does not allocate objects once the queue has grown to the number of states of the Miniserver.
+ *
+ * @author agent - initial contribution
+ *
+ */
+public class LxStateUpdateQueue {
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Receives the queued updates.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * Called for each queued update.
+         *
+         * @param msb most significant bits of the state UUID
+         * @param lsb least significant bits of the state UUID
+         * @param value new value of the state, a {@link Double} or a {@link String}
+         */
+        void handle(long msb, long lsb, Object value);
+    }
+
+    private Buffer pending = new Buffer();
+    private Buffer spare = new Buffer();
+
+    /**
+     * Queues a new value of a state.
+     *
+     * @param msb most significant bits of the state UUID
+     * @param lsb least significant bits of the state UUID
+     * @param value new value
+     */
+    public synchronized void add(long msb, long lsb, double value) {
+        pending.add(msb, lsb, value, null);
+    }
+
+    /**
+     * Queues a new text of a state.
+     *
+     * @param msb most significant bits of the state UUID
+     * @param lsb least significant bits of the state UUID
+     * @param text new text
+     */
+    public synchronized void add(long msb, long lsb, String text) {
+        pending.add(msb, lsb, 0, text);
+    }
+
+    /**
+     * Returns the number of states with a queued update.
+     *
+     * @return number of queued updates
+     */
+    public synchronized int size() {
+        return pending.size;
+    }
+
+    /**
+     * Removes all queued updates.
+     */
+    public synchronized void clear() {
+        pending.clear();
+    }
+
+    /**
+     * Passes all queued updates to a handler in the order in which their states were first updated and removes them
+     * from the queue. Updates queued while the handler is called are passed in the next call. This method must be
+     * called by a single thread only.
+     *
+     * @param handler handler of the updates
+     * @return number of updates passed to the handler
+     */
+    public int drain(Handler handler) {
+        Buffer buffer;
+        synchronized (this) {
+            if (pending.size == 0) {
+                return 0;
+            }
+            buffer = pending;
+            pending = spare;
+        }
+        try {
+            for (int i = 0; i < buffer.size; i++) {
+                String text = buffer.texts[i];
+                handler.handle(buffer.msbs[i], buffer.lsbs[i], text != null ? text : buffer.values[i]);
+            }
+            return buffer.size;
+        } finally {
+            buffer.clear();
+            synchronized (this) {
+                spare = buffer;
+            }
+        }
+    }
+
+    /**
+     * Updates in the order of their arrival, with an open addressing index from the state UUID to the position.
+     */
+    private static class Buffer {
+        private long[] msbs = new long[INITIAL_CAPACITY];
+        private long[] lsbs = new long[INITIAL_CAPACITY];
+        private double[] values = new double[INITIAL_CAPACITY];
+        private String[] texts = new String[INITIAL_CAPACITY];
+        // position + 1 of the update, 0 for an empty slot
+        private int[] index = new int[INITIAL_CAPACITY * 2];
+        private int size;
+
+        private void add(long msb, long lsb, double value, String text) {
+            int mask = index.length - 1;
+            int slot = LxUuidMap.hash(msb, lsb) & mask;
+            int position;
+            while ((position = index[slot]) != 0) {
+                if (msbs[position - 1] == msb && lsbs[position - 1] == lsb) {
+                    values[position - 1] = value;
+                    texts[position - 1] = text;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (size == msbs.length) {
+                grow();
+                add(msb, lsb, value, text);
+                return;
+            }
+            msbs[size] = msb;
+            lsbs[size] = lsb;
+            values[size] = value;
+            texts[size] = text;
+            index[slot] = ++size;
+        }
+
+        private void grow() {
+            int capacity = msbs.length * 2;
+            msbs = Arrays.copyOf(msbs, capacity);
+            lsbs = Arrays.copyOf(lsbs, capacity);
+            values = Arrays.copyOf(values, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+            index = new int[capacity * 2];
+            int mask = index.length - 1;
+            for (int i = 0; i < size; i++) {
+                int slot = LxUuidMap.hash(msbs[i], lsbs[i]) & mask;
+                while (index[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                index[slot] = i + 1;
+            }
+        }
+
+        private void clear() {
+            Arrays.fill(index, 0);
+            Arrays.fill(texts, 0, size, null);
+            size = 0;
+        }
+    }
+}
@@ -13,8 +13,6 @@
 package org.openhab.binding.loxone.internal.types;
 
 import java.lang.reflect.Type;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
@@ -26,13 +24,21 @@ import com.google.gson.JsonParseException;
  * <p>
  * It is defined by the Miniserver. UUID can represent a control, room, category, etc. and provides a unique ID space
  * across all objects residing on the Miniserver.
+ * <p>
+ * A UUID in the standard Miniserver format (8-4-4-16 hexadecimal digits) is also represented as two long values, which
+ * are used to match UUIDs received in binary state events without creating {@link LxUuid} objects.
  *
  * @author Pawel Pieczul - initial contribution
  *
  */
 public class LxUuid {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     private final String uuid;
     private final String uuidOriginal;
+    private final boolean numeric;
+    private final long msb;
+    private final long lsb;
 
     public static final JsonDeserializer<LxUuid> DESERIALIZER = new JsonDeserializer<LxUuid>() {
         @Override
@@ -54,17 +60,113 @@ public class LxUuid {
     public LxUuid(String uuid) {
         uuidOriginal = uuid;
         this.uuid = init(uuid);
+        numeric = isNumeric(this.uuid);
+        msb = numeric ? parseHex(this.uuid, 0, 18) : 0;
+        lsb = numeric ? parseHex(this.uuid, 19, 35) : 0;
     }
 
+    /**
+     * Create a new {@link LxUuid} object from an UUID in a binary message received from the Miniserver.
+     *
+     * @param data buffer with the binary message
+     * @param offset offset of the UUID in the buffer
+     */
     public LxUuid(byte data[], int offset) {
-        String id = String.format("%08x-%04x-%04x-%02x%02x%02x%02x%02x%02x%02x%02x",
-                ByteBuffer.wrap(data, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt(),
-                ByteBuffer.wrap(data, offset + 4, 2).order(ByteOrder.LITTLE_ENDIAN).getShort(),
-                ByteBuffer.wrap(data, offset + 6, 2).order(ByteOrder.LITTLE_ENDIAN).getShort(), data[offset + 8],
-                data[offset + 9], data[offset + 10], data[offset + 11], data[offset + 12], data[offset + 13],
-                data[offset + 14], data[offset + 15]);
-        uuidOriginal = id;
-        this.uuid = init(id);
+        this(msbOf(data, offset), lsbOf(data, offset));
+    }
+
+    /**
+     * Create a new {@link LxUuid} object from its two long values.
+     *
+     * @param msb most significant 64 bits of the UUID
+     * @param lsb least significant 64 bits of the UUID
+     */
+    public LxUuid(long msb, long lsb) {
+        char[] chars = new char[35];
+        appendHex(chars, 0, msb >>> 32, 8);
+        chars[8] = '-';
+        appendHex(chars, 9, msb >>> 16, 4);
+        chars[13] = '-';
+        appendHex(chars, 14, msb, 4);
+        chars[18] = '-';
+        appendHex(chars, 19, lsb, 16);
+        uuidOriginal = new String(chars);
+        uuid = uuidOriginal.toUpperCase();
+        numeric = true;
+        this.msb = msb;
+        this.lsb = lsb;
+    }
+
+    /**
+     * Returns the most significant 64 bits of an UUID in a binary message received from the Miniserver. The first
+     * three fields of the UUID are stored in little endian order.
+     *
+     * @param data buffer with the binary message
+     * @param offset offset of the UUID in the buffer
+     * @return most significant bits of the UUID
+     */
+    public static long msbOf(byte data[], int offset) {
+        return (littleEndian(data, offset, 4) << 32) | (littleEndian(data, offset + 4, 2) << 16)
+                | littleEndian(data, offset + 6, 2);
+    }
+
+    /**
+     * Returns the least significant 64 bits of an UUID in a binary message received from the Miniserver. The last
+     * field of the UUID is stored as a sequence of bytes.
+     *
+     * @param data buffer with the binary message
+     * @param offset offset of the UUID in the buffer
+     * @return least significant bits of the UUID
+     */
+    public static long lsbOf(byte data[], int offset) {
+        long value = 0;
+        for (int i = offset + 8; i < offset + 16; i++) {
+            value = (value << 8) | (data[i] & 0xff);
+        }
+        return value;
+    }
+
+    private static long littleEndian(byte data[], int offset, int length) {
+        long value = 0;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            value = (value << 8) | (data[i] & 0xff);
+        }
+        return value;
+    }
+
+    private static void appendHex(char[] chars, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+    }
+
+    private static boolean isNumeric(String uuid) {
+        if (uuid.length() != 35) {
+            return false;
+        }
+        for (int i = 0; i < 35; i++) {
+            char c = uuid.charAt(i);
+            if (i == 8 || i == 13 || i == 18) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String uuid, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = uuid.charAt(i);
+            if (c != '-') {
+                value = (value << 4) | Character.digit(c, 16);
+            }
+        }
+        return value;
     }
 
     private String init(String uuid) {
@@ -96,6 +198,33 @@ public class LxUuid {
         return uuid;
     }
 
+    /**
+     * Returns true if the UUID is in the standard Miniserver format and can be received in binary state events.
+     *
+     * @return true if the UUID is represented by {@link #getMsb()} and {@link #getLsb()}
+     */
+    public boolean isNumeric() {
+        return numeric;
+    }
+
+    /**
+     * Returns the most significant 64 bits of a numeric UUID.
+     *
+     * @return most significant bits, 0 if the UUID is not numeric
+     */
+    public long getMsb() {
+        return msb;
+    }
+
+    /**
+     * Returns the least significant 64 bits of a numeric UUID.
+     *
+     * @return least significant bits, 0 if the UUID is not numeric
+     */
+    public long getLsb() {
+        return lsb;
+    }
+
     /**
      * Returns an original string that was used to create UUID.
      *
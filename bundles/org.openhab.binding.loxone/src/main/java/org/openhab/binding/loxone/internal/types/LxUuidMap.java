@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal.types;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A map of numeric Miniserver UUIDs to values.
+ * <p>
+ * UUIDs are stored as two long values in open addressing tables with linear probing. Values can be looked up by the
+ * long values of a UUID received in a binary state event, without creating an {@link LxUuid} object. Only UUIDs for
+ * which {@link LxUuid#isNumeric()} is true can be stored. This class is not thread safe.
+ *
+ * @author agent - initial contribution
+ *
+ * @param <V> type of the values
+ */
+public class LxUuidMap<V> {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] msbs;
+    private long[] lsbs;
+    private Object[] values;
+    private int size;
+
+    public LxUuidMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Gets the value of a UUID.
+     *
+     * @param msb most significant bits of the UUID
+     * @param lsb least significant bits of the UUID
+     * @return value or null if UUID is not in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long msb, long lsb) {
+        int slot = find(msb, lsb);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    /**
+     * Gets the value of a UUID.
+     *
+     * @param uuid UUID to look up
+     * @return value or null if UUID is not numeric or not in the map
+     */
+    public V get(LxUuid uuid) {
+        return uuid.isNumeric() ? get(uuid.getMsb(), uuid.getLsb()) : null;
+    }
+
+    /**
+     * Puts a value for a UUID, replacing a previous value.
+     *
+     * @param uuid numeric UUID
+     * @param value value to store, must not be null
+     * @throws IllegalArgumentException if the UUID is not numeric
+     */
+    public void put(LxUuid uuid, V value) {
+        if (!uuid.isNumeric()) {
+            throw new IllegalArgumentException("UUID is not numeric: " + uuid);
+        }
+        put(uuid.getMsb(), uuid.getLsb(), value);
+    }
+
+    /**
+     * Puts a value for a UUID, replacing a previous value.
+     *
+     * @param msb most significant bits of the UUID
+     * @param lsb least significant bits of the UUID
+     * @param value value to store, must not be null
+     */
+    public void put(long msb, long lsb, V value) {
+        int mask = values.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (values[slot] != null) {
+            if (msbs[slot] == msb && lsbs[slot] == lsb) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        msbs[slot] = msb;
+        lsbs[slot] = lsb;
+        values[slot] = value;
+        if (++size * 2 > values.length) {
+            resize(values.length * 2);
+        }
+    }
+
+    /**
+     * Removes a UUID from the map.
+     *
+     * @param uuid UUID to remove
+     * @return removed value or null if UUID was not in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(LxUuid uuid) {
+        if (!uuid.isNumeric()) {
+            return null;
+        }
+        int slot = find(uuid.getMsb(), uuid.getLsb());
+        if (slot < 0) {
+            return null;
+        }
+        V value = (V) values[slot];
+        // shift following entries of the probe sequence back, so that they can still be found
+        int mask = values.length - 1;
+        int free = slot;
+        int next = (slot + 1) & mask;
+        while (values[next] != null) {
+            int home = hash(msbs[next], lsbs[next]) & mask;
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                msbs[free] = msbs[next];
+                lsbs[free] = lsbs[next];
+                values[free] = values[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[free] = null;
+        size--;
+        return value;
+    }
+
+    /**
+     * Returns the number of UUIDs in the map.
+     *
+     * @return number of UUIDs
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all UUIDs from the map.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Performs an action for each value in the map.
+     *
+     * @param action action to perform
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    private int find(long msb, long lsb) {
+        int mask = values.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (values[slot] != null) {
+            if (msbs[slot] == msb && lsbs[slot] == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        long[] oldMsbs = msbs;
+        long[] oldLsbs = lsbs;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = hash(oldMsbs[i], oldLsbs[i]) & (capacity - 1);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                msbs[slot] = oldMsbs[i];
+                lsbs[slot] = oldLsbs[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        msbs = new long[capacity];
+        lsbs = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    static int hash(long msb, long lsb) {
+        // Miniserver UUIDs share their last bytes, mix all bits so that the low bits of the hash are well distributed
+        long h = (msb * 0x9E3779B97F4A7C15L) ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal.types;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of the ingestion of binary value state events with the {@link LxUuidMap} and the
+ * {@link LxStateUpdateQueue}, compared with a lookup of a new {@link LxUuid} object per event in a {@link HashMap}.
+ * It is not part of the regular build and has to be run manually.
+ *
+ * @author agent - initial contribution
+ *
+ */
+@Disabled
+public class LxStateUpdateBenchmark {
+
+    private static final int STATES = 500;
+    private static final int EVENTS_PER_MESSAGE = 100;
+    // size of a value state event: UUID and double value
+    private static final int EVENT_SIZE = 24;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final Logger logger = LoggerFactory.getLogger(LxStateUpdateBenchmark.class);
+
+    private final LxUuid[] uuids = new LxUuid[STATES];
+    private final byte[] message = new byte[EVENTS_PER_MESSAGE * EVENT_SIZE];
+
+    public LxStateUpdateBenchmark() {
+        for (int i = 0; i < STATES; i++) {
+            uuids[i] = new LxUuid(String.format("%08x-033e-02d4-ffff403fb0c34b9e", i * 7919));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(message).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < EVENTS_PER_MESSAGE; i++) {
+            LxUuid uuid = uuids[(i * 31) % STATES];
+            buffer.position(i * EVENT_SIZE);
+            writeUuid(buffer, uuid);
+            buffer.putDouble(i);
+        }
+    }
+
+    private static void writeUuid(ByteBuffer buffer, LxUuid uuid) {
+        // inverse of LxUuid.msbOf and LxUuid.lsbOf
+        String hex = uuid.getOriginalString().replace("-", "");
+        buffer.putInt((int) Long.parseLong(hex.substring(0, 8), 16));
+        buffer.putShort((short) Integer.parseInt(hex.substring(8, 12), 16));
+        buffer.putShort((short) Integer.parseInt(hex.substring(12, 16), 16));
+        for (int i = 16; i < 32; i += 2) {
+            buffer.put((byte) Integer.parseInt(hex.substring(i, i + 2), 16));
+        }
+    }
+
+    @Test
+    public void benchmarkUuidMap() {
+        LxUuidMap<Object> map = new LxUuidMap<>();
+        for (LxUuid uuid : uuids) {
+            map.put(uuid, uuid);
+        }
+        LxStateUpdateQueue queue = new LxStateUpdateQueue();
+        long[] handled = new long[1];
+        LxStateUpdateQueue.Handler handler = (msb, lsb, value) -> {
+            if (map.get(msb, lsb) != null) {
+                handled[0]++;
+            }
+        };
+        Runnable ingestion = () -> {
+            for (int offset = 0; offset < message.length; offset += EVENT_SIZE) {
+                queue.add(LxUuid.msbOf(message, offset), LxUuid.lsbOf(message, offset),
+                        ByteBuffer.wrap(message, offset + 16, 8).order(ByteOrder.LITTLE_ENDIAN).getDouble());
+            }
+            queue.drain(handler);
+        };
+        benchmark("LxUuidMap and LxStateUpdateQueue", ingestion);
+        logger.info("{} events handled", handled[0]);
+    }
+
+    @Test
+    public void benchmarkHashMap() {
+        Map<LxUuid, Object> map = new HashMap<>();
+        for (LxUuid uuid : uuids) {
+            map.put(uuid, uuid);
+        }
+        long[] handled = new long[1];
+        Runnable ingestion = () -> {
+            for (int offset = 0; offset < message.length; offset += EVENT_SIZE) {
+                LxUuid uuid = new LxUuid(message, offset);
+                double value = ByteBuffer.wrap(message, offset + 16, 8).order(ByteOrder.LITTLE_ENDIAN).getDouble();
+                if (map.get(uuid) != null && value >= 0) {
+                    handled[0]++;
+                }
+            }
+        };
+        benchmark("HashMap with LxUuid keys", ingestion);
+        logger.info("{} events handled", handled[0]);
+    }
+
+    private void benchmark(String name, Runnable ingestion) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            ingestion.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            ingestion.run();
+        }
+        long time = System.nanoTime() - start;
+
+        long events = (long) ITERATIONS * EVENTS_PER_MESSAGE;
+        logger.info("{}: {} events/s, {} ns/event", name, events * TimeUnit.SECONDS.toNanos(1) / time, time / events);
+    }
+}
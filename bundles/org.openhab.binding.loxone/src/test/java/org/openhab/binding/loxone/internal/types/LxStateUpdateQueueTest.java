@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal.types;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link LxUuid} binary representation, {@link LxUuidMap} and {@link LxStateUpdateQueue}
+ *
+ * @author agent - initial contribution
+ *
+ */
+public class LxStateUpdateQueueTest {
+
+    // binary representation of 0b734138-033e-02d4-ffff403fb0c34b9e in a state event
+    private static final byte[] BINARY_UUID = { 0x38, 0x41, 0x73, 0x0b, 0x3e, 0x03, (byte) 0xd4, 0x02, (byte) 0xff,
+            (byte) 0xff, 0x40, 0x3f, (byte) 0xb0, (byte) 0xc3, 0x4b, (byte) 0x9e };
+
+    @Test
+    public void testBinaryUuid() {
+        LxUuid uuid = new LxUuid("0b734138-033e-02d4-ffff403fb0c34b9e");
+        assertTrue(uuid.isNumeric());
+        assertEquals(LxUuid.msbOf(BINARY_UUID, 0), uuid.getMsb());
+        assertEquals(LxUuid.lsbOf(BINARY_UUID, 0), uuid.getLsb());
+
+        LxUuid binary = new LxUuid(BINARY_UUID, 0);
+        assertEquals(uuid, binary);
+        assertEquals("0b734138-033e-02d4-ffff403fb0c34b9e", binary.getOriginalString());
+        assertEquals("0B734138-033E-02D4-FFFF403FB0C34B9E", binary.toString());
+
+        assertFalse(new LxUuid("1076668f-0101-7076-ffff403fb0c34b9e-M1").isNumeric());
+        assertFalse(new LxUuid("00000000-0000-0001-2100000000000000.svg").isNumeric());
+    }
+
+    @Test
+    public void testUuidMap() {
+        LxUuidMap<String> map = new LxUuidMap<>();
+        List<LxUuid> uuids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            LxUuid uuid = new LxUuid(String.format("%08x-033e-02d4-ffff403fb0c34b9e", i * 7919));
+            uuids.add(uuid);
+            map.put(uuid, uuid.toString());
+        }
+        assertEquals(1000, map.size());
+        for (LxUuid uuid : uuids) {
+            assertEquals(uuid.toString(), map.get(uuid.getMsb(), uuid.getLsb()));
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(uuids.get(i).toString(), map.remove(uuids.get(i)));
+        }
+        assertEquals(500, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0 ? null : uuids.get(i).toString(), map.get(uuids.get(i)));
+        }
+        assertNull(map.get(new LxUuid("1076668f-0101-7076-ffff403fb0c34b9e-M1")));
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(uuids.get(1)));
+    }
+
+    @Test
+    public void testCoalescing() {
+        LxStateUpdateQueue queue = new LxStateUpdateQueue();
+        queue.add(1, 1, 1.0);
+        queue.add(2, 2, "text");
+        queue.add(1, 1, 2.0);
+        queue.add(3, 3, 3.0);
+        queue.add(2, 2, "new text");
+        assertEquals(3, queue.size());
+
+        List<Object> values = new ArrayList<>();
+        assertEquals(3, queue.drain((msb, lsb, value) -> values.add(value)));
+        assertEquals(List.of(2.0, "new text", 3.0), values);
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.drain((msb, lsb, value) -> fail()));
+    }
+
+    @Test
+    public void testQueueGrowth() {
+        LxStateUpdateQueue queue = new LxStateUpdateQueue();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 5000; i++) {
+                queue.add(i, -i, i + round);
+            }
+        }
+        long[] count = new long[1];
+        queue.drain((msb, lsb, value) -> {
+            assertEquals(-msb, lsb);
+            assertEquals(msb + 2.0, value);
+            assertEquals(count[0]++, msb);
+        });
+        assertEquals(5000, count[0]);
+    }
+}
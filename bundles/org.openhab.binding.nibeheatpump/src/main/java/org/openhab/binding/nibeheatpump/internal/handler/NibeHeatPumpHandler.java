@@ -15,7 +15,6 @@ package org.openhab.binding.nibeheatpump.internal.handler;
 import static org.openhab.binding.nibeheatpump.internal.NibeHeatPumpBindingConstants.*;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -43,7 +42,6 @@ import org.openhab.binding.nibeheatpump.internal.message.ModbusWriteResponseMess
 import org.openhab.binding.nibeheatpump.internal.message.NibeHeatPumpMessage;
 import org.openhab.binding.nibeheatpump.internal.models.PumpModel;
 import org.openhab.binding.nibeheatpump.internal.models.VariableInformation;
-import org.openhab.binding.nibeheatpump.internal.models.VariableInformation.NibeDataType;
 import org.openhab.binding.nibeheatpump.internal.models.VariableInformation.Type;
 import org.openhab.core.io.transport.serial.SerialPortManager;
 import org.openhab.core.library.types.DecimalType;
@@ -382,8 +380,7 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
             } else {
                 v = new BigDecimal(command.toString());
             }
-            int decimals = (int) Math.log10(variableInfo.factor);
-            value = v.movePointRight(decimals).intValue();
+            value = v.movePointRight(variableInfo.getDecimals()).intValue();
         } else if ((command instanceof OnOffType || command instanceof OpenClosedType || command instanceof UpDownType)
                 && variableInfo.factor == 1) {
             value = (command.equals(OnOffType.ON) || command.equals(UpDownType.UP)
@@ -419,35 +416,10 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
         logger.debug("Enabled registers for write commands: {}", itemsToEnableWrite);
     }
 
-    private State convertNibeValueToState(VariableInformation variableInfo, int value, String acceptedItemType) {
+    private State convertNibeValueToState(VariableInformation variableInfo, long decodedValue,
+            String acceptedItemType) {
         State state = UnDefType.UNDEF;
-        long x;
-
-        NibeDataType dataType = variableInfo.dataType;
-        int decimals = (int) Math.log10(variableInfo.factor);
-        switch (dataType) {
-            case U8:
-                x = Byte.toUnsignedLong((byte) (value & 0xFF));
-                break;
-            case U16:
-                x = Short.toUnsignedLong((short) (value & 0xFFFF));
-                break;
-            case U32:
-                x = Integer.toUnsignedLong(value);
-                break;
-            case S8:
-                x = (byte) (value & 0xFF);
-                break;
-            case S16:
-                x = (short) (value & 0xFFFF);
-                break;
-            case S32:
-                x = value;
-                break;
-            default:
-                return state;
-        }
-        BigDecimal converted = new BigDecimal(x).movePointLeft(decimals).setScale(decimals, RoundingMode.HALF_EVEN);
+        BigDecimal converted = BigDecimal.valueOf(decodedValue, variableInfo.getDecimals());
 
         if ("String".equalsIgnoreCase(acceptedItemType)) {
             state = new StringType(converted.toString());
@@ -536,27 +508,29 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
         if (parse) {
             logger.debug("Parsing data read out message");
             lastUpdateTime = System.currentTimeMillis();
-            List<ModbusValue> regValues = msg.getValues();
-
-            if (regValues != null) {
-                for (ModbusValue val : regValues) {
-                    handleVariableUpdate(pumpModel, val);
-                }
+            for (int i = 0; i < msg.getNumberOfValues(); i++) {
+                handleVariableUpdate(pumpModel, msg.getCoilAddress(i), msg.getValue(i));
             }
         }
     }
 
     private void handleVariableUpdate(PumpModel pumpModel, ModbusValue value) {
-        logger.debug("Received variable update: {}", value);
-        int coilAddress = value.getCoilAddress();
+        handleVariableUpdate(pumpModel, value.getCoilAddress(), value.getValue());
+    }
+
+    private void handleVariableUpdate(PumpModel pumpModel, int coilAddress, int rawValue) {
+        logger.debug("Received variable update: register {}, value {}", coilAddress, rawValue);
 
         VariableInformation variableInfo = VariableInformation.getVariableInfo(pumpModel, coilAddress);
 
         if (variableInfo != null) {
             logger.trace("Using variable information to register {}: {}", coilAddress, variableInfo);
 
-            int val = value.getValue();
-            logger.debug("{} = {}", coilAddress + ":" + variableInfo.variable + "/" + variableInfo.factor, val);
+            // compare the decoded values, so changes of unused bits of the raw value do not trigger an update
+            long val = variableInfo.dataType.decode(rawValue);
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} = {}", coilAddress + ":" + variableInfo.variable + "/" + variableInfo.factor, val);
+            }
 
             CacheObject oldValue = stateMap.get(coilAddress);
 
@@ -584,8 +558,8 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
         /** Time when cache object updated in milliseconds */
         final long lastUpdateTime;
 
-        /** Cache value */
-        final int value;
+        /** Cache value, decoded according to the data type of the variable */
+        final long value;
 
         /**
          * Initialize cache object.
@@ -593,7 +567,7 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
          * @param lastUpdateTime Time in milliseconds.
          * @param value Cache value.
          */
-        CacheObject(long lastUpdateTime, int value) {
+        CacheObject(long lastUpdateTime, long value) {
             this.lastUpdateTime = lastUpdateTime;
             this.value = value;
         }
@@ -25,11 +25,21 @@ import org.openhab.binding.nibeheatpump.internal.protocol.NibeHeatPumpProtocol;
  */
 public class ModbusDataReadOutMessage extends NibeHeatPumpBaseMessage {
 
-    private List<ModbusValue> values;
+    /** Registers and raw values of the message, decoded from the frame in a single pass */
+    private int[] coilAddresses;
+    private int[] values;
+    private int numberOfValues;
 
     private ModbusDataReadOutMessage(MessageBuilder builder) {
         super.msgType = MessageType.MODBUS_DATA_READ_OUT_MSG;
-        this.values = builder.values;
+        numberOfValues = builder.values.size();
+        coilAddresses = new int[numberOfValues];
+        values = new int[numberOfValues];
+        for (int i = 0; i < numberOfValues; i++) {
+            ModbusValue value = builder.values.get(i);
+            coilAddresses[i] = value.getCoilAddress();
+            values[i] = value.getValue();
+        }
     }
 
     public ModbusDataReadOutMessage(byte[] data) throws NibeHeatPumpException {
@@ -37,21 +47,48 @@ public class ModbusDataReadOutMessage extends NibeHeatPumpBaseMessage {
     }
 
     public List<ModbusValue> getValues() {
-        return values;
+        List<ModbusValue> vals = new ArrayList<>(numberOfValues);
+        for (int i = 0; i < numberOfValues; i++) {
+            vals.add(new ModbusValue(coilAddresses[i], values[i]));
+        }
+        return vals;
+    }
+
+    /**
+     * @return number of register values in the message
+     */
+    public int getNumberOfValues() {
+        return numberOfValues;
+    }
+
+    /**
+     * @param index index of the register value, from 0 to {@link #getNumberOfValues()} - 1
+     * @return coil address of the register value
+     */
+    public int getCoilAddress(int index) {
+        return coilAddresses[index];
+    }
+
+    /**
+     * @param index index of the register value, from 0 to {@link #getNumberOfValues()} - 1
+     * @return raw value of the register
+     */
+    public int getValue(int index) {
+        return values[index];
     }
 
     @Override
     public void encodeMessage(byte[] data) throws NibeHeatPumpException {
-        values = parseMessage(data);
+        parseMessage(data);
     }
 
     @Override
     public byte[] decodeMessage() {
-        return createDataReadOutPdu(values);
+        return createDataReadOutPdu();
     }
 
-    private byte[] createDataReadOutPdu(List<ModbusValue> values) {
-        byte datalen = (byte) (values.size() * 4);
+    private byte[] createDataReadOutPdu() {
+        byte datalen = (byte) (numberOfValues * 4);
         byte msglen = (byte) (6 + datalen);
 
         byte[] data = new byte[msglen];
@@ -64,10 +101,10 @@ public class ModbusDataReadOutMessage extends NibeHeatPumpBaseMessage {
 
         int i = NibeHeatPumpProtocol.OFFSET_DATA;
 
-        for (ModbusValue value : values) {
+        for (int j = 0; j < numberOfValues; j++) {
 
-            int coildAddress = value.getCoilAddress();
-            int val = value.getValue();
+            int coildAddress = coilAddresses[j];
+            int val = values[j];
 
             data[i + 0] = (byte) (coildAddress & 0xFF);
             data[i + 1] = (byte) ((coildAddress >> 8) & 0xFF);
@@ -85,16 +122,19 @@ public class ModbusDataReadOutMessage extends NibeHeatPumpBaseMessage {
     public String toString() {
         String str = super.toString();
         str += ", Values: ";
-        str += values.toString();
+        str += getValues().toString();
         return str;
     }
 
-    private List<ModbusValue> parseMessage(byte[] data) throws NibeHeatPumpException {
+    private void parseMessage(byte[] data) throws NibeHeatPumpException {
         if (NibeHeatPumpProtocol.isModbus40DataReadOut(data)) {
             super.encodeMessage(data);
             final int msglen = 5 + rawMessage[NibeHeatPumpProtocol.OFFSET_LEN];
+            final int maxValues = Math.max(0, (msglen - 1 - NibeHeatPumpProtocol.OFFSET_DATA + 3) / 4);
 
-            List<ModbusValue> vals = new ArrayList<>();
+            coilAddresses = new int[maxValues];
+            values = new int[maxValues];
+            numberOfValues = 0;
 
             try {
                 for (int i = NibeHeatPumpProtocol.OFFSET_DATA; i < (msglen - 1); i += 4) {
@@ -103,15 +143,15 @@ public class ModbusDataReadOutMessage extends NibeHeatPumpBaseMessage {
                     int value = (rawMessage[i + 3] & 0xFF) << 8 | (rawMessage[i + 2] & 0xFF);
 
                     if (id != 0xFFFF) {
-                        vals.add(new ModbusValue(id, value));
+                        coilAddresses[numberOfValues] = id;
+                        values[numberOfValues] = value;
+                        numberOfValues++;
                     }
                 }
             } catch (ArrayIndexOutOfBoundsException e) {
                 throw new NibeHeatPumpException("Error occurred during data parsing", e);
             }
 
-            return vals;
-
         } else {
             throw new NibeHeatPumpException("Not Modbus data readout message");
         }
@@ -777,7 +777,10 @@ public class F1X45 {
                 }
             });
 
+    private static final VariableInformationTable VARIABLE_TABLE_F1X45 = new VariableInformationTable(
+            VARIABLE_INFO_F1X45);
+
     public static VariableInformation getVariableInfo(int key) {
-        return VARIABLE_INFO_F1X45.get(key);
+        return VARIABLE_TABLE_F1X45.get(key);
     }
 }
@@ -1012,7 +1012,10 @@ public class F1X55 {
                 }
             });
 
+    private static final VariableInformationTable VARIABLE_TABLE_F1X55 = new VariableInformationTable(
+            VARIABLE_INFO_F1X55);
+
     public static VariableInformation getVariableInfo(int key) {
-        return VARIABLE_INFO_F1X55.get(key);
+        return VARIABLE_TABLE_F1X55.get(key);
     }
 }
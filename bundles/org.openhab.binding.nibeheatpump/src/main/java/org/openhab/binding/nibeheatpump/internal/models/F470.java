@@ -523,7 +523,10 @@ public class F470 {
                 }
             });
 
+    private static final VariableInformationTable VARIABLE_TABLE_F470 = new VariableInformationTable(
+            VARIABLE_INFO_F470);
+
     public static VariableInformation getVariableInfo(int key) {
-        return VARIABLE_INFO_F470.get(key);
+        return VARIABLE_TABLE_F470.get(key);
     }
 }
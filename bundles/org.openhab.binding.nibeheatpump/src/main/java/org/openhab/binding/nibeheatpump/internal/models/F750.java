@@ -675,7 +675,10 @@ public class F750 {
                 }
             });
 
+    private static final VariableInformationTable VARIABLE_TABLE_F750 = new VariableInformationTable(
+            VARIABLE_INFO_F750);
+
     public static VariableInformation getVariableInfo(int key) {
-        return VARIABLE_INFO_F750.get(key);
+        return VARIABLE_TABLE_F750.get(key);
     }
 }
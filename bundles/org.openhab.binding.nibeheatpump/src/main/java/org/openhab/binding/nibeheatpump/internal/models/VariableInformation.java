@@ -25,7 +25,30 @@ public class VariableInformation {
         U32,
         S8,
         S16,
-        S32
+        S32;
+
+        /**
+         * Converts the raw register value to the unscaled value of this data type.
+         *
+         * @param value raw register value
+         * @return unscaled value
+         */
+        public long decode(int value) {
+            switch (this) {
+                case U8:
+                    return value & 0xFFL;
+                case U16:
+                    return value & 0xFFFFL;
+                case U32:
+                    return Integer.toUnsignedLong(value);
+                case S8:
+                    return (byte) value;
+                case S16:
+                    return (short) value;
+                default:
+                    return value;
+            }
+        }
     }
 
     public enum Type {
@@ -38,6 +61,9 @@ public class VariableInformation {
     public Type type;
     public String variable;
 
+    /** Number of decimals of the scaled value, precomputed from the factor */
+    private int decimals;
+
     public VariableInformation() {
     }
 
@@ -46,6 +72,11 @@ public class VariableInformation {
         this.dataType = dataType;
         this.type = type;
         this.variable = variable;
+        this.decimals = (int) Math.log10(factor);
+    }
+
+    public int getDecimals() {
+        return decimals;
     }
 
     public static VariableInformation getVariableInfo(PumpModel model, int key) {
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.nibeheatpump.internal.models;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Dense lookup table for the variables of a heat pump model. The table is compiled once from the variable map of the
+ * model into an array indexed by the register, so a register lookup is a bounds check and an array access.
+ *
+ * @author agent - Initial contribution
+ */
+class VariableInformationTable {
+
+    private final int firstRegister;
+    private final VariableInformation[] variables;
+
+    VariableInformationTable(Map<Integer, VariableInformation> variableMap) {
+        if (variableMap.isEmpty()) {
+            firstRegister = 0;
+            variables = new VariableInformation[0];
+            return;
+        }
+
+        firstRegister = Collections.min(variableMap.keySet());
+        int lastRegister = Collections.max(variableMap.keySet());
+        variables = new VariableInformation[lastRegister - firstRegister + 1];
+        for (Map.Entry<Integer, VariableInformation> entry : variableMap.entrySet()) {
+            variables[entry.getKey() - firstRegister] = entry.getValue();
+        }
+    }
+
+    /**
+     * @param register coil address of the variable
+     * @return the variable information, or null if the register is unknown
+     */
+    VariableInformation get(int register) {
+        int index = register - firstRegister;
+        if (index < 0 || index >= variables.length) {
+            return null;
+        }
+        return variables[index];
+    }
+}
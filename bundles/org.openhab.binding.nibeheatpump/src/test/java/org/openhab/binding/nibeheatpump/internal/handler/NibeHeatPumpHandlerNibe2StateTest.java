@@ -86,7 +86,7 @@ public class NibeHeatPumpHandlerNibe2StateTest {
         product = new NibeHeatPumpHandler(null, PumpModel.F1X55, serialPortManager);
         parameterTypes = new Class[3];
         parameterTypes[0] = VariableInformation.class;
-        parameterTypes[1] = int.class;
+        parameterTypes[1] = long.class;
         parameterTypes[2] = String.class;
         m = product.getClass().getDeclaredMethod(METHOD_NAME, parameterTypes);
         m.setAccessible(true);
@@ -99,7 +99,7 @@ public class NibeHeatPumpHandlerNibe2StateTest {
             final String type, final String expected) throws InvocationTargetException, IllegalAccessException {
         VariableInformation varInfo = VariableInformation.getVariableInfo(PumpModel.F1X55, coilAddress);
         parameters[0] = varInfo;
-        parameters[1] = value;
+        parameters[1] = varInfo.dataType.decode(value);
         parameters[2] = type;
         State state = (State) m.invoke(product, parameters);
 
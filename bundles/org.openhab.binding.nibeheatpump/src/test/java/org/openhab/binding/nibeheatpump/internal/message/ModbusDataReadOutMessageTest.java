@@ -209,5 +209,11 @@ public class ModbusDataReadOutMessageTest {
         assertNotNull(actualValues);
         assertEquals(expectedRegs.size(), actualValues.size());
         assertEquals(expectedRegs.toString(), actualValues.toString());
+
+        assertEquals(expectedRegs.size(), m.getNumberOfValues());
+        for (int i = 0; i < expectedRegs.size(); i++) {
+            assertEquals(expectedRegs.get(i).getCoilAddress(), m.getCoilAddress(i));
+            assertEquals(expectedRegs.get(i).getValue(), m.getValue(i));
+        }
     }
 }
@@ -65,4 +65,31 @@ public class VariableInformationTest {
         assertEquals(VariableInformation.NibeDataType.S16, variableInfo.dataType);
         assertEquals(VariableInformation.Type.SENSOR, variableInfo.type);
     }
+
+    @Test
+    public void TestUnknownVariable() {
+        for (PumpModel model : PumpModel.values()) {
+            assertNull(VariableInformation.getVariableInfo(model, 0));
+            assertNull(VariableInformation.getVariableInfo(model, 40000));
+            assertNull(VariableInformation.getVariableInfo(model, 0xFFFF));
+            assertNull(VariableInformation.getVariableInfo(model, -1));
+        }
+    }
+
+    @Test
+    public void TestDecimals() {
+        assertEquals(1, VariableInformation.getVariableInfo(PumpModel.F1X55, 40004).getDecimals());
+        assertEquals(0, VariableInformation.getVariableInfo(PumpModel.F1X55, 47418).getDecimals());
+    }
+
+    @Test
+    public void TestDecode() {
+        assertEquals(255, VariableInformation.NibeDataType.U8.decode(0xFFFF));
+        assertEquals(65535, VariableInformation.NibeDataType.U16.decode(0xFFFFFFFF));
+        assertEquals(4294967295L, VariableInformation.NibeDataType.U32.decode(0xFFFFFFFF));
+        assertEquals(-1, VariableInformation.NibeDataType.S8.decode(0xFF));
+        assertEquals(127, VariableInformation.NibeDataType.S8.decode(0x7F));
+        assertEquals(-32768, VariableInformation.NibeDataType.S16.decode(0x8000));
+        assertEquals(-2147483648, VariableInformation.NibeDataType.S32.decode(0x80000000));
+    }
 }
@@ -18,6 +18,7 @@ import static org.eclipse.jetty.http.HttpStatus.*;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.math.RoundingMode;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -40,8 +41,8 @@ import org.openhab.binding.openweathermap.internal.dto.OpenWeatherMapJsonUVIndex
 import org.openhab.binding.openweathermap.internal.dto.OpenWeatherMapJsonWeatherData;
 import org.openhab.binding.openweathermap.internal.handler.OpenWeatherMapAPIHandler;
 import org.openhab.core.cache.ByteArrayFileCache;
-import org.openhab.core.cache.ExpiringCacheMap;
 import org.openhab.core.io.net.http.HttpUtil;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.PointType;
 import org.openhab.core.library.types.RawType;
 import org.slf4j.Logger;
@@ -74,33 +75,50 @@ public class OpenWeatherMapConnection {
     private static final String PARAM_LANG = "lang";
     private static final String PARAM_FORECAST_CNT = "cnt";
 
+    // number of decimal places of the coordinates, locations which only differ after that share their data
+    private static final int COORDINATE_SCALE = 4;
+
+    private static final String API_URL = "https://api.openweathermap.org/data/2.5";
     // Current weather data (see https://openweathermap.org/current)
-    private static final String WEATHER_URL = "https://api.openweathermap.org/data/2.5/weather";
+    private static final String WEATHER_PATH = "/weather";
     // 5 day / 3 hour forecast (see https://openweathermap.org/forecast5)
-    private static final String THREE_HOUR_FORECAST_URL = "https://api.openweathermap.org/data/2.5/forecast";
+    private static final String THREE_HOUR_FORECAST_PATH = "/forecast";
     // 16 day / daily forecast (see https://openweathermap.org/forecast16)
-    private static final String DAILY_FORECAST_URL = "https://api.openweathermap.org/data/2.5/forecast/daily";
+    private static final String DAILY_FORECAST_PATH = "/forecast/daily";
     // UV Index (see https://openweathermap.org/api/uvi)
-    private static final String UVINDEX_URL = "https://api.openweathermap.org/data/2.5/uvi";
-    private static final String UVINDEX_FORECAST_URL = "https://api.openweathermap.org/data/2.5/uvi/forecast";
+    private static final String UVINDEX_PATH = "/uvi";
+    private static final String UVINDEX_FORECAST_PATH = "/uvi/forecast";
     // Weather icons (see https://openweathermap.org/weather-conditions)
     private static final String ICON_URL = "https://openweathermap.org/img/w/%s.png";
 
     private final OpenWeatherMapAPIHandler handler;
     private final HttpClient httpClient;
+    private final String apiUrl;
+    private final OpenWeatherMapRequestBudget requestBudget;
 
     private static final ByteArrayFileCache IMAGE_CACHE = new ByteArrayFileCache("org.openhab.binding.openweathermap");
-    private final ExpiringCacheMap<String, String> cache;
+    // parsed responses by endpoint and location
+    private final Map<String, CacheEntry> cache = new HashMap<>();
+    private final long cacheExpiry;
+    private int rejectedRequests;
 
     private final JsonParser parser = new JsonParser();
     private final Gson gson = new Gson();
 
     public OpenWeatherMapConnection(OpenWeatherMapAPIHandler handler, HttpClient httpClient) {
+        this(handler, httpClient, API_URL, OpenWeatherMapRequestBudget
+                .forApiKey(getApiKey(handler.getOpenWeatherMapAPIConfig())));
+    }
+
+    OpenWeatherMapConnection(OpenWeatherMapAPIHandler handler, HttpClient httpClient, String apiUrl,
+            OpenWeatherMapRequestBudget requestBudget) {
         this.handler = handler;
         this.httpClient = httpClient;
+        this.apiUrl = apiUrl;
+        this.requestBudget = requestBudget;
 
         OpenWeatherMapAPIConfiguration config = handler.getOpenWeatherMapAPIConfig();
-        cache = new ExpiringCacheMap<>(TimeUnit.MINUTES.toMillis(config.refreshInterval));
+        cacheExpiry = TimeUnit.MINUTES.toNanos(config.refreshInterval);
     }
 
     /**
@@ -114,9 +132,7 @@ public class OpenWeatherMapConnection {
      */
     public synchronized @Nullable OpenWeatherMapJsonWeatherData getWeatherData(@Nullable PointType location)
             throws JsonSyntaxException, OpenWeatherMapCommunicationException, OpenWeatherMapConfigurationException {
-        return gson.fromJson(
-                getResponseFromCache(
-                        buildURL(WEATHER_URL, getRequestParams(handler.getOpenWeatherMapAPIConfig(), location))),
+        return (OpenWeatherMapJsonWeatherData) getDataFromCache(WEATHER_PATH, location, 0,
                 OpenWeatherMapJsonWeatherData.class);
     }
 
@@ -137,10 +153,7 @@ public class OpenWeatherMapConnection {
             throw new OpenWeatherMapConfigurationException("@text/offline.conf-error-not-supported-number-of-hours");
         }
 
-        Map<String, String> params = getRequestParams(handler.getOpenWeatherMapAPIConfig(), location);
-        params.put(PARAM_FORECAST_CNT, Integer.toString(count));
-
-        return gson.fromJson(getResponseFromCache(buildURL(THREE_HOUR_FORECAST_URL, params)),
+        return (OpenWeatherMapJsonHourlyForecastData) getDataFromCache(THREE_HOUR_FORECAST_PATH, location, count,
                 OpenWeatherMapJsonHourlyForecastData.class);
     }
 
@@ -161,10 +174,7 @@ public class OpenWeatherMapConnection {
             throw new OpenWeatherMapConfigurationException("@text/offline.conf-error-not-supported-number-of-days");
         }
 
-        Map<String, String> params = getRequestParams(handler.getOpenWeatherMapAPIConfig(), location);
-        params.put(PARAM_FORECAST_CNT, Integer.toString(count));
-
-        return gson.fromJson(getResponseFromCache(buildURL(DAILY_FORECAST_URL, params)),
+        return (OpenWeatherMapJsonDailyForecastData) getDataFromCache(DAILY_FORECAST_PATH, location, count,
                 OpenWeatherMapJsonDailyForecastData.class);
     }
 
@@ -179,9 +189,7 @@ public class OpenWeatherMapConnection {
      */
     public synchronized @Nullable OpenWeatherMapJsonUVIndexData getUVIndexData(@Nullable PointType location)
             throws JsonSyntaxException, OpenWeatherMapCommunicationException, OpenWeatherMapConfigurationException {
-        return gson.fromJson(
-                getResponseFromCache(
-                        buildURL(UVINDEX_URL, getRequestParams(handler.getOpenWeatherMapAPIConfig(), location))),
+        return (OpenWeatherMapJsonUVIndexData) getDataFromCache(UVINDEX_PATH, location, 0,
                 OpenWeatherMapJsonUVIndexData.class);
     }
 
@@ -202,11 +210,9 @@ public class OpenWeatherMapConnection {
                     "@text/offline.conf-error-not-supported-uvindex-number-of-days");
         }
 
-        Map<String, String> params = getRequestParams(handler.getOpenWeatherMapAPIConfig(), location);
-        params.put(PARAM_FORECAST_CNT, Integer.toString(count));
-
-        return Arrays.asList(gson.fromJson(getResponseFromCache(buildURL(UVINDEX_FORECAST_URL, params)),
-                OpenWeatherMapJsonUVIndexData[].class));
+        OpenWeatherMapJsonUVIndexData[] data = (OpenWeatherMapJsonUVIndexData[]) getDataFromCache(
+                UVINDEX_FORECAST_PATH, location, count, OpenWeatherMapJsonUVIndexData[].class);
+        return data == null ? null : Arrays.asList(data);
     }
 
     /**
@@ -252,8 +258,8 @@ public class OpenWeatherMapConnection {
 
         Map<String, String> params = new HashMap<>();
         // API key (see http://openweathermap.org/appid)
-        String apikey = config.apikey;
-        if (apikey == null || (apikey = apikey.trim()).isEmpty()) {
+        String apikey = getApiKey(config);
+        if (apikey.isEmpty()) {
             throw new OpenWeatherMapConfigurationException("@text/offline.conf-error-missing-apikey");
         }
         params.put(PARAM_APPID, apikey);
@@ -262,8 +268,8 @@ public class OpenWeatherMapConnection {
         params.put(PARAM_UNITS, "metric");
 
         // By geographic coordinates (see https://openweathermap.org/current#geo)
-        params.put(PARAM_LAT, location.getLatitude().toString());
-        params.put(PARAM_LON, location.getLongitude().toString());
+        params.put(PARAM_LAT, normalizeCoordinate(location.getLatitude()));
+        params.put(PARAM_LON, normalizeCoordinate(location.getLongitude()));
 
         // Multilingual support (see https://openweathermap.org/current#multi)
         String language = config.language;
@@ -273,6 +279,16 @@ public class OpenWeatherMapConnection {
         return params;
     }
 
+    private static String getApiKey(OpenWeatherMapAPIConfiguration config) {
+        String apikey = config.apikey;
+        return apikey == null ? "" : apikey.trim();
+    }
+
+    private static String normalizeCoordinate(DecimalType coordinate) {
+        return coordinate.toBigDecimal().setScale(COORDINATE_SCALE, RoundingMode.HALF_UP).stripTrailingZeros()
+                .toPlainString();
+    }
+
     private String buildURL(String url, Map<String, String> requestParams) {
         return requestParams.keySet().stream().map(key -> key + "=" + encodeParam(requestParams.get(key)))
                 .collect(joining("&", url + "?", ""));
@@ -290,8 +306,67 @@ public class OpenWeatherMapConnection {
         }
     }
 
-    private @Nullable String getResponseFromCache(String url) {
-        return cache.putIfAbsentAndGet(url, () -> getResponse(url));
+    /**
+     * Returns the parsed response for the given endpoint and location. A forecast is served from the largest forecast
+     * fetched for the location, as the handlers only read the number of entries they requested. If the request budget
+     * is exhausted, outdated data is returned instead, if available.
+     *
+     * @param path path of the endpoint
+     * @param location location represented as {@link PointType}
+     * @param count number of forecast entries or 0 for endpoints without forecast
+     * @param type the type of the response
+     * @return the parsed response
+     */
+    private @Nullable Object getDataFromCache(String path, @Nullable PointType location, int count, Class<?> type)
+            throws JsonSyntaxException, OpenWeatherMapCommunicationException, OpenWeatherMapConfigurationException {
+        Map<String, String> params = getRequestParams(handler.getOpenWeatherMapAPIConfig(), location);
+        String key = path + "?" + params.get(PARAM_LAT) + "," + params.get(PARAM_LON);
+
+        CacheEntry entry = cache.get(key);
+        boolean sufficient = entry != null && entry.count >= count;
+        if (entry != null && sufficient && System.nanoTime() - entry.timestamp < cacheExpiry) {
+            logger.trace("OpenWeatherMap response for '{}' served from cache.", key);
+            return entry.data;
+        }
+        if (!requestBudget.tryAcquire()) {
+            rejectedRequests++;
+            if (entry != null && sufficient) {
+                logger.debug("OpenWeatherMap request limit reached, using outdated data for '{}'.", key);
+                return entry.data;
+            }
+            logger.debug("OpenWeatherMap request limit reached, no data for '{}'.", key);
+            throw new OpenWeatherMapCommunicationException("@text/offline.comm-error-request-limit");
+        }
+
+        // keep fetching the largest forecast requested so far
+        int fetchCount = entry == null ? count : Math.max(count, entry.count);
+        if (fetchCount > 0) {
+            params.put(PARAM_FORECAST_CNT, Integer.toString(fetchCount));
+        }
+        Object data = gson.fromJson(getResponse(buildURL(apiUrl + path, params)), type);
+        if (data != null) {
+            cache.put(key, new CacheEntry(data, fetchCount, System.nanoTime()));
+        }
+        return data;
+    }
+
+    /**
+     * Returns the time until the next request to OpenWeatherMap API may be sent.
+     *
+     * @param unit the unit of the returned time
+     * @return the time until the next request may be sent
+     */
+    public long getRequestLimitWaitTime(TimeUnit unit) {
+        return requestBudget.getWaitTime(unit);
+    }
+
+    /**
+     * Returns the number of requests that were not sent because the request budget was exhausted.
+     *
+     * @return the number of rejected requests
+     */
+    public synchronized int getRejectedRequests() {
+        return rejectedRequests;
     }
 
     private String getResponse(String url) {
@@ -350,4 +425,16 @@ public class OpenWeatherMapConnection {
         }
         return response;
     }
+
+    private static class CacheEntry {
+        private final Object data;
+        private final int count;
+        private final long timestamp;
+
+        CacheEntry(Object data, int count, long timestamp) {
+            this.data = data;
+            this.count = count;
+            this.timestamp = timestamp;
+        }
+    }
 }
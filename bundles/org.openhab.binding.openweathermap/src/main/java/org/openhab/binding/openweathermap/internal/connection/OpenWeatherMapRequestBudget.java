@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.openweathermap.internal.connection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link OpenWeatherMapRequestBudget} limits the number of requests to the OpenWeatherMap API (token bucket). Up
+ * to {@code capacity} requests can be sent at once, after that one request is allowed per {@code capacity}th part of
+ * the period. The budget is shared by all bridges using the same API key.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OpenWeatherMapRequestBudget {
+
+    // Limit of the free plan (see https://openweathermap.org/price)
+    public static final int DEFAULT_REQUESTS_PER_MINUTE = 60;
+
+    private static final Map<String, OpenWeatherMapRequestBudget> BUDGETS = new ConcurrentHashMap<>();
+
+    private final int capacity;
+    private final long nanosPerToken;
+    private final LongSupplier clock;
+
+    private int tokens;
+    private long lastRefill;
+
+    public OpenWeatherMapRequestBudget(int capacity, long period, TimeUnit unit) {
+        this(capacity, period, unit, System::nanoTime);
+    }
+
+    OpenWeatherMapRequestBudget(int capacity, long period, TimeUnit unit, LongSupplier clock) {
+        if (capacity <= 0 || period <= 0) {
+            throw new IllegalArgumentException("Capacity and period must be positive.");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, unit.toNanos(period) / capacity);
+        this.clock = clock;
+        this.tokens = capacity;
+        this.lastRefill = clock.getAsLong();
+    }
+
+    /**
+     * Returns the request budget for the given API key.
+     *
+     * @param apikey the API key
+     * @return the request budget shared by all users of the API key
+     */
+    public static OpenWeatherMapRequestBudget forApiKey(String apikey) {
+        return BUDGETS.computeIfAbsent(apikey,
+                key -> new OpenWeatherMapRequestBudget(DEFAULT_REQUESTS_PER_MINUTE, 1, TimeUnit.MINUTES));
+    }
+
+    /**
+     * Takes a request from the budget.
+     *
+     * @return true, if the request may be sent
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens > 0) {
+            tokens--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the time until the next request may be sent.
+     *
+     * @param unit the unit of the returned time
+     * @return the time until the next request may be sent, 0 if a request may be sent now
+     */
+    public synchronized long getWaitTime(TimeUnit unit) {
+        refill();
+        if (tokens > 0) {
+            return 0;
+        }
+        long waitNanos = lastRefill + nanosPerToken - clock.getAsLong();
+        // round up, so the request is allowed after waiting
+        return unit.convert(waitNanos + unit.toNanos(1) - 1, TimeUnit.NANOSECONDS);
+    }
+
+    private void refill() {
+        long now = clock.getAsLong();
+        long newTokens = (now - lastRefill) / nanosPerToken;
+        if (newTokens > 0) {
+            tokens = (int) Math.min(capacity, tokens + newTokens);
+            lastRefill = tokens == capacity ? now : lastRefill + newTokens * nanosPerToken;
+        }
+    }
+}
@@ -54,6 +54,7 @@ public class OpenWeatherMapAPIHandler extends BaseBridgeHandler {
     private static final long INITIAL_DELAY_IN_SECONDS = 15;
 
     private @Nullable ScheduledFuture<?> refreshJob;
+    private @Nullable ScheduledFuture<?> requestLimitJob;
 
     private final HttpClient httpClient;
     private final LocaleProvider localeProvider;
@@ -126,6 +127,11 @@ public class OpenWeatherMapAPIHandler extends BaseBridgeHandler {
                 refreshJob = null;
             }
         }
+        ScheduledFuture<?> localRequestLimitJob = requestLimitJob;
+        if (localRequestLimitJob != null) {
+            localRequestLimitJob.cancel(true);
+            requestLimitJob = null;
+        }
     }
 
     @Override
@@ -163,12 +169,30 @@ public class OpenWeatherMapAPIHandler extends BaseBridgeHandler {
 
     private void updateThings() {
         ThingStatus status = ThingStatus.OFFLINE;
+        int rejectedRequests = connection != null ? connection.getRejectedRequests() : 0;
         for (Thing thing : getThing().getThings()) {
             if (ThingStatus.ONLINE.equals(updateThing((AbstractOpenWeatherMapHandler) thing.getHandler(), thing))) {
                 status = ThingStatus.ONLINE;
             }
         }
         updateStatus(status);
+        if (connection != null && connection.getRejectedRequests() > rejectedRequests) {
+            scheduleRequestLimitJob();
+        }
+    }
+
+    /**
+     * Updates the things again as soon as the request budget allows it, if requests were rejected during an update.
+     * The data which has been fetched in the meantime is served from the cache of the connection.
+     */
+    private synchronized void scheduleRequestLimitJob() {
+        ScheduledFuture<?> localRequestLimitJob = requestLimitJob;
+        // the job may be the one currently running
+        if (localRequestLimitJob == null || localRequestLimitJob.getDelay(TimeUnit.NANOSECONDS) <= 0) {
+            long delay = connection.getRequestLimitWaitTime(TimeUnit.SECONDS);
+            logger.debug("Request limit reached, updating things again in {} s.", delay);
+            requestLimitJob = scheduler.schedule(this::updateThings, delay, TimeUnit.SECONDS);
+        }
     }
 
     private ThingStatus updateThing(@Nullable AbstractOpenWeatherMapHandler handler, Thing thing) {
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.openweathermap.internal.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.openweathermap.internal.config.OpenWeatherMapAPIConfiguration;
+import org.openhab.binding.openweathermap.internal.dto.OpenWeatherMapJsonHourlyForecastData;
+import org.openhab.binding.openweathermap.internal.dto.OpenWeatherMapJsonUVIndexData;
+import org.openhab.binding.openweathermap.internal.dto.OpenWeatherMapJsonWeatherData;
+import org.openhab.binding.openweathermap.internal.handler.OpenWeatherMapAPIHandler;
+import org.openhab.core.library.types.PointType;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests the caching and the request budget of the {@link OpenWeatherMapConnection} against a local stub server,
+ * which counts the requests.
+ *
+ * @author agent - Initial contribution
+ */
+public class OpenWeatherMapConnectionTest {
+
+    private static final PointType BERLIN = new PointType("52.52,13.405");
+    private static final PointType BERLIN_PRECISE = new PointType("52.520001,13.405,34");
+    private static final PointType PARIS = new PointType("48.8566,2.3522");
+    private static final PointType ROME = new PointType("41.9028,12.4964");
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private HttpClient httpClient;
+    private OpenWeatherMapAPIHandler handler;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::respond);
+        server.start();
+
+        httpClient = new HttpClient();
+        httpClient.start();
+
+        OpenWeatherMapAPIConfiguration config = new OpenWeatherMapAPIConfiguration();
+        config.apikey = "0123456789abcdef";
+        config.refreshInterval = 60;
+        handler = mock(OpenWeatherMapAPIHandler.class);
+        when(handler.getOpenWeatherMapAPIConfig()).thenReturn(config);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        httpClient.stop();
+        server.stop(0);
+    }
+
+    @Test
+    public void testSameLocationIsRequestedOnce() {
+        OpenWeatherMapConnection connection = createConnection(60);
+
+        OpenWeatherMapJsonWeatherData data = connection.getWeatherData(BERLIN);
+        assertNotNull(data);
+        assertSame(data, connection.getWeatherData(BERLIN_PRECISE));
+        assertEquals(1, requests.size());
+        assertTrue(requests.get(0).contains("lat=52.52"));
+
+        connection.getUVIndexData(BERLIN);
+        connection.getUVIndexData(BERLIN_PRECISE);
+        assertEquals(2, requests.size());
+
+        connection.getWeatherData(PARIS);
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    public void testForecastsAreServedFromLargestForecast() {
+        OpenWeatherMapConnection connection = createConnection(60);
+
+        OpenWeatherMapJsonHourlyForecastData data = connection.getHourlyForecastData(BERLIN, 8);
+        assertNotNull(data);
+        assertEquals(8, data.getList().size());
+        assertSame(data, connection.getHourlyForecastData(BERLIN, 4));
+        assertEquals(1, requests.size());
+
+        OpenWeatherMapJsonHourlyForecastData largerData = connection.getHourlyForecastData(BERLIN, 16);
+        assertNotNull(largerData);
+        assertEquals(16, largerData.getList().size());
+        assertSame(largerData, connection.getHourlyForecastData(BERLIN_PRECISE, 8));
+        assertEquals(2, requests.size());
+        assertTrue(requests.get(1).contains("cnt=16"));
+
+        List<OpenWeatherMapJsonUVIndexData> uvindexData = connection.getUVIndexForecastData(BERLIN, 8);
+        assertNotNull(uvindexData);
+        assertEquals(8, uvindexData.size());
+        connection.getUVIndexForecastData(BERLIN, 2);
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    public void testRequestsAreLimitedByBudget() {
+        OpenWeatherMapConnection connection = createConnection(2);
+
+        connection.getWeatherData(BERLIN);
+        connection.getWeatherData(PARIS);
+        assertThrows(OpenWeatherMapCommunicationException.class, () -> connection.getWeatherData(ROME));
+        assertEquals(2, requests.size());
+        assertEquals(1, connection.getRejectedRequests());
+        assertTrue(connection.getRequestLimitWaitTime(TimeUnit.SECONDS) > 0);
+
+        // cached data is still served
+        assertNotNull(connection.getWeatherData(BERLIN));
+        assertEquals(2, requests.size());
+    }
+
+    private OpenWeatherMapConnection createConnection(int requestsPerHour) {
+        return new OpenWeatherMapConnection(handler, httpClient,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/data/2.5",
+                new OpenWeatherMapRequestBudget(requestsPerHour, 1, TimeUnit.HOURS));
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+        requests.add(path + "?" + query);
+
+        String response;
+        if (path.endsWith("/uvi/forecast")) {
+            response = "[" + repeat("{\"date\":1603101600,\"value\":2.5}", getCount(query)) + "]";
+        } else if (path.endsWith("/uvi")) {
+            response = "{\"date\":1603101600,\"value\":2.5}";
+        } else if (path.endsWith("/forecast")) {
+            int count = getCount(query);
+            response = "{\"cod\":\"200\",\"cnt\":" + count + ",\"list\":["
+                    + repeat("{\"dt\":1603101600,\"main\":{\"temp\":12.5}}", count) + "]}";
+        } else {
+            response = "{\"cod\":200,\"name\":\"Berlin\",\"dt\":1603101600,\"main\":{\"temp\":12.5}}";
+        }
+
+        byte[] content = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+
+    private static int getCount(String query) {
+        for (String param : query.split("&")) {
+            if (param.startsWith("cnt=")) {
+                return Integer.parseInt(param.substring("cnt=".length()));
+            }
+        }
+        return 0;
+    }
+
+    private static String repeat(String element, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(element);
+        }
+        return sb.toString();
+    }
+}
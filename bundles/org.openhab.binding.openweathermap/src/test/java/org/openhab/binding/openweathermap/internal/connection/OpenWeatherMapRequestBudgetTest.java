@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.openweathermap.internal.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link OpenWeatherMapRequestBudget}.
+ *
+ * @author agent - Initial contribution
+ */
+public class OpenWeatherMapRequestBudgetTest {
+
+    private final AtomicLong time = new AtomicLong();
+    private final OpenWeatherMapRequestBudget budget = new OpenWeatherMapRequestBudget(3, 3, TimeUnit.SECONDS,
+            time::get);
+
+    @Test
+    public void testBurstIsLimitedToCapacity() {
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertEquals(1000, budget.getWaitTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testBudgetIsRefilled() {
+        for (int i = 0; i < 3; i++) {
+            budget.tryAcquire();
+        }
+
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+        assertEquals(0, budget.getWaitTime(TimeUnit.MILLISECONDS));
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertEquals(500, budget.getWaitTime(TimeUnit.MILLISECONDS));
+
+        // the budget does not grow beyond the capacity
+        time.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(budget.tryAcquire());
+        }
+        assertFalse(budget.tryAcquire());
+    }
+}
@@ -103,7 +103,7 @@ public class PLCLogoClient extends S7Client {
             result = super.ReadArea(Area, DBNumber, Start, packet, WordLength, Data);
             while ((result == 0) && (offset < Amount)) {
                 byte buffer[] = new byte[Math.min(Amount - offset, packet)];
-                result = super.ReadArea(Area, DBNumber, offset, buffer.length, WordLength, buffer);
+                result = super.ReadArea(Area, DBNumber, Start + offset, buffer.length, WordLength, buffer);
                 System.arraycopy(buffer, 0, Data, offset, buffer.length);
                 offset = offset + buffer.length;
             }
@@ -112,7 +112,7 @@ public class PLCAnalogHandler extends PLCCommonHandler {
             if (command instanceof RefreshType) {
                 int base = getBase(name);
                 byte[] buffer = new byte[getBufferLength()];
-                int result = client.readDBArea(1, base, buffer.length, S7Client.S7WLByte, buffer);
+                int result = readData(base, buffer);
                 if (result == 0) {
                     updateChannel(channel, S7.GetShortAt(buffer, address - base));
                 } else {
@@ -178,6 +178,11 @@ public class PLCAnalogHandler extends PLCCommonHandler {
         }
     }
 
+    @Override
+    public boolean isUpdateForced() {
+        return config.get().isUpdateForced();
+    }
+
     @Override
     protected void updateState(ChannelUID channelUID, State state) {
         super.updateState(channelUID, state);
@@ -16,15 +16,20 @@ import static org.openhab.binding.plclogo.internal.PLCLogoBindingConstants.*;
 
 import java.time.DateTimeException;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -62,15 +67,27 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
 
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES = Collections.singleton(THING_TYPE_DEVICE);
 
+    // Memory areas with a smaller gap in between are read at once, since an additional request
+    // costs more than the transfer of the bytes in between
+    private static final int MERGE_GAP = 32;
+
     private final Logger logger = LoggerFactory.getLogger(PLCBridgeHandler.class);
 
     private Map<ChannelUID, String> oldValues = new HashMap<>();
 
     @Nullable
     private volatile PLCLogoClient client; // S7 client used for communication with Logo!
-    private final Set<PLCCommonHandler> handlers = new HashSet<>();
+    private final Set<PLCCommonHandler> handlers = new CopyOnWriteArraySet<>();
     private AtomicReference<PLCLogoBridgeConfiguration> config = new AtomicReference<>();
 
+    // Memory areas to read and handlers to update per byte, recomputed if handlers, their status or links change
+    @Nullable
+    private volatile ReadIndex index;
+    private final AtomicInteger layoutVersion = new AtomicInteger();
+    // Data of the last read cycle
+    @Nullable
+    private volatile Snapshot snapshot;
+
     @Nullable
     private ScheduledFuture<?> rtcJob;
     private AtomicReference<ZonedDateTime> rtc = new AtomicReference<>(ZonedDateTime.now());
@@ -80,7 +97,9 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
         @Override
         public void run() {
             for (Channel channel : channels) {
-                handleCommand(channel.getUID(), RefreshType.REFRESH);
+                if (isLinked(channel.getUID())) {
+                    handleCommand(channel.getUID(), RefreshType.REFRESH);
+                }
             }
         }
     };
@@ -89,36 +108,43 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
     private ScheduledFuture<?> readerJob;
     private final Runnable dataReader = new Runnable() {
         // Buffer for block data read operation
-        private final byte[] buffer = new byte[2048];
+        private byte[] buffer = new byte[2048];
 
         @Override
         public void run() {
             PLCLogoClient localClient = client;
-            Map<?, Layout> memory = LOGO_MEMORY_BLOCK.get(getLogoFamily());
-            Layout layout = (memory != null) ? memory.get(MEMORY_SIZE) : null;
-            if ((layout != null) && (localClient != null)) {
-                try {
-                    int result = localClient.readDBArea(1, 0, layout.length, S7Client.S7WLByte, buffer);
-                    if (result == 0) {
-                        synchronized (handlers) {
-                            for (PLCCommonHandler handler : handlers) {
-                                int length = handler.getBufferLength();
-                                int address = handler.getStartAddress();
-                                if ((length > 0) && (address != PLCCommonHandler.INVALID)) {
-                                    handler.setData(Arrays.copyOfRange(buffer, address, address + length));
-                                } else {
-                                    logger.debug("Invalid handler {} found.", handler.getClass().getSimpleName());
-                                }
-                            }
-                        }
-                    } else {
+            if (localClient == null) {
+                logger.debug("LOGO! client {} is invalid.", localClient);
+                return;
+            }
+
+            try {
+                ReadIndex localIndex = getReadIndex();
+                byte[] data = new byte[localIndex.size];
+                for (Layout area : localIndex.areas) {
+                    if (buffer.length < area.length) {
+                        buffer = new byte[area.length];
+                    }
+                    int result = localClient.readDBArea(1, area.address, area.length, S7Client.S7WLByte, buffer);
+                    if (result != 0) {
+                        snapshot = null;
                         logger.debug("Can not read data from LOGO!: {}.", S7Client.ErrorText(result));
+                        return;
                     }
-                } catch (Exception exception) {
-                    logger.error("Reader thread got exception: {}.", exception.getMessage());
+                    System.arraycopy(buffer, 0, data, area.address, area.length);
                 }
-            } else {
-                logger.debug("Either memory block {} or LOGO! client {} is invalid.", memory, localClient);
+
+                Snapshot previous = snapshot;
+                snapshot = new Snapshot(data, localIndex);
+
+                for (PLCCommonHandler handler : getChangedHandlers(localIndex, data, previous)) {
+                    Layout block = localIndex.blocks.get(handler);
+                    if (block != null) {
+                        handler.setData(Arrays.copyOfRange(data, block.address, block.address + block.length));
+                    }
+                }
+            } catch (Exception exception) {
+                logger.error("Reader thread got exception: {}.", exception.getMessage());
             }
         }
     };
@@ -151,7 +177,7 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
         if ((localClient != null) && (channel != null) && (layout != null)) {
             byte[] buffer = new byte[layout.length];
             Arrays.fill(buffer, (byte) 0);
-            int result = localClient.readDBArea(1, layout.address, buffer.length, S7Client.S7WLByte, buffer);
+            int result = readData(layout.address, buffer);
             if (result == 0) {
                 if (RTC_CHANNEL.equals(channelId)) {
                     ZonedDateTime clock = ZonedDateTime.now();
@@ -272,6 +298,9 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
             client = null;
         }
 
+        index = null;
+        snapshot = null;
+
         synchronized (oldValues) {
             oldValues.clear();
         }
@@ -281,28 +310,77 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
     public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
         super.childHandlerInitialized(childHandler, childThing);
         if (childHandler instanceof PLCCommonHandler) {
-            PLCCommonHandler handler = (PLCCommonHandler) childHandler;
-            synchronized (handlers) {
-                if (!handlers.contains(handler)) {
-                    handlers.add(handler);
-                }
-            }
+            handlers.add((PLCCommonHandler) childHandler);
+            updateLayouts();
         }
     }
 
     @Override
     public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
         if (childHandler instanceof PLCCommonHandler) {
-            PLCCommonHandler handler = (PLCCommonHandler) childHandler;
-            synchronized (handlers) {
-                if (handlers.contains(handler)) {
-                    handlers.remove(handler);
-                }
-            }
+            handlers.remove(childHandler);
+            updateLayouts();
         }
         super.childHandlerDisposed(childHandler, childThing);
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        updateLayouts();
+        super.channelLinked(channelUID);
+    }
+
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        updateLayouts();
+        super.channelUnlinked(channelUID);
+    }
+
+    /**
+     * Recompute memory areas to read from Siemens LOGO! in the next read cycle
+     */
+    public void updateLayouts() {
+        layoutVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns memory areas to read and handlers to update. The index is only recomputed, if
+     * {@link #updateLayouts()} was called since it was created.
+     *
+     * @return Current memory areas and handlers
+     */
+    ReadIndex getReadIndex() {
+        int version = layoutVersion.get();
+        ReadIndex localIndex = index;
+        if ((localIndex == null) || (localIndex.version != version)) {
+            localIndex = createIndex(version);
+            index = localIndex;
+        }
+        return localIndex;
+    }
+
+    /**
+     * Read data from Siemens LOGO! into buffer. The data is taken from the last read cycle,
+     * if it was read there and is fetched from Siemens LOGO! otherwise.
+     *
+     * @param address Start address of data to read
+     * @param buffer Buffer to read into
+     * @return Zero on success, error code otherwise
+     */
+    public int readData(int address, byte[] buffer) {
+        Snapshot localSnapshot = snapshot;
+        if ((localSnapshot != null) && localSnapshot.contains(address, buffer.length)) {
+            System.arraycopy(localSnapshot.data, address, buffer, 0, buffer.length);
+            return 0;
+        }
+
+        PLCLogoClient localClient = client;
+        if (localClient != null) {
+            return localClient.readDBArea(1, address, buffer.length, S7Client.S7WLByte, buffer);
+        }
+        return S7Client.errTCPConnectionFailed;
+    }
+
     /**
      * Returns Siemens LOGO! communication client
      *
@@ -374,4 +452,187 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
 
         return result;
     }
+
+    /**
+     * Collect memory areas used by online handlers and linked bridge channels.
+     *
+     * @param version Layout version the index is created for
+     * @return Merged memory areas and handlers to update per byte
+     */
+    private ReadIndex createIndex(int version) {
+        List<Layout> layouts = new ArrayList<>();
+        Map<PLCCommonHandler, Layout> blocks = new LinkedHashMap<>();
+        Map<PLCCommonHandler, List<Layout>> used = new LinkedHashMap<>();
+        for (PLCCommonHandler handler : handlers) {
+            if (ThingStatus.ONLINE != handler.getThing().getStatus()) {
+                // Handler is not initialized yet, the index is recomputed on its status change
+                continue;
+            }
+
+            int length = handler.getBufferLength();
+            int address = handler.getStartAddress();
+            if ((length > 0) && (address != PLCCommonHandler.INVALID)) {
+                List<Layout> areas = handler.getUsedLayouts();
+                if (!areas.isEmpty()) {
+                    blocks.put(handler, new Layout(address, length));
+                    used.put(handler, areas);
+                    layouts.addAll(areas);
+                }
+            } else {
+                logger.debug("Invalid handler {} found.", handler.getClass().getSimpleName());
+            }
+        }
+
+        for (Channel channel : getThing().getChannels()) {
+            Layout layout = LOGO_CHANNELS.get(channel.getUID().getId());
+            if ((layout != null) && isLinked(channel.getUID())) {
+                layouts.add(layout);
+            }
+        }
+
+        ReadIndex result = new ReadIndex(merge(layouts), blocks, used, version);
+        if (logger.isDebugEnabled()) {
+            StringBuilder areas = new StringBuilder();
+            for (Layout area : result.areas) {
+                areas.append(String.format("[%d, %d] ", area.address, area.address + area.length - 1));
+            }
+            logger.debug("Read areas {}for {} handlers from LOGO!.", areas, blocks.size());
+        }
+        return result;
+    }
+
+    /**
+     * Merge overlapping or nearby memory areas.
+     *
+     * @param layouts Memory areas to merge
+     * @return Merged memory areas sorted by address
+     */
+    private static List<Layout> merge(List<Layout> layouts) {
+        List<Layout> sorted = new ArrayList<>(layouts);
+        sorted.sort(Comparator.comparingInt(layout -> layout.address));
+
+        List<Layout> result = new ArrayList<>();
+        @Nullable
+        Layout current = null;
+        for (Layout layout : sorted) {
+            if ((current != null) && (layout.address <= current.address + current.length + MERGE_GAP)) {
+                int end = Math.max(current.address + current.length, layout.address + layout.length);
+                current = new Layout(current.address, end - current.address);
+            } else {
+                if (current != null) {
+                    result.add(current);
+                }
+                current = layout;
+            }
+        }
+        if (current != null) {
+            result.add(current);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Find handlers, which must be updated with new data: handlers with changed bytes, handlers
+     * not updated in previous cycle and handlers with forced update.
+     *
+     * @param index Current memory areas and handlers
+     * @param data Data of current read cycle
+     * @param previous Data of previous read cycle
+     * @return Handlers to update
+     */
+    private static Set<PLCCommonHandler> getChangedHandlers(ReadIndex index, byte[] data,
+            @Nullable Snapshot previous) {
+        Set<PLCCommonHandler> result = new LinkedHashSet<>();
+        for (PLCCommonHandler handler : index.blocks.keySet()) {
+            if (handler.isUpdateForced() || (previous == null) || !previous.index.blocks.containsKey(handler)) {
+                result.add(handler);
+            }
+        }
+
+        boolean same = (previous != null) && (previous.index.areas == index.areas);
+        for (Layout area : index.areas) {
+            for (int address = area.address; address < area.address + area.length; address++) {
+                List<PLCCommonHandler> listeners = index.handlers.get(address);
+                if (listeners.isEmpty()) {
+                    continue;
+                }
+                if ((previous != null) && (same || previous.contains(address, 1))
+                        && (previous.data[address] == data[address])) {
+                    continue;
+                }
+                result.addAll(listeners);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Memory areas to read from Siemens LOGO! and handlers to update per byte. Instances are
+     * never modified, but replaced, if handlers, their status or links change.
+     */
+    static class ReadIndex {
+        final List<Layout> areas;
+        final Map<PLCCommonHandler, Layout> blocks;
+        private final List<List<PLCCommonHandler>> handlers;
+        private final int version;
+        private final int size;
+
+        private ReadIndex(List<Layout> areas, Map<PLCCommonHandler, Layout> blocks,
+                Map<PLCCommonHandler, List<Layout>> used, int version) {
+            int size = 0;
+            for (Layout area : areas) {
+                size = Math.max(size, area.address + area.length);
+            }
+            for (Layout block : blocks.values()) {
+                size = Math.max(size, block.address + block.length);
+            }
+
+            List<List<PLCCommonHandler>> handlers = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                handlers.add(Collections.emptyList());
+            }
+            for (Map.Entry<PLCCommonHandler, List<Layout>> entry : used.entrySet()) {
+                for (Layout layout : entry.getValue()) {
+                    for (int address = layout.address; address < layout.address + layout.length; address++) {
+                        List<PLCCommonHandler> listeners = handlers.get(address);
+                        if (listeners.isEmpty()) {
+                            listeners = new ArrayList<>();
+                            handlers.set(address, listeners);
+                        }
+                        if (!listeners.contains(entry.getKey())) {
+                            listeners.add(entry.getKey());
+                        }
+                    }
+                }
+            }
+
+            this.areas = areas;
+            this.blocks = Collections.unmodifiableMap(blocks);
+            this.handlers = handlers;
+            this.version = version;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Data read from Siemens LOGO! in one cycle.
+     */
+    private static class Snapshot {
+        private final byte[] data;
+        private final ReadIndex index;
+
+        private Snapshot(byte[] data, ReadIndex index) {
+            this.data = data;
+            this.index = index;
+        }
+
+        private boolean contains(int address, int length) {
+            for (Layout area : index.areas) {
+                if ((area.address <= address) && (address + length <= area.address + area.length)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
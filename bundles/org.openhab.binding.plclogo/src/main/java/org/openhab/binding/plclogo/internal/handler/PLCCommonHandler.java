@@ -14,7 +14,9 @@ package org.openhab.binding.plclogo.internal.handler;
 
 import static org.openhab.binding.plclogo.internal.PLCLogoBindingConstants.*;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +26,7 @@ import org.openhab.binding.plclogo.internal.PLCLogoBindingConstants.Layout;
 import org.openhab.binding.plclogo.internal.PLCLogoClient;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
@@ -34,6 +37,8 @@ import org.openhab.core.types.State;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import Moka7.S7Client;
+
 /**
  * The {@link PLCCommonHandler} is responsible for handling commands, which are
  * sent to one of the channels.
@@ -116,6 +121,59 @@ public abstract class PLCCommonHandler extends BaseThingHandler {
         return layout != null ? layout.length : 0;
     }
 
+    /**
+     * Return memory areas, which are used by the linked channels of current thing. The bridge reads
+     * these areas once per cycle and calls {@link #setData(byte[])}, if one of their bytes has changed.
+     *
+     * @return Memory areas used by linked channels
+     */
+    public List<Layout> getUsedLayouts() {
+        for (Channel channel : getThing().getChannels()) {
+            if (isLinked(channel.getUID())) {
+                return getLayouts();
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns if channels update must be forced on every read cycle.
+     *
+     * @return True, if channels update to be forced and false otherwise
+     */
+    public abstract boolean isUpdateForced();
+
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        PLCBridgeHandler handler = getBridgeHandler();
+        if (handler != null) {
+            handler.updateLayouts();
+        }
+        super.channelLinked(channelUID);
+    }
+
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        PLCBridgeHandler handler = getBridgeHandler();
+        if (handler != null) {
+            handler.updateLayouts();
+        }
+        super.channelUnlinked(channelUID);
+    }
+
+    @Override
+    protected void updateStatus(ThingStatus status, ThingStatusDetail statusDetail, @Nullable String description) {
+        ThingStatus previous = getThing().getStatus();
+        super.updateStatus(status, statusDetail, description);
+        if (previous != status) {
+            // Only online things are read by the bridge
+            PLCBridgeHandler handler = getBridgeHandler();
+            if (handler != null) {
+                handler.updateLayouts();
+            }
+        }
+    }
+
     /**
      * Update value channel of current thing with new data.
      *
@@ -123,6 +181,40 @@ public abstract class PLCCommonHandler extends BaseThingHandler {
      */
     public abstract void setData(final byte[] data);
 
+    /**
+     * Return memory areas the data of current thing is read from. The whole data buffer is used by default.
+     *
+     * @return Memory areas of current thing
+     */
+    protected List<Layout> getLayouts() {
+        int address = getStartAddress();
+        int length = getBufferLength();
+        if ((length > 0) && (address != INVALID)) {
+            return Collections.singletonList(new Layout(address, length));
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Read data from Siemens LOGO! into buffer. The data is taken from the last read cycle of the bridge,
+     * if it was read there and is fetched from Siemens LOGO! otherwise.
+     *
+     * @param address Start address of data to read
+     * @param buffer Buffer to read into
+     * @return Zero on success, error code otherwise
+     */
+    protected int readData(int address, byte[] buffer) {
+        PLCBridgeHandler handler = getBridgeHandler();
+        if (handler != null) {
+            return handler.readData(address, buffer);
+        }
+        PLCLogoClient localClient = client;
+        if (localClient != null) {
+            return localClient.readDBArea(1, address, buffer.length, S7Client.S7WLByte, buffer);
+        }
+        return S7Client.errTCPConnectionFailed;
+    }
+
     /**
      * Checks if block name is valid.
      *
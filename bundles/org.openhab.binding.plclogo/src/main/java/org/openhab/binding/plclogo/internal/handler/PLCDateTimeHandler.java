@@ -21,6 +21,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.plclogo.internal.PLCLogoBindingConstants.Layout;
 import org.openhab.binding.plclogo.internal.PLCLogoClient;
 import org.openhab.binding.plclogo.internal.config.PLCDateTimeConfiguration;
 import org.openhab.core.config.core.Configuration;
@@ -82,10 +83,10 @@ public class PLCDateTimeHandler extends PLCCommonHandler {
         PLCLogoClient client = getLogoClient();
         if ((address != INVALID) && (client != null)) {
             if (command instanceof RefreshType) {
-                byte[] buffer = new byte[getBufferLength()];
-                int result = client.readDBArea(1, 0, buffer.length, S7Client.S7WLByte, buffer);
+                byte[] buffer = new byte[2];
+                int result = readData(address, buffer);
                 if (result == 0) {
-                    updateChannel(channel, S7.GetShortAt(buffer, address));
+                    updateChannel(channel, S7.GetShortAt(buffer, 0));
                 } else {
                     logger.debug("Can not read data from LOGO!: {}.", S7Client.ErrorText(result));
                 }
@@ -152,6 +153,11 @@ public class PLCDateTimeHandler extends PLCCommonHandler {
         }
     }
 
+    @Override
+    public boolean isUpdateForced() {
+        return config.get().isUpdateForced();
+    }
+
     @Override
     protected void updateState(ChannelUID channelUID, State state) {
         super.updateState(channelUID, state);
@@ -187,6 +193,15 @@ public class PLCDateTimeHandler extends PLCCommonHandler {
         return 2;
     }
 
+    @Override
+    protected List<Layout> getLayouts() {
+        int address = getAddress(config.get().getBlockName());
+        if (address != INVALID) {
+            return Collections.singletonList(new Layout(address, 2));
+        }
+        return Collections.emptyList();
+    }
+
     @Override
     protected void doInitialization() {
         Thing thing = getThing();
@@ -115,7 +115,7 @@ public class PLCDigitalHandler extends PLCCommonHandler {
             if (command instanceof RefreshType) {
                 int base = getBase(name);
                 byte[] buffer = new byte[getBufferLength()];
-                int result = client.readDBArea(1, base, buffer.length, S7Client.S7WLByte, buffer);
+                int result = readData(base, buffer);
                 if (result == 0) {
                     updateChannel(channel, S7.GetBitAt(buffer, address - base, bit));
                 } else {
@@ -183,6 +183,11 @@ public class PLCDigitalHandler extends PLCCommonHandler {
         }
     }
 
+    @Override
+    public boolean isUpdateForced() {
+        return config.get().isUpdateForced();
+    }
+
     @Override
     protected void updateState(ChannelUID channelUID, State state) {
         super.updateState(channelUID, state);
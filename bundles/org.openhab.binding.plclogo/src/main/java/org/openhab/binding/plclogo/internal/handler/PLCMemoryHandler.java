@@ -20,6 +20,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.plclogo.internal.PLCLogoBindingConstants.Layout;
 import org.openhab.binding.plclogo.internal.PLCLogoClient;
 import org.openhab.binding.plclogo.internal.config.PLCMemoryConfiguration;
 import org.openhab.core.config.core.Configuration;
@@ -83,23 +84,23 @@ public class PLCMemoryHandler extends PLCCommonHandler {
             String kind = getBlockKind();
             String type = channel.getAcceptedItemType();
             if (command instanceof RefreshType) {
-                byte[] buffer = new byte[getBufferLength()];
-                int result = client.readDBArea(1, 0, buffer.length, S7Client.S7WLByte, buffer);
+                byte[] buffer = new byte[getMemorySize(kind)];
+                int result = readData(address, buffer);
                 if (result == 0) {
                     if (DIGITAL_OUTPUT_ITEM.equalsIgnoreCase(type) && MEMORY_BYTE.equalsIgnoreCase(kind)) {
-                        boolean value = S7.GetBitAt(buffer, address, getBit(name));
+                        boolean value = S7.GetBitAt(buffer, 0, getBit(name));
                         updateState(channelUID, value ? OnOffType.ON : OnOffType.OFF);
                         logger.debug("Channel {} accepting {} was set to {}.", channelUID, type, value);
                     } else if (ANALOG_ITEM.equalsIgnoreCase(type) && MEMORY_BYTE.equalsIgnoreCase(kind)) {
-                        int value = buffer[address];
+                        int value = buffer[0];
                         updateState(channelUID, new DecimalType(value));
                         logger.debug("Channel {} accepting {} was set to {}.", channelUID, type, value);
                     } else if (ANALOG_ITEM.equalsIgnoreCase(type) && MEMORY_WORD.equalsIgnoreCase(kind)) {
-                        int value = S7.GetShortAt(buffer, address);
+                        int value = S7.GetShortAt(buffer, 0);
                         updateState(channelUID, new DecimalType(value));
                         logger.debug("Channel {} accepting {} was set to {}.", channelUID, type, value);
                     } else if (ANALOG_ITEM.equalsIgnoreCase(type) && MEMORY_DWORD.equalsIgnoreCase(kind)) {
-                        int value = S7.GetDIntAt(buffer, address);
+                        int value = S7.GetDIntAt(buffer, 0);
                         updateState(channelUID, new DecimalType(value));
                         logger.debug("Channel {} accepting {} was set to {}.", channelUID, type, value);
                     } else {
@@ -109,8 +110,7 @@ public class PLCMemoryHandler extends PLCCommonHandler {
                     logger.debug("Can not read data from LOGO!: {}.", S7Client.ErrorText(result));
                 }
             } else if (command instanceof DecimalType) {
-                int length = MEMORY_BYTE.equalsIgnoreCase(kind) ? 1 : 2;
-                byte[] buffer = new byte[MEMORY_DWORD.equalsIgnoreCase(kind) ? 4 : length];
+                byte[] buffer = new byte[getMemorySize(kind)];
                 if (ANALOG_ITEM.equalsIgnoreCase(type) && MEMORY_BYTE.equalsIgnoreCase(kind)) {
                     buffer[0] = ((DecimalType) command).byteValue();
                 } else if (ANALOG_ITEM.equalsIgnoreCase(type) && MEMORY_WORD.equalsIgnoreCase(kind)) {
@@ -225,6 +225,11 @@ public class PLCMemoryHandler extends PLCCommonHandler {
         }
     }
 
+    @Override
+    public boolean isUpdateForced() {
+        return config.get().isUpdateForced();
+    }
+
     @Override
     protected void updateState(ChannelUID channelUID, State state) {
         super.updateState(channelUID, state);
@@ -261,6 +266,15 @@ public class PLCMemoryHandler extends PLCCommonHandler {
         return 1;
     }
 
+    @Override
+    protected List<Layout> getLayouts() {
+        int address = getAddress(config.get().getBlockName());
+        if (address != INVALID) {
+            return Collections.singletonList(new Layout(address, getMemorySize(getBlockKind())));
+        }
+        return Collections.emptyList();
+    }
+
     @Override
     protected void doInitialization() {
         Thing thing = getThing();
@@ -322,4 +336,17 @@ public class PLCMemoryHandler extends PLCCommonHandler {
 
         return bit;
     }
+
+    /**
+     * Return size of memory block of given kind in bytes.
+     *
+     * @param kind Kind of the LOGO! memory block
+     * @return Size of memory block
+     */
+    private static int getMemorySize(final String kind) {
+        if (MEMORY_DWORD.equalsIgnoreCase(kind)) {
+            return 4;
+        }
+        return MEMORY_WORD.equalsIgnoreCase(kind) ? 2 : 1;
+    }
 }
@@ -14,6 +14,8 @@ package org.openhab.binding.plclogo.internal.handler;
 
 import static org.openhab.binding.plclogo.internal.PLCLogoBindingConstants.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -22,6 +24,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.plclogo.internal.PLCLogoBindingConstants.Layout;
 import org.openhab.binding.plclogo.internal.PLCLogoClient;
 import org.openhab.binding.plclogo.internal.config.PLCPulseConfiguration;
 import org.openhab.core.config.core.Configuration;
@@ -87,7 +90,7 @@ public class PLCPulseHandler extends PLCCommonHandler {
         if ((address != INVALID) && (bit != INVALID) && (client != null)) {
             byte[] buffer = new byte[1];
             if (command instanceof RefreshType) {
-                int result = client.readDBArea(1, address, buffer.length, S7Client.S7WLByte, buffer);
+                int result = readData(address, buffer);
                 if (result == 0) {
                     updateChannel(channel, S7.GetBitAt(buffer, 0, bit));
                 } else {
@@ -187,6 +190,11 @@ public class PLCPulseHandler extends PLCCommonHandler {
         }
     }
 
+    @Override
+    public boolean isUpdateForced() {
+        return config.get().isUpdateForced();
+    }
+
     @Override
     protected void updateState(ChannelUID channelUID, State state) {
         super.updateState(channelUID, state);
@@ -232,6 +240,18 @@ public class PLCPulseHandler extends PLCCommonHandler {
         return 2;
     }
 
+    @Override
+    protected List<Layout> getLayouts() {
+        List<Layout> layouts = new ArrayList<>();
+        for (String name : Arrays.asList(config.get().getBlockName(), config.get().getObservedBlock())) {
+            int address = getAddress(name);
+            if (address != INVALID) {
+                layouts.add(new Layout(address, 1));
+            }
+        }
+        return layouts;
+    }
+
     @Override
     protected int getAddress(final String name) {
         int address = super.getAddress(name);
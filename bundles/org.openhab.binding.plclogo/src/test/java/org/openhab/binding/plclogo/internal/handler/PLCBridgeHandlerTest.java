@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.plclogo.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.plclogo.internal.PLCLogoBindingConstants.Layout;
+import org.openhab.binding.plclogo.internal.handler.PLCBridgeHandler.ReadIndex;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandlerCallback;
+
+/**
+ * Tests for the read index of the {@link PLCBridgeHandler}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+@NonNullByDefault
+public class PLCBridgeHandlerTest {
+
+    private static final ThingUID BRIDGE_UID = new ThingUID("plclogo", "device", "logo");
+
+    private @Mock @NonNullByDefault({}) Bridge bridge;
+    private @Mock @NonNullByDefault({}) Thing onlineThing;
+    private @Mock @NonNullByDefault({}) Thing offlineThing;
+    private @Mock @NonNullByDefault({}) PLCCommonHandler onlineHandler;
+    private @Mock @NonNullByDefault({}) PLCCommonHandler offlineHandler;
+
+    private @NonNullByDefault({}) PLCBridgeHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        when(bridge.getChannels()).thenReturn(Collections.emptyList());
+        handler = new PLCBridgeHandler(bridge);
+
+        mockHandler(onlineHandler, onlineThing, ThingStatus.ONLINE, 0, 8);
+        mockHandler(offlineHandler, offlineThing, ThingStatus.OFFLINE, 8, 8);
+    }
+
+    private void mockHandler(PLCCommonHandler child, Thing thing, ThingStatus status, int address, int length) {
+        when(child.getThing()).thenReturn(thing);
+        when(thing.getStatus()).thenReturn(status);
+        when(child.getStartAddress()).thenReturn(address);
+        when(child.getBufferLength()).thenReturn(length);
+        when(child.getUsedLayouts()).thenReturn(List.of(new Layout(address, length)));
+    }
+
+    @Test
+    public void testOfflineHandlerDoesNotRecomputeIndex() {
+        handler.childHandlerInitialized(onlineHandler, onlineThing);
+        handler.childHandlerInitialized(offlineHandler, offlineThing);
+
+        ReadIndex index = handler.getReadIndex();
+        assertTrue(index.blocks.containsKey(onlineHandler));
+        assertFalse(index.blocks.containsKey(offlineHandler));
+        assertSame(index, handler.getReadIndex());
+        assertSame(index, handler.getReadIndex());
+    }
+
+    @Test
+    public void testIndexIsRecomputedOnChildChanges() {
+        handler.childHandlerInitialized(onlineHandler, onlineThing);
+        ReadIndex index = handler.getReadIndex();
+        assertEquals(1, index.blocks.size());
+
+        handler.childHandlerInitialized(offlineHandler, offlineThing);
+        when(offlineThing.getStatus()).thenReturn(ThingStatus.ONLINE);
+        ReadIndex added = handler.getReadIndex();
+        assertNotSame(index, added);
+        assertEquals(2, added.blocks.size());
+
+        handler.childHandlerDisposed(onlineHandler, onlineThing);
+        ReadIndex removed = handler.getReadIndex();
+        assertNotSame(added, removed);
+        assertFalse(removed.blocks.containsKey(onlineHandler));
+        assertTrue(removed.blocks.containsKey(offlineHandler));
+    }
+
+    @Test
+    public void testIndexIsRecomputedOnStatusChange(@Mock ThingHandlerCallback callback, @Mock Thing thing) {
+        when(thing.getStatus()).thenReturn(ThingStatus.OFFLINE);
+        when(thing.getBridgeUID()).thenReturn(BRIDGE_UID);
+        when(callback.getBridge(BRIDGE_UID)).thenReturn(bridge);
+        when(bridge.getHandler()).thenReturn(handler);
+
+        PLCDigitalHandler child = new PLCDigitalHandler(thing);
+        child.setCallback(callback);
+
+        ReadIndex index = handler.getReadIndex();
+        child.updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.NONE, null);
+        assertSame(index, handler.getReadIndex());
+
+        child.updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, null);
+        assertNotSame(index, handler.getReadIndex());
+    }
+
+    @Test
+    public void testNearbyAreasAreMerged() {
+        when(onlineHandler.getUsedLayouts()).thenReturn(List.of(new Layout(0, 2), new Layout(6, 2)));
+        when(offlineThing.getStatus()).thenReturn(ThingStatus.ONLINE);
+        when(offlineHandler.getStartAddress()).thenReturn(1024);
+        when(offlineHandler.getUsedLayouts()).thenReturn(List.of(new Layout(1024, 8)));
+        handler.childHandlerInitialized(onlineHandler, onlineThing);
+        handler.childHandlerInitialized(offlineHandler, offlineThing);
+
+        List<Layout> areas = handler.getReadIndex().areas;
+        assertEquals(2, areas.size());
+        assertEquals(0, areas.get(0).address);
+        assertEquals(8, areas.get(0).length);
+        assertEquals(1024, areas.get(1).address);
+        assertEquals(8, areas.get(1).length);
+    }
+}
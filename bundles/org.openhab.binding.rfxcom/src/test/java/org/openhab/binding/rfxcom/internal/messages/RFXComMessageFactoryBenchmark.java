@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.rfxcom.internal.messages;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.rfxcom.internal.exceptions.RFXComException;
+import org.openhab.core.util.HexUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of the {@link RFXComMessageFactory} for received messages. It is not part of the regular
+ * build and has to be run manually.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Disabled
+public class RFXComMessageFactoryBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 100_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private final Logger logger = LoggerFactory.getLogger(RFXComMessageFactoryBenchmark.class);
+
+    @Test
+    public void benchmarkDecoding() throws RFXComException {
+        benchmarkDecoding("105601122F000087000000140000000079", RFXComWindMessage.class);
+        benchmarkDecoding("0716020900A1F350", RFXComChimeMessage.class);
+        benchmarkDecoding("0A4E012B2955001A002179", RFXComBBQTemperatureMessage.class);
+        benchmarkDecoding("08500110000180BC69", RFXComTemperatureMessage.class);
+        benchmarkDecoding("0B11000600109B520B000080", RFXComLighting2Message.class);
+    }
+
+    private void benchmarkDecoding(String hexMessage, Class<?> messageClass) throws RFXComException {
+        byte[] message = HexUtils.hexToBytes(hexMessage);
+        decode(message, messageClass, WARMUP_ITERATIONS);
+
+        long start = System.nanoTime();
+        decode(message, messageClass, ITERATIONS);
+        long time = System.nanoTime() - start;
+
+        logger.info("{}: {} messages/s, {} ns/message", messageClass.getSimpleName(),
+                ITERATIONS * TimeUnit.SECONDS.toNanos(1) / time, time / ITERATIONS);
+    }
+
+    private void decode(byte[] message, Class<?> messageClass, int iterations) throws RFXComException {
+        for (int i = 0; i < iterations; i++) {
+            RFXComMessage msg = RFXComMessageFactory.createMessage(message);
+            if (msg.getClass() != messageClass) {
+                assertEquals(messageClass, msg.getClass());
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.rfxcom.internal.messages;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.binding.rfxcom.internal.messages.RFXComBaseMessage.PacketType.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.rfxcom.internal.exceptions.RFXComException;
+import org.openhab.binding.rfxcom.internal.exceptions.RFXComMessageNotImplementedException;
+import org.openhab.core.util.HexUtils;
+
+/**
+ * Test for the message registry of the {@link RFXComMessageFactory}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RFXComMessageFactoryTest {
+
+    @Test
+    public void testCreateMessage() throws RFXComException {
+        assertEquals(RFXComFanMessage.class, RFXComMessageFactory.createMessage(FAN).getClass());
+        assertEquals(RFXComFanMessage.class, RFXComMessageFactory.createMessage(FAN_FALMEC).getClass());
+        assertEquals(RFXComLighting2Message.class, RFXComMessageFactory.createMessage(LIGHTING2).getClass());
+        assertEquals(RFXComRFXSensorMessage.class, RFXComMessageFactory.createMessage(RFXSENSOR).getClass());
+    }
+
+    @Test
+    public void testCreateMessageWithoutDefaultConstructor() {
+        assertThrows(RFXComException.class, () -> RFXComMessageFactory.createMessage(INTERFACE_CONTROL));
+        assertThrows(RFXComException.class, () -> RFXComMessageFactory.createMessage(INTERFACE_MESSAGE));
+    }
+
+    @Test
+    public void testCreateNotImplementedMessage() {
+        assertThrows(RFXComMessageNotImplementedException.class, () -> RFXComMessageFactory.createMessage(GAS));
+        assertThrows(RFXComMessageNotImplementedException.class,
+                () -> RFXComMessageFactory.createMessage(HexUtils.hexToBytes("0B71000000000000000000")));
+    }
+
+    @Test
+    public void testDecodingFailureIsWrapped() {
+        // control messages are never received
+        assertThrows(RFXComException.class,
+                () -> RFXComMessageFactory.createMessage(HexUtils.hexToBytes("0D00000000000000000000000000")));
+    }
+
+    @Test
+    public void testDecoding() throws RFXComException {
+        testDecoding("105601122F000087000000140000000079", RFXComWindMessage.class);
+        testDecoding("0716020900A1F350", RFXComChimeMessage.class);
+        testDecoding("0A4E012B2955001A002179", RFXComBBQTemperatureMessage.class);
+        testDecoding("08500110000180BC69", RFXComTemperatureMessage.class);
+        testDecoding("0B11000600109B520B000080", RFXComLighting2Message.class);
+    }
+
+    private void testDecoding(String hexMessage, Class<?> messageClass) throws RFXComException {
+        RFXComMessage msg = RFXComMessageFactory.createMessage(HexUtils.hexToBytes(hexMessage));
+        assertEquals(messageClass, msg.getClass());
+        assertEquals(hexMessage, HexUtils.bytesToHex(msg.decodeMessage()), "Message converted back");
+    }
+}
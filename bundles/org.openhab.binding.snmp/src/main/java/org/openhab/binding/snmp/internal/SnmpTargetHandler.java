@@ -17,11 +17,19 @@ import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Objects;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -60,6 +68,7 @@ import org.snmp4j.mp.SnmpConstants;
 import org.snmp4j.smi.Counter64;
 import org.snmp4j.smi.Integer32;
 import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.Null;
 import org.snmp4j.smi.OID;
 import org.snmp4j.smi.OctetString;
 import org.snmp4j.smi.UdpAddress;
@@ -77,6 +86,10 @@ import org.snmp4j.smi.VariableBinding;
 public class SnmpTargetHandler extends BaseThingHandler implements ResponseListener, CommandResponder {
     private static final Pattern HEXSTRING_VALIDITY = Pattern.compile("([a-f0-9]{2}[ :-]?)+");
     private static final Pattern HEXSTRING_EXTRACTOR = Pattern.compile("[^a-f0-9]");
+    // estimated BER length of the message and PDU header without the community
+    private static final int MESSAGE_HEADER_SIZE = 32;
+    // room for the value of each variable binding in the response, requests only carry NULL values
+    private static final int RESPONSE_VALUE_RESERVE = 8;
 
     private final Logger logger = LoggerFactory.getLogger(SnmpTargetHandler.class);
 
@@ -84,13 +97,22 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     private final SnmpService snmpService;
     private @Nullable ScheduledFuture<?> refresh;
     private int timeoutCounter = 0;
+    // a refresh cycle sends several requests, but counts as a single timeout if some of them time out
+    private final AtomicBoolean timeoutInRefreshCycle = new AtomicBoolean();
 
     private @NonNullByDefault({}) AbstractTarget target;
     private @NonNullByDefault({}) String targetAddressString;
 
-    private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> readChannelSet;
-    private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> writeChannelSet;
-    private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> trapChannelSet;
+    private @NonNullByDefault({}) Map<ChannelUID, SnmpInternalChannelConfiguration> readChannels;
+    private @NonNullByDefault({}) Map<ChannelUID, SnmpInternalChannelConfiguration> writeChannels;
+    private @NonNullByDefault({}) Map<OID, List<SnmpInternalChannelConfiguration>> readChannelsByOid;
+    private @NonNullByDefault({}) Map<OID, List<SnmpInternalChannelConfiguration>> trapChannelsByOid;
+
+    // OIDs of the read channels, split into GET requests that fit the maximum message size of the target
+    private volatile List<List<OID>> getRequests = Collections.emptyList();
+    private volatile int requestSizeLimit;
+    // subtrees that are walked with GETBULK requests instead of GET requests
+    private List<Walk> walks = Collections.emptyList();
 
     public SnmpTargetHandler(Thing thing, SnmpService snmpService) {
         super(thing);
@@ -106,16 +128,18 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
 
         try {
             if (command instanceof RefreshType) {
-                SnmpInternalChannelConfiguration channel = readChannelSet.stream()
-                        .filter(c -> channelUID.equals(c.channelUID)).findFirst()
-                        .orElseThrow(() -> new IllegalArgumentException("no writable channel found"));
+                SnmpInternalChannelConfiguration channel = readChannels.get(channelUID);
+                if (channel == null) {
+                    throw new IllegalArgumentException("no readable channel found");
+                }
                 PDU pdu = new PDU(PDU.GET, Collections.singletonList(new VariableBinding(channel.oid)));
                 snmpService.send(pdu, target, null, this);
             } else if (command instanceof DecimalType || command instanceof StringType
                     || command instanceof OnOffType) {
-                SnmpInternalChannelConfiguration channel = writeChannelSet.stream()
-                        .filter(config -> channelUID.equals(config.channelUID)).findFirst()
-                        .orElseThrow(() -> new IllegalArgumentException("no writable channel found"));
+                SnmpInternalChannelConfiguration channel = writeChannels.get(channelUID);
+                if (channel == null) {
+                    throw new IllegalArgumentException("no writable channel found");
+                }
                 Variable variable;
                 if (command instanceof OnOffType) {
                     variable = OnOffType.ON.equals(command) ? channel.onValue : channel.offValue;
@@ -149,6 +173,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             target.setRetries(config.retries);
             target.setTimeout(config.timeout);
             target.setVersion(config.protocol.toInteger());
+            target.setMaxSizeRequestPDU(config.maxMessageSize);
             target.setAddress(null);
             this.target = target;
             snmpService.addCommandResponder(this);
@@ -157,6 +182,8 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             return;
         }
 
+        planRequests();
+
         timeoutCounter = 0;
 
         updateStatus(ThingStatus.UNKNOWN);
@@ -190,6 +217,9 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         if (response == null) {
             Exception e = event.getError();
             if (e == null) { // no response, no error -> request timed out
+                if (!timeoutInRefreshCycle.compareAndSet(false, true)) {
+                    return;
+                }
                 timeoutCounter++;
                 if (timeoutCounter > config.retries) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "request timed out");
@@ -206,11 +236,20 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
         logger.trace("{} received {}", thing.getUID(), response);
 
-        response.getVariableBindings().forEach(variable -> {
-            OID oid = variable.getOid();
-            Variable value = variable.getVariable();
-            updateChannels(oid, value, readChannelSet);
-        });
+        PDU request = event.getRequest();
+        @Nullable
+        Object userObject = event.getUserObject();
+        if (response.getErrorStatus() == PDU.tooBig && request != null) {
+            resendTooBigRequest(request, userObject);
+        } else if (userObject instanceof Walk && request != null) {
+            continueWalk((Walk) userObject, request, response);
+        } else {
+            response.getVariableBindings().forEach(variable -> {
+                OID oid = variable.getOid();
+                Variable value = variable.getVariable();
+                updateChannels(oid, value, readChannelsByOid);
+            });
+        }
     }
 
     @Override
@@ -232,14 +271,14 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             if (trapValue == PDUv1.ENTERPRISE_SPECIFIC) {
                 trapValue = pduv1.getSpecificTrap();
             }
-            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelSet);
+            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelsByOid);
         }
         if ((pdu.getType() == PDU.TRAP || pdu.getType() == PDU.V1TRAP) && config.community.equals(community)
                 && targetAddressString.equals(address)) {
             pdu.getVariableBindings().forEach(variable -> {
                 OID oid = variable.getOid();
                 Variable value = variable.getVariable();
-                updateChannels(oid, value, trapChannelSet);
+                updateChannels(oid, value, trapChannelsByOid);
             });
         }
     }
@@ -304,23 +343,184 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     }
 
     private void generateChannelConfigs() {
-        Set<SnmpInternalChannelConfiguration> channelConfigs = Collections
-                .unmodifiableSet(thing.getChannels().stream().map(channel -> getChannelConfigFromChannel(channel))
-                        .filter(Objects::nonNull).collect(Collectors.toSet()));
-        this.readChannelSet = channelConfigs.stream()
-                .filter(c -> c.mode == SnmpChannelMode.READ || c.mode == SnmpChannelMode.READ_WRITE)
-                .collect(Collectors.toSet());
-        this.writeChannelSet = channelConfigs.stream()
-                .filter(c -> c.mode == SnmpChannelMode.WRITE || c.mode == SnmpChannelMode.READ_WRITE)
-                .collect(Collectors.toSet());
-        this.trapChannelSet = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TRAP)
-                .collect(Collectors.toSet());
+        Map<ChannelUID, SnmpInternalChannelConfiguration> readChannels = new HashMap<>();
+        Map<ChannelUID, SnmpInternalChannelConfiguration> writeChannels = new HashMap<>();
+        Map<OID, List<SnmpInternalChannelConfiguration>> readChannelsByOid = new HashMap<>();
+        Map<OID, List<SnmpInternalChannelConfiguration>> trapChannelsByOid = new HashMap<>();
+
+        for (Channel channel : thing.getChannels()) {
+            SnmpInternalChannelConfiguration channelConfig = getChannelConfigFromChannel(channel);
+            if (channelConfig == null) {
+                continue;
+            }
+            if (channelConfig.mode == SnmpChannelMode.READ || channelConfig.mode == SnmpChannelMode.READ_WRITE) {
+                readChannels.put(channelConfig.channelUID, channelConfig);
+                readChannelsByOid.computeIfAbsent(channelConfig.oid, oid -> new ArrayList<>()).add(channelConfig);
+            }
+            if (channelConfig.mode == SnmpChannelMode.WRITE || channelConfig.mode == SnmpChannelMode.READ_WRITE) {
+                writeChannels.put(channelConfig.channelUID, channelConfig);
+            }
+            if (channelConfig.mode == SnmpChannelMode.TRAP) {
+                trapChannelsByOid.computeIfAbsent(channelConfig.oid, oid -> new ArrayList<>()).add(channelConfig);
+            }
+        }
+
+        this.readChannels = readChannels;
+        this.writeChannels = writeChannels;
+        this.readChannelsByOid = readChannelsByOid;
+        this.trapChannelsByOid = trapChannelsByOid;
+    }
+
+    /**
+     * Splits the OIDs of the read channels into GET requests or, if enabled, into the subtrees that are walked with
+     * GETBULK requests.
+     */
+    private void planRequests() {
+        SortedSet<OID> readOids = new TreeSet<>(readChannelsByOid.keySet());
+        requestSizeLimit = config.maxMessageSize;
+
+        if (config.bulkWalk && config.protocol.toInteger() == SnmpConstants.version1) {
+            logger.warn("{} uses SNMP v1, which does not support GETBULK requests, using GET requests",
+                    thing.getUID());
+        } else if (config.bulkWalk) {
+            // the OIDs are sorted, so all OIDs in the subtree of a walk are next to each other
+            List<Walk> walks = new ArrayList<>();
+            @Nullable
+            Walk walk = null;
+            for (OID oid : readOids) {
+                if (walk == null || !oid.startsWith(walk.root)) {
+                    // start the walk at the parent, e.g. the column of a table
+                    OID root = oid.size() > 1 ? new OID(oid.getValue(), 0, oid.size() - 1) : oid;
+                    walk = new Walk(root, new TreeSet<>(), config.maxRepetitions);
+                    walks.add(walk);
+                }
+                walk.oids.add(oid);
+            }
+            this.walks = walks;
+            this.getRequests = Collections.emptyList();
+            logger.debug("{} walks {} subtrees for {} OIDs", thing.getUID(), walks.size(), readOids.size());
+            return;
+        }
+
+        this.walks = Collections.emptyList();
+        this.getRequests = splitIntoRequests(readOids, requestSizeLimit);
+        logger.debug("{} requests {} OIDs with {} GET requests", thing.getUID(), readOids.size(), getRequests.size());
+    }
+
+    private List<List<OID>> splitIntoRequests(Collection<OID> oids, int sizeLimit) {
+        List<List<OID>> requests = new ArrayList<>();
+        List<OID> request = new ArrayList<>();
+        int headerSize = MESSAGE_HEADER_SIZE + config.community.length();
+        int size = headerSize;
+        for (OID oid : oids) {
+            int bindingSize = new VariableBinding(oid).getBERLength() + RESPONSE_VALUE_RESERVE;
+            if (!request.isEmpty() && size + bindingSize > sizeLimit) {
+                requests.add(request);
+                request = new ArrayList<>();
+                size = headerSize;
+            }
+            request.add(oid);
+            size += bindingSize;
+        }
+        if (!request.isEmpty()) {
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    private int estimateMessageSize(Collection<? extends VariableBinding> bindings) {
+        int size = MESSAGE_HEADER_SIZE + config.community.length();
+        for (VariableBinding binding : bindings) {
+            size += new VariableBinding(binding.getOid()).getBERLength() + RESPONSE_VALUE_RESERVE;
+        }
+        return size;
+    }
+
+    /**
+     * Sends the request again in smaller parts, if the response did not fit into the maximum message size of the
+     * target. The lower size limit is kept for the following refresh cycles.
+     */
+    private void resendTooBigRequest(PDU request, @Nullable Object userObject) {
+        try {
+            if (userObject instanceof Walk) {
+                Walk walk = (Walk) userObject;
+                if (walk.maxRepetitions > 1) {
+                    walk.maxRepetitions /= 2;
+                    walk.plan.maxRepetitions = Math.min(walk.plan.maxRepetitions, walk.maxRepetitions);
+                    sendWalkRequest(walk, request.get(0).getOid());
+                    return;
+                }
+            } else if (request.size() > 1) {
+                List<? extends VariableBinding> bindings = request.getVariableBindings();
+                int sizeLimit = Math.min(requestSizeLimit, estimateMessageSize(bindings) / 2);
+                requestSizeLimit = sizeLimit;
+                getRequests = splitIntoRequests(readChannelsByOid.keySet().stream().sorted()
+                        .collect(Collectors.toList()), sizeLimit);
+                logger.debug("{} response too big, lowering the request size limit to {}", thing.getUID(), sizeLimit);
+                sendGetRequests(splitIntoRequests(
+                        bindings.stream().map(VariableBinding::getOid).collect(Collectors.toList()), sizeLimit));
+                return;
+            }
+            logger.info("{} response to {} exceeds the maximum message size of the target", thing.getUID(), request);
+        } catch (IOException e) {
+            logger.info("Could not send PDU", e);
+        }
     }
 
-    private void updateChannels(OID oid, Variable value, Set<SnmpInternalChannelConfiguration> channelConfigs) {
-        Set<SnmpInternalChannelConfiguration> updateChannelConfigs = channelConfigs.stream()
-                .filter(c -> c.oid.equals(oid)).collect(Collectors.toSet());
-        if (!updateChannelConfigs.isEmpty()) {
+    private void sendGetRequests(List<List<OID>> requests) throws IOException {
+        for (List<OID> oids : requests) {
+            PDU pdu = new PDU(PDU.GET, oids.stream().map(VariableBinding::new).collect(Collectors.toList()));
+            snmpService.send(pdu, target, null, this);
+        }
+    }
+
+    private void sendWalkRequest(Walk walk, OID start) throws IOException {
+        PDU pdu = new PDU(PDU.GETBULK, Collections.singletonList(new VariableBinding(start)));
+        pdu.setNonRepeaters(0);
+        pdu.setMaxRepetitions(walk.maxRepetitions);
+        snmpService.send(pdu, target, walk, this);
+    }
+
+    /**
+     * Updates the channels from the response of a GETBULK request and requests the next part of the subtree, until
+     * the last OID of the walk is reached. Channels whose OIDs were not returned receive the exception value.
+     */
+    private void continueWalk(Walk walk, PDU request, PDU response) {
+        OID start = request.get(0).getOid();
+        @Nullable
+        OID next = null;
+        for (VariableBinding binding : response.getVariableBindings()) {
+            OID oid = binding.getOid();
+            Variable value = binding.getVariable();
+            if (value.isException() || !oid.startsWith(walk.root) || oid.compareTo(start) <= 0) {
+                next = null;
+                break;
+            }
+            if (walk.pending.remove(oid)) {
+                updateChannels(oid, value, readChannelsByOid);
+            }
+            if (walk.pending.isEmpty()) {
+                return;
+            }
+            next = oid;
+        }
+
+        if (next != null) {
+            try {
+                sendWalkRequest(walk, next);
+                return;
+            } catch (IOException e) {
+                logger.info("Could not send PDU", e);
+            }
+        }
+        walk.pending.forEach(oid -> updateChannels(oid, Null.noSuchInstance, readChannelsByOid));
+        walk.pending.clear();
+    }
+
+    private void updateChannels(OID oid, Variable value,
+            Map<OID, List<SnmpInternalChannelConfiguration>> channelConfigs) {
+        List<SnmpInternalChannelConfiguration> updateChannelConfigs = channelConfigs.get(oid);
+        if (updateChannelConfigs != null) {
             updateChannelConfigs.forEach(channelConfig -> {
                 ChannelUID channelUID = channelConfig.channelUID;
                 final Channel channel = thing.getChannel(channelUID);
@@ -442,14 +642,46 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 return;
             }
         }
-        PDU pdu = new PDU(PDU.GET,
-                readChannelSet.stream().map(c -> new VariableBinding(c.oid)).collect(Collectors.toList()));
-        if (!pdu.getVariableBindings().isEmpty()) {
-            try {
-                snmpService.send(pdu, target, null, this);
-            } catch (IOException e) {
-                logger.info("Could not send PDU", e);
+        timeoutInRefreshCycle.set(false);
+        try {
+            sendGetRequests(getRequests);
+            for (Walk walk : walks) {
+                sendWalkRequest(new Walk(walk), walk.root);
             }
+        } catch (IOException e) {
+            logger.info("Could not send PDU", e);
+        }
+    }
+
+    /**
+     * A walk through the subtree of one or more read channels with GETBULK requests.
+     */
+    private static class Walk {
+        private final OID root;
+        private final SortedSet<OID> oids;
+        // the planned walk, which keeps the lowered maximum repetitions for the following refresh cycles
+        private final Walk plan;
+        // OIDs that were not received in the current refresh cycle
+        private final Set<OID> pending;
+        private volatile int maxRepetitions;
+
+        Walk(OID root, SortedSet<OID> oids, int maxRepetitions) {
+            this.root = root;
+            this.oids = oids;
+            this.plan = this;
+            this.pending = new HashSet<>(oids);
+            this.maxRepetitions = Math.max(1, maxRepetitions);
+        }
+
+        /**
+         * Creates the walk of a refresh cycle from the planned walk.
+         */
+        Walk(Walk plan) {
+            this.root = plan.root;
+            this.oids = plan.oids;
+            this.plan = plan;
+            this.pending = new HashSet<>(plan.oids);
+            this.maxRepetitions = plan.maxRepetitions;
         }
     }
 }
@@ -27,4 +27,7 @@ public class SnmpTargetConfiguration {
     public SnmpProtocolVersion protocol = SnmpProtocolVersion.v1;
     public int timeout = 1500;
     public int retries = 2;
+    public int maxMessageSize = 1472;
+    public boolean bulkWalk = false;
+    public int maxRepetitions = 10;
 }
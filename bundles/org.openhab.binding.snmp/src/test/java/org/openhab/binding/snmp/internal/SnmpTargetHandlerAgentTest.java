@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.test.java.JavaTest;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandlerCallback;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * Tests reading many channels of a {@link SnmpTargetHandler} from an in-process SNMP agent.
+ *
+ * @author agent - Initial contribution
+ */
+public class SnmpTargetHandlerAgentTest extends JavaTest {
+    private static final ThingUID THING_UID = new ThingUID(THING_TYPE_TARGET, "agentthing");
+    private static final String TABLE_OID = "1.3.6.1.4.1.99999.1.1";
+    private static final int CHANNEL_COUNT = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(SnmpTargetHandlerAgentTest.class);
+
+    private @Mock ThingHandlerCallback thingHandlerCallback;
+
+    private AutoCloseable mocks;
+    private SnmpServiceImpl snmpService;
+    private TestAgent agent;
+    private SnmpTargetHandler thingHandler;
+    private final Map<ChannelUID, State> states = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    public void before() {
+        mocks = MockitoAnnotations.openMocks(this);
+        snmpService = new SnmpServiceImpl(new HashMap<>());
+    }
+
+    @AfterEach
+    public void after() throws Exception {
+        if (thingHandler != null) {
+            thingHandler.dispose();
+        }
+        if (agent != null) {
+            agent.close();
+        }
+        snmpService.deactivate();
+        mocks.close();
+    }
+
+    @Test
+    public void testGetRequestsAreSplitToMaximumMessageSize() throws IOException {
+        agent = new TestAgent(1472);
+        long time = readAllChannels(false);
+
+        assertTrue(agent.requests.get() > 1);
+        assertTrue(agent.maxRequestSize.get() <= 1472);
+        assertEquals(0, agent.tooBigResponses.get());
+        logger.info("GET: {} OIDs with {} PDUs in {} ms", CHANNEL_COUNT, agent.requests.get(), time);
+    }
+
+    @Test
+    public void testGetRequestsAreSplitIfResponseIsTooBig() throws IOException {
+        agent = new TestAgent(484);
+        long time = readAllChannels(false);
+
+        assertTrue(agent.tooBigResponses.get() > 0);
+        logger.info("GET with too big responses: {} OIDs with {} PDUs in {} ms", CHANNEL_COUNT, agent.requests.get(),
+                time);
+    }
+
+    @Test
+    public void testBulkWalk() throws IOException {
+        agent = new TestAgent(1472);
+        long time = readAllChannels(true);
+
+        // a GETBULK response is truncated to the maximum message size, so no response is too big
+        assertEquals(0, agent.tooBigResponses.get());
+        assertTrue(agent.requests.get() <= CHANNEL_COUNT / 50 + 1);
+        logger.info("GETBULK: {} OIDs with {} PDUs in {} ms", CHANNEL_COUNT, agent.requests.get(), time);
+    }
+
+    /**
+     * Initializes the handler, waits for the update of all channels and returns the time it took in milliseconds.
+     */
+    private long readAllChannels(boolean bulkWalk) {
+        Map<String, Object> thingConfig = new HashMap<>();
+        thingConfig.put("hostname", "127.0.0.1");
+        thingConfig.put("port", new BigDecimal(agent.getPort()));
+        thingConfig.put("protocol", "v2c");
+        thingConfig.put("refresh", new BigDecimal(3600));
+        thingConfig.put("bulkWalk", bulkWalk);
+        thingConfig.put("maxRepetitions", new BigDecimal(100));
+
+        ThingBuilder thingBuilder = ThingBuilder.create(THING_TYPE_TARGET, THING_UID).withLabel("Test thing")
+                .withConfiguration(new Configuration(thingConfig));
+        for (int i = 1; i <= CHANNEL_COUNT; i++) {
+            Map<String, Object> channelConfig = new HashMap<>();
+            channelConfig.put("oid", TABLE_OID + "." + i);
+            channelConfig.put("mode", SnmpChannelMode.READ.name());
+            Channel channel = ChannelBuilder.create(new ChannelUID(THING_UID, "channel" + i), "Number")
+                    .withType(CHANNEL_TYPE_UID_NUMBER).withConfiguration(new Configuration(channelConfig)).build();
+            thingBuilder.withChannel(channel);
+        }
+        Thing thing = thingBuilder.build();
+
+        thingHandler = new SnmpTargetHandler(thing, snmpService);
+        thing.setHandler(thingHandler);
+        thingHandler.setCallback(thingHandlerCallback);
+        doAnswer(answer -> {
+            ((Thing) answer.getArgument(0)).setStatusInfo(answer.getArgument(1));
+            return null;
+        }).when(thingHandlerCallback).statusUpdated(any(), any());
+        doAnswer(answer -> {
+            states.put(answer.getArgument(0), answer.getArgument(1));
+            return null;
+        }).when(thingHandlerCallback).stateUpdated(any(), any());
+
+        long start = System.nanoTime();
+        thingHandler.initialize();
+        waitForAssert(() -> assertEquals(CHANNEL_COUNT, states.size()), 10000, 10);
+        long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        for (int i = 1; i <= CHANNEL_COUNT; i++) {
+            assertEquals(new DecimalType(i), states.get(new ChannelUID(THING_UID, "channel" + i)));
+        }
+        return time;
+    }
+
+    /**
+     * A minimal SNMP agent, which answers GET and GETBULK requests for a table with {@link #CHANNEL_COUNT} rows.
+     */
+    private static class TestAgent implements CommandResponder {
+        private final NavigableMap<OID, Variable> mib = new TreeMap<>();
+        private final int maxMessageSize;
+        private final DefaultUdpTransportMapping transport;
+        private final Snmp snmp;
+
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicInteger maxRequestSize = new AtomicInteger();
+        final AtomicInteger tooBigResponses = new AtomicInteger();
+
+        TestAgent(int maxMessageSize) throws IOException {
+            this.maxMessageSize = maxMessageSize;
+            for (int i = 1; i <= CHANNEL_COUNT; i++) {
+                mib.put(new OID(TABLE_OID + "." + i), new Integer32(i));
+            }
+            mib.put(new OID("1.3.6.1.4.1.99999.2.1"), new Integer32(0));
+
+            transport = new DefaultUdpTransportMapping(new UdpAddress("127.0.0.1/0"));
+            snmp = new Snmp(transport);
+            snmp.addCommandResponder(this);
+            snmp.listen();
+        }
+
+        int getPort() {
+            return transport.getListenAddress().getPort();
+        }
+
+        void close() throws IOException {
+            snmp.close();
+        }
+
+        @Override
+        public void processPdu(CommandResponderEvent event) {
+            PDU request = event.getPDU();
+            if (request == null) {
+                return;
+            }
+            requests.incrementAndGet();
+            maxRequestSize.accumulateAndGet(request.getBERLength(), Math::max);
+
+            PDU response = new PDU();
+            response.setType(PDU.RESPONSE);
+            response.setRequestID(request.getRequestID());
+            if (request.getType() == PDU.GETBULK) {
+                // a GETBULK response contains as many values as fit into the message
+                OID oid = request.get(0).getOid();
+                for (int i = 0; i < request.getMaxRepetitions(); i++) {
+                    Map.Entry<OID, Variable> next = mib.higherEntry(oid);
+                    VariableBinding binding = next == null ? new VariableBinding(oid, Null.endOfMibView)
+                            : new VariableBinding(next.getKey(), next.getValue());
+                    response.add(binding);
+                    if (response.getBERLength() > maxMessageSize) {
+                        response.trim();
+                        break;
+                    }
+                    if (next == null) {
+                        break;
+                    }
+                    oid = next.getKey();
+                }
+            } else {
+                for (VariableBinding binding : request.getVariableBindings()) {
+                    Variable value = mib.get(binding.getOid());
+                    response.add(new VariableBinding(binding.getOid(), value == null ? Null.noSuchObject : value));
+                }
+                if (response.getBERLength() > maxMessageSize) {
+                    // the variable bindings of a tooBig response are empty
+                    tooBigResponses.incrementAndGet();
+                    response.clear();
+                    response.setRequestID(request.getRequestID());
+                    response.setErrorStatus(PDU.tooBig);
+                }
+            }
+
+            try {
+                event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(),
+                        event.getSecurityModel(), event.getSecurityName(), event.getSecurityLevel(), response,
+                        event.getMaxSizeResponsePDU(), event.getStateReference(), new StatusInformation());
+            } catch (MessageException e) {
+                fail(e.getMessage());
+            }
+            event.setProcessed(true);
+        }
+    }
+}
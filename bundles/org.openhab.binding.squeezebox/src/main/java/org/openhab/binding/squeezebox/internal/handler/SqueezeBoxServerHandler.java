@@ -21,18 +21,18 @@ import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.Socket;
-import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -44,6 +44,7 @@ import org.openhab.binding.squeezebox.internal.dto.ButtonDTODeserializer;
 import org.openhab.binding.squeezebox.internal.dto.ButtonsDTO;
 import org.openhab.binding.squeezebox.internal.dto.StatusResponseDTO;
 import org.openhab.binding.squeezebox.internal.model.Favorite;
+import org.openhab.binding.squeezebox.internal.utils.CliUtils;
 import org.openhab.core.io.net.http.HttpRequestBuilder;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.Bridge;
@@ -101,8 +102,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
 
     private static final String JSONRPC_STATUS_REQUEST = "{\"id\":1,\"method\":\"slim.request\",\"params\":[\"@@MAC@@\",[\"status\",\"-\",\"tags:yagJlNKjcB\"]]}";
 
-    private List<SqueezeBoxPlayerEventListener> squeezeBoxPlayerListeners = Collections
-            .synchronizedList(new ArrayList<>());
+    private List<SqueezeBoxPlayerEventListener> squeezeBoxPlayerListeners = new CopyOnWriteArrayList<>();
+
+    // player thing handlers by MAC address, so that player events are only passed to the affected player
+    private Map<String, SqueezeBoxPlayerEventListener> playerHandlers = new ConcurrentHashMap<>();
 
     private Map<String, SqueezeBoxPlayer> players = Collections.synchronizedMap(new HashMap<>());
 
@@ -513,574 +516,487 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             logger.debug("Squeeze Server listener exiting.");
         }
 
-        private String decode(String raw) {
-            try {
-                return URLDecoder.decode(raw, UTF8_NAME);
-            } catch (UnsupportedEncodingException e) {
-                logger.debug("Failed to decode '{}' ", raw, e);
-                return null;
-            }
+        private ScheduledFuture<?> scheduleRequestFavorites() {
+            // Delay the execution to give the player thing handlers a chance to initialize
+            return scheduler.schedule(SqueezeBoxServerHandler.this::requestFavorites, 3L, TimeUnit.SECONDS);
         }
+    }
 
-        private String encode(String raw) {
-            try {
-                return URLEncoder.encode(raw, UTF8_NAME);
-            } catch (UnsupportedEncodingException e) {
-                logger.debug("Failed to encode '{}' ", raw, e);
-                return null;
-            }
+    /**
+     * Handles a message received from the CLI of the Squeeze Server
+     *
+     * @param message message as received from the CLI
+     */
+    void handleMessage(String message) {
+        // Fix for some third-party apps that are sending "subscribe playlist"
+        if (message.startsWith("listen 1") || message.startsWith("subscribe playlist")) {
+            return;
         }
 
-        private void handlePlayersList(String message) {
-            // Split out players
-            String[] playersList = message.split("playerindex\\S*\\s");
-            for (String playerParams : playersList) {
-
-                // For each player, split out parameters and decode parameter
-                String[] parameterList = playerParams.split("\\s");
-                for (int i = 0; i < parameterList.length; i++) {
-                    parameterList[i] = decode(parameterList[i]);
-                }
-
-                // parse out the MAC address first
-                String macAddress = null;
-                for (String parameter : parameterList) {
-                    if (parameter.contains("playerid")) {
-                        macAddress = parameter.substring(parameter.indexOf(":") + 1);
-                        break;
-                    }
-                }
-
-                // if none found then ignore this set of params
-                if (macAddress == null) {
-                    continue;
-                }
-
-                final SqueezeBoxPlayer player = new SqueezeBoxPlayer();
-                player.setMacAddress(macAddress);
-                // populate the player state
-                for (String parameter : parameterList) {
-                    if (parameter.startsWith("ip:")) {
-                        player.setIpAddr(parameter.substring(parameter.indexOf(":") + 1));
-                    } else if (parameter.startsWith("uuid:")) {
-                        player.setUuid(parameter.substring(parameter.indexOf(":") + 1));
-                    } else if (parameter.startsWith("name:")) {
-                        player.setName(parameter.substring(parameter.indexOf(":") + 1));
-                    } else if (parameter.startsWith("model:")) {
-                        player.setModel(parameter.substring(parameter.indexOf(":") + 1));
-                    }
-                }
-
-                // Save player if we haven't seen it yet
-                if (!players.containsKey(macAddress)) {
-                    players.put(macAddress, player);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.playerAdded(player);
-                        }
-                    });
-                    // tell the server we want to subscribe to player updates
-                    sendCommand(player.getMacAddress() + " status - 1 subscribe:10 tags:yagJlNKjc");
-                }
-            }
+        List<String> messageParts = CliUtils.split(message);
+        if (message.startsWith("players 0")) {
+            handlePlayersList(messageParts);
+        } else if (message.startsWith("favorites")) {
+            handleFavorites(messageParts);
+        } else {
+            handlePlayerUpdate(messageParts);
         }
+    }
 
-        private void handlePlayerUpdate(String message) {
-            String[] messageParts = message.split("\\s");
-            if (messageParts.length < 2) {
-                logger.warn("Invalid message - expecting at least 2 parts. Ignoring.");
-                return;
-            }
-
-            final String mac = decode(messageParts[0]);
-
-            // get the message type
-            String messageType = messageParts[1];
-            switch (messageType) {
-                case "status":
-                    handleStatusMessage(mac, messageParts);
+    private void handlePlayersList(List<String> messageParts) {
+        SqueezeBoxPlayer player = null;
+        for (String messagePart : messageParts) {
+            String key = CliUtils.getKey(messagePart);
+            switch (key) {
+                case "playerindex":
+                    // parameters of the next player follow
+                    addPlayer(player);
+                    player = new SqueezeBoxPlayer();
+                    break;
+                case "playerid":
+                    if (player != null) {
+                        player.setMacAddress(CliUtils.decode(CliUtils.getValue(messagePart, key)));
+                    }
                     break;
-                case "playlist":
-                    handlePlaylistMessage(mac, messageParts);
+                case "ip":
+                    if (player != null) {
+                        player.setIpAddr(CliUtils.decode(CliUtils.getValue(messagePart, key)));
+                    }
                     break;
-                case "prefset":
-                    handlePrefsetMessage(mac, messageParts);
+                case "uuid":
+                    if (player != null) {
+                        player.setUuid(CliUtils.decode(CliUtils.getValue(messagePart, key)));
+                    }
                     break;
-                case "mixer":
-                    handleMixerMessage(mac, messageParts);
+                case "name":
+                    if (player != null) {
+                        player.setName(CliUtils.decode(CliUtils.getValue(messagePart, key)));
+                    }
                     break;
-                case "ir":
-                    final String ircode = messageParts[2];
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.irCodeChangeEvent(mac, ircode);
-                        }
-                    });
+                case "model":
+                    if (player != null) {
+                        player.setModel(CliUtils.decode(CliUtils.getValue(messagePart, key)));
+                    }
                     break;
                 default:
-                    logger.trace("Unhandled player update message type '{}'.", messageType);
+                    break;
             }
         }
+        addPlayer(player);
+    }
 
-        private void handleMixerMessage(String mac, String[] messageParts) {
-            if (messageParts.length < 4) {
-                return;
-            }
-            String action = messageParts[2];
-
-            switch (action) {
-                case "volume":
-                    String volumeStringValue = decode(messageParts[3]);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            try {
-                                int volume = Integer.parseInt(volumeStringValue);
-
-                                // Check if we received a relative volume change, or an absolute
-                                // volume value.
-                                if (volumeStringValue.contains("+") || (volumeStringValue.contains("-"))) {
-                                    listener.relativeVolumeChangeEvent(mac, volume);
-                                } else {
-                                    listener.absoluteVolumeChangeEvent(mac, volume);
-                                }
-                            } catch (NumberFormatException e) {
-                                logger.warn("Unable to parse volume [{}] received from mixer message.",
-                                        volumeStringValue, e);
-                            }
-                        }
-                    });
-                    break;
-                default:
-                    logger.trace("Unhandled mixer message type '{}'", Arrays.toString(messageParts));
+    private void addPlayer(SqueezeBoxPlayer player) {
+        // if no MAC address was found then ignore this set of params
+        if (player == null || player.getMacAddress() == null) {
+            return;
+        }
 
-            }
+        // Save player if we haven't seen it yet
+        String macAddress = player.getMacAddress();
+        if (!players.containsKey(macAddress)) {
+            players.put(macAddress, player);
+            updatePlayer(listener -> listener.playerAdded(player));
+            // tell the server we want to subscribe to player updates
+            sendCommand(macAddress + " status - 1 subscribe:10 tags:yagJlNKjc");
         }
+    }
 
-        private void handleStatusMessage(final String mac, String[] messageParts) {
-            String remoteTitle = "", artist = "", album = "", genre = "", year = "";
-            boolean coverart = false;
-            String coverid = null;
-            String artworkUrl = null;
-
-            for (String messagePart : messageParts) {
-                // Parameter Power
-                if (messagePart.startsWith("power%3A")) {
-                    final boolean power = "1".matches(messagePart.substring("power%3A".length()));
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.powerChangeEvent(mac, power);
-                        }
-                    });
-                }
-                // Parameter Volume
-                else if (messagePart.startsWith("mixer%20volume%3A")) {
-                    String value = messagePart.substring("mixer%20volume%3A".length());
-                    final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.absoluteVolumeChangeEvent(mac, volume);
-                        }
-                    });
-                }
-                // Parameter Mode
-                else if (messagePart.startsWith("mode%3A")) {
-                    final String mode = messagePart.substring("mode%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.modeChangeEvent(mac, mode);
-                        }
-                    });
-                }
-                // Parameter Playing Time
-                else if (messagePart.startsWith("time%3A")) {
-                    String value = messagePart.substring("time%3A".length());
-                    final int time = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlayingTimeEvent(mac, time);
-                        }
-                    });
+    private void handlePlayerUpdate(List<String> messageParts) {
+        if (messageParts.size() < 2) {
+            logger.warn("Invalid message - expecting at least 2 parts. Ignoring.");
+            return;
+        }
+
+        final String mac = CliUtils.decode(messageParts.get(0));
+
+        // get the message type
+        String messageType = messageParts.get(1);
+        switch (messageType) {
+            case "status":
+                handleStatusMessage(mac, messageParts);
+                break;
+            case "playlist":
+                handlePlaylistMessage(mac, messageParts);
+                break;
+            case "prefset":
+                handlePrefsetMessage(mac, messageParts);
+                break;
+            case "mixer":
+                handleMixerMessage(mac, messageParts);
+                break;
+            case "ir":
+                if (messageParts.size() > 2) {
+                    final String ircode = messageParts.get(2);
+                    updatePlayer(mac, listener -> listener.irCodeChangeEvent(mac, ircode));
                 }
-                // Parameter duration
-                else if (messagePart.startsWith("duration%3A")) {
-                    String value = messagePart.substring("duration%3A".length());
-                    final int duration = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.durationEvent(mac, duration);
-                        }
-                    });
+                break;
+            default:
+                logger.trace("Unhandled player update message type '{}'.", messageType);
+        }
+    }
+
+    private void handleMixerMessage(String mac, List<String> messageParts) {
+        if (messageParts.size() < 4) {
+            return;
+        }
+        String action = messageParts.get(2);
+
+        switch (action) {
+            case "volume":
+                String volumeStringValue = CliUtils.decode(messageParts.get(3));
+                try {
+                    int volume = Integer.parseInt(volumeStringValue);
+
+                    // Check if we received a relative volume change, or an absolute
+                    // volume value.
+                    if (volumeStringValue.contains("+") || (volumeStringValue.contains("-"))) {
+                        updatePlayer(mac, listener -> listener.relativeVolumeChangeEvent(mac, volume));
+                    } else {
+                        updatePlayer(mac, listener -> listener.absoluteVolumeChangeEvent(mac, volume));
+                    }
+                } catch (NumberFormatException e) {
+                    logger.warn("Unable to parse volume [{}] received from mixer message.", volumeStringValue, e);
                 }
-                // Parameter Playing Playlist Index
-                else if (messagePart.startsWith("playlist_cur_index%3A")) {
-                    String value = messagePart.substring("playlist_cur_index%3A".length());
-                    final int index = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistIndexEvent(mac, index);
-                        }
-                    });
+                break;
+            default:
+                logger.trace("Unhandled mixer message type '{}'", messageParts);
+
+        }
+    }
+
+    private void handleStatusMessage(final String mac, List<String> messageParts) {
+        String remoteTitle = "", artist = "", album = "", genre = "", year = "";
+        boolean coverart = false;
+        String coverid = null;
+        String artworkUrl = null;
+
+        // Only the values of the parameters below are decoded, all other parameters are skipped
+        for (String messagePart : messageParts) {
+            String key = CliUtils.getKey(messagePart);
+            switch (key) {
+                case "power": {
+                    final boolean power = "1".equals(CliUtils.getValue(messagePart, key));
+                    updatePlayer(mac, listener -> listener.powerChangeEvent(mac, power));
+                    break;
                 }
-                // Parameter Playlist Number Tracks
-                else if (messagePart.startsWith("playlist_tracks%3A")) {
-                    String value = messagePart.substring("playlist_tracks%3A".length());
-                    final int track = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.numberPlaylistTracksEvent(mac, track);
-                        }
-                    });
+                case "mixer%20volume": {
+                    final int volume = parseInt(CliUtils.getValue(messagePart, key));
+                    updatePlayer(mac, listener -> listener.absoluteVolumeChangeEvent(mac, volume));
+                    break;
                 }
-                // Parameter Playlist Repeat Mode
-                else if (messagePart.startsWith("playlist%20repeat%3A")) {
-                    String value = messagePart.substring("playlist%20repeat%3A".length());
-                    final int repeat = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistRepeatEvent(mac, repeat);
-                        }
-                    });
+                case "mode": {
+                    final String mode = CliUtils.getValue(messagePart, key);
+                    updatePlayer(mac, listener -> listener.modeChangeEvent(mac, mode));
+                    break;
                 }
-                // Parameter Playlist Shuffle Mode
-                else if (messagePart.startsWith("playlist%20shuffle%3A")) {
-                    String value = messagePart.substring("playlist%20shuffle%3A".length());
-                    final int shuffle = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistShuffleEvent(mac, shuffle);
-                        }
-                    });
+                case "time": {
+                    final int time = parseInt(CliUtils.getValue(messagePart, key));
+                    updatePlayer(mac, listener -> listener.currentPlayingTimeEvent(mac, time));
+                    break;
                 }
-                // Parameter Title
-                else if (messagePart.startsWith("title%3A")) {
-                    final String value = messagePart.substring("title%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.titleChangeEvent(mac, decode(value));
-                        }
-                    });
+                case "duration": {
+                    final int duration = parseInt(CliUtils.getValue(messagePart, key));
+                    updatePlayer(mac, listener -> listener.durationEvent(mac, duration));
+                    break;
                 }
-                // Parameter Remote Title (radio)
-                else if (messagePart.startsWith("remote_title%3A")) {
-                    remoteTitle = messagePart.substring("remote_title%3A".length());
+                case "playlist_cur_index": {
+                    final int index = parseInt(CliUtils.getValue(messagePart, key));
+                    updatePlayer(mac, listener -> listener.currentPlaylistIndexEvent(mac, index));
+                    break;
                 }
-                // Parameter Artist
-                else if (messagePart.startsWith("artist%3A")) {
-                    artist = messagePart.substring("artist%3A".length());
+                case "playlist_tracks": {
+                    final int track = parseInt(CliUtils.getValue(messagePart, key));
+                    updatePlayer(mac, listener -> listener.numberPlaylistTracksEvent(mac, track));
+                    break;
                 }
-                // Parameter Album
-                else if (messagePart.startsWith("album%3A")) {
-                    album = messagePart.substring("album%3A".length());
+                case "playlist%20repeat": {
+                    final int repeat = parseInt(CliUtils.getValue(messagePart, key));
+                    updatePlayer(mac, listener -> listener.currentPlaylistRepeatEvent(mac, repeat));
+                    break;
                 }
-                // Parameter Genre
-                else if (messagePart.startsWith("genre%3A")) {
-                    genre = messagePart.substring("genre%3A".length());
+                case "playlist%20shuffle": {
+                    final int shuffle = parseInt(CliUtils.getValue(messagePart, key));
+                    updatePlayer(mac, listener -> listener.currentPlaylistShuffleEvent(mac, shuffle));
+                    break;
                 }
-                // Parameter Year
-                else if (messagePart.startsWith("year%3A")) {
-                    year = messagePart.substring("year%3A".length());
+                case "title": {
+                    final String title = CliUtils.decode(CliUtils.getValue(messagePart, key));
+                    updatePlayer(mac, listener -> listener.titleChangeEvent(mac, title));
+                    break;
                 }
+                // Parameter Remote Title (radio)
+                case "remote_title":
+                    remoteTitle = CliUtils.decode(CliUtils.getValue(messagePart, key));
+                    break;
+                case "artist":
+                    artist = CliUtils.decode(CliUtils.getValue(messagePart, key));
+                    break;
+                case "album":
+                    album = CliUtils.decode(CliUtils.getValue(messagePart, key));
+                    break;
+                case "genre":
+                    genre = CliUtils.decode(CliUtils.getValue(messagePart, key));
+                    break;
+                case "year":
+                    year = CliUtils.decode(CliUtils.getValue(messagePart, key));
+                    break;
                 // Parameter artwork_url contains url to cover art
-                else if (messagePart.startsWith("artwork_url%3A")) {
-                    artworkUrl = messagePart.substring("artwork_url%3A".length());
-                }
+                case "artwork_url":
+                    artworkUrl = CliUtils.getValue(messagePart, key);
+                    break;
                 // When coverart is "1" coverid will contain a unique coverart id
-                else if (messagePart.startsWith("coverart%3A")) {
-                    coverart = "1".matches(messagePart.substring("coverart%3A".length()));
-                }
+                case "coverart":
+                    coverart = "1".equals(CliUtils.getValue(messagePart, key));
+                    break;
                 // Id for covert art (only valid when coverart is "1")
-                else if (messagePart.startsWith("coverid%3A")) {
-                    coverid = messagePart.substring("coverid%3A".length());
-                } else {
+                case "coverid":
+                    coverid = CliUtils.getValue(messagePart, key);
+                    break;
+                default:
                     // Added to be able to see additional status message types
                     logger.trace("Unhandled status message type '{}'", messagePart);
-                }
             }
-
-            final String finalUrl = constructCoverArtUrl(mac, coverart, coverid, artworkUrl);
-            final String finalRemoteTitle = remoteTitle;
-            final String finalArtist = artist;
-            final String finalAlbum = album;
-            final String finalGenre = genre;
-            final String finalYear = year;
-
-            updatePlayer(new PlayerUpdateEvent() {
-                @Override
-                public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                    listener.coverArtChangeEvent(mac, finalUrl);
-                    listener.remoteTitleChangeEvent(mac, decode(finalRemoteTitle));
-                    listener.artistChangeEvent(mac, decode(finalArtist));
-                    listener.albumChangeEvent(mac, decode(finalAlbum));
-                    listener.genreChangeEvent(mac, decode(finalGenre));
-                    listener.yearChangeEvent(mac, decode(finalYear));
-                }
-            });
         }
 
-        private String constructCoverArtUrl(String mac, boolean coverart, String coverid, String artwork_url) {
-            String hostAndPort;
-            if (StringUtils.isNotEmpty(userId)) {
-                hostAndPort = "http://" + encode(userId) + ":" + encode(password) + "@" + host + ":" + webport;
-            } else {
-                hostAndPort = "http://" + host + ":" + webport;
-            }
+        final String finalUrl = constructCoverArtUrl(mac, coverart, coverid, artworkUrl);
+        final String finalRemoteTitle = remoteTitle;
+        final String finalArtist = artist;
+        final String finalAlbum = album;
+        final String finalGenre = genre;
+        final String finalYear = year;
+
+        updatePlayer(mac, listener -> {
+            listener.coverArtChangeEvent(mac, finalUrl);
+            listener.remoteTitleChangeEvent(mac, finalRemoteTitle);
+            listener.artistChangeEvent(mac, finalArtist);
+            listener.albumChangeEvent(mac, finalAlbum);
+            listener.genreChangeEvent(mac, finalGenre);
+            listener.yearChangeEvent(mac, finalYear);
+        });
+    }
 
-            // Default to using the convenience artwork URL (should be rare)
-            String url = hostAndPort + "/music/current/cover.jpg?player=" + encode(mac);
+    private static int parseInt(String value) {
+        return (int) Double.parseDouble(value);
+    }
 
-            // If additional artwork info provided, use that instead
-            if (coverart) {
-                if (coverid != null) {
-                    // Typically is used to access cover art of local music files
-                    url = hostAndPort + "/music/" + coverid + "/cover.jpg";
-                }
-            } else if (artwork_url != null) {
-                if (artwork_url.startsWith("http")) {
-                    // Typically indicates that cover art is not local to LMS
-                    url = decode(artwork_url);
-                } else if (artwork_url.startsWith("%2F")) {
-                    // Typically used for default coverart for plugins (e.g. Pandora, etc.)
-                    url = hostAndPort + decode(artwork_url);
-                } else {
-                    // Another variation of default coverart for plugins (e.g. Pandora, etc.)
-                    url = hostAndPort + "/" + decode(artwork_url);
-                }
-            }
-            return url;
+    private String constructCoverArtUrl(String mac, boolean coverart, String coverid, String artwork_url) {
+        String hostAndPort;
+        if (StringUtils.isNotEmpty(userId)) {
+            hostAndPort = "http://" + encode(userId) + ":" + encode(password) + "@" + host + ":" + webport;
+        } else {
+            hostAndPort = "http://" + host + ":" + webport;
         }
 
-        private void handlePlaylistMessage(final String mac, String[] messageParts) {
-            if (messageParts.length < 3) {
-                return;
+        // Default to using the convenience artwork URL (should be rare)
+        String url = hostAndPort + "/music/current/cover.jpg?player=" + encode(mac);
+
+        // If additional artwork info provided, use that instead
+        if (coverart) {
+            if (coverid != null) {
+                // Typically is used to access cover art of local music files
+                url = hostAndPort + "/music/" + coverid + "/cover.jpg";
             }
-            String action = messageParts[2];
-            String mode;
-            if (action.equals("newsong")) {
-                mode = "play";
-                // Execute in separate thread to avoid delaying listener
-                scheduler.execute(() -> updateCustomButtons(mac));
-                // Set the track duration to 0
-                updatePlayer(new PlayerUpdateEvent() {
-                    @Override
-                    public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                        listener.durationEvent(mac, 0);
-                    }
-                });
-            } else if (action.equals("pause")) {
-                if (messageParts.length < 4) {
-                    return;
-                }
-                mode = messageParts[3].equals("0") ? "play" : "pause";
-            } else if (action.equals("stop")) {
-                mode = "stop";
-            } else if ("play".equals(action) && "playlist".equals(messageParts[1])) {
-                if (messageParts.length >= 4) {
-                    handleSourceChangeMessage(mac, messageParts[3]);
-                }
-                return;
+        } else if (artwork_url != null) {
+            if (artwork_url.startsWith("http")) {
+                // Typically indicates that cover art is not local to LMS
+                url = CliUtils.decode(artwork_url);
+            } else if (artwork_url.startsWith("%2F")) {
+                // Typically used for default coverart for plugins (e.g. Pandora, etc.)
+                url = hostAndPort + CliUtils.decode(artwork_url);
             } else {
-                // Added so that actions (such as delete, index, jump, open) are not treated as "play"
-                logger.trace("Unhandled playlist message type '{}'", Arrays.toString(messageParts));
-                return;
+                // Another variation of default coverart for plugins (e.g. Pandora, etc.)
+                url = hostAndPort + "/" + CliUtils.decode(artwork_url);
             }
-            final String value = mode;
-            updatePlayer(new PlayerUpdateEvent() {
-                @Override
-                public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                    listener.modeChangeEvent(mac, value);
-                }
-            });
         }
+        return url;
+    }
 
-        private void handleSourceChangeMessage(String mac, String rawSource) {
-            String source = URLDecoder.decode(rawSource);
-            updatePlayer(new PlayerUpdateEvent() {
-                @Override
-                public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                    listener.sourceChangeEvent(mac, source);
-                }
-            });
+    private void handlePlaylistMessage(final String mac, List<String> messageParts) {
+        if (messageParts.size() < 3) {
+            return;
         }
-
-        private void handlePrefsetMessage(final String mac, String[] messageParts) {
-            if (messageParts.length < 5) {
+        String action = messageParts.get(2);
+        String mode;
+        if (action.equals("newsong")) {
+            mode = "play";
+            // Execute in separate thread to avoid delaying listener
+            scheduler.execute(() -> updateCustomButtons(mac));
+            // Set the track duration to 0
+            updatePlayer(mac, listener -> listener.durationEvent(mac, 0));
+        } else if (action.equals("pause")) {
+            if (messageParts.size() < 4) {
                 return;
             }
-            // server prefsets
-            if (messageParts[2].equals("server")) {
-                String function = messageParts[3];
-                String value = messageParts[4];
-                if (function.equals("power")) {
-                    final boolean power = value.equals("1");
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.powerChangeEvent(mac, power);
-                        }
-                    });
-                } else if (function.equals("volume")) {
-                    final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.absoluteVolumeChangeEvent(mac, volume);
-                        }
-                    });
-                }
+            mode = messageParts.get(3).equals("0") ? "play" : "pause";
+        } else if (action.equals("stop")) {
+            mode = "stop";
+        } else if ("play".equals(action) && "playlist".equals(messageParts.get(1))) {
+            if (messageParts.size() >= 4) {
+                handleSourceChangeMessage(mac, messageParts.get(3));
             }
+            return;
+        } else {
+            // Added so that actions (such as delete, index, jump, open) are not treated as "play"
+            logger.trace("Unhandled playlist message type '{}'", messageParts);
+            return;
         }
+        final String value = mode;
+        updatePlayer(mac, listener -> listener.modeChangeEvent(mac, value));
+    }
 
-        private void handleFavorites(String message) {
-            String[] messageParts = message.split("\\s");
-            if (messageParts.length == 2 && "changed".equals(messageParts[1])) {
-                // LMS informing us that favorites have changed; request an update to the favorites list
-                requestFavorites();
-                return;
-            }
-            if (messageParts.length < 7) {
-                logger.trace("No favorites in message.");
-                return;
+    private void handleSourceChangeMessage(String mac, String rawSource) {
+        String source = CliUtils.decode(rawSource);
+        updatePlayer(mac, listener -> listener.sourceChangeEvent(mac, source));
+    }
+
+    private void handlePrefsetMessage(final String mac, List<String> messageParts) {
+        if (messageParts.size() < 5) {
+            return;
+        }
+        // server prefsets
+        if (messageParts.get(2).equals("server")) {
+            String function = messageParts.get(3);
+            String value = messageParts.get(4);
+            if (function.equals("power")) {
+                final boolean power = value.equals("1");
+                updatePlayer(mac, listener -> listener.powerChangeEvent(mac, power));
+            } else if (function.equals("volume")) {
+                final int volume = parseInt(value);
+                updatePlayer(mac, listener -> listener.absoluteVolumeChangeEvent(mac, volume));
             }
+        }
+    }
 
-            List<Favorite> favorites = new ArrayList<>();
-            Favorite f = null;
-            for (String part : messageParts) {
+    private void handleFavorites(List<String> messageParts) {
+        if (messageParts.size() == 2 && "changed".equals(messageParts.get(1))) {
+            // LMS informing us that favorites have changed; request an update to the favorites list
+            requestFavorites();
+            return;
+        }
+        if (messageParts.size() < 7) {
+            logger.trace("No favorites in message.");
+            return;
+        }
+
+        List<Favorite> favorites = new ArrayList<>();
+        Favorite f = null;
+        for (String part : messageParts) {
+            String key = CliUtils.getKey(part);
+            switch (key) {
                 // Favorite ID (in form xxxxxxxxx.n)
-                if (part.startsWith("id%3A")) {
-                    String id = part.substring("id%3A".length());
-                    f = new Favorite(id);
+                case "id":
+                    f = new Favorite(CliUtils.getValue(part, key));
                     favorites.add(f);
-                }
+                    break;
                 // Favorite name
-                else if (part.startsWith("name%3A")) {
-                    String name = decode(part.substring("name%3A".length()));
+                case "name":
                     if (f != null) {
-                        f.name = name;
+                        f.name = CliUtils.decode(CliUtils.getValue(part, key));
                     }
-                }
+                    break;
                 // When "1", favorite is a submenu with additional favorites
-                else if (part.startsWith("hasitems%3A")) {
-                    boolean hasitems = "1".matches(part.substring("hasitems%3A".length()));
-                    if (f != null) {
-                        if (hasitems) {
-                            // Skip subfolders
-                            favorites.remove(f);
-                            f = null;
-                        }
+                case "hasitems":
+                    if (f != null && "1".equals(CliUtils.getValue(part, key))) {
+                        // Skip subfolders
+                        favorites.remove(f);
+                        f = null;
                     }
-                }
+                    break;
+                default:
+                    break;
             }
-            updatePlayersFavoritesList(favorites);
-            updateChannelFavoritesList(favorites);
-        }
-
-        private void updatePlayersFavoritesList(List<Favorite> favorites) {
-            updatePlayer(new PlayerUpdateEvent() {
-                @Override
-                public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                    listener.updateFavoritesListEvent(favorites);
-                }
-            });
         }
+        updatePlayersFavoritesList(favorites);
+        updateChannelFavoritesList(favorites);
+    }
 
-        private void updateChannelFavoritesList(List<Favorite> favorites) {
-            final Channel channel = getThing().getChannel(CHANNEL_FAVORITES_LIST);
-            if (channel == null) {
-                logger.debug("Channel {} doesn't exist. Delete & add thing to get channel.", CHANNEL_FAVORITES_LIST);
-                return;
-            }
+    private void updatePlayersFavoritesList(List<Favorite> favorites) {
+        updatePlayer(listener -> listener.updateFavoritesListEvent(favorites));
+    }
 
-            // Get channel config parameter indicating whether name should be wrapped with double quotes
-            Boolean includeQuotes = Boolean.FALSE;
-            if (channel.getConfiguration().containsKey(CHANNEL_CONFIG_QUOTE_LIST)) {
-                includeQuotes = (Boolean) channel.getConfiguration().get(CHANNEL_CONFIG_QUOTE_LIST);
-            }
+    private void updateChannelFavoritesList(List<Favorite> favorites) {
+        final Channel channel = getThing().getChannel(CHANNEL_FAVORITES_LIST);
+        if (channel == null) {
+            logger.debug("Channel {} doesn't exist. Delete & add thing to get channel.", CHANNEL_FAVORITES_LIST);
+            return;
+        }
 
-            String quote = includeQuotes.booleanValue() ? "\"" : "";
-            StringBuilder sb = new StringBuilder();
-            for (Favorite favorite : favorites) {
-                sb.append(favorite.shortId).append("=").append(quote).append(favorite.name.replaceAll(",", ""))
-                        .append(quote).append(",");
-            }
+        // Get channel config parameter indicating whether name should be wrapped with double quotes
+        Boolean includeQuotes = Boolean.FALSE;
+        if (channel.getConfiguration().containsKey(CHANNEL_CONFIG_QUOTE_LIST)) {
+            includeQuotes = (Boolean) channel.getConfiguration().get(CHANNEL_CONFIG_QUOTE_LIST);
+        }
 
-            if (sb.length() == 0) {
-                updateState(CHANNEL_FAVORITES_LIST, UnDefType.NULL);
-            } else {
-                // Drop the last comma
-                sb.setLength(sb.length() - 1);
-                String favoritesList = sb.toString();
-                logger.trace("Updating favorites channel for {} to state {}", getThing().getUID(), favoritesList);
-                updateState(CHANNEL_FAVORITES_LIST, new StringType(favoritesList));
-            }
+        String quote = includeQuotes.booleanValue() ? "\"" : "";
+        StringBuilder sb = new StringBuilder();
+        for (Favorite favorite : favorites) {
+            sb.append(favorite.shortId).append("=").append(quote).append(favorite.name.replaceAll(",", ""))
+                    .append(quote).append(",");
         }
 
-        private ScheduledFuture<?> scheduleRequestFavorites() {
-            // Delay the execution to give the player thing handlers a chance to initialize
-            return scheduler.schedule(SqueezeBoxServerHandler.this::requestFavorites, 3L, TimeUnit.SECONDS);
+        if (sb.length() == 0) {
+            updateState(CHANNEL_FAVORITES_LIST, UnDefType.NULL);
+        } else {
+            // Drop the last comma
+            sb.setLength(sb.length() - 1);
+            String favoritesList = sb.toString();
+            logger.trace("Updating favorites channel for {} to state {}", getThing().getUID(), favoritesList);
+            updateState(CHANNEL_FAVORITES_LIST, new StringType(favoritesList));
         }
+    }
 
-        private void updateCustomButtons(final String mac) {
-            String response = executePost(jsonRpcUrl, JSONRPC_STATUS_REQUEST.replace("@@MAC@@", mac));
-            if (response != null) {
-                logger.trace("Status response: {}", response);
-                String likeCommand = null;
-                String unlikeCommand = null;
-                try {
-                    StatusResponseDTO status = gson.fromJson(response, StatusResponseDTO.class);
-                    if (status != null && status.result != null && status.result.remoteMeta != null
-                            && status.result.remoteMeta.buttons != null) {
-                        ButtonsDTO buttons = status.result.remoteMeta.buttons;
-                        if (buttons.repeat != null && buttons.repeat.isCustom()) {
-                            likeCommand = buttons.repeat.command;
-                        }
-                        if (buttons.shuffle != null && buttons.shuffle.isCustom()) {
-                            unlikeCommand = buttons.shuffle.command;
-                        }
+    private void updateCustomButtons(final String mac) {
+        String response = executePost(jsonRpcUrl, JSONRPC_STATUS_REQUEST.replace("@@MAC@@", mac));
+        if (response != null) {
+            logger.trace("Status response: {}", response);
+            String likeCommand = null;
+            String unlikeCommand = null;
+            try {
+                StatusResponseDTO status = gson.fromJson(response, StatusResponseDTO.class);
+                if (status != null && status.result != null && status.result.remoteMeta != null
+                        && status.result.remoteMeta.buttons != null) {
+                    ButtonsDTO buttons = status.result.remoteMeta.buttons;
+                    if (buttons.repeat != null && buttons.repeat.isCustom()) {
+                        likeCommand = buttons.repeat.command;
                     }
-                } catch (JsonSyntaxException e) {
-                    logger.debug("JsonSyntaxException parsing status response: {}", response, e);
-                }
-                final String like = likeCommand;
-                final String unlike = unlikeCommand;
-                updatePlayer(new PlayerUpdateEvent() {
-                    @Override
-                    public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                        listener.buttonsChangeEvent(mac, like, unlike);
+                    if (buttons.shuffle != null && buttons.shuffle.isCustom()) {
+                        unlikeCommand = buttons.shuffle.command;
                     }
-                });
+                }
+            } catch (JsonSyntaxException e) {
+                logger.debug("JsonSyntaxException parsing status response: {}", response, e);
             }
+            final String like = likeCommand;
+            final String unlike = unlikeCommand;
+            updatePlayer(mac, listener -> listener.buttonsChangeEvent(mac, like, unlike));
         }
+    }
 
-        private String executePost(String url, String content) {
-            // @formatter:off
-            HttpRequestBuilder builder = HttpRequestBuilder.postTo(url)
-                .withTimeout(Duration.ofSeconds(5))
-                .withContent(content)
-                .withHeader("charset", "utf-8")
-                .withHeader("Content-Type", "application/json");
-            // @formatter:on
-            if (basicAuthorization != null) {
-                builder = builder.withHeader("Authorization", "Basic " + basicAuthorization);
-            }
-            try {
-                return builder.getContentAsString();
-            } catch (IOException e) {
-                logger.debug("Bridge: IOException on jsonrpc call: {}", e.getMessage(), e);
-                return null;
-            }
+    private String executePost(String url, String content) {
+        // @formatter:off
+        HttpRequestBuilder builder = HttpRequestBuilder.postTo(url)
+            .withTimeout(Duration.ofSeconds(5))
+            .withContent(content)
+            .withHeader("charset", "utf-8")
+            .withHeader("Content-Type", "application/json");
+        // @formatter:on
+        if (basicAuthorization != null) {
+            builder = builder.withHeader("Authorization", "Basic " + basicAuthorization);
+        }
+        try {
+            return builder.getContentAsString();
+        } catch (IOException e) {
+            logger.debug("Bridge: IOException on jsonrpc call: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private String encode(String raw) {
+        try {
+            return URLEncoder.encode(raw, UTF8_NAME);
+        } catch (UnsupportedEncodingException e) {
+            logger.debug("Failed to encode '{}' ", raw, e);
+            return null;
         }
     }
 
@@ -1096,29 +1012,58 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Update Listeners and child Squeeze Player Things
+     * Update Listeners and all child Squeeze Player Things
      *
      * @param event
      */
     private void updatePlayer(PlayerUpdateEvent event) {
         // update listeners like disco services
-        synchronized (squeezeBoxPlayerListeners) {
-            for (SqueezeBoxPlayerEventListener listener : squeezeBoxPlayerListeners) {
-                event.updateListener(listener);
-            }
+        for (SqueezeBoxPlayerEventListener listener : squeezeBoxPlayerListeners) {
+            event.updateListener(listener);
         }
         // update our children
-        Bridge bridge = getThing();
+        for (SqueezeBoxPlayerEventListener handler : playerHandlers.values()) {
+            event.updateListener(handler);
+        }
+    }
 
-        List<Thing> things = bridge.getThings();
-        for (Thing thing : things) {
-            ThingHandler handler = thing.getHandler();
-            if (handler instanceof SqueezeBoxPlayerEventListener && !squeezeBoxPlayerListeners.contains(handler)) {
-                event.updateListener((SqueezeBoxPlayerEventListener) handler);
+    /**
+     * Update Listeners and the child Squeeze Player Thing of a player
+     *
+     * @param mac MAC address of the player
+     * @param event
+     */
+    private void updatePlayer(String mac, PlayerUpdateEvent event) {
+        // update listeners like disco services
+        for (SqueezeBoxPlayerEventListener listener : squeezeBoxPlayerListeners) {
+            event.updateListener(listener);
+        }
+        // update the child of the player
+        SqueezeBoxPlayerEventListener handler = playerHandlers.get(mac);
+        if (handler != null) {
+            event.updateListener(handler);
+        }
+    }
+
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof SqueezeBoxPlayerHandler) {
+            String mac = ((SqueezeBoxPlayerHandler) childHandler).getMac();
+            if (mac != null) {
+                logger.trace("Adding player handler for {}", mac);
+                playerHandlers.put(mac, (SqueezeBoxPlayerHandler) childHandler);
             }
         }
     }
 
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof SqueezeBoxPlayerHandler) {
+            logger.trace("Removing player handler for {}", ((SqueezeBoxPlayerHandler) childHandler).getMac());
+            playerHandlers.values().remove(childHandler);
+        }
+    }
+
     /**
      * Adds a listener for player events
      *
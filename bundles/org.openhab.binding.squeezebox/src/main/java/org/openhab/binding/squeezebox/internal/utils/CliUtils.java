@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.squeezebox.internal.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collection of methods to parse the messages of the SqueezeServer CLI. A message consists of
+ * space separated, URL encoded tokens. Tagged parameters have the form {@code key%3Avalue}, so the
+ * key can be matched before anything is decoded.
+ *
+ * @author agent - Initial contribution
+ */
+public class CliUtils {
+    /**
+     * Separator between key and value of a tagged parameter (encoded colon)
+     */
+    public static final String TAG_SEPARATOR = "%3A";
+
+    private CliUtils() {
+    }
+
+    /**
+     * Splits a message into its tokens, the tokens are not decoded
+     *
+     * @param message message received from the CLI
+     * @return list of encoded tokens
+     */
+    public static List<String> split(String message) {
+        List<String> tokens = new ArrayList<>();
+        int length = message.length();
+        int start = 0;
+        while (start < length) {
+            int end = message.indexOf(' ', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                tokens.add(message.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the encoded key of a tagged parameter
+     *
+     * @param token encoded token
+     * @return encoded key or empty string, if the token is not a tagged parameter
+     */
+    public static String getKey(String token) {
+        int separator = token.indexOf(TAG_SEPARATOR);
+        return separator < 0 ? "" : token.substring(0, separator);
+    }
+
+    /**
+     * Returns the encoded value of a tagged parameter
+     *
+     * @param token encoded token
+     * @param key encoded key of the token as returned by {@link #getKey(String)}
+     * @return encoded value
+     */
+    public static String getValue(String token, String key) {
+        return token.substring(key.length() + TAG_SEPARATOR.length());
+    }
+
+    /**
+     * Decodes an URL encoded token (application/x-www-form-urlencoded with UTF-8). Invalid escape
+     * sequences are kept as they are.
+     *
+     * @param raw encoded token
+     * @return decoded token
+     */
+    public static String decode(String raw) {
+        int length = raw.length();
+        int i = 0;
+        while (i < length && raw.charAt(i) != '%' && raw.charAt(i) != '+') {
+            i++;
+        }
+        if (i == length) {
+            // nothing to decode
+            return raw;
+        }
+
+        StringBuilder result = new StringBuilder(length);
+        result.append(raw, 0, i);
+        byte[] bytes = null;
+        while (i < length) {
+            char c = raw.charAt(i);
+            if (c == '+') {
+                result.append(' ');
+                i++;
+            } else if (c == '%' && isEscape(raw, i)) {
+                // collect consecutive escapes, they may form a multi byte character
+                if (bytes == null) {
+                    bytes = new byte[(length - i) / 3];
+                }
+                int count = 0;
+                while (isEscape(raw, i)) {
+                    bytes[count++] = (byte) ((Character.digit(raw.charAt(i + 1), 16) << 4)
+                            + Character.digit(raw.charAt(i + 2), 16));
+                    i += 3;
+                }
+                result.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isEscape(String raw, int index) {
+        return index + 2 < raw.length() && raw.charAt(index) == '%'
+                && Character.digit(raw.charAt(index + 1), 16) >= 0 && Character.digit(raw.charAt(index + 2), 16) >= 0;
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.squeezebox.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openhab.binding.squeezebox.internal.model.Favorite;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.Thing;
+
+/**
+ * Replays a transcript of the Squeeze Server CLI to the {@link SqueezeBoxServerHandler}.
+ *
+ * @author agent - Initial contribution
+ */
+public class SqueezeBoxServerHandlerTest {
+    private static final String KITCHEN = "00:04:20:12:34:56";
+    private static final String UPSTAIRS = "b8:27:eb:aa:bb:cc";
+
+    private @Mock Bridge bridge;
+    private @Mock Thing kitchenThing;
+    private @Mock Thing upstairsThing;
+    private @Mock SqueezeBoxPlayerHandler kitchen;
+    private @Mock SqueezeBoxPlayerHandler upstairs;
+    private @Mock SqueezeBoxPlayerEventListener discovery;
+
+    private AutoCloseable mocks;
+    private SqueezeBoxServerHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+        when(kitchen.getMac()).thenReturn(KITCHEN);
+        when(upstairs.getMac()).thenReturn(UPSTAIRS);
+
+        handler = new SqueezeBoxServerHandler(bridge);
+        handler.registerSqueezeBoxPlayerListener(discovery);
+        handler.childHandlerInitialized(kitchen, kitchenThing);
+        handler.childHandlerInitialized(upstairs, upstairsThing);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    public void testPlayersAreAdded() throws IOException {
+        replay();
+
+        ArgumentCaptor<SqueezeBoxPlayer> players = ArgumentCaptor.forClass(SqueezeBoxPlayer.class);
+        verify(discovery, times(2)).playerAdded(players.capture());
+        assertEquals(KITCHEN, players.getAllValues().get(0).getMacAddress());
+        assertEquals("Kitchen", players.getAllValues().get(0).getName());
+        assertEquals("192.168.1.20:34567", players.getAllValues().get(0).getIpAddr());
+        assertEquals(UPSTAIRS, players.getAllValues().get(1).getMacAddress());
+        assertEquals("Küche Oben", players.getAllValues().get(1).getName());
+        assertEquals("squeezelite", players.getAllValues().get(1).getModel());
+
+        verify(kitchen, times(2)).playerAdded(any());
+        verify(upstairs, times(2)).playerAdded(any());
+    }
+
+    @Test
+    public void testStatusIsDecoded() throws IOException {
+        replay();
+
+        verify(kitchen).powerChangeEvent(KITCHEN, true);
+        verify(kitchen).absoluteVolumeChangeEvent(KITCHEN, 45);
+        verify(kitchen).currentPlayingTimeEvent(KITCHEN, 12);
+        verify(kitchen).durationEvent(KITCHEN, 245);
+        verify(kitchen).currentPlaylistIndexEvent(KITCHEN, 3);
+        verify(kitchen).numberPlaylistTracksEvent(KITCHEN, 12);
+        verify(kitchen).currentPlaylistRepeatEvent(KITCHEN, 2);
+        verify(kitchen).currentPlaylistShuffleEvent(KITCHEN, 1);
+        verify(kitchen).titleChangeEvent(KITCHEN, "Sänger & Songs");
+        verify(kitchen).artistChangeEvent(KITCHEN, "The Artist");
+        verify(kitchen).albumChangeEvent(KITCHEN, "Greatest Hits");
+        verify(kitchen).genreChangeEvent(KITCHEN, "Rock / Pop");
+        verify(kitchen).yearChangeEvent(KITCHEN, "1999");
+        verify(kitchen).coverArtChangeEvent(eq(KITCHEN), endsWith("/music/abcdef12/cover.jpg"));
+
+        verify(upstairs).powerChangeEvent(UPSTAIRS, false);
+        verify(upstairs).modeChangeEvent(UPSTAIRS, "stop");
+        verify(upstairs).remoteTitleChangeEvent(UPSTAIRS, "Radio One");
+        verify(upstairs).coverArtChangeEvent(UPSTAIRS, "http://example.org/logo.png");
+    }
+
+    @Test
+    public void testEventsArePassedToAffectedPlayerOnly() throws IOException {
+        replay();
+
+        verify(upstairs).relativeVolumeChangeEvent(UPSTAIRS, 5);
+        verify(upstairs).absoluteVolumeChangeEvent(UPSTAIRS, 30);
+        verify(upstairs).irCodeChangeEvent(UPSTAIRS, "768910ef");
+        verify(upstairs).sourceChangeEvent(UPSTAIRS, "http://example.org/stream.mp3");
+        verify(kitchen).modeChangeEvent(KITCHEN, "pause");
+        verify(kitchen).powerChangeEvent(KITCHEN, false);
+
+        verify(kitchen, never()).powerChangeEvent(eq(UPSTAIRS), anyBoolean());
+        verify(kitchen, never()).relativeVolumeChangeEvent(anyString(), anyInt());
+        verify(kitchen, never()).irCodeChangeEvent(anyString(), anyString());
+        verify(kitchen, never()).sourceChangeEvent(anyString(), anyString());
+        verify(upstairs, never()).titleChangeEvent(anyString(), anyString());
+        verify(upstairs, never()).modeChangeEvent(eq(KITCHEN), anyString());
+
+        // listeners like the discovery service receive the events of all players
+        verify(discovery).titleChangeEvent(KITCHEN, "Sänger & Songs");
+        verify(discovery).irCodeChangeEvent(UPSTAIRS, "768910ef");
+    }
+
+    @Test
+    public void testEventsAreNotPassedToDisposedPlayer() throws IOException {
+        handler.childHandlerDisposed(upstairs, upstairsThing);
+        replay();
+
+        verify(kitchen).titleChangeEvent(KITCHEN, "Sänger & Songs");
+        verify(upstairs, never()).irCodeChangeEvent(anyString(), anyString());
+        verify(discovery).irCodeChangeEvent(UPSTAIRS, "768910ef");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testFavoritesArePassedToAllPlayers() throws IOException {
+        replay();
+
+        ArgumentCaptor<List<Favorite>> favorites = ArgumentCaptor.forClass(List.class);
+        verify(kitchen).updateFavoritesListEvent(favorites.capture());
+        verify(upstairs).updateFavoritesListEvent(favorites.getValue());
+
+        // the folder "More Stations" is skipped
+        assertEquals(2, favorites.getValue().size());
+        assertEquals("0", favorites.getValue().get(0).shortId);
+        assertEquals("Radio One", favorites.getValue().get(0).name);
+        assertEquals("5b2c3d4e.2", favorites.getValue().get(1).id);
+        assertEquals("Jazz + Blues", favorites.getValue().get(1).name);
+    }
+
+    private void replay() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("cli-transcript.txt"), StandardCharsets.UTF_8))) {
+            String message;
+            while ((message = reader.readLine()) != null) {
+                handler.handleMessage(message);
+            }
+        }
+    }
+}
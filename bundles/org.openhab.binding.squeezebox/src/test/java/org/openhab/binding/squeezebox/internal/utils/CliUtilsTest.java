@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.squeezebox.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CliUtils}.
+ *
+ * @author agent - Initial contribution
+ */
+public class CliUtilsTest {
+
+    @Test
+    public void testSplit() {
+        assertEquals(Arrays.asList("00%3A04%3A20%3A12%3A34%3A56", "mixer", "volume", "%2B5"),
+                CliUtils.split("00%3A04%3A20%3A12%3A34%3A56 mixer  volume %2B5 "));
+        assertTrue(CliUtils.split("").isEmpty());
+    }
+
+    @Test
+    public void testKeyAndValue() {
+        String token = "mixer%20volume%3A45";
+        assertEquals("mixer%20volume", CliUtils.getKey(token));
+        assertEquals("45", CliUtils.getValue(token, CliUtils.getKey(token)));
+        assertEquals("", CliUtils.getKey("status"));
+        assertEquals("", CliUtils.getValue("uuid%3A", "uuid"));
+    }
+
+    @Test
+    public void testDecode() {
+        assertEquals("Kitchen", CliUtils.decode("Kitchen"));
+        assertEquals("Sänger & Songs", CliUtils.decode("S%C3%A4nger%20%26%20Songs"));
+        assertEquals("Jazz + Blues", CliUtils.decode("Jazz+%2B+Blues"));
+        assertEquals("http://example.org/logo.png", CliUtils.decode("http%3A%2F%2Fexample.org%2Flogo.png"));
+        // invalid escape sequences are kept
+        assertEquals("100% sure %", CliUtils.decode("100%25 sure %"));
+        assertEquals("50%zz", CliUtils.decode("50%zz"));
+    }
+}
@@ -307,6 +307,36 @@ public class SysteminfoBindingConstants {
      */
     public static final String CHANNEL_PROCESS_PATH = "process#path";
 
+    /**
+     * Heap memory used by the JVM in MB
+     */
+    public static final String CHANNEL_JVM_HEAP_USED = "jvm#heapUsed";
+
+    /**
+     * Maximum heap memory of the JVM in MB
+     */
+    public static final String CHANNEL_JVM_HEAP_MAX = "jvm#heapMax";
+
+    /**
+     * Heap memory used by the JVM in percent
+     */
+    public static final String CHANNEL_JVM_HEAP_USED_PERCENT = "jvm#heapUsedPercent";
+
+    /**
+     * Accumulated garbage collection time of the JVM in ms
+     */
+    public static final String CHANNEL_JVM_GC_TIME = "jvm#gcTime";
+
+    /**
+     * Number of live threads in the JVM
+     */
+    public static final String CHANNEL_JVM_THREADS = "jvm#threads";
+
+    /**
+     * Number of tasks queued in an openHAB thread pool
+     */
+    public static final String CHANNEL_JVM_THREAD_POOL_QUEUE = "jvm#threadPoolQueue";
+
     // Thing configuraion
     /**
      * Name of the configuration parameter of the thing that defines refresh time for High priority channels
@@ -330,4 +360,15 @@ public class SysteminfoBindingConstants {
      *
      */
     public static final String PID_PARAM = "pid";
+
+    /**
+     * Name of the channel configuration parameter poolName
+     *
+     */
+    public static final String POOL_NAME_PARAM = "poolName";
+
+    /**
+     * Default value of the channel configuration parameter poolName
+     */
+    public static final String DEFAULT_POOL_NAME = "thingHandler";
 }
@@ -237,6 +237,8 @@ public class SysteminfoHandler extends BaseThingHandler {
     }
 
     private void publishData(Set<ChannelUID> channels) {
+        // all channels of this refresh read from the same snapshot, so every category is queried only once
+        systeminfo.refreshSnapshot();
         Iterator<ChannelUID> iter = channels.iterator();
         while (iter.hasNext()) {
             ChannelUID channeUID = iter.next();
@@ -311,6 +313,9 @@ public class SysteminfoHandler extends BaseThingHandler {
                 case CHANNEL_SENSORS_FAN_SPEED:
                     state = systeminfo.getSensorsFanSpeed(deviceIndex);
                     break;
+                case CHANNEL_CPU_LOAD:
+                    state = systeminfo.getCpuLoad();
+                    break;
                 case CHANNEL_CPU_LOAD_1:
                     state = systeminfo.getCpuLoad1();
                     break;
@@ -434,6 +439,24 @@ public class SysteminfoHandler extends BaseThingHandler {
                 case CHANNEL_PROCESS_THREADS:
                     state = systeminfo.getProcessThreads(deviceIndex);
                     break;
+                case CHANNEL_JVM_HEAP_USED:
+                    state = systeminfo.getJvmHeapUsed();
+                    break;
+                case CHANNEL_JVM_HEAP_MAX:
+                    state = systeminfo.getJvmHeapMax();
+                    break;
+                case CHANNEL_JVM_HEAP_USED_PERCENT:
+                    state = systeminfo.getJvmHeapUsedPercent();
+                    break;
+                case CHANNEL_JVM_GC_TIME:
+                    state = systeminfo.getJvmGcTime();
+                    break;
+                case CHANNEL_JVM_THREADS:
+                    state = systeminfo.getJvmThreads();
+                    break;
+                case CHANNEL_JVM_THREAD_POOL_QUEUE:
+                    state = systeminfo.getThreadPoolQueueSize(getPoolName(channelUID));
+                    break;
                 default:
                     logger.debug("Channel with unknown ID: {} !", channelID);
             }
@@ -508,11 +531,29 @@ public class SysteminfoHandler extends BaseThingHandler {
         return pid;
     }
 
+    /**
+     * This method gets the name of the thread pool tracked by a channel
+     *
+     * @param channelUID channel unique identifier
+     * @return the configured pool name or the default pool name
+     */
+    private String getPoolName(ChannelUID channelUID) {
+        Channel channel = this.thing.getChannel(channelUID.getId());
+        if (channel != null) {
+            Object poolName = channel.getConfiguration().get(POOL_NAME_PARAM);
+            if (poolName instanceof String && !((String) poolName).isBlank()) {
+                return (String) poolName;
+            }
+        }
+        return DEFAULT_POOL_NAME;
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (thing.getStatus().equals(ThingStatus.ONLINE)) {
             if (command instanceof RefreshType) {
                 logger.debug("Refresh command received for channel {}!", channelUID);
+                systeminfo.refreshSnapshot();
                 publishDataForChannel(channelUID);
             } else {
                 logger.debug("Unsupported command {}! Supported commands: REFRESH", command);
@@ -563,6 +604,11 @@ public class SysteminfoHandler extends BaseThingHandler {
                 isChannelConfigChanged = true;
                 handleChannelConfigurationChange(oldChannel, newChannelConfig, PID_PARAM);
             }
+
+            if (isConfigurationKeyChanged(currentChannelConfig, newChannelConfig, POOL_NAME_PARAM)) {
+                isChannelConfigChanged = true;
+                handleChannelConfigurationChange(oldChannel, newChannelConfig, POOL_NAME_PARAM);
+            }
         }
 
         if (!(isInitialized() && isChannelConfigChanged)) {
@@ -12,11 +12,24 @@
  */
 package org.openhab.binding.systeminfo.internal.model;
 
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.StringType;
 import org.osgi.service.component.annotations.Component;
@@ -25,6 +38,7 @@ import org.slf4j.LoggerFactory;
 
 import oshi.SystemInfo;
 import oshi.hardware.CentralProcessor;
+import oshi.hardware.CentralProcessor.TickType;
 import oshi.hardware.ComputerSystem;
 import oshi.hardware.Display;
 import oshi.hardware.GlobalMemory;
@@ -33,6 +47,7 @@ import oshi.hardware.HardwareAbstractionLayer;
 import oshi.hardware.NetworkIF;
 import oshi.hardware.PowerSource;
 import oshi.hardware.Sensors;
+import oshi.hardware.VirtualMemory;
 import oshi.software.os.OSFileStore;
 import oshi.software.os.OSProcess;
 import oshi.software.os.OperatingSystem;
@@ -73,6 +88,22 @@ public class OSHISysteminfo implements SysteminfoInterface {
     private @NonNullByDefault({}) PowerSource[] powerSources;
     private @NonNullByDefault({}) HWDiskStore[] drives;
 
+    // Snapshot of the dynamic information, reset by refreshSnapshot()
+    private final Set<Object> updatedDevices = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Integer, OSProcess> processes = new HashMap<>();
+    private @Nullable MemorySnapshot memorySnapshot;
+    private @Nullable SensorsSnapshot sensorsSnapshot;
+    private @Nullable CpuSnapshot cpuSnapshot;
+
+    // CPU ticks of the previous snapshot, used to calculate the recent CPU load
+    private long @Nullable [] cpuTicks;
+
+    // Thread pools of the ThreadPoolManager, which are only looked up once they have been created
+    private final Map<String, ThreadPoolExecutor> threadPools = new ConcurrentHashMap<>();
+    // Time of the last search for the threads of a pool that is not running yet
+    private final Map<String, Long> threadPoolLookups = new ConcurrentHashMap<>();
+    private static final long THREAD_POOL_LOOKUP_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
     public static final int PRECISION_AFTER_DECIMAL_SIGN = 1;
 
     /**
@@ -88,7 +119,11 @@ public class OSHISysteminfo implements SysteminfoInterface {
         logger.debug("OSHISysteminfo service starts initializing");
 
         SystemInfo systemInfo = new SystemInfo();
-        hal = systemInfo.getHardware();
+        initializeSysteminfo(systemInfo.getHardware(), systemInfo.getOperatingSystem());
+    }
+
+    void initializeSysteminfo(HardwareAbstractionLayer hal, OperatingSystem operatingSystem) {
+        this.hal = hal;
 
         // Doesn't need regular update, they may be queried repeatedly
         memory = hal.getMemory();
@@ -96,12 +131,96 @@ public class OSHISysteminfo implements SysteminfoInterface {
         sensors = hal.getSensors();
 
         computerSystem = hal.getComputerSystem();
-        operatingSystem = systemInfo.getOperatingSystem();
+        this.operatingSystem = operatingSystem;
         networks = hal.getNetworkIFs();
         displays = hal.getDisplays();
         fileStores = operatingSystem.getFileSystem().getFileStores();
         powerSources = hal.getPowerSources();
         drives = hal.getDiskStores();
+
+        refreshSnapshot();
+    }
+
+    @Override
+    public synchronized void refreshSnapshot() {
+        updatedDevices.clear();
+        processes.clear();
+        memorySnapshot = null;
+        sensorsSnapshot = null;
+        cpuSnapshot = null;
+    }
+
+    /**
+     * Updates the attributes of a device if this has not been done yet for the current snapshot
+     */
+    private synchronized void updateOnce(Object device, Runnable update) {
+        if (updatedDevices.add(device)) {
+            update.run();
+        }
+    }
+
+    private OSFileStore getFileStore(int index) throws DeviceNotFoundException {
+        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        updateOnce(fileStore, fileStore::updateAtrributes);
+        return fileStore;
+    }
+
+    private NetworkIF getNetwork(int index) throws DeviceNotFoundException {
+        NetworkIF network = (NetworkIF) getDevice(networks, index);
+        updateOnce(network, network::updateAttributes);
+        return network;
+    }
+
+    private PowerSource getPowerSource(int index) throws DeviceNotFoundException {
+        PowerSource powerSource = (PowerSource) getDevice(powerSources, index);
+        updateOnce(powerSource, powerSource::updateAttributes);
+        return powerSource;
+    }
+
+    private synchronized MemorySnapshot getMemorySnapshot() {
+        MemorySnapshot snapshot = memorySnapshot;
+        if (snapshot == null) {
+            VirtualMemory virtualMemory = memory.getVirtualMemory();
+            snapshot = new MemorySnapshot(memory.getTotal(), memory.getAvailable(), virtualMemory.getSwapTotal(),
+                    virtualMemory.getSwapUsed());
+            memorySnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    private synchronized SensorsSnapshot getSensorsSnapshot() {
+        SensorsSnapshot snapshot = sensorsSnapshot;
+        if (snapshot == null) {
+            snapshot = new SensorsSnapshot(sensors.getCpuTemperature(), sensors.getCpuVoltage(),
+                    sensors.getFanSpeeds());
+            sensorsSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    private synchronized CpuSnapshot getCpuSnapshot() {
+        CpuSnapshot snapshot = cpuSnapshot;
+        if (snapshot == null) {
+            // This parameter is specified in OSHI Javadoc
+            double[] loadAverages = cpu.getSystemLoadAverage(3);
+            long[] ticks = cpu.getSystemCpuLoadTicks();
+            long[] previousTicks = cpuTicks;
+            double load = previousTicks != null ? getCpuLoadBetweenTicks(previousTicks, ticks) : -1;
+            cpuTicks = ticks;
+            snapshot = new CpuSnapshot(loadAverages, load);
+            cpuSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    private static double getCpuLoadBetweenTicks(long[] previousTicks, long[] ticks) {
+        long total = 0;
+        for (int i = 0; i < ticks.length; i++) {
+            total += ticks[i] - previousTicks[i];
+        }
+        long idle = ticks[TickType.IDLE.getIndex()] - previousTicks[TickType.IDLE.getIndex()]
+                + ticks[TickType.IOWAIT.getIndex()] - previousTicks[TickType.IOWAIT.getIndex()];
+        return total > 0 && idle >= 0 ? (double) (total - idle) / total : -1;
     }
 
     private Object getDevice(Object @Nullable [] devices, int index) throws DeviceNotFoundException {
@@ -111,10 +230,14 @@ public class OSHISysteminfo implements SysteminfoInterface {
         return devices[index];
     }
 
-    private OSProcess getProcess(int pid) throws DeviceNotFoundException {
-        OSProcess process = operatingSystem.getProcess(pid);
+    private synchronized OSProcess getProcess(int pid) throws DeviceNotFoundException {
+        OSProcess process = processes.get(pid);
         if (process == null) {
-            throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
+            process = operatingSystem.getProcess(pid);
+            if (process == null) {
+                throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
+            }
+            processes.put(pid, process);
         }
         return process;
     }
@@ -172,22 +295,23 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getMemoryTotal() {
-        long totalMemory = memory.getTotal();
+        long totalMemory = getMemorySnapshot().total;
         totalMemory = getSizeInMB(totalMemory);
         return new DecimalType(totalMemory);
     }
 
     @Override
     public DecimalType getMemoryAvailable() {
-        long availableMemory = memory.getAvailable();
+        long availableMemory = getMemorySnapshot().available;
         availableMemory = getSizeInMB(availableMemory);
         return new DecimalType(availableMemory);
     }
 
     @Override
     public DecimalType getMemoryUsed() {
-        long totalMemory = memory.getTotal();
-        long availableMemory = memory.getAvailable();
+        MemorySnapshot snapshot = getMemorySnapshot();
+        long totalMemory = snapshot.total;
+        long availableMemory = snapshot.available;
         long usedMemory = totalMemory - availableMemory;
         usedMemory = getSizeInMB(usedMemory);
         return new DecimalType(usedMemory);
@@ -195,8 +319,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageTotal(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
-        fileStore.updateAtrributes();
+        OSFileStore fileStore = getFileStore(index);
         long totalSpace = fileStore.getTotalSpace();
         totalSpace = getSizeInMB(totalSpace);
         return new DecimalType(totalSpace);
@@ -204,8 +327,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageAvailable(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
-        fileStore.updateAtrributes();
+        OSFileStore fileStore = getFileStore(index);
         long freeSpace = fileStore.getUsableSpace();
         freeSpace = getSizeInMB(freeSpace);
         return new DecimalType(freeSpace);
@@ -213,8 +335,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageUsed(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
-        fileStore.updateAtrributes();
+        OSFileStore fileStore = getFileStore(index);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -224,8 +345,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getStorageAvailablePercent(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, deviceIndex);
-        fileStore.updateAtrributes();
+        OSFileStore fileStore = getFileStore(deviceIndex);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         if (totalSpace > 0) {
@@ -239,8 +359,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getStorageUsedPercent(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, deviceIndex);
-        fileStore.updateAtrributes();
+        OSFileStore fileStore = getFileStore(deviceIndex);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -276,8 +395,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public StringType getNetworkIp(int index) throws DeviceNotFoundException {
-        NetworkIF netInterface = (NetworkIF) getDevice(networks, index);
-        netInterface.updateAttributes();
+        NetworkIF netInterface = getNetwork(index);
         String[] ipAddresses = netInterface.getIPv4addr();
         String ipv4 = (String) getDevice(ipAddresses, 0);
         return new StringType(ipv4);
@@ -315,29 +433,28 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getSensorsCpuTemperature() {
-        BigDecimal cpuTemp = new BigDecimal(sensors.getCpuTemperature());
+        BigDecimal cpuTemp = new BigDecimal(getSensorsSnapshot().cpuTemperature);
         cpuTemp = cpuTemp.setScale(PRECISION_AFTER_DECIMAL_SIGN, BigDecimal.ROUND_HALF_UP);
         return cpuTemp.signum() == 1 ? new DecimalType(cpuTemp) : null;
     }
 
     @Override
     public @Nullable DecimalType getSensorsCpuVoltage() {
-        BigDecimal cpuVoltage = new BigDecimal(sensors.getCpuVoltage());
+        BigDecimal cpuVoltage = new BigDecimal(getSensorsSnapshot().cpuVoltage);
         cpuVoltage = cpuVoltage.setScale(PRECISION_AFTER_DECIMAL_SIGN, BigDecimal.ROUND_HALF_UP);
         return cpuVoltage.signum() == 1 ? new DecimalType(cpuVoltage) : null;
     }
 
     @Override
     public @Nullable DecimalType getSensorsFanSpeed(int index) throws DeviceNotFoundException {
-        int[] fanSpeeds = sensors.getFanSpeeds();
+        int[] fanSpeeds = getSensorsSnapshot().fanSpeeds;
         int speed = (int) getDevice(ArrayUtils.toObject(fanSpeeds), index);
         return speed > 0 ? new DecimalType(speed) : null;
     }
 
     @Override
     public @Nullable DecimalType getBatteryRemainingTime(int index) throws DeviceNotFoundException {
-        PowerSource powerSource = (PowerSource) getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        PowerSource powerSource = getPowerSource(index);
         double remainingTimeInSeconds = powerSource.getTimeRemainingEstimated();
         // The getTimeRemaining() method returns (-1.0) if is calculating or (-2.0) if the time is unlimited.
         BigDecimal remainingTime = getTimeInMinutes(remainingTimeInSeconds);
@@ -346,8 +463,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getBatteryRemainingCapacity(int index) throws DeviceNotFoundException {
-        PowerSource powerSource = (PowerSource) getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        PowerSource powerSource = getPowerSource(index);
         double remainingCapacity = powerSource.getRemainingCapacityPercent();
         BigDecimal remainingCapacityPercents = getPercentsValue(remainingCapacity);
         return new DecimalType(remainingCapacityPercents);
@@ -362,8 +478,9 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getMemoryAvailablePercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        MemorySnapshot snapshot = getMemorySnapshot();
+        long availableMemory = snapshot.available;
+        long totalMemory = snapshot.total;
         if (totalMemory > 0) {
             double freePercentDecimal = (double) availableMemory / (double) totalMemory;
             BigDecimal freePercent = getPercentsValue(freePercentDecimal);
@@ -375,8 +492,9 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getMemoryUsedPercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        MemorySnapshot snapshot = getMemorySnapshot();
+        long availableMemory = snapshot.available;
+        long totalMemory = snapshot.total;
         long usedMemory = totalMemory - availableMemory;
         if (totalMemory > 0) {
             double usedPercentDecimal = (double) usedMemory / (double) totalMemory;
@@ -410,15 +528,16 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getSwapTotal() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
+        long swapTotal = getMemorySnapshot().swapTotal;
         swapTotal = getSizeInMB(swapTotal);
         return new DecimalType(swapTotal);
     }
 
     @Override
     public @Nullable DecimalType getSwapAvailable() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        MemorySnapshot snapshot = getMemorySnapshot();
+        long swapTotal = snapshot.swapTotal;
+        long swapUsed = snapshot.swapUsed;
         long swapAvailable = swapTotal - swapUsed;
         swapAvailable = getSizeInMB(swapAvailable);
         return new DecimalType(swapAvailable);
@@ -426,15 +545,16 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getSwapUsed() {
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapUsed = getMemorySnapshot().swapUsed;
         swapUsed = getSizeInMB(swapUsed);
         return new DecimalType(swapUsed);
     }
 
     @Override
     public @Nullable DecimalType getSwapAvailablePercent() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        MemorySnapshot snapshot = getMemorySnapshot();
+        long swapTotal = snapshot.swapTotal;
+        long swapUsed = snapshot.swapUsed;
         long swapAvailable = swapTotal - swapUsed;
         if (swapTotal > 0) {
             double swapAvailablePercentDecimal = (double) swapAvailable / (double) swapTotal;
@@ -447,8 +567,9 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getSwapUsedPercent() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        MemorySnapshot snapshot = getMemorySnapshot();
+        long swapTotal = snapshot.swapTotal;
+        long swapUsed = snapshot.swapUsed;
         if (swapTotal > 0) {
             double swapUsedPercentDecimal = (double) swapUsed / (double) swapTotal;
             BigDecimal swapUsedPercent = getPercentsValue(swapUsedPercentDecimal);
@@ -474,6 +595,12 @@ public class OSHISysteminfo implements SysteminfoInterface {
         return timeInMinutes;
     }
 
+    @Override
+    public @Nullable DecimalType getCpuLoad() {
+        double load = getCpuSnapshot().load;
+        return load >= 0 ? new DecimalType(getPercentsValue(load)) : null;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -508,7 +635,6 @@ public class OSHISysteminfo implements SysteminfoInterface {
     }
 
     private BigDecimal getAvarageCpuLoad(int timeInMunutes) {
-        // This parameter is specified in OSHI Javadoc
         int index;
         switch (timeInMunutes) {
             case 1:
@@ -523,7 +649,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
             default:
                 index = 2;
         }
-        double processorLoads[] = cpu.getSystemLoadAverage(index + 1);
+        double processorLoads[] = getCpuSnapshot().loadAverages;
         BigDecimal result = new BigDecimal(processorLoads[index]);
         result = result.setScale(PRECISION_AFTER_DECIMAL_SIGN, BigDecimal.ROUND_HALF_UP);
         return result;
@@ -550,32 +676,28 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getNetworkPacketsReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getNetwork(networkIndex);
         long packRecv = network.getPacketsRecv();
         return new DecimalType(packRecv);
     }
 
     @Override
     public DecimalType getNetworkPacketsSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getNetwork(networkIndex);
         long packSent = network.getPacketsSent();
         return new DecimalType(packSent);
     }
 
     @Override
     public DecimalType getNetworkDataSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getNetwork(networkIndex);
         long bytesSent = network.getBytesSent();
         return new DecimalType(getSizeInMB(bytesSent));
     }
 
     @Override
     public DecimalType getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getNetwork(networkIndex);
         long bytesRecv = network.getBytesRecv();
         return new DecimalType(getSizeInMB(bytesRecv));
     }
@@ -636,4 +758,138 @@ public class OSHISysteminfo implements SysteminfoInterface {
             return null;
         }
     }
+
+    @Override
+    public DecimalType getJvmHeapUsed() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        return new DecimalType(getSizeInMB(heap.getUsed()));
+    }
+
+    @Override
+    public @Nullable DecimalType getJvmHeapMax() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long max = heap.getMax();
+        return max > 0 ? new DecimalType(getSizeInMB(max)) : null;
+    }
+
+    @Override
+    public @Nullable DecimalType getJvmHeapUsedPercent() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long max = heap.getMax();
+        if (max > 0) {
+            double usedPercentDecimal = (double) heap.getUsed() / (double) max;
+            return new DecimalType(getPercentsValue(usedPercentDecimal));
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public DecimalType getJvmGcTime() {
+        long gcTime = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            long collectionTime = gc.getCollectionTime();
+            // The collection time is -1 if it is undefined for this collector
+            if (collectionTime > 0) {
+                gcTime += collectionTime;
+            }
+        }
+        return new DecimalType(gcTime);
+    }
+
+    @Override
+    public DecimalType getJvmThreads() {
+        int threadCount = ManagementFactory.getThreadMXBean().getThreadCount();
+        return new DecimalType(threadCount);
+    }
+
+    @Override
+    public @Nullable DecimalType getThreadPoolQueueSize(String poolName) {
+        ThreadPoolExecutor pool = getThreadPool(poolName);
+        return pool != null ? new DecimalType(pool.getQueue().size()) : null;
+    }
+
+    private @Nullable ThreadPoolExecutor getThreadPool(String poolName) {
+        ThreadPoolExecutor pool = threadPools.get(poolName);
+        if (pool != null && pool.isShutdown()) {
+            // The pool has been replaced in the ThreadPoolManager, look up the new one
+            threadPools.remove(poolName, pool);
+            threadPoolLookups.remove(poolName);
+            pool = null;
+        }
+        // ThreadPoolManager.getPool() creates a pool that does not exist yet, so it is only called once a thread of
+        // the pool is running
+        if (pool == null && isThreadPoolLookupDue(poolName) && isThreadPoolRunning(poolName)) {
+            ExecutorService executor = ThreadPoolManager.getPool(poolName);
+            if (executor instanceof ThreadPoolExecutor) {
+                pool = (ThreadPoolExecutor) executor;
+                threadPools.put(poolName, pool);
+            }
+        }
+        return pool;
+    }
+
+    private boolean isThreadPoolLookupDue(String poolName) {
+        long now = System.nanoTime();
+        Long lastLookup = threadPoolLookups.get(poolName);
+        if (lastLookup != null && now - lastLookup < THREAD_POOL_LOOKUP_INTERVAL) {
+            return false;
+        }
+        threadPoolLookups.put(poolName, now);
+        return true;
+    }
+
+    private boolean isThreadPoolRunning(String poolName) {
+        ThreadGroup group = Thread.currentThread().getThreadGroup();
+        while (group.getParent() != null) {
+            group = group.getParent();
+        }
+        Thread[] threads = new Thread[group.activeCount() * 2];
+        int count = group.enumerate(threads, true);
+        // The threads of the ThreadPoolManager are named "OH-<poolName>-<number>"
+        String prefix = "OH-" + poolName + "-";
+        for (int i = 0; i < count; i++) {
+            String name = threads[i].getName();
+            if (name.startsWith(prefix) && name.substring(prefix.length()).chars().allMatch(Character::isDigit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class MemorySnapshot {
+        private final long total;
+        private final long available;
+        private final long swapTotal;
+        private final long swapUsed;
+
+        MemorySnapshot(long total, long available, long swapTotal, long swapUsed) {
+            this.total = total;
+            this.available = available;
+            this.swapTotal = swapTotal;
+            this.swapUsed = swapUsed;
+        }
+    }
+
+    private static class CpuSnapshot {
+        private final double[] loadAverages;
+        private final double load;
+
+        CpuSnapshot(double[] loadAverages, double load) {
+            this.loadAverages = loadAverages;
+            this.load = load;
+        }
+    }
+
+    private static class SensorsSnapshot {
+        private final double cpuTemperature;
+        private final double cpuVoltage;
+        private final int[] fanSpeeds;
+
+        SensorsSnapshot(double cpuTemperature, double cpuVoltage, int[] fanSpeeds) {
+            this.cpuTemperature = cpuTemperature;
+            this.cpuVoltage = cpuVoltage;
+            this.fanSpeeds = fanSpeeds;
+        }
+    }
 }
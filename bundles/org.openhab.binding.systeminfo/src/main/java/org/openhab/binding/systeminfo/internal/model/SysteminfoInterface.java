@@ -31,6 +31,13 @@ public interface SysteminfoInterface {
      */
     public void initializeSysteminfo();
 
+    /**
+     * Starts a new snapshot of the dynamic system information. Every category (CPU, memory, file stores, network
+     * interfaces, processes, ...) is queried at most once per snapshot, the first time one of its values is requested.
+     * All following requests read from that snapshot until this method is called again.
+     */
+    public void refreshSnapshot();
+
     // Operating system info
     /**
      * Get the Family of the operating system /e.g. Windows,Unix,.../
@@ -71,6 +78,13 @@ public interface SysteminfoInterface {
      */
     public DecimalType getCpuPhysicalCores();
 
+    /**
+     * Returns the recent system CPU load, measured between the previous and the current snapshot.
+     *
+     * @return the load as percentage value /0-100/ or null, if there is no previous snapshot
+     */
+    public @Nullable DecimalType getCpuLoad();
+
     /**
      * Returns the system load average for the last minute.
      *
@@ -437,4 +451,45 @@ public interface SysteminfoInterface {
      * @throws DeviceNotFoundException - thrown if process with this PID can not be found
      */
     public @Nullable DecimalType getProcessThreads(int pid) throws DeviceNotFoundException;
+
+    /**
+     * Returns the heap memory currently used by the Java virtual machine
+     *
+     * @return used heap memory in MB
+     */
+    public DecimalType getJvmHeapUsed();
+
+    /**
+     * Returns the maximum heap memory the Java virtual machine can use
+     *
+     * @return maximum heap memory in MB or null if it is undefined
+     */
+    public @Nullable DecimalType getJvmHeapMax();
+
+    /**
+     * Returns the used heap memory of the Java virtual machine relative to the maximum heap memory
+     *
+     * @return percentage value /0-100/ or null if the maximum heap memory is undefined
+     */
+    public @Nullable DecimalType getJvmHeapUsedPercent();
+
+    /**
+     * Returns the accumulated time the garbage collectors of the Java virtual machine have spent collecting
+     *
+     * @return time in milliseconds
+     */
+    public DecimalType getJvmGcTime();
+
+    /**
+     * Returns the number of live threads in the Java virtual machine
+     */
+    public DecimalType getJvmThreads();
+
+    /**
+     * Returns the number of tasks waiting in the queue of a thread pool managed by the openHAB ThreadPoolManager
+     *
+     * @param poolName - the name of the thread pool
+     * @return number of queued tasks or null if the pool has not been created yet or does not provide a queue
+     */
+    public @Nullable DecimalType getThreadPoolQueueSize(String poolName);
 }
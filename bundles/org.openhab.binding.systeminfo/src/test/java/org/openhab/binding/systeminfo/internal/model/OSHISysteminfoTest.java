@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.systeminfo.internal.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.library.types.DecimalType;
+
+import oshi.hardware.CentralProcessor;
+import oshi.hardware.CentralProcessor.TickType;
+import oshi.hardware.GlobalMemory;
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.hardware.VirtualMemory;
+import oshi.software.os.FileSystem;
+import oshi.software.os.OperatingSystem;
+
+/**
+ * Tests for {@link OSHISysteminfo}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+public class OSHISysteminfoTest {
+
+    private @Mock HardwareAbstractionLayer hal;
+    private @Mock OperatingSystem operatingSystem;
+    private @Mock FileSystem fileSystem;
+    private @Mock GlobalMemory memory;
+    private @Mock VirtualMemory virtualMemory;
+    private @Mock CentralProcessor cpu;
+
+    private OSHISysteminfo systeminfo;
+
+    @BeforeEach
+    public void setUp() {
+        when(hal.getMemory()).thenReturn(memory);
+        when(hal.getProcessor()).thenReturn(cpu);
+        when(operatingSystem.getFileSystem()).thenReturn(fileSystem);
+        when(memory.getTotal()).thenReturn(4096L * 1024 * 1024);
+        when(memory.getAvailable()).thenReturn(1024L * 1024 * 1024);
+        when(memory.getVirtualMemory()).thenReturn(virtualMemory);
+        when(cpu.getSystemLoadAverage(3)).thenReturn(new double[] { 1.5, 1.0, 0.5 });
+
+        systeminfo = new OSHISysteminfo();
+        systeminfo.initializeSysteminfo(hal, operatingSystem);
+    }
+
+    @Test
+    public void testMemoryIsReadOncePerSnapshot() {
+        assertEquals(new DecimalType(4096), systeminfo.getMemoryTotal());
+        assertEquals(new DecimalType(1024), systeminfo.getMemoryAvailable());
+        assertEquals(new DecimalType(3072), systeminfo.getMemoryUsed());
+        systeminfo.getMemoryUsedPercent();
+        systeminfo.getSwapTotal();
+        verify(memory, times(1)).getTotal();
+        verify(memory, times(1)).getAvailable();
+        verify(memory, times(1)).getVirtualMemory();
+
+        systeminfo.refreshSnapshot();
+        systeminfo.getMemoryUsed();
+        verify(memory, times(2)).getTotal();
+        verify(memory, times(2)).getAvailable();
+    }
+
+    @Test
+    public void testCpuIsReadOncePerSnapshot() {
+        when(cpu.getSystemCpuLoadTicks()).thenReturn(new long[TickType.values().length]);
+
+        assertEquals(1.5, systeminfo.getCpuLoad1().doubleValue());
+        assertEquals(1.0, systeminfo.getCpuLoad5().doubleValue());
+        assertEquals(0.5, systeminfo.getCpuLoad15().doubleValue());
+        systeminfo.getCpuLoad();
+        verify(cpu, times(1)).getSystemLoadAverage(3);
+        verify(cpu, times(1)).getSystemCpuLoadTicks();
+
+        systeminfo.refreshSnapshot();
+        systeminfo.getCpuLoad1();
+        verify(cpu, times(2)).getSystemLoadAverage(3);
+        verify(cpu, times(2)).getSystemCpuLoadTicks();
+    }
+
+    @Test
+    public void testCpuLoadIsCalculatedBetweenSnapshots() {
+        long[] ticks = new long[TickType.values().length];
+        long[] nextTicks = ticks.clone();
+        nextTicks[TickType.USER.getIndex()] += 250;
+        nextTicks[TickType.SYSTEM.getIndex()] += 50;
+        nextTicks[TickType.IDLE.getIndex()] += 600;
+        nextTicks[TickType.IOWAIT.getIndex()] += 100;
+        when(cpu.getSystemCpuLoadTicks()).thenReturn(ticks, nextTicks, nextTicks);
+
+        // there is no previous snapshot to compare with
+        assertNull(systeminfo.getCpuLoad());
+
+        systeminfo.refreshSnapshot();
+        assertEquals(30.0, systeminfo.getCpuLoad().doubleValue());
+
+        // no ticks have passed since the previous snapshot
+        systeminfo.refreshSnapshot();
+        assertNull(systeminfo.getCpuLoad());
+    }
+
+    @Test
+    public void testThreadPoolIsNotCreated() throws InterruptedException {
+        assertNull(systeminfo.getThreadPoolQueueSize("systeminfo-test-unknown"));
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = ThreadPoolManager.getPool("systeminfo-test");
+        pool.execute(() -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            assertEquals(new DecimalType(0), systeminfo.getThreadPoolQueueSize("systeminfo-test"));
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -61,6 +61,11 @@ public class TradfriBindingConstants {
     public static final String GATEWAY_CONFIG_IDENTITY = "identity";
     public static final String GATEWAY_CONFIG_PRE_SHARED_KEY = "preSharedKey";
 
+    // List of all Gateway Properties
+    public static final String PROPERTY_OBSERVE_RELATIONS = "observeRelations";
+    public static final String PROPERTY_OBSERVE_LATENCY_AVERAGE = "observeLatencyAverage";
+    public static final String PROPERTY_OBSERVE_LATENCY_MAXIMUM = "observeLatencyMaximum";
+
     // Not yet used - included for future support
     public static final Set<ThingTypeUID> SUPPORTED_CONTROLLER_TYPES_UIDS = Collections
             .unmodifiableSet(Stream.of(THING_TYPE_DIMMER, THING_TYPE_REMOTE_CONTROL,
@@ -0,0 +1,358 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tradfri.internal;
+
+import static org.openhab.binding.tradfri.internal.TradfriBindingConstants.*;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.californium.core.network.Endpoint;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The {@link TradfriCommandDispatcher} sends the commands of all devices of a gateway. A command is sent right away
+ * if no other command was sent shortly before. Commands that follow it within a short time window are collected. If
+ * all lights of a gateway group received the same on/off or brightness command, a single request is sent to the group
+ * instead of one request per light. All other commands are passed on to the CoAP client of the device.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TradfriCommandDispatcher {
+
+    private static final long MERGE_WINDOW_MILLIS = 50;
+
+    /**
+     * Light attributes that are supported by a group request
+     */
+    private static final Set<String> GROUP_ATTRIBUTES = Set.of(ONOFF, DIMMER, TRANSITION_TIME);
+
+    private final Logger logger = LoggerFactory.getLogger(TradfriCommandDispatcher.class);
+    private final JsonParser parser = new JsonParser();
+
+    private final ScheduledExecutorService scheduler;
+    private final long mergeWindowMillis;
+
+    private final Map<Integer, Set<Integer>> groupMembers = new ConcurrentHashMap<>();
+    private final Set<Integer> lights = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, TradfriCoapClient> groupClients = new HashMap<>();
+
+    private List<Command> pending = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private @Nullable String groupsURI;
+    private @Nullable Endpoint endpoint;
+
+    public TradfriCommandDispatcher(ScheduledExecutorService scheduler) {
+        this(scheduler, MERGE_WINDOW_MILLIS);
+    }
+
+    TradfriCommandDispatcher(ScheduledExecutorService scheduler, long mergeWindowMillis) {
+        this.scheduler = scheduler;
+        this.mergeWindowMillis = mergeWindowMillis;
+    }
+
+    /**
+     * Enables sending of group requests on the given endpoint.
+     *
+     * @param groupsURI the URI of the groups resource, the instance id of a group is appended to it
+     * @param endpoint the endpoint of the gateway
+     */
+    public synchronized void start(String groupsURI, Endpoint endpoint) {
+        stop();
+        this.groupsURI = groupsURI;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Disables group requests. Pending commands are still sent with the clients of the devices.
+     */
+    public synchronized void stop() {
+        groupClients.values().forEach(TradfriCoapClient::shutdown);
+        groupClients.clear();
+        endpoint = null;
+    }
+
+    /**
+     * Updates the members of a group as reported by the gateway.
+     *
+     * @param groupId the instance id of the group
+     * @param members the instance ids of the devices in the group
+     */
+    public void updateGroup(int groupId, Set<Integer> members) {
+        groupMembers.put(groupId, members);
+    }
+
+    /**
+     * Removes all groups that are not reported by the gateway anymore.
+     *
+     * @param groupIds the instance ids of all groups of the gateway
+     */
+    public void retainGroups(Collection<Integer> groupIds) {
+        groupMembers.keySet().retainAll(groupIds);
+    }
+
+    /**
+     * Updates whether the device with the given id is a light. Only lights are considered when commands are merged
+     * into a group request, as groups also contain remote controls and sensors.
+     *
+     * @param id the instance id of the device
+     * @param light true if the device is a light
+     */
+    public void updateDevice(int id, boolean light) {
+        if (light) {
+            lights.add(id);
+        } else {
+            lights.remove(id);
+        }
+    }
+
+    /**
+     * Queues a command for the device with the given id.
+     *
+     * @param id the instance id of the device
+     * @param client the client of the device, which is used if the command is not merged
+     * @param payload the payload of the PUT request
+     * @param callback the callback of the device
+     */
+    public void dispatch(int id, TradfriCoapClient client, String payload, CoapCallback callback) {
+        Command command = new Command(id, client, payload, callback);
+        synchronized (this) {
+            pending.add(command);
+            final ScheduledFuture<?> flushJob = this.flushJob;
+            if (flushJob != null && !flushJob.isDone()) {
+                return;
+            }
+            // nothing to merge with, the command is sent right away and opens the window for the following commands
+            command.sent = true;
+            this.flushJob = scheduler.schedule(this::flush, mergeWindowMillis, TimeUnit.MILLISECONDS);
+        }
+        send(command);
+    }
+
+    void flush() {
+        List<Command> commands;
+        synchronized (this) {
+            commands = pending;
+            pending = new ArrayList<>();
+            flushJob = null;
+        }
+        if (commands.size() < 2) {
+            // only the command that opened the window, which has already been sent
+            commands.stream().filter(command -> !command.sent).forEach(this::send);
+            return;
+        }
+        for (Command command : mergeIntoGroups(commands)) {
+            if (!command.sent) {
+                send(command);
+            }
+        }
+    }
+
+    /**
+     * Sends a group request for every group where all lights received the same command and returns the remaining
+     * commands. The command that opened the merge window may be part of a group request, although it has already
+     * been sent, as it sets the same state.
+     *
+     * @param commands the commands received in the merge window
+     * @return the commands that still need to be sent to the devices
+     */
+    private List<Command> mergeIntoGroups(List<Command> commands) {
+        if (groupMembers.isEmpty() || commands.size() < 2) {
+            return commands;
+        }
+        // only a device with a single command can be merged, otherwise the order of its commands might change
+        Map<Integer, Long> commandsPerDevice = commands.stream()
+                .collect(Collectors.groupingBy(command -> command.id, Collectors.counting()));
+        Map<Integer, Command> candidates = new HashMap<>();
+        for (Command command : commands) {
+            if (commandsPerDevice.get(command.id) == 1 && command.getGroupAttributes() != null) {
+                candidates.put(command.id, command);
+            }
+        }
+        if (candidates.size() < 2) {
+            return commands;
+        }
+        Set<Command> merged = new HashSet<>();
+        // prefer large groups, so that a scene over a whole room results in a single request
+        List<Entry<Integer, Set<Integer>>> groups = groupMembers.entrySet().stream()
+                .sorted(Comparator.comparingInt(entry -> -entry.getValue().size())).collect(Collectors.toList());
+        for (Entry<Integer, Set<Integer>> group : groups) {
+            List<Command> groupCommands = getGroupCommands(group.getValue(), candidates);
+            if (groupCommands != null && sendGroupCommand(group.getKey(), groupCommands)) {
+                groupCommands.forEach(command -> candidates.remove(command.id));
+                merged.addAll(groupCommands);
+            }
+        }
+        if (merged.isEmpty()) {
+            return commands;
+        }
+        return commands.stream().filter(command -> !merged.contains(command)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the commands for all lights of the group if they all have the same attributes, null otherwise.
+     */
+    private @Nullable List<Command> getGroupCommands(Set<Integer> members, Map<Integer, Command> candidates) {
+        List<Command> groupCommands = new ArrayList<>();
+        String attributes = null;
+        for (Integer member : members) {
+            if (!lights.contains(member)) {
+                continue;
+            }
+            Command command = candidates.get(member);
+            if (command == null) {
+                return null;
+            }
+            JsonObject commandAttributes = command.getGroupAttributes();
+            if (commandAttributes == null
+                    || (attributes != null && !attributes.equals(commandAttributes.toString()))) {
+                return null;
+            }
+            attributes = commandAttributes.toString();
+            groupCommands.add(command);
+        }
+        return groupCommands.size() < 2 ? null : groupCommands;
+    }
+
+    private synchronized boolean sendGroupCommand(int groupId, List<Command> groupCommands) {
+        final String groupsURI = this.groupsURI;
+        final Endpoint endpoint = this.endpoint;
+        final JsonObject attributes = groupCommands.get(0).getGroupAttributes();
+        if (groupsURI == null || endpoint == null || attributes == null) {
+            return false;
+        }
+        TradfriCoapClient client = groupClients.get(groupId);
+        if (client == null) {
+            try {
+                client = new TradfriCoapClient(new URI(groupsURI + "/" + groupId));
+            } catch (URISyntaxException e) {
+                logger.debug("Illegal group URI '{}/{}': {}", groupsURI, groupId, e.getMessage());
+                return false;
+            }
+            client.setEndpoint(endpoint);
+            groupClients.put(groupId, client);
+        }
+        logger.debug("Merged commands for {} lights into a single request for group {}", groupCommands.size(),
+                groupId);
+        client.asyncPut(attributes.toString(), new CoapCallback() {
+            @Override
+            public void onUpdate(JsonElement data) {
+                // the new state of the lights is received through their observe relations
+            }
+
+            @Override
+            public void setStatus(ThingStatus status, ThingStatusDetail statusDetail) {
+                // the status of an already sent command is reported by its own request
+                if (status == ThingStatus.ONLINE) {
+                    groupCommands.stream().filter(command -> !command.sent)
+                            .forEach(command -> command.callback.setStatus(status, statusDetail));
+                } else {
+                    logger.debug("Group request for group {} failed, sending the commands to the lights", groupId);
+                    groupCommands.stream().filter(command -> !command.sent)
+                            .forEach(TradfriCommandDispatcher.this::send);
+                }
+            }
+        }, scheduler);
+        return true;
+    }
+
+    private void send(Command command) {
+        command.client.asyncPut(command.payload, command.callback, scheduler);
+    }
+
+    /**
+     * A command for a single device
+     */
+    private class Command {
+        private final int id;
+        private final TradfriCoapClient client;
+        private final String payload;
+        private final CoapCallback callback;
+        // set if the command has been sent on its own when it arrived
+        private boolean sent;
+        private boolean parsed;
+        private @Nullable JsonObject groupAttributes;
+
+        Command(int id, TradfriCoapClient client, String payload, CoapCallback callback) {
+            this.id = id;
+            this.client = client;
+            this.payload = payload;
+            this.callback = callback;
+        }
+
+        /**
+         * Returns the light attributes of this command if they can be sent as a group request, null otherwise.
+         */
+        @Nullable
+        JsonObject getGroupAttributes() {
+            if (!parsed) {
+                parsed = true;
+                groupAttributes = parseGroupAttributes();
+            }
+            return groupAttributes;
+        }
+
+        private @Nullable JsonObject parseGroupAttributes() {
+            try {
+                JsonObject root = parser.parse(payload).getAsJsonObject();
+                for (Entry<String, JsonElement> entry : root.entrySet()) {
+                    if (DEVICE.equals(entry.getKey())) {
+                        if (entry.getValue().isJsonObject() && entry.getValue().getAsJsonObject().size() == 0) {
+                            continue;
+                        }
+                        return null;
+                    } else if (!LIGHT.equals(entry.getKey())) {
+                        return null;
+                    }
+                }
+                JsonArray array = root.getAsJsonArray(LIGHT);
+                if (array == null || array.size() != 1 || !array.get(0).isJsonObject()) {
+                    return null;
+                }
+                JsonObject attributes = array.get(0).getAsJsonObject();
+                if (attributes.size() == 0 || !GROUP_ATTRIBUTES.containsAll(attributes.keySet())) {
+                    return null;
+                }
+                return attributes;
+            } catch (JsonParseException | IllegalStateException e) {
+                return null;
+            }
+        }
+    }
+}
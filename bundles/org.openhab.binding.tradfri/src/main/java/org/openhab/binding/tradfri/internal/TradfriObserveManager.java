@@ -0,0 +1,293 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tradfri.internal;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.core.CoapObserveRelation;
+import org.eclipse.californium.core.network.Endpoint;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+
+/**
+ * The {@link TradfriObserveManager} owns the observe relations of all devices of a gateway. All relations use the
+ * endpoint of the gateway and are (re-)registered in small batches, so that a gateway reconnect does not flood the
+ * gateway with observe requests of every device at the same time.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TradfriObserveManager {
+
+    private static final int BATCH_SIZE = 5;
+    private static final long BATCH_INTERVAL_MILLIS = 1000;
+    private static final long RETRY_DELAY_SECONDS = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(TradfriObserveManager.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final int batchSize;
+    private final long batchIntervalMillis;
+
+    private final Map<Integer, ObservedResource> resources = new HashMap<>();
+    private final Set<ObservedResource> pending = new LinkedHashSet<>();
+
+    private @Nullable String baseURI;
+    private @Nullable Endpoint endpoint;
+    private @Nullable ScheduledFuture<?> registrationJob;
+
+    private long observeCount;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+    public TradfriObserveManager(ScheduledExecutorService scheduler) {
+        this(scheduler, BATCH_SIZE, BATCH_INTERVAL_MILLIS);
+    }
+
+    TradfriObserveManager(ScheduledExecutorService scheduler, int batchSize, long batchIntervalMillis) {
+        this.scheduler = scheduler;
+        this.batchSize = batchSize;
+        this.batchIntervalMillis = batchIntervalMillis;
+    }
+
+    /**
+     * Starts registering the observe relations of all known resources on the given endpoint.
+     *
+     * @param baseURI the URI of the devices resource, the instance id of a device is appended to it
+     * @param endpoint the endpoint of the gateway
+     */
+    public synchronized void start(String baseURI, Endpoint endpoint) {
+        stop();
+        this.baseURI = baseURI;
+        this.endpoint = endpoint;
+        pending.addAll(resources.values());
+        scheduleRegistration(0);
+        logger.debug("Starting observation of {} resources in batches of {}", pending.size(), batchSize);
+    }
+
+    /**
+     * Cancels all observe relations. The resources stay known and will be observed again on the next {@link #start}.
+     */
+    public synchronized void stop() {
+        final ScheduledFuture<?> registrationJob = this.registrationJob;
+        if (registrationJob != null) {
+            registrationJob.cancel(false);
+            this.registrationJob = null;
+        }
+        resources.values().forEach(ObservedResource::cancel);
+        pending.clear();
+        endpoint = null;
+    }
+
+    /**
+     * Observes the device with the given instance id. If the gateway is connected, the observe request is sent with
+     * the next batch.
+     *
+     * @param id the instance id of the device
+     * @param callback the callback that receives the updates of the device
+     */
+    public synchronized void observe(int id, CoapCallback callback) {
+        ObservedResource resource = resources.get(id);
+        if (resource != null) {
+            if (resource.callback == callback && (resource.relation != null || pending.contains(resource))) {
+                return;
+            }
+            resource.cancel();
+            pending.remove(resource);
+        }
+        resource = new ObservedResource(id, callback);
+        resources.put(id, resource);
+        if (endpoint != null) {
+            pending.add(resource);
+            scheduleRegistration(0);
+        }
+    }
+
+    /**
+     * Stops observing the device with the given instance id.
+     *
+     * @param id the instance id of the device
+     */
+    public synchronized void cancel(int id) {
+        ObservedResource resource = resources.remove(id);
+        if (resource != null) {
+            resource.cancel();
+            pending.remove(resource);
+        }
+    }
+
+    /**
+     * Re-registers the observe relation of the given device after a delay, e.g. after the device reported an error.
+     *
+     * @param id the instance id of the device
+     */
+    public void reobserve(int id) {
+        scheduler.schedule(() -> {
+            synchronized (this) {
+                ObservedResource resource = resources.get(id);
+                if (resource != null && endpoint != null) {
+                    resource.cancel();
+                    pending.add(resource);
+                    scheduleRegistration(0);
+                }
+            }
+        }, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Schedules the registration of the next batch, unless it is already scheduled or there is nothing to register.
+     */
+    private void scheduleRegistration(long delayMillis) {
+        final ScheduledFuture<?> registrationJob = this.registrationJob;
+        if (endpoint != null && !pending.isEmpty() && (registrationJob == null || registrationJob.isDone())) {
+            this.registrationJob = scheduler.schedule(this::runRegistration, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void runRegistration() {
+        registrationJob = null;
+        registerNextBatch();
+    }
+
+    synchronized boolean isRegistrationScheduled() {
+        return registrationJob != null;
+    }
+
+    synchronized void registerNextBatch() {
+        final String baseURI = this.baseURI;
+        final Endpoint endpoint = this.endpoint;
+        if (baseURI == null || endpoint == null || pending.isEmpty()) {
+            return;
+        }
+        int registered = 0;
+        Iterator<ObservedResource> iterator = pending.iterator();
+        while (iterator.hasNext() && registered < batchSize) {
+            ObservedResource resource = iterator.next();
+            iterator.remove();
+            try {
+                resource.register(new URI(baseURI + "/" + resource.id), endpoint);
+                registered++;
+            } catch (URISyntaxException e) {
+                logger.debug("Illegal device URI '{}/{}': {}", baseURI, resource.id, e.getMessage());
+            }
+        }
+        logger.debug("Registered {} observe relations, {} remaining", registered, pending.size());
+        scheduleRegistration(batchIntervalMillis);
+    }
+
+    private synchronized void recordLatency(long latencyNanos) {
+        observeCount++;
+        totalLatencyNanos += latencyNanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+    }
+
+    /**
+     * Returns the number of observe relations that received their first notification.
+     *
+     * @return the number of established observe relations
+     */
+    public synchronized long getObserveCount() {
+        return observeCount;
+    }
+
+    /**
+     * Returns the average time between sending an observe request and receiving its first notification.
+     *
+     * @return the average observe latency in milliseconds
+     */
+    public synchronized long getAverageObserveLatencyMillis() {
+        return observeCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos / observeCount);
+    }
+
+    /**
+     * Returns the longest time between sending an observe request and receiving its first notification.
+     *
+     * @return the maximum observe latency in milliseconds
+     */
+    public synchronized long getMaxObserveLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos);
+    }
+
+    /**
+     * The observe relation of a single device. Measures the latency of the first notification before passing all
+     * updates on to the device callback.
+     */
+    private class ObservedResource implements CoapCallback {
+        private final int id;
+        private final CoapCallback callback;
+
+        private @Nullable TradfriCoapClient client;
+        private @Nullable CoapObserveRelation relation;
+        private volatile long requestNanos;
+
+        ObservedResource(int id, CoapCallback callback) {
+            this.id = id;
+            this.callback = callback;
+        }
+
+        void register(URI uri, Endpoint endpoint) {
+            TradfriCoapClient client = new TradfriCoapClient(uri);
+            client.setEndpoint(endpoint);
+            this.client = client;
+            requestNanos = System.nanoTime();
+            relation = client.startObserve(this);
+        }
+
+        void cancel() {
+            final CoapObserveRelation relation = this.relation;
+            if (relation != null) {
+                relation.reactiveCancel();
+                this.relation = null;
+            }
+            final TradfriCoapClient client = this.client;
+            if (client != null) {
+                client.shutdown();
+                this.client = null;
+            }
+            requestNanos = 0;
+        }
+
+        @Override
+        public void onUpdate(JsonElement data) {
+            long requestNanos = this.requestNanos;
+            if (requestNanos != 0) {
+                this.requestNanos = 0;
+                long latencyNanos = System.nanoTime() - requestNanos;
+                recordLatency(latencyNanos);
+                logger.trace("First notification for device {} after {} ms", id,
+                        TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+            }
+            callback.onUpdate(data);
+        }
+
+        @Override
+        public void setStatus(ThingStatus status, ThingStatusDetail statusDetail) {
+            callback.setStatus(status, statusDetail);
+        }
+    }
+}
@@ -36,6 +36,8 @@ import org.openhab.binding.tradfri.internal.DeviceUpdateListener;
 import org.openhab.binding.tradfri.internal.TradfriBindingConstants;
 import org.openhab.binding.tradfri.internal.TradfriCoapClient;
 import org.openhab.binding.tradfri.internal.TradfriCoapHandler;
+import org.openhab.binding.tradfri.internal.TradfriCommandDispatcher;
+import org.openhab.binding.tradfri.internal.TradfriObserveManager;
 import org.openhab.binding.tradfri.internal.config.TradfriGatewayConfig;
 import org.openhab.binding.tradfri.internal.discovery.TradfriDiscoveryService;
 import org.openhab.binding.tradfri.internal.model.TradfriVersion;
@@ -75,11 +77,15 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
     private @NonNullByDefault({}) TradfriCoapClient deviceClient;
     private @NonNullByDefault({}) String gatewayURI;
     private @NonNullByDefault({}) String gatewayInfoURI;
+    private @NonNullByDefault({}) String groupsURI;
     private @NonNullByDefault({}) DTLSConnector dtlsConnector;
     private @Nullable CoapEndpoint endPoint;
 
     private final Set<DeviceUpdateListener> deviceUpdateListeners = new CopyOnWriteArraySet<>();
 
+    private final TradfriObserveManager observeManager = new TradfriObserveManager(scheduler);
+    private final TradfriCommandDispatcher commandDispatcher = new TradfriCommandDispatcher(scheduler);
+
     private @Nullable ScheduledFuture<?> scanJob;
 
     public TradfriGatewayHandler(Bridge bridge) {
@@ -142,6 +148,7 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
         this.gatewayURI = "coaps://" + configuration.host + ":" + configuration.port + "/" + DEVICES;
         this.gatewayInfoURI = "coaps://" + configuration.host + ":" + configuration.port + "/" + GATEWAY + "/"
                 + GATEWAY_DETAILS;
+        this.groupsURI = "coaps://" + configuration.host + ":" + configuration.port + "/" + GROUPS;
         try {
             URI uri = new URI(gatewayURI);
             deviceClient = new TradfriCoapClient(uri);
@@ -158,6 +165,8 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
         dtlsConnector = new DTLSConnector(builder.build());
         endPoint = new CoapEndpoint.Builder().setConnector(dtlsConnector).build();
         deviceClient.setEndpoint(endPoint);
+        observeManager.start(gatewayURI, endPoint);
+        commandDispatcher.start(groupsURI, endPoint);
         updateStatus(ThingStatus.UNKNOWN);
 
         // schedule a new scan every minute
@@ -262,6 +271,8 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
             scanJob.cancel(true);
             scanJob = null;
         }
+        observeManager.stop();
+        commandDispatcher.stop();
         if (endPoint != null) {
             endPoint.destroy();
             endPoint = null;
@@ -273,6 +284,12 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
         super.dispose();
     }
 
+    private void updateObserveProperties() {
+        updateProperty(PROPERTY_OBSERVE_RELATIONS, String.valueOf(observeManager.getObserveCount()));
+        updateProperty(PROPERTY_OBSERVE_LATENCY_AVERAGE, observeManager.getAverageObserveLatencyMillis() + " ms");
+        updateProperty(PROPERTY_OBSERVE_LATENCY_MAXIMUM, observeManager.getMaxObserveLatencyMillis() + " ms");
+    }
+
     /**
      * Does a request to the gateway to list all available devices/services.
      * The response is received and processed by the method {@link onUpdate(JsonElement data)}.
@@ -281,6 +298,8 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
         if (endPoint != null) {
             requestGatewayInfo();
             deviceClient.get(new TradfriCoapHandler(this));
+            requestGroups();
+            updateObserveProperties();
         }
     }
 
@@ -293,6 +312,24 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
         return gatewayURI;
     }
 
+    /**
+     * Returns the manager of the observe relations of all devices of this gateway.
+     *
+     * @return the observe manager
+     */
+    public TradfriObserveManager getObserveManager() {
+        return observeManager;
+    }
+
+    /**
+     * Returns the dispatcher for the commands of all devices of this gateway.
+     *
+     * @return the command dispatcher
+     */
+    public TradfriCommandDispatcher getCommandDispatcher() {
+        return commandDispatcher;
+    }
+
     /**
      * Returns the coap endpoint that can be used within coap clients.
      *
@@ -338,12 +375,47 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
         deviceClient.asyncGet().thenAccept(data -> {
             logger.debug("requestDeviceDetails response: {}", data);
             JsonObject json = new JsonParser().parse(data).getAsJsonObject();
+            commandDispatcher.updateDevice(Integer.parseInt(instanceId), json.has(LIGHT));
             deviceUpdateListeners.forEach(listener -> listener.onUpdate(instanceId, json));
         });
         // restore root URI
         deviceClient.setURI(gatewayURI);
     }
 
+    private synchronized void requestGroups() {
+        // we are reusing our coap client and merely temporarily set the groups URI to call
+        deviceClient.setURI(groupsURI);
+        deviceClient.asyncGet().thenAccept(data -> {
+            logger.debug("requestGroups response: {}", data);
+            List<Integer> groupIds = new ArrayList<>();
+            new JsonParser().parse(data).getAsJsonArray().forEach(groupId -> groupIds.add(groupId.getAsInt()));
+            commandDispatcher.retainGroups(groupIds);
+            groupIds.forEach(this::requestGroupDetails);
+        });
+        // restore root URI
+        deviceClient.setURI(gatewayURI);
+    }
+
+    private synchronized void requestGroupDetails(int groupId) {
+        // we are reusing our coap client and merely temporarily set a sub-URI to call
+        deviceClient.setURI(groupsURI + "/" + groupId);
+        deviceClient.asyncGet().thenAccept(data -> {
+            logger.debug("requestGroupDetails response: {}", data);
+            JsonObject json = new JsonParser().parse(data).getAsJsonObject();
+            Set<Integer> members = new HashSet<>();
+            JsonObject accessoryLink = json.getAsJsonObject(HS_ACCESSORY_LINK);
+            if (accessoryLink != null && accessoryLink.has(HS_LINK)) {
+                JsonArray instanceIds = accessoryLink.getAsJsonObject(HS_LINK).getAsJsonArray(INSTANCE_ID);
+                if (instanceIds != null) {
+                    instanceIds.forEach(instanceId -> members.add(instanceId.getAsInt()));
+                }
+            }
+            commandDispatcher.updateGroup(groupId, members);
+        });
+        // restore root URI
+        deviceClient.setURI(gatewayURI);
+    }
+
     @Override
     public void setStatus(ThingStatus status, ThingStatusDetail statusDetail) {
         // to fix connection issues after a gateway reboot, a session resume is forced for the next command
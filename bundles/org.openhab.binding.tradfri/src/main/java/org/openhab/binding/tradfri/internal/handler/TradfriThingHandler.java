@@ -16,13 +16,13 @@ import static org.openhab.core.thing.Thing.*;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.concurrent.TimeUnit;
 
-import org.eclipse.californium.core.CoapObserveRelation;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.tradfri.internal.CoapCallback;
 import org.openhab.binding.tradfri.internal.TradfriCoapClient;
+import org.openhab.binding.tradfri.internal.TradfriCommandDispatcher;
+import org.openhab.binding.tradfri.internal.TradfriObserveManager;
 import org.openhab.binding.tradfri.internal.config.TradfriDeviceConfig;
 import org.openhab.binding.tradfri.internal.model.TradfriDeviceData;
 import org.openhab.core.thing.Bridge;
@@ -53,18 +53,28 @@ public abstract class TradfriThingHandler extends BaseThingHandler implements Co
 
     protected @NonNullByDefault({}) TradfriCoapClient coapClient;
 
-    private @Nullable CoapObserveRelation observeRelation;
+    private @Nullable TradfriObserveManager observeManager;
+    private @Nullable TradfriCommandDispatcher commandDispatcher;
 
     public TradfriThingHandler(Thing thing) {
         super(thing);
     }
 
     @Override
-    @SuppressWarnings("null")
     public synchronized void initialize() {
         Bridge tradfriGateway = getBridge();
-        this.id = getConfigAs(TradfriDeviceConfig.class).id;
-        TradfriGatewayHandler handler = (TradfriGatewayHandler) tradfriGateway.getHandler();
+        TradfriGatewayHandler handler = tradfriGateway == null ? null
+                : (TradfriGatewayHandler) tradfriGateway.getHandler();
+        if (tradfriGateway == null || handler == null) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_UNINITIALIZED);
+            return;
+        }
+        final Integer id = getConfigAs(TradfriDeviceConfig.class).id;
+        if (id == null) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, "Device id is missing");
+            return;
+        }
+        this.id = id;
 
         String uriString = handler.getGatewayURI() + "/" + id;
         try {
@@ -76,13 +86,15 @@ public abstract class TradfriThingHandler extends BaseThingHandler implements Co
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
             return;
         }
+        final TradfriObserveManager observeManager = handler.getObserveManager();
+        this.observeManager = observeManager;
+        commandDispatcher = handler.getCommandDispatcher();
         active = true;
         updateStatus(ThingStatus.UNKNOWN);
         switch (tradfriGateway.getStatus()) {
             case ONLINE:
-                scheduler.schedule(() -> {
-                    observeRelation = coapClient.startObserve(this);
-                }, 3, TimeUnit.SECONDS);
+                // the observe relation is registered together with the other devices of the gateway
+                observeManager.observe(id, this);
                 break;
             case OFFLINE:
             default:
@@ -95,9 +107,10 @@ public abstract class TradfriThingHandler extends BaseThingHandler implements Co
     @Override
     public synchronized void dispose() {
         active = false;
-        if (observeRelation != null) {
-            observeRelation.reactiveCancel();
-            observeRelation = null;
+        final TradfriObserveManager observeManager = this.observeManager;
+        final Integer id = this.id;
+        if (observeManager != null && id != null) {
+            observeManager.cancel(id);
         }
         if (coapClient != null) {
             coapClient.shutdown();
@@ -106,18 +119,17 @@ public abstract class TradfriThingHandler extends BaseThingHandler implements Co
     }
 
     @Override
-    @SuppressWarnings("null")
     public void setStatus(ThingStatus status, ThingStatusDetail statusDetail) {
-        if (active && getBridge().getStatus() != ThingStatus.OFFLINE && status != ThingStatus.ONLINE) {
+        final Bridge tradfriGateway = getBridge();
+        if (active && tradfriGateway != null && tradfriGateway.getStatus() != ThingStatus.OFFLINE
+                && status != ThingStatus.ONLINE) {
             updateStatus(status, statusDetail);
             // we are offline and lost our observe relation - let's try to establish the connection in 10 seconds again
-            scheduler.schedule(() -> {
-                if (observeRelation != null) {
-                    observeRelation.reactiveCancel();
-                    observeRelation = null;
-                }
-                observeRelation = coapClient.startObserve(this);
-            }, 10, TimeUnit.SECONDS);
+            final TradfriObserveManager observeManager = this.observeManager;
+            final Integer id = this.id;
+            if (observeManager != null && id != null) {
+                observeManager.reobserve(id);
+            }
         }
     }
 
@@ -135,7 +147,13 @@ public abstract class TradfriThingHandler extends BaseThingHandler implements Co
 
     protected void set(String payload) {
         logger.debug("Sending payload: {}", payload);
-        coapClient.asyncPut(payload, this, scheduler);
+        final TradfriCommandDispatcher commandDispatcher = this.commandDispatcher;
+        final Integer id = this.id;
+        if (commandDispatcher != null && id != null) {
+            commandDispatcher.dispatch(id, coapClient, payload, this);
+        } else {
+            logger.warn("Dropping payload {} for thing {}, the thing is not initialized", payload, getThing().getUID());
+        }
     }
 
     protected void updateDeviceProperties(TradfriDeviceData state) {
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tradfri.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.binding.tradfri.internal.TradfriBindingConstants.*;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.californium.core.network.CoapEndpoint;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.tradfri.internal.model.TradfriLightData;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.test.java.JavaTest;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+
+import com.google.gson.JsonElement;
+
+/**
+ * Tests for {@link TradfriCommandDispatcher} against a local gateway stand-in.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TradfriCommandDispatcherTest extends JavaTest {
+
+    private static final int GROUP_ID = 131073;
+    private static final int LIGHT_1 = 65536;
+    private static final int LIGHT_2 = 65537;
+    private static final int LIGHT_3 = 65538;
+    private static final int REMOTE = 65539;
+
+    private final TradfriGatewayStub gateway = new TradfriGatewayStub();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final CoapEndpoint endpoint = new CoapEndpoint.Builder().build();
+    private final TradfriCommandDispatcher dispatcher = new TradfriCommandDispatcher(scheduler, 50);
+    private final AtomicInteger online = new AtomicInteger();
+
+    private final CoapCallback callback = new CoapCallback() {
+        @Override
+        public void onUpdate(JsonElement data) {
+        }
+
+        @Override
+        public void setStatus(ThingStatus status, ThingStatusDetail statusDetail) {
+            if (status == ThingStatus.ONLINE) {
+                online.incrementAndGet();
+            }
+        }
+    };
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        gateway.addLight(LIGHT_1);
+        gateway.addLight(LIGHT_2);
+        gateway.addLight(LIGHT_3);
+        gateway.addGroup(GROUP_ID);
+        gateway.start();
+        endpoint.start();
+
+        dispatcher.start(gateway.getBaseURI() + "/" + GROUPS, endpoint);
+        dispatcher.updateGroup(GROUP_ID, Set.of(LIGHT_1, LIGHT_2, LIGHT_3, REMOTE));
+        dispatcher.updateDevice(LIGHT_1, true);
+        dispatcher.updateDevice(LIGHT_2, true);
+        dispatcher.updateDevice(LIGHT_3, true);
+        dispatcher.updateDevice(REMOTE, false);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dispatcher.stop();
+        scheduler.shutdownNow();
+        endpoint.destroy();
+        gateway.stop();
+    }
+
+    private void dispatch(int id, String payload) throws Exception {
+        dispatch(dispatcher, id, payload);
+    }
+
+    private void dispatch(TradfriCommandDispatcher dispatcher, int id, String payload) throws Exception {
+        TradfriCoapClient client = new TradfriCoapClient(new URI(gateway.getBaseURI() + "/" + DEVICES + "/" + id));
+        client.setEndpoint(endpoint);
+        dispatcher.dispatch(id, client, payload, callback);
+    }
+
+    private static String brightness(int percent) {
+        return new TradfriLightData().setBrightness(new PercentType(percent)).setTransitionTime(5).getJsonString();
+    }
+
+    @Test
+    public void singleCommandIsSentWithoutDelay() throws Exception {
+        TradfriCommandDispatcher dispatcher = new TradfriCommandDispatcher(scheduler, 60_000);
+        dispatcher.start(gateway.getBaseURI() + "/" + GROUPS, endpoint);
+        try {
+            dispatch(dispatcher, LIGHT_1, brightness(50));
+
+            waitForAssert(() -> assertEquals(1, gateway.devicePuts.size()), 5000, 50);
+            assertTrue(gateway.groupPuts.isEmpty());
+        } finally {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    public void sameCommandForAllLightsOfGroupIsMerged() throws Exception {
+        dispatch(LIGHT_1, brightness(50));
+        dispatch(LIGHT_2, brightness(50));
+        dispatch(LIGHT_3, brightness(50));
+
+        waitForAssert(() -> assertEquals(1, gateway.groupPuts.size()));
+        assertEquals(GROUP_ID + ":{\"" + DIMMER + "\":127,\"" + TRANSITION_TIME + "\":5}", gateway.groupPuts.get(0));
+        // the first command is sent on its own before the following commands arrive
+        assertEquals(1, gateway.devicePuts.size());
+    }
+
+    @Test
+    public void statusOfMergedCommandIsPassedToTheLights() throws Exception {
+        dispatch(LIGHT_1, brightness(50));
+        dispatch(LIGHT_2, brightness(50));
+        dispatch(LIGHT_3, brightness(50));
+
+        waitForAssert(() -> assertEquals(3, online.get()));
+        assertEquals(1, gateway.groupPuts.size());
+    }
+
+    @Test
+    public void differentCommandsAreSentToTheLights() throws Exception {
+        dispatch(LIGHT_1, brightness(50));
+        dispatch(LIGHT_2, brightness(50));
+        dispatch(LIGHT_3, brightness(80));
+
+        waitForAssert(() -> assertEquals(3, gateway.devicePuts.size()));
+        assertTrue(gateway.groupPuts.isEmpty());
+    }
+
+    @Test
+    public void commandsForPartOfTheGroupAreNotMerged() throws Exception {
+        dispatch(LIGHT_1, brightness(50));
+        dispatch(LIGHT_2, brightness(50));
+
+        waitForAssert(() -> assertEquals(2, gateway.devicePuts.size()));
+        assertTrue(gateway.groupPuts.isEmpty());
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tradfri.internal;
+
+import static org.openhab.binding.tradfri.internal.TradfriBindingConstants.*;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.californium.core.CoapResource;
+import org.eclipse.californium.core.CoapServer;
+import org.eclipse.californium.core.coap.CoAP.ResponseCode;
+import org.eclipse.californium.core.coap.MediaTypeRegistry;
+import org.eclipse.californium.core.network.CoapEndpoint;
+import org.eclipse.californium.core.server.resources.CoapExchange;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Local stand-in for a TRÅDFRI gateway. It serves plain CoAP (without DTLS) on the loopback interface with observable
+ * device resources and records the PUT requests on groups and devices.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TradfriGatewayStub {
+
+    private final CoapServer server = new CoapServer();
+    private final CoapEndpoint endpoint;
+    private final CoapResource devices = new CoapResource(DEVICES);
+    private final CoapResource groups = new CoapResource(GROUPS);
+
+    public final AtomicInteger observeRequests = new AtomicInteger();
+    public final List<String> devicePuts = new CopyOnWriteArrayList<>();
+    public final List<String> groupPuts = new CopyOnWriteArrayList<>();
+
+    public TradfriGatewayStub() {
+        endpoint = new CoapEndpoint.Builder()
+                .setInetSocketAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).build();
+        server.addEndpoint(endpoint);
+        server.add(devices, groups);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.destroy();
+    }
+
+    public String getBaseURI() {
+        return "coap://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + endpoint.getAddress().getPort();
+    }
+
+    public void addLight(int id) {
+        devices.add(new CoapResource(Integer.toString(id)) {
+            {
+                setObservable(true);
+            }
+
+            @Override
+            public void handleGET(CoapExchange exchange) {
+                if (exchange.getRequestOptions().hasObserve()) {
+                    observeRequests.incrementAndGet();
+                }
+                exchange.respond(ResponseCode.CONTENT,
+                        "{\"" + INSTANCE_ID + "\":" + id + ",\"" + LIGHT + "\":[{\"" + ONOFF + "\":0}]}",
+                        MediaTypeRegistry.APPLICATION_JSON);
+            }
+
+            @Override
+            public void handlePUT(CoapExchange exchange) {
+                devicePuts.add(id + ":" + exchange.getRequestText());
+                exchange.respond(ResponseCode.CHANGED);
+            }
+        });
+    }
+
+    public void addGroup(int id) {
+        groups.add(new CoapResource(Integer.toString(id)) {
+            @Override
+            public void handlePUT(CoapExchange exchange) {
+                groupPuts.add(id + ":" + exchange.getRequestText());
+                exchange.respond(ResponseCode.CHANGED);
+            }
+        });
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tradfri.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.binding.tradfri.internal.TradfriBindingConstants.DEVICES;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.californium.core.network.CoapEndpoint;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.test.java.JavaTest;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+
+import com.google.gson.JsonElement;
+
+/**
+ * Tests for {@link TradfriObserveManager} against a local gateway stand-in.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TradfriObserveManagerTest extends JavaTest {
+
+    private static final int LIGHTS = 5;
+    private static final int FIRST_ID = 65536;
+
+    private final TradfriGatewayStub gateway = new TradfriGatewayStub();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final CoapEndpoint endpoint = new CoapEndpoint.Builder().build();
+    private final AtomicInteger updates = new AtomicInteger();
+
+    private final CoapCallback callback = new CoapCallback() {
+        @Override
+        public void onUpdate(JsonElement data) {
+            updates.incrementAndGet();
+        }
+
+        @Override
+        public void setStatus(ThingStatus status, ThingStatusDetail statusDetail) {
+        }
+    };
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        for (int i = 0; i < LIGHTS; i++) {
+            gateway.addLight(FIRST_ID + i);
+        }
+        gateway.start();
+        endpoint.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+        endpoint.destroy();
+        gateway.stop();
+    }
+
+    @Test
+    public void observeRelationsAreRegisteredInBatches() {
+        // a long interval, so that only the first batch is registered by the scheduler
+        TradfriObserveManager manager = new TradfriObserveManager(scheduler, 2, TimeUnit.HOURS.toMillis(1));
+        for (int i = 0; i < LIGHTS; i++) {
+            manager.observe(FIRST_ID + i, callback);
+        }
+        manager.start(gateway.getBaseURI() + "/" + DEVICES, endpoint);
+
+        waitForAssert(() -> assertEquals(2, gateway.observeRequests.get()));
+        waitForAssert(() -> assertEquals(2, manager.getObserveCount()));
+
+        manager.registerNextBatch();
+        manager.registerNextBatch();
+
+        waitForAssert(() -> assertEquals(LIGHTS, gateway.observeRequests.get()));
+        waitForAssert(() -> assertEquals(LIGHTS, updates.get()));
+        assertEquals(LIGHTS, manager.getObserveCount());
+
+        manager.stop();
+    }
+
+    @Test
+    public void observeRelationsAreRegisteredAgainAfterReconnect() {
+        TradfriObserveManager manager = new TradfriObserveManager(scheduler, LIGHTS, 10);
+        for (int i = 0; i < LIGHTS; i++) {
+            manager.observe(FIRST_ID + i, callback);
+        }
+        manager.start(gateway.getBaseURI() + "/" + DEVICES, endpoint);
+        waitForAssert(() -> assertEquals(LIGHTS, gateway.observeRequests.get()));
+
+        manager.stop();
+        // a device handler initialized again must not lead to a second registration
+        manager.observe(FIRST_ID, callback);
+        manager.start(gateway.getBaseURI() + "/" + DEVICES, endpoint);
+        manager.observe(FIRST_ID, callback);
+
+        waitForAssert(() -> assertEquals(2 * LIGHTS, gateway.observeRequests.get()));
+        waitForAssert(() -> assertEquals(2 * LIGHTS, manager.getObserveCount()));
+
+        manager.stop();
+    }
+
+    @Test
+    public void registrationStopsWhenAllRelationsAreRegistered() {
+        TradfriObserveManager manager = new TradfriObserveManager(scheduler, 2, 10);
+        for (int i = 0; i < LIGHTS; i++) {
+            manager.observe(FIRST_ID + i, callback);
+        }
+        manager.start(gateway.getBaseURI() + "/" + DEVICES, endpoint);
+
+        waitForAssert(() -> assertEquals(LIGHTS, gateway.observeRequests.get()));
+        waitForAssert(() -> assertFalse(manager.isRegistrationScheduled()));
+
+        // a device added later is registered on its own
+        gateway.addLight(FIRST_ID + LIGHTS);
+        manager.observe(FIRST_ID + LIGHTS, callback);
+
+        waitForAssert(() -> assertEquals(LIGHTS + 1, gateway.observeRequests.get()));
+        waitForAssert(() -> assertFalse(manager.isRegistrationScheduled()));
+
+        manager.stop();
+    }
+}
@@ -98,6 +98,8 @@ public class ZWayBindingConstants {
     public static final String BRIDGE_CONFIG_ZWAY_SERVER_USERNAME = "zwayServerUsername";
     public static final String BRIDGE_CONFIG_ZWAY_SERVER_PASSWORD = "zwayServerPassword";
     public static final String BRIDGE_CONFIG_POLLING_INTERVAL = "pollingInterval";
+    public static final String BRIDGE_CONFIG_DEVICE_UPDATE_INTERVAL = "deviceUpdateInterval";
+    public static final String BRIDGE_CONFIG_DEVICE_POLLING = "devicePolling";
 
     public static final String DEVICE_CONFIG_NODE_ID = "nodeId";
     public static final String DEVICE_CONFIG_VIRTUAL_DEVICE_ID = "deviceId";
@@ -30,6 +30,8 @@ public class ZWayBridgeConfiguration {
     private String zwayServerPassword;
 
     private Integer pollingInterval;
+    private Integer deviceUpdateInterval;
+    private Boolean devicePolling;
 
     public String getZWayIpAddress() {
         return zwayServerIpAddress;
@@ -79,6 +81,22 @@ public class ZWayBridgeConfiguration {
         this.pollingInterval = pollingInterval;
     }
 
+    public Integer getDeviceUpdateInterval() {
+        return deviceUpdateInterval;
+    }
+
+    public void setDeviceUpdateInterval(Integer deviceUpdateInterval) {
+        this.deviceUpdateInterval = deviceUpdateInterval;
+    }
+
+    public Boolean getDevicePolling() {
+        return devicePolling;
+    }
+
+    public void setDevicePolling(Boolean devicePolling) {
+        this.devicePolling = devicePolling;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).append(BRIDGE_CONFIG_ZWAY_SERVER_IP_ADDRESS, this.getZWayIpAddress())
@@ -86,6 +104,8 @@ public class ZWayBridgeConfiguration {
                 .append(BRIDGE_CONFIG_ZWAY_SERVER_PROTOCOL, this.getZWayProtocol())
                 .append(BRIDGE_CONFIG_ZWAY_SERVER_USERNAME, this.getZWayUsername())
                 .append(BRIDGE_CONFIG_ZWAY_SERVER_PASSWORD, this.getZWayPassword())
-                .append(BRIDGE_CONFIG_POLLING_INTERVAL, this.getPollingInterval()).toString();
+                .append(BRIDGE_CONFIG_POLLING_INTERVAL, this.getPollingInterval())
+                .append(BRIDGE_CONFIG_DEVICE_UPDATE_INTERVAL, this.getDeviceUpdateInterval())
+                .append(BRIDGE_CONFIG_DEVICE_POLLING, this.getDevicePolling()).toString();
     }
 }
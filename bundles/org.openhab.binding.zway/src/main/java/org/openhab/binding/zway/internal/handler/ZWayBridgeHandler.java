@@ -14,12 +14,15 @@ package org.openhab.binding.zway.internal.handler;
 
 import static org.openhab.binding.zway.internal.ZWayBindingConstants.*;
 
+import java.io.IOException;
 import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.openhab.binding.zway.internal.config.ZWayBridgeConfiguration;
+import org.openhab.core.io.net.http.HttpUtil;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
@@ -69,16 +72,25 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
 
     public static final ThingTypeUID SUPPORTED_THING_TYPE = THING_TYPE_BRIDGE;
 
+    private static final String DEVICE_UPDATE_PATH = "/ZAutomation/api/v1/devices?since=";
+    private static final int DEVICE_UPDATE_TIMEOUT = 5000;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private BridgePolling bridgePolling;
     private ScheduledFuture<?> pollingJob;
 
+    private DeviceUpdatePolling deviceUpdatePolling;
+    private ScheduledFuture<?> deviceUpdateJob;
+
+    private ZWayDeviceUpdater deviceUpdater;
+
     private ResetInclusionExclusion resetInclusionExclusion;
     private ScheduledFuture<?> resetInclusionExclusionJob;
 
     private ZWayBridgeConfiguration mConfig;
     private IZWayApi mZWayApi;
+    private volatile String sessionId;
 
     private DeviceList deviceList;
 
@@ -101,7 +113,8 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
             // termination of the executor.
             try {
                 // Authenticate - thing status update with a error message
-                if (mZWayApi.getLogin() != null) {
+                sessionId = mZWayApi.getLogin();
+                if (sessionId != null) {
                     // Thing status set to online in login callback
                     logger.info("Z-Way bridge successfully authenticated");
                     // Gets the latest deviceList from zWay during bridge initialization
@@ -117,6 +130,14 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
                         logger.debug("Polling is allready active");
                     }
 
+                    // Initialize incremental device update polling
+                    if (deviceUpdateJob == null || deviceUpdateJob.isCancelled()) {
+                        logger.debug("Starting device update job at intervall {}",
+                                mConfig.getDeviceUpdateInterval());
+                        deviceUpdateJob = scheduler.scheduleWithFixedDelay(deviceUpdatePolling, 10,
+                                mConfig.getDeviceUpdateInterval(), TimeUnit.SECONDS);
+                    }
+
                     // Initializing all containing device things
                     logger.debug("Initializing all configured devices ...");
                     for (Thing thing : getThing().getThings()) {
@@ -175,6 +196,7 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
         super(bridge);
 
         bridgePolling = new BridgePolling();
+        deviceUpdatePolling = new DeviceUpdatePolling();
         resetInclusionExclusion = new ResetInclusionExclusion();
     }
 
@@ -250,6 +272,7 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
 
             mZWayApi = new ZWayApiHttp(mConfig.getZWayIpAddress(), mConfig.getZWayPort(), mConfig.getZWayProtocol(),
                     mConfig.getZWayUsername(), mConfig.getZWayPassword(), -1, false, this);
+            deviceUpdater = new ZWayDeviceUpdater(mZWayApi, this::requestDeviceUpdate);
 
             // Start an extra thread, because it takes sometimes more
             // than 5000 milliseconds and the handler will suspend (ThingStatus.UNINITIALIZED).
@@ -266,6 +289,14 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
             pollingJob = null;
         }
 
+        if (deviceUpdateJob != null && !deviceUpdateJob.isCancelled()) {
+            deviceUpdateJob.cancel(true);
+            deviceUpdateJob = null;
+        }
+        if (deviceUpdater != null) {
+            deviceUpdater.reset();
+        }
+
         if (resetInclusionExclusionJob != null && !resetInclusionExclusionJob.isCancelled()) {
             resetInclusionExclusionJob.cancel(true);
             resetInclusionExclusionJob = null;
@@ -286,6 +317,51 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
         }
     }
 
+    /**
+     * Loads the devices that changed since the last device update once for all device things and passes them to the
+     * device handlers.
+     */
+    private class DeviceUpdatePolling implements Runnable {
+        @Override
+        public void run() {
+            if (!getThing().getStatus().equals(ThingStatus.ONLINE)) {
+                logger.debug("Device update not possible, bridge isn't ONLINE");
+                return;
+            }
+
+            // https://community.openhab.org/t/oh2-major-bug-with-scheduled-jobs/12350/11
+            // If any execution of the task encounters an exception, subsequent executions are
+            // suppressed. Otherwise, the task will only terminate via cancellation or
+            // termination of the executor.
+            try {
+                Map<String, Device> updatedDevices = deviceUpdater.loadUpdatedDevices();
+                if (updatedDevices == null || updatedDevices.isEmpty()) {
+                    return;
+                }
+                for (Thing thing : getThing().getThings()) {
+                    ThingHandler handler = thing.getHandler();
+                    if (handler instanceof ZWayDeviceHandler) {
+                        ((ZWayDeviceHandler) handler).updateDevices(updatedDevices);
+                    }
+                }
+            } catch (Throwable t) {
+                logger.error("Error occurred when performing device update: {}", t.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Requests the devices updated since the given Z-Way time from the Z-Way server.
+     */
+    private String requestDeviceUpdate(long since) throws IOException {
+        String url = mConfig.getZWayProtocol() + "://" + mConfig.getZWayIpAddress() + ":" + mConfig.getZWayPort()
+                + DEVICE_UPDATE_PATH + since;
+        Properties headers = new Properties();
+        headers.put("Accept", "application/json");
+        headers.put("Cookie", "ZWAYSession=" + sessionId);
+        return HttpUtil.executeUrl("GET", url, headers, null, null, DEVICE_UPDATE_TIMEOUT);
+    }
+
     private void updateControllerData() {
         // Add additional information as properties or update channels
 
@@ -363,6 +439,10 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
     @Override
     public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
         updateDeviceList();
+        // pass all device states to the handlers with the next device update, including the new one
+        if (deviceUpdater != null) {
+            deviceUpdater.reset();
+        }
     }
 
     @Override
@@ -422,6 +502,16 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
             config.setPollingInterval(3600);
         }
 
+        // Device update interval
+        if (config.getDeviceUpdateInterval() == null) {
+            config.setDeviceUpdateInterval(10);
+        }
+
+        // Per device polling
+        if (config.getDevicePolling() == null) {
+            config.setDevicePolling(true);
+        }
+
         return config;
     }
 
@@ -451,6 +541,7 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
     @Override
     public void getLoginResponse(String sessionId) {
         logger.debug("New session id: {}", sessionId);
+        this.sessionId = sessionId;
         updateStatus(ThingStatus.ONLINE);
     }
 
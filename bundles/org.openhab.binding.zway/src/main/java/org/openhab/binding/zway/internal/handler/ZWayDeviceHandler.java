@@ -15,6 +15,8 @@ package org.openhab.binding.zway.internal.handler;
 import static de.fh_zwickau.informatik.sensor.ZWayConstants.*;
 import static org.openhab.binding.zway.internal.ZWayBindingConstants.*;
 
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
@@ -98,6 +100,12 @@ public abstract class ZWayDeviceHandler extends BaseThingHandler {
                     return;
                 }
 
+                // Device states are updated by the bridge, polling per device is optional
+                if (!zwayBridgeHandler.getZWayBridgeConfiguration().getDevicePolling()) {
+                    logger.debug("Polling per device disabled, device states are updated by the bridge");
+                    return;
+                }
+
                 // Initialize device polling
                 if (pollingJob == null || pollingJob.isCancelled()) {
                     logger.debug("Starting polling job at intervall {}",
@@ -253,6 +261,57 @@ public abstract class ZWayDeviceHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Updates all linked channels with the states of the devices changed since the last update of the bridge.
+     *
+     * @param updatedDevices changed devices by device id
+     */
+    protected void updateDevices(Map<String, Device> updatedDevices) {
+        if (!getThing().getStatus().equals(ThingStatus.ONLINE)) {
+            logger.debug("Device update not possible, Z-Way device isn't ONLINE");
+            return;
+        }
+
+        long updateTime = 0;
+        for (Channel channel : getThing().getChannels()) {
+            String deviceId = channel.getProperties().get("deviceId");
+            Device device = deviceId == null ? null : updatedDevices.get(deviceId);
+            if (device == null || !isLinked(channel.getUID().getId())) {
+                continue;
+            }
+
+            try {
+                updateState(channel.getUID(), ZWayDeviceStateConverter.toState(device, channel));
+            } catch (IllegalArgumentException iae) {
+                logger.debug(
+                        "IllegalArgumentException ({}) during update channel for device: {} (level: {}) with channel: {}",
+                        iae.getMessage(), device.getMetrics().getTitle(), device.getMetrics().getLevel(),
+                        channel.getChannelTypeUID());
+            }
+            updateTime = Math.max(updateTime, device.getUpdateTime());
+        }
+
+        if (updateTime > 0) {
+            Calendar lastUpdateOfDevice = Calendar.getInstance();
+            lastUpdateOfDevice.setTimeInMillis(updateTime * 1000);
+            setLastUpdate(lastUpdateOfDevice);
+        }
+    }
+
+    /**
+     * Stores the last update if it is newer than the current one and updates the thing property.
+     *
+     * @param lastUpdateOfDevice last update reported by Z-Way
+     */
+    protected synchronized void setLastUpdate(Calendar lastUpdateOfDevice) {
+        if (lastUpdate == null || lastUpdateOfDevice.after(lastUpdate)) {
+            lastUpdate = lastUpdateOfDevice;
+        }
+
+        DateFormat formatter = new SimpleDateFormat("dd.MM.yyyy hh:mm:ss");
+        updateProperty(DEVICE_PROP_LAST_UPDATE, formatter.format(lastUpdate.getTime()));
+    }
+
     private synchronized void setLocation() {
         Map<String, String> properties = getThing().getProperties();
         // Load location from properties
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zway.internal.handler;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import de.fh_zwickau.informatik.sensor.IZWayApi;
+import de.fh_zwickau.informatik.sensor.model.devices.Device;
+import de.fh_zwickau.informatik.sensor.model.devices.DeviceList;
+import de.fh_zwickau.informatik.sensor.model.devices.DeviceListDeserializer;
+
+/**
+ * The {@link ZWayDeviceUpdater} loads the devices that changed since the last device update from the Z-Way server.
+ *
+ * The first update (and the first update after a {@link #reset()}) loads the whole device list. All further updates
+ * only ask Z-Way for the devices updated since the last one and take the devices from this response, unless Z-Way
+ * reports that devices were added or removed.
+ *
+ * @author agent - Initial contribution
+ */
+class ZWayDeviceUpdater {
+
+    /**
+     * Requests the devices updated since a Z-Way time from the Z-Way server.
+     */
+    @FunctionalInterface
+    interface UpdateRequest {
+        /**
+         * @param since Z-Way time (in seconds) of the last device update
+         * @return the response of the Z-Way server or null if the request failed
+         */
+        String request(long since) throws IOException;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final IZWayApi zwayApi;
+    private final UpdateRequest updateRequest;
+    private final JsonParser parser = new JsonParser();
+    private final DeviceListDeserializer deserializer = new DeviceListDeserializer();
+
+    /**
+     * Z-Way time (in seconds) of the last device update, 0 if all devices have to be loaded with the next update
+     */
+    private final AtomicLong lastUpdate = new AtomicLong();
+
+    ZWayDeviceUpdater(IZWayApi zwayApi, UpdateRequest updateRequest) {
+        this.zwayApi = zwayApi;
+        this.updateRequest = updateRequest;
+    }
+
+    /**
+     * Loads all devices with the next update.
+     */
+    void reset() {
+        lastUpdate.set(0);
+    }
+
+    /**
+     * Returns the devices that changed since the last device update.
+     *
+     * @return changed devices by device id or null if the update failed
+     */
+    Map<String, Device> loadUpdatedDevices() throws IOException {
+        long since = lastUpdate.get();
+        if (since == 0) {
+            return loadAllDevices(since, 0);
+        }
+
+        String response = updateRequest.request(since);
+        if (response == null) {
+            logger.debug("Device update failed, no response");
+            return null;
+        }
+
+        JsonObject json = parser.parse(response).getAsJsonObject();
+        JsonElement code = json.get("code");
+        if (code == null || code.getAsInt() != 200) {
+            logger.debug("Device update failed: {}", json.get("message"));
+            if (code != null && code.getAsInt() == 401) {
+                // the session expired, the login callback passes the new one to the bridge for the next update
+                zwayApi.getLogin();
+            }
+            return null;
+        }
+
+        JsonObject data = json.getAsJsonObject("data");
+        long updateTime = data.get("updateTime").getAsLong();
+        if (data.has("structureChanged") && data.get("structureChanged").getAsBoolean()) {
+            logger.debug("Device update: devices were added or removed, loading all devices");
+            return loadAllDevices(since, updateTime);
+        }
+
+        Map<String, Device> updatedDevices = toMap(deserializer.deserializeDeviceList(data, zwayApi));
+        logger.debug("Device update: {} devices changed since {}", updatedDevices.size(), since);
+        lastUpdate.compareAndSet(since, updateTime);
+        return updatedDevices;
+    }
+
+    /**
+     * Loads the whole device list and returns all devices.
+     *
+     * @param since the update time the devices were requested for
+     * @param updateTime the Z-Way time of the update, 0 to use the newest update time of the devices
+     */
+    private Map<String, Device> loadAllDevices(long since, long updateTime) {
+        DeviceList devices = zwayApi.getDevices();
+        if (devices == null) {
+            logger.debug("Device update failed, devices not loaded");
+            return null;
+        }
+
+        Map<String, Device> updatedDevices = toMap(devices);
+        long newestUpdateTime = updateTime;
+        for (Device device : updatedDevices.values()) {
+            newestUpdateTime = Math.max(newestUpdateTime, device.getUpdateTime());
+        }
+        logger.debug("Device update: loaded all {} devices", updatedDevices.size());
+        lastUpdate.compareAndSet(since, newestUpdateTime);
+        return updatedDevices;
+    }
+
+    private Map<String, Device> toMap(DeviceList devices) {
+        Map<String, Device> devicesById = new HashMap<>();
+        for (Device device : devices.getDevices()) {
+            devicesById.put(device.getDeviceId(), device);
+        }
+        return devicesById;
+    }
+}
@@ -14,8 +14,6 @@ package org.openhab.binding.zway.internal.handler;
 
 import static org.openhab.binding.zway.internal.ZWayBindingConstants.*;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.concurrent.TimeUnit;
 
@@ -183,12 +181,7 @@ public class ZWayZAutomationDeviceHandler extends ZWayDeviceHandler {
             Calendar lastUpdateOfDevice = Calendar.getInstance();
             lastUpdateOfDevice.setTimeInMillis(new Long(device.getUpdateTime()) * 1000);
 
-            if (lastUpdate == null || lastUpdateOfDevice.after(lastUpdate)) {
-                lastUpdate = lastUpdateOfDevice;
-            }
-
-            DateFormat formatter = new SimpleDateFormat("dd.MM.yyyy hh:mm:ss");
-            updateProperty(DEVICE_PROP_LAST_UPDATE, formatter.format(lastUpdate.getTime()));
+            setLastUpdate(lastUpdateOfDevice);
         }
     }
 }
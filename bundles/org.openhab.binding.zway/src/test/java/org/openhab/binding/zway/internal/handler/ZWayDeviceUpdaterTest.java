@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zway.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.google.gson.JsonParser;
+
+import de.fh_zwickau.informatik.sensor.IZWayApi;
+import de.fh_zwickau.informatik.sensor.model.devices.Device;
+import de.fh_zwickau.informatik.sensor.model.devices.DeviceList;
+import de.fh_zwickau.informatik.sensor.model.devices.DeviceListDeserializer;
+
+/**
+ * Tests for the incremental device update of the {@link ZWayDeviceUpdater}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+@NonNullByDefault
+public class ZWayDeviceUpdaterTest {
+
+    private static final String SWITCH = "ZWayVDev_zway_2-0-37";
+    private static final String SENSOR = "ZWayVDev_zway_3-0-49-1";
+
+    private @Mock @NonNullByDefault({}) IZWayApi zwayApi;
+
+    private final List<Long> requests = new ArrayList<>();
+    private final List<String> responses = new ArrayList<>();
+
+    private @NonNullByDefault({}) ZWayDeviceUpdater updater;
+
+    @BeforeEach
+    public void setUp() {
+        updater = new ZWayDeviceUpdater(zwayApi, since -> {
+            requests.add(since);
+            return responses.isEmpty() ? null : responses.remove(0);
+        });
+    }
+
+    private static String device(String id, String deviceType, String level, long updateTime) {
+        return "{\"id\":\"" + id + "\",\"deviceType\":\"" + deviceType + "\",\"creationTime\":1484136200,"
+                + "\"creatorId\":1,\"location\":0,\"permanently_hidden\":false,\"probeType\":\"\",\"tags\":[],"
+                + "\"visibility\":true,\"updateTime\":" + updateTime + ",\"metrics\":{\"title\":\"" + id
+                + "\",\"level\":\"" + level + "\",\"icon\":\"\"}}";
+    }
+
+    private static String data(boolean structureChanged, long updateTime, String... devices) {
+        return "{\"structureChanged\":" + structureChanged + ",\"updateTime\":" + updateTime + ",\"devices\":["
+                + String.join(",", devices) + "]}";
+    }
+
+    private static String response(String data) {
+        return "{\"code\":200,\"message\":\"200 OK\",\"error\":null,\"data\":" + data + "}";
+    }
+
+    private DeviceList deviceList(String data) {
+        return new DeviceListDeserializer().deserializeDeviceList(new JsonParser().parse(data).getAsJsonObject(),
+                zwayApi);
+    }
+
+    private void loadAllDevices() throws Exception {
+        when(zwayApi.getDevices()).thenReturn(deviceList(data(false, 1000,
+                device(SWITCH, "switchBinary", "off", 900), device(SENSOR, "sensorMultilevel", "21.5", 1000))));
+        Map<String, Device> devices = updater.loadUpdatedDevices();
+        assertNotNull(devices);
+        assertEquals(2, devices.size());
+    }
+
+    @Test
+    public void firstUpdateLoadsAllDevices() throws Exception {
+        loadAllDevices();
+
+        verify(zwayApi).getDevices();
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    public void furtherUpdatesTakeTheChangedDevicesFromTheResponse() throws Exception {
+        loadAllDevices();
+        responses.add(response(data(false, 1010, device(SWITCH, "switchBinary", "on", 1005))));
+        responses.add(response(data(false, 1020)));
+
+        Map<String, Device> devices = updater.loadUpdatedDevices();
+        assertNotNull(devices);
+        assertEquals(1, devices.size());
+        assertEquals("on", devices.get(SWITCH).getMetrics().getLevel());
+
+        devices = updater.loadUpdatedDevices();
+        assertNotNull(devices);
+        assertTrue(devices.isEmpty());
+
+        assertEquals(List.of(1000L, 1010L), requests);
+        verify(zwayApi, times(1)).getDevices();
+        verify(zwayApi, never()).getDevice(anyString());
+    }
+
+    @Test
+    public void addedOrRemovedDevicesLoadAllDevices() throws Exception {
+        loadAllDevices();
+        responses.add(response(data(true, 1010, device(SWITCH, "switchBinary", "on", 1005))));
+        responses.add(response(data(false, 1020)));
+
+        Map<String, Device> devices = updater.loadUpdatedDevices();
+        assertNotNull(devices);
+        assertEquals(2, devices.size());
+        verify(zwayApi, times(2)).getDevices();
+
+        updater.loadUpdatedDevices();
+        assertEquals(List.of(1000L, 1010L), requests);
+    }
+
+    @Test
+    public void resetLoadsAllDevices() throws Exception {
+        loadAllDevices();
+        updater.reset();
+
+        loadAllDevices();
+        verify(zwayApi, times(2)).getDevices();
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    public void failedUpdateIsRepeated() throws Exception {
+        loadAllDevices();
+        responses.add("{\"code\":500,\"message\":\"500 Internal Server Error\",\"error\":null,\"data\":null}");
+
+        assertNull(updater.loadUpdatedDevices());
+        assertNull(updater.loadUpdatedDevices());
+        assertEquals(List.of(1000L, 1000L), requests);
+        verify(zwayApi, never()).getLogin();
+    }
+
+    @Test
+    public void expiredSessionIsRenewed() throws Exception {
+        loadAllDevices();
+        responses.add("{\"code\":401,\"message\":\"401 Not logged in\",\"error\":null,\"data\":null}");
+
+        assertNull(updater.loadUpdatedDevices());
+        verify(zwayApi).getLogin();
+    }
+}
@@ -0,0 +1,705 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.ttscache;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.audio.AudioException;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+import org.openhab.core.audio.ByteArrayAudioStream;
+import org.openhab.core.audio.FileAudioStream;
+import org.openhab.core.audio.FixedLengthAudioStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TTSAudioCache} stores synthesized audio files in a folder, together with a .txt file describing their
+ * content. The folder is bounded by the total size of the audio files, the least recently used files are deleted
+ * when it is exceeded. The most recently used small clips are also kept in memory.
+ *
+ * On a cache miss the audio data is written to the cache file while the caller reads it, so playback can start before
+ * the download is complete. Concurrent requests for the same file share a single download, which is cancelled when
+ * all of its streams are closed before it is complete.
+ *
+ * The cache is shared by the text-to-speech services, each of them uses its own folder. A folder must be used by a
+ * single cache instance only, so a service changes the limits of its cache instead of creating a new one.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TTSAudioCache {
+
+    private static final String TEXT_EXTENSION = ".txt";
+    private static final int READ_BUFFER_SIZE = 4096;
+
+    private final Logger logger = LoggerFactory.getLogger(TTSAudioCache.class);
+
+    private final File cacheFolder;
+    private long maxDiskBytes;
+    private long maxMemoryBytes;
+    private long maxMemoryEntryBytes;
+
+    /**
+     * Sizes of the cached audio files by file name, in access order
+     */
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskBytes;
+
+    /**
+     * Audio data of the most recently used small clips by file name, in access order
+     */
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+
+    private final Map<String, Download> downloads = new HashMap<>();
+
+    /**
+     * Supplies the audio data of a text that is not cached yet.
+     */
+    @FunctionalInterface
+    public interface AudioSupplier {
+        InputStream get() throws IOException;
+    }
+
+    /**
+     * Creates a cache in the given folder. Audio files of an existing cache in this folder are reused.
+     *
+     * @param cacheFolder the folder of the audio files
+     * @param maxDiskBytes the maximum total size of all audio files, 0 for no limit
+     * @param maxMemoryBytes the maximum total size of the clips kept in memory
+     */
+    public TTSAudioCache(File cacheFolder, long maxDiskBytes, long maxMemoryBytes) {
+        this.cacheFolder = cacheFolder;
+        this.maxDiskBytes = maxDiskBytes;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxMemoryEntryBytes = maxMemoryBytes / 8;
+        if (!cacheFolder.exists()) {
+            cacheFolder.mkdirs();
+        }
+        loadFiles();
+    }
+
+    /**
+     * Changes the limits of the cache. Files and clips exceeding the new limits are evicted, running downloads are
+     * not affected.
+     *
+     * @param maxDiskBytes the maximum total size of all audio files, 0 for no limit
+     * @param maxMemoryBytes the maximum total size of the clips kept in memory
+     */
+    public synchronized void setLimits(long maxDiskBytes, long maxMemoryBytes) {
+        this.maxDiskBytes = maxDiskBytes;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxMemoryEntryBytes = maxMemoryBytes / 8;
+        Iterator<byte[]> iterator = memory.values().iterator();
+        while (iterator.hasNext()) {
+            byte[] audio = iterator.next();
+            if (memoryBytes > maxMemoryBytes || audio.length > maxMemoryEntryBytes) {
+                memoryBytes -= audio.length;
+                iterator.remove();
+            }
+        }
+        evict();
+    }
+
+    /**
+     * Returns the total size of the cached audio files.
+     *
+     * @return the size in bytes
+     */
+    public synchronized long getSize() {
+        return diskBytes;
+    }
+
+    private synchronized void loadFiles() {
+        File[] audioFiles = cacheFolder
+                .listFiles(file -> file.isFile() && !file.getName().endsWith(TEXT_EXTENSION));
+        if (audioFiles == null) {
+            return;
+        }
+        Arrays.sort(audioFiles, Comparator.comparingLong(File::lastModified));
+        for (File file : audioFiles) {
+            // the text file is written after the audio file is complete, so an audio file without it is incomplete
+            if (getTextFile(file.getName()).exists()) {
+                files.put(file.getName(), file.length());
+                diskBytes += file.length();
+            } else {
+                file.delete();
+            }
+        }
+        evict();
+        logger.debug("Using {} cached audio files with {} bytes in {}", files.size(), diskBytes, cacheFolder);
+    }
+
+    /**
+     * Returns a stream of the cached audio file. If the file is not cached, it is downloaded with the given supplier
+     * and the returned stream reads the data while it is written to the cache.
+     *
+     * @param fileName the file name of the audio file in the cache
+     * @param description the content of the text file that describes the audio file
+     * @param format the format of the audio stream
+     * @param supplier the supplier of the audio data if the file is not cached
+     * @return the audio stream
+     * @throws IOException if the audio data cannot be retrieved
+     * @throws AudioException if the audio stream cannot be created
+     */
+    public AudioStream get(String fileName, String description, AudioFormat format, AudioSupplier supplier)
+            throws IOException, AudioException {
+        while (true) {
+            Download download;
+            synchronized (this) {
+                AudioStream cached = getCachedStream(fileName, format);
+                if (cached != null) {
+                    return cached;
+                }
+                download = downloads.computeIfAbsent(fileName, name -> new Download(name, description, supplier));
+            }
+            // attached outside of the cache lock, as a download takes the cache lock while it holds its own one
+            if (download.attach()) {
+                try {
+                    download.start();
+                } catch (IOException e) {
+                    download.detach();
+                    throw e;
+                }
+                return new DownloadAudioStream(download, format);
+            }
+            // the download was cancelled or failed in the meantime, a new one is started
+            synchronized (this) {
+                downloads.remove(fileName, download);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached audio data, or null if the file is not cached.
+     *
+     * @param fileName the file name of the audio file in the cache
+     * @return the audio data or null
+     */
+    public synchronized byte @Nullable [] getAudio(String fileName) {
+        byte[] audio = memory.get(fileName);
+        if (files.get(fileName) == null) {
+            return null;
+        }
+        touch(fileName);
+        if (audio == null) {
+            try {
+                audio = Files.readAllBytes(new File(cacheFolder, fileName).toPath());
+            } catch (IOException e) {
+                logger.debug("Could not read cached audio file {}: {}", fileName, e.getMessage());
+                remove(fileName);
+                return null;
+            }
+            putInMemory(fileName, audio);
+        }
+        return audio;
+    }
+
+    /**
+     * Adds the given audio data to the cache.
+     *
+     * @param fileName the file name of the audio file in the cache
+     * @param description the content of the text file that describes the audio file
+     * @param audio the audio data
+     */
+    public void put(String fileName, String description, byte[] audio) {
+        File file = new File(cacheFolder, fileName);
+        try (OutputStream output = new FileOutputStream(file)) {
+            output.write(audio);
+            writeText(getTextFile(fileName), description);
+        } catch (IOException e) {
+            logger.warn("Could not write {} to cache", file, e);
+            file.delete();
+            return;
+        }
+        synchronized (this) {
+            added(fileName, audio.length);
+            putInMemory(fileName, audio);
+        }
+    }
+
+    /**
+     * Downloads the audio data with the given supplier if the file is not cached yet, e.g. to pre-warm the cache with
+     * frequently used texts.
+     *
+     * @param fileName the file name of the audio file in the cache
+     * @param description the content of the text file that describes the audio file
+     * @param supplier the supplier of the audio data if the file is not cached
+     * @return the cached audio file
+     * @throws IOException if the audio data cannot be retrieved
+     */
+    public File prefetch(String fileName, String description, AudioSupplier supplier) throws IOException {
+        while (true) {
+            Download download;
+            synchronized (this) {
+                if (files.containsKey(fileName)) {
+                    return new File(cacheFolder, fileName);
+                }
+                download = downloads.computeIfAbsent(fileName, name -> new Download(name, description, supplier));
+            }
+            if (download.attach()) {
+                try {
+                    download.start();
+                    download.fill(Long.MAX_VALUE);
+                    return download.file;
+                } finally {
+                    download.detach();
+                }
+            }
+            synchronized (this) {
+                downloads.remove(fileName, download);
+            }
+        }
+    }
+
+    /**
+     * Deletes all audio files that were not used within the given time.
+     *
+     * @param maxAgeMillis the maximum time since the last use of a file in milliseconds
+     * @return the number of deleted files
+     */
+    public synchronized int purgeOlderThan(long maxAgeMillis) {
+        long oldest = System.currentTimeMillis() - maxAgeMillis;
+        int deleted = 0;
+        Iterator<Entry<String, Long>> iterator = files.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<String, Long> entry = iterator.next();
+            if (new File(cacheFolder, entry.getKey()).lastModified() < oldest) {
+                iterator.remove();
+                diskBytes -= entry.getValue();
+                delete(entry.getKey());
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes all cached audio files.
+     */
+    public synchronized void clear() {
+        files.keySet().forEach(this::delete);
+        files.clear();
+        memory.clear();
+        diskBytes = 0;
+        memoryBytes = 0;
+    }
+
+    private @Nullable AudioStream getCachedStream(String fileName, AudioFormat format) throws AudioException {
+        Long size = files.get(fileName);
+        if (size == null) {
+            return null;
+        }
+        if (size <= maxMemoryEntryBytes) {
+            byte[] audio = getAudio(fileName);
+            return audio == null ? null : new ByteArrayAudioStream(audio, format);
+        }
+        File file = touch(fileName);
+        if (!file.exists()) {
+            remove(fileName);
+            return null;
+        }
+        return new FileAudioStream(file, format);
+    }
+
+    private File touch(String fileName) {
+        File file = new File(cacheFolder, fileName);
+        // the modification time keeps the order of use across restarts
+        file.setLastModified(System.currentTimeMillis());
+        return file;
+    }
+
+    private void putInMemory(String fileName, byte[] audio) {
+        if (audio.length > maxMemoryEntryBytes) {
+            return;
+        }
+        byte[] previous = memory.put(fileName, audio);
+        memoryBytes += audio.length - (previous == null ? 0 : previous.length);
+        Iterator<byte[]> iterator = memory.values().iterator();
+        while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+            memoryBytes -= iterator.next().length;
+            iterator.remove();
+        }
+    }
+
+    private synchronized void added(String fileName, long size) {
+        Long previous = files.put(fileName, size);
+        diskBytes += size - (previous == null ? 0 : previous);
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Entry<String, Long>> iterator = files.entrySet().iterator();
+        // the most recently used file is kept, even if it exceeds the limit on its own
+        while (maxDiskBytes > 0 && diskBytes > maxDiskBytes && files.size() > 1) {
+            Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            diskBytes -= eldest.getValue();
+            delete(eldest.getKey());
+            logger.debug("Evicted {} from cache", eldest.getKey());
+        }
+    }
+
+    private void remove(String fileName) {
+        Long size = files.remove(fileName);
+        if (size != null) {
+            diskBytes -= size;
+            delete(fileName);
+        }
+    }
+
+    private void delete(String fileName) {
+        byte[] audio = memory.remove(fileName);
+        if (audio != null) {
+            memoryBytes -= audio.length;
+        }
+        new File(cacheFolder, fileName).delete();
+        getTextFile(fileName).delete();
+    }
+
+    private File getTextFile(String fileName) {
+        int index = fileName.lastIndexOf('.');
+        return new File(cacheFolder, (index > 0 ? fileName.substring(0, index) : fileName) + TEXT_EXTENSION);
+    }
+
+    private void writeText(File file, String text) throws IOException {
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            outputStream.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * The download of an audio file that is not cached yet. The data is read from the source on demand of the
+     * readers and written to the cache file, which the readers read from. The download is cancelled when the last
+     * reader detaches before it is complete.
+     *
+     * The source is read outside of the lock of the download, so a blocking source never blocks a reader that
+     * detaches or only asks for the data written so far. One reader reads from the source at a time, the others wait
+     * for its data.
+     */
+    private class Download {
+        private final String fileName;
+        private final String description;
+        private final AudioSupplier supplier;
+        private final File file;
+
+        private @Nullable InputStream source;
+        private @Nullable OutputStream output;
+        private @Nullable IOException failure;
+        private long length;
+        private int readers;
+        private boolean reading;
+        private boolean complete;
+
+        Download(String fileName, String description, AudioSupplier supplier) {
+            this.fileName = fileName;
+            this.description = description;
+            this.supplier = supplier;
+            this.file = new File(cacheFolder, fileName);
+        }
+
+        /**
+         * Registers a reader of the download.
+         *
+         * @return false if the download was cancelled or failed, so it cannot be read anymore
+         */
+        synchronized boolean attach() {
+            if (failure != null) {
+                return false;
+            }
+            readers++;
+            return true;
+        }
+
+        /**
+         * Unregisters a reader of the download and cancels the download if it was the last one. The source is closed
+         * outside of the lock, which also ends a read that blocks on it.
+         */
+        void detach() {
+            @Nullable
+            Closeable[] streams;
+            synchronized (this) {
+                readers--;
+                if (readers > 0 || complete || failure != null) {
+                    return;
+                }
+                failure = new IOException("Download of " + fileName + " was cancelled");
+                streams = takeStreams();
+                notifyAll();
+            }
+            close(streams);
+            file.delete();
+            synchronized (TTSAudioCache.this) {
+                downloads.remove(fileName, this);
+            }
+            logger.debug("Cancelled download of {}", fileName);
+        }
+
+        synchronized void start() throws IOException {
+            final IOException failure = this.failure;
+            if (failure != null) {
+                throw failure;
+            }
+            if (source != null || complete) {
+                return;
+            }
+            try {
+                source = supplier.get();
+                output = new FileOutputStream(file);
+            } catch (IOException e) {
+                fail(e);
+                throw e;
+            }
+        }
+
+        /**
+         * Returns the length of the audio data.
+         *
+         * @return the length in bytes or -1 if the download is not complete yet
+         */
+        synchronized long getLength() {
+            return complete ? length : -1;
+        }
+
+        /**
+         * Downloads data until more than the given number of bytes is written to the file or the download is
+         * complete.
+         *
+         * @return the number of bytes written to the file
+         */
+        long fill(long position) throws IOException {
+            byte[] buffer = null;
+            while (true) {
+                InputStream source;
+                synchronized (this) {
+                    while (reading && length <= position && !complete && failure == null) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new InterruptedIOException("Interrupted while waiting for " + fileName);
+                        }
+                    }
+                    final IOException failure = this.failure;
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    if (length > position || complete) {
+                        return length;
+                    }
+                    source = this.source;
+                    if (source == null) {
+                        throw new IOException("Download of " + fileName + " was not started");
+                    }
+                    reading = true;
+                }
+                if (buffer == null) {
+                    buffer = new byte[READ_BUFFER_SIZE];
+                }
+                int read;
+                try {
+                    read = source.read(buffer);
+                } catch (IOException e) {
+                    synchronized (this) {
+                        reading = false;
+                        notifyAll();
+                        final IOException failure = this.failure;
+                        if (failure != null) {
+                            // the download was cancelled while reading
+                            throw failure;
+                        }
+                        fail(e);
+                    }
+                    throw e;
+                }
+                synchronized (this) {
+                    reading = false;
+                    notifyAll();
+                    final IOException failure = this.failure;
+                    final OutputStream output = this.output;
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    try {
+                        if (read < 0) {
+                            finish();
+                        } else if (output != null) {
+                            output.write(buffer, 0, read);
+                            length += read;
+                        }
+                    } catch (IOException e) {
+                        fail(e);
+                        throw e;
+                    }
+                }
+            }
+        }
+
+        private void finish() throws IOException {
+            close(takeStreams());
+            // write text to file for transparency too
+            // this allows to know which contents is in which audio file
+            writeText(getTextFile(fileName), description);
+            complete = true;
+            synchronized (TTSAudioCache.this) {
+                downloads.remove(fileName, this);
+                added(fileName, length);
+            }
+            logger.debug("Cached {} with {} bytes", fileName, length);
+        }
+
+        private void fail(IOException e) {
+            failure = e;
+            close(takeStreams());
+            file.delete();
+            synchronized (TTSAudioCache.this) {
+                downloads.remove(fileName, this);
+            }
+            logger.warn("Could not write {} to cache: {}", file, e.getMessage());
+        }
+
+        private @Nullable Closeable[] takeStreams() {
+            @Nullable
+            Closeable[] streams = { source, output };
+            source = null;
+            output = null;
+            return streams;
+        }
+
+        private void close(@Nullable Closeable[] streams) {
+            for (Closeable stream : streams) {
+                try {
+                    if (stream != null) {
+                        stream.close();
+                    }
+                } catch (IOException e) {
+                    logger.debug("Failed to close stream of {}: {}", fileName, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the cache file of a download while it is written.
+     */
+    private class DownloadAudioStream extends FixedLengthAudioStream {
+        private final Download download;
+        private final AudioFormat format;
+
+        private @Nullable InputStream input;
+        private long position;
+        private boolean closed;
+
+        /**
+         * Creates a stream of a download, which the stream must already be attached to.
+         */
+        DownloadAudioStream(Download download, AudioFormat format) {
+            this.download = download;
+            this.format = format;
+        }
+
+        @Override
+        public AudioFormat getFormat() {
+            return format;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte @Nullable [] b, int off, int len) throws IOException {
+            if (b == null) {
+                throw new NullPointerException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            long available = download.fill(position) - position;
+            if (available <= 0) {
+                return -1;
+            }
+            InputStream input = this.input;
+            if (input == null) {
+                input = new FileInputStream(download.file);
+                this.input = input;
+            }
+            int read = input.read(b, off, (int) Math.min(len, available));
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+
+        /**
+         * Returns the length of the audio data. The length is only known when the download is complete, this never
+         * waits for the download.
+         *
+         * @return the length in bytes or -1 if the download is not complete yet
+         */
+        @Override
+        public long length() {
+            return download.getLength();
+        }
+
+        @Override
+        public InputStream getClonedStream() throws AudioException {
+            if (!download.attach()) {
+                throw new AudioException("Download of " + download.fileName + " was cancelled or failed");
+            }
+            return new DownloadAudioStream(download, format);
+        }
+
+        /**
+         * Closes the stream. The download is cancelled if this was its last stream and it is not complete yet, so
+         * closing a stream never waits for the download.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                final InputStream input = this.input;
+                if (input != null) {
+                    input.close();
+                    this.input = null;
+                }
+            } finally {
+                download.detach();
+            }
+        }
+    }
+}
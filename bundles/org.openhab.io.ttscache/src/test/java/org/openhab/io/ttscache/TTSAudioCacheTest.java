@@ -0,0 +1,248 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.ttscache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.core.audio.AudioException;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+import org.openhab.core.audio.FixedLengthAudioStream;
+
+/**
+ * Tests for {@link TTSAudioCache}.
+ *
+ * @author agent - Initial contribution
+ */
+public class TTSAudioCacheTest {
+
+    public @TempDir @NonNullByDefault({}) File folder;
+
+    private final AtomicInteger downloads = new AtomicInteger();
+
+    @Test
+    public void testPurgeOlderThanUpdatesSize() {
+        TTSAudioCache cache = new TTSAudioCache(folder, 300, 0);
+        cache.put("old.mp3", "old", new byte[100]);
+        cache.put("new.mp3", "new", new byte[200]);
+        assertEquals(300, cache.getSize());
+
+        new File(folder, "old.mp3").setLastModified(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2));
+        assertEquals(1, cache.purgeOlderThan(TimeUnit.HOURS.toMillis(1)));
+        assertEquals(200, cache.getSize());
+        assertFalse(new File(folder, "old.mp3").exists());
+        assertFalse(new File(folder, "old.txt").exists());
+
+        // the limit is not exceeded, so the remaining file must not be evicted
+        cache.put("other.mp3", "other", new byte[100]);
+        assertEquals(300, cache.getSize());
+        assertNotNull(cache.getAudio("new.mp3"));
+        assertNotNull(cache.getAudio("other.mp3"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedFilesAreEvicted() {
+        TTSAudioCache cache = new TTSAudioCache(folder, 250, 0);
+        cache.put("a.mp3", "a", new byte[100]);
+        cache.put("b.mp3", "b", new byte[100]);
+        cache.getAudio("a.mp3");
+        cache.put("c.mp3", "c", new byte[100]);
+
+        assertEquals(200, cache.getSize());
+        assertNotNull(cache.getAudio("a.mp3"));
+        assertNull(cache.getAudio("b.mp3"));
+        assertNotNull(cache.getAudio("c.mp3"));
+
+        cache.setLimits(150, 0);
+        assertEquals(100, cache.getSize());
+        assertNull(cache.getAudio("a.mp3"));
+        assertNotNull(cache.getAudio("c.mp3"));
+    }
+
+    @Test
+    public void testExistingFilesAreReused() {
+        new TTSAudioCache(folder, 0, 0).put("a.mp3", "a", new byte[100]);
+
+        TTSAudioCache cache = new TTSAudioCache(folder, 0, 0);
+        assertEquals(100, cache.getSize());
+        assertArrayEquals(new byte[100], cache.getAudio("a.mp3"));
+    }
+
+    @Test
+    public void testAudioIsCachedWhileItIsRead() throws IOException, AudioException {
+        TTSAudioCache cache = new TTSAudioCache(folder, 0, 0);
+        byte[] audio = createAudio(20000);
+
+        AudioStream first = cache.get("a.mp3", "a", AudioFormat.MP3, () -> download(audio));
+        AudioStream second = cache.get("a.mp3", "a", AudioFormat.MP3, () -> download(audio));
+        assertArrayEquals(audio, readAll(first));
+        assertArrayEquals(audio, readAll(second));
+        first.close();
+        second.close();
+        assertEquals(1, downloads.get());
+        assertEquals(audio.length, cache.getSize());
+
+        AudioStream cached = cache.get("a.mp3", "a", AudioFormat.MP3, () -> download(audio));
+        assertEquals(audio.length, ((FixedLengthAudioStream) cached).length());
+        assertArrayEquals(audio, readAll(cached));
+        assertEquals(1, downloads.get());
+    }
+
+    @Test
+    public void testCloseCancelsDownload() throws IOException, AudioException {
+        TTSAudioCache cache = new TTSAudioCache(folder, 0, 0);
+        byte[] audio = createAudio(100000);
+
+        AudioStream stream = cache.get("a.mp3", "a", AudioFormat.MP3, () -> download(audio));
+        byte[] buffer = new byte[10];
+        assertEquals(10, stream.read(buffer, 0, buffer.length));
+        stream.close();
+
+        assertEquals(0, cache.getSize());
+        assertFalse(new File(folder, "a.mp3").exists());
+        assertFalse(new File(folder, "a.txt").exists());
+
+        // the next request downloads the audio again
+        AudioStream next = cache.get("a.mp3", "a", AudioFormat.MP3, () -> download(audio));
+        assertArrayEquals(audio, readAll(next));
+        next.close();
+        assertEquals(2, downloads.get());
+        assertEquals(audio.length, cache.getSize());
+    }
+
+    @Test
+    public void testDownloadIsNotCancelledWhileStreamsAreOpen() throws IOException, AudioException {
+        TTSAudioCache cache = new TTSAudioCache(folder, 0, 0);
+        byte[] audio = createAudio(100000);
+
+        AudioStream stream = cache.get("a.mp3", "a", AudioFormat.MP3, () -> download(audio));
+        InputStream clone = ((FixedLengthAudioStream) stream).getClonedStream();
+        stream.read();
+        stream.close();
+
+        assertArrayEquals(audio, readAll(clone));
+        clone.close();
+        assertEquals(1, downloads.get());
+        assertEquals(audio.length, cache.getSize());
+    }
+
+    @Test
+    public void testLengthIsKnownWhenDownloadIsComplete() throws IOException, AudioException {
+        TTSAudioCache cache = new TTSAudioCache(folder, 0, 0);
+        byte[] audio = createAudio(100000);
+
+        AudioStream stream = cache.get("a.mp3", "a", AudioFormat.MP3, () -> download(audio));
+        stream.read();
+        assertEquals(-1, ((FixedLengthAudioStream) stream).length());
+        assertEquals(audio.length - 1, readAll(stream).length);
+        assertEquals(audio.length, ((FixedLengthAudioStream) stream).length());
+        stream.close();
+    }
+
+    @Test
+    public void testCloseDoesNotWaitForBlockingSource() throws Exception {
+        TTSAudioCache cache = new TTSAudioCache(folder, 0, 0);
+        BlockingInputStream source = new BlockingInputStream();
+
+        AudioStream stream = cache.get("a.mp3", "a", AudioFormat.MP3, () -> source);
+        CompletableFuture<Boolean> failed = CompletableFuture.supplyAsync(() -> {
+            try {
+                stream.read(new byte[10], 0, 10);
+                return false;
+            } catch (IOException e) {
+                return true;
+            }
+        });
+        assertTrue(source.reading.await(5, TimeUnit.SECONDS));
+        assertEquals(-1, ((FixedLengthAudioStream) stream).length());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), stream::close);
+        assertTrue(failed.get(5, TimeUnit.SECONDS));
+        assertFalse(new File(folder, "a.mp3").exists());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testPrefetch() throws IOException {
+        TTSAudioCache cache = new TTSAudioCache(folder, 0, 0);
+        byte[] audio = createAudio(5000);
+
+        File file = cache.prefetch("a.mp3", "a", () -> download(audio));
+        assertTrue(file.exists());
+        assertEquals(audio.length, file.length());
+        cache.prefetch("a.mp3", "a", () -> download(audio));
+        assertEquals(1, downloads.get());
+    }
+
+    private InputStream download(byte[] audio) {
+        downloads.incrementAndGet();
+        return new ByteArrayInputStream(audio);
+    }
+
+    /**
+     * A source that blocks on read until it is closed.
+     */
+    private static class BlockingInputStream extends InputStream {
+        private final CountDownLatch reading = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public int read() throws IOException {
+            reading.countDown();
+            try {
+                closed.await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            throw new IOException("Stream closed");
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+
+    private static byte[] createAudio(int length) {
+        byte[] audio = new byte[length];
+        for (int i = 0; i < length; i++) {
+            audio[i] = (byte) i;
+        }
+        return audio;
+    }
+
+    private static byte[] readAll(InputStream stream) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1000];
+        int read;
+        while ((read = stream.read(buffer, 0, buffer.length)) >= 0) {
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
+}
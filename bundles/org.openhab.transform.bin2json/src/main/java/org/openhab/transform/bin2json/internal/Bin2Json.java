@@ -12,18 +12,24 @@
  */
 package org.openhab.transform.bin2json.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
-import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
 import com.igormaznitsa.jbbp.JBBPParser;
 import com.igormaznitsa.jbbp.exceptions.JBBPException;
 import com.igormaznitsa.jbbp.model.JBBPAbstractArrayField;
@@ -66,6 +72,9 @@ import com.igormaznitsa.jbbp.model.JBBPFieldUShort;
  * json.toString() = {"a":3,"b":-6,"c":255}
  * </pre>
  *
+ * <p>
+ * The parser rule is compiled once, an instance can be used by several threads to convert data concurrently.
+ *
  * @author Pauli Anttila - Initial contribution
  *
  */
@@ -73,7 +82,13 @@ public class Bin2Json {
 
     private final Logger logger = LoggerFactory.getLogger(Bin2Json.class);
 
-    private JBBPParser parser;
+    // buffers up to this size are reused by the thread for the next conversion
+    private static final int MAX_BUFFER_SIZE = 4096;
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[64]);
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    private final JBBPParser parser;
 
     /**
      *
@@ -96,10 +111,70 @@ public class Bin2Json {
      * @throws ConversionException
      */
     public JsonObject convert(String hexString) throws ConversionException {
+        return convert(parse(hexString));
+    }
+
+    /**
+     * Convert {@link String} in hexadecimal string format to JSON string. The JSON string is written directly from
+     * the parsed data, it is equal to the string representation of the result of {@link #convert(String)}.
+     *
+     * @param hexString Data in hexadecimal string format. Example data: 03FAFF
+     * @return JSON string
+     * @throws ConversionException
+     */
+    public String convertToString(String hexString) throws ConversionException {
+        JBBPFieldStruct data = parse(hexString);
+        try {
+            LocalDateTime start = LocalDateTime.now();
+            StringWriter out = new StringWriter();
+            JsonWriter writer = new JsonWriter(out);
+            writer.setLenient(true);
+            writeStruct(writer, data);
+            writer.flush();
+            final String json = out.toString();
+            if (logger.isTraceEnabled()) {
+                Duration duration = Duration.between(start, LocalDateTime.now());
+                logger.trace("Conversion time={}, json={}", duration, json);
+            }
+            return json;
+        } catch (IOException e) {
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage(), e));
+        } catch (JBBPException e) {
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage(), e));
+        }
+    }
+
+    /**
+     * Parses data in hexadecimal string format. The data is decoded into a buffer, which is reused by the thread.
+     */
+    private JBBPFieldStruct parse(String hexString) throws ConversionException {
+        if (hexString.length() % 2 != 0) {
+            throw new ConversionException(
+                    String.format("Illegal hexstring , reason: odd number of characters in '%s'", hexString));
+        }
+        int length = hexString.length() / 2;
+        byte[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new byte[length];
+            if (length <= MAX_BUFFER_SIZE) {
+                BUFFER.set(buffer);
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            int high = Character.digit(hexString.charAt(2 * i), 16);
+            int low = Character.digit(hexString.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new ConversionException(String.format("Illegal hexstring , reason: illegal character in '%s'",
+                        hexString.substring(2 * i, 2 * i + 2)));
+            }
+            buffer[i] = (byte) ((high << 4) | low);
+        }
         try {
-            return convert(HexUtils.hexToBytes(hexString));
-        } catch (IllegalArgumentException e) {
-            throw new ConversionException(String.format("Illegal hexstring , reason: %s", e.getMessage(), e));
+            return parser.parse(new ByteArrayInputStream(buffer, 0, length));
+        } catch (IOException e) {
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage(), e));
+        } catch (JBBPException e) {
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage(), e));
         }
     }
 
@@ -236,4 +311,108 @@ public class Bin2Json {
         }
         return jsn;
     }
+
+    private void writeStruct(final JsonWriter writer, final JBBPFieldStruct struct)
+            throws IOException, ConversionException {
+        if (hasDuplicateFieldNames(struct)) {
+            // the last field of the same name wins, the tree takes care of that
+            GSON.toJson(convertToJSon(struct), writer);
+            return;
+        }
+        writer.beginObject();
+        for (final JBBPAbstractField f : struct.getArray()) {
+            writer.name(f.getFieldName() == null ? "nonamed" : f.getFieldName());
+            writeField(writer, f);
+        }
+        writer.endObject();
+    }
+
+    private boolean hasDuplicateFieldNames(final JBBPFieldStruct struct) {
+        final JBBPAbstractField[] fields = struct.getArray();
+        if (fields.length < 2) {
+            return false;
+        }
+        final Set<String> names = new HashSet<>();
+        for (final JBBPAbstractField f : fields) {
+            if (!names.add(f.getFieldName() == null ? "nonamed" : f.getFieldName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeField(final JsonWriter writer, final JBBPAbstractField field)
+            throws IOException, ConversionException {
+        if (field instanceof JBBPAbstractArrayField) {
+            writer.beginArray();
+            if (field instanceof JBBPFieldArrayBit) {
+                for (final byte b : ((JBBPFieldArrayBit) field).getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayBoolean) {
+                for (final boolean b : ((JBBPFieldArrayBoolean) field).getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayByte) {
+                for (final byte b : ((JBBPFieldArrayByte) field).getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayInt) {
+                for (final int b : ((JBBPFieldArrayInt) field).getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayLong) {
+                for (final long b : ((JBBPFieldArrayLong) field).getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayShort) {
+                for (final short b : ((JBBPFieldArrayShort) field).getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayStruct) {
+                final JBBPFieldArrayStruct array = (JBBPFieldArrayStruct) field;
+                for (int i = 0; i < array.size(); i++) {
+                    // like in the tree, each element is wrapped into an object with the name of the struct
+                    final JBBPFieldStruct element = array.getElementAt(i);
+                    writer.beginObject();
+                    writer.name(element.getFieldName() == null ? "nonamed" : element.getFieldName());
+                    writeStruct(writer, element);
+                    writer.endObject();
+                }
+            } else if (field instanceof JBBPFieldArrayUByte) {
+                for (final byte b : ((JBBPFieldArrayUByte) field).getArray()) {
+                    writer.value(b & 0xFF);
+                }
+            } else if (field instanceof JBBPFieldArrayUShort) {
+                for (final short b : ((JBBPFieldArrayUShort) field).getArray()) {
+                    writer.value(b & 0xFFFF);
+                }
+            } else {
+                throw new ConversionException(String.format("Unexpected field type '%s'", field));
+            }
+            writer.endArray();
+        } else {
+            if (field instanceof JBBPFieldBit) {
+                writer.value(((JBBPFieldBit) field).getAsInt());
+            } else if (field instanceof JBBPFieldBoolean) {
+                writer.value(((JBBPFieldBoolean) field).getAsBool());
+            } else if (field instanceof JBBPFieldByte) {
+                writer.value(((JBBPFieldByte) field).getAsInt());
+            } else if (field instanceof JBBPFieldInt) {
+                writer.value(((JBBPFieldInt) field).getAsInt());
+            } else if (field instanceof JBBPFieldLong) {
+                writer.value(((JBBPFieldLong) field).getAsLong());
+            } else if (field instanceof JBBPFieldShort) {
+                writer.value(((JBBPFieldShort) field).getAsInt());
+            } else if (field instanceof JBBPFieldStruct) {
+                writeStruct(writer, (JBBPFieldStruct) field);
+            } else if (field instanceof JBBPFieldUByte) {
+                writer.value(((JBBPFieldUByte) field).getAsInt());
+            } else if (field instanceof JBBPFieldUShort) {
+                writer.value(((JBBPFieldUShort) field).getAsInt());
+            } else {
+                throw new ConversionException(String.format("Unexpected field '%s'", field));
+            }
+        }
+    }
 }
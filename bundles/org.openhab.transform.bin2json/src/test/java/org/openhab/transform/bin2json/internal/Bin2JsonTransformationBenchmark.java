@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.bin2json.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.transform.TransformationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of transformations with and without the cache of parsed syntaxes. It is not part of the
+ * regular build and has to be run manually.
+ *
+ * @author agent - Initial contribution
+ */
+@Disabled
+public class Bin2JsonTransformationBenchmark {
+
+    // a frame of 32 bytes, as received e.g. from a serial device
+    private static final String FRAME_SYNTAX = "ubyte header; ushort id; int value; long timestamp; byte[8] data; "
+            + "bit:4 low; bit:4 high; ubyte[8] extra;";
+    private static final String FRAME = "AA0102FFFFFF850000017540D6B1C00102030405060708F5FFFEFDFCFBFAF9F8";
+
+    private static final int WARMUP_ITERATIONS = 5000;
+    private static final int ITERATIONS = 50000;
+
+    private final Logger logger = LoggerFactory.getLogger(Bin2JsonTransformationBenchmark.class);
+
+    @Test
+    public void benchmarkWithAndWithoutCache() throws ConversionException, TransformationException {
+        Bin2JsonTransformationService processor = new Bin2JsonTransformationService();
+        String expected = new Bin2Json(FRAME_SYNTAX).convert(FRAME).toString();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            new Bin2Json(FRAME_SYNTAX).convert(FRAME).toString();
+            processor.transform(FRAME_SYNTAX, FRAME);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(expected, new Bin2Json(FRAME_SYNTAX).convert(FRAME).toString());
+        }
+        long uncachedTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(expected, processor.transform(FRAME_SYNTAX, FRAME));
+        }
+        long cachedTime = System.nanoTime() - start;
+
+        logger.info("32 byte frame: {} transformations/s without cache, {} transformations/s with cache",
+                ITERATIONS * TimeUnit.SECONDS.toNanos(1) / uncachedTime,
+                ITERATIONS * TimeUnit.SECONDS.toNanos(1) / cachedTime);
+    }
+}
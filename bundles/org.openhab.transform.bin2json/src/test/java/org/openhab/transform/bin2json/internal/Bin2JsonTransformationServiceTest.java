@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.bin2json.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.transform.TransformationException;
+
+/**
+ * @author agent - Initial contribution
+ */
+public class Bin2JsonTransformationServiceTest {
+
+    // a frame of 32 bytes, as received e.g. from a serial device
+    private static final String FRAME_SYNTAX = "ubyte header; ushort id; int value; long timestamp; byte[8] data; "
+            + "bit:4 low; bit:4 high; ubyte[8] extra;";
+    private static final String FRAME = "AA0102FFFFFF850000017540D6B1C00102030405060708F5FFFEFDFCFBFAF9F8";
+
+    private Bin2JsonTransformationService processor;
+
+    @BeforeEach
+    public void init() {
+        processor = new Bin2JsonTransformationService();
+    }
+
+    @Test
+    public void testTransform() throws TransformationException {
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", processor.transform("byte a; byte b; ubyte c;", "03FAFF"));
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", processor.transform("byte a; byte b; ubyte c;", "03faff"));
+    }
+
+    @Test
+    public void testTransformFrame() throws TransformationException {
+        assertEquals("{\"header\":170,\"id\":258,\"value\":-123,\"timestamp\":1603110613440,"
+                + "\"data\":[1,2,3,4,5,6,7,8],\"low\":5,\"high\":15,\"extra\":[255,254,253,252,251,250,249,248]}",
+                processor.transform(FRAME_SYNTAX, FRAME));
+    }
+
+    @Test
+    public void testStringIsEqualToTree() throws ConversionException {
+        assertStringIsEqualToTree(FRAME_SYNTAX, FRAME);
+        assertStringIsEqualToTree("byte a; sub { ubyte b; ushort c; } list[2] { byte d; bool e; }", "0102000304050607");
+        assertStringIsEqualToTree("int[2] values; short[2] shorts; long[1] longs; bool[2] flags; bit:1[4] bits;",
+                "000000010000000200030004000000000000000501000F");
+        // fields without name are named "nonamed", the last one wins
+        assertStringIsEqualToTree("byte; byte; ubyte a;", "0102FF");
+    }
+
+    @Test
+    public void testTransformWithIllegalData() {
+        assertThrows(TransformationException.class, () -> processor.transform("byte a;", "0"));
+        assertThrows(TransformationException.class, () -> processor.transform("byte a;", "0G"));
+        assertThrows(TransformationException.class, () -> processor.transform("byte a; byte b;", "01"));
+        assertThrows(TransformationException.class, () -> processor.transform("byte a; unknown b;", "0102"));
+    }
+
+    @Test
+    public void testLargeFrameIsNotAffectedByBuffer() throws TransformationException {
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < 8192; i++) {
+            data.append(String.format("%02X", i & 0xFF));
+        }
+        String result = processor.transform("ubyte[_] data;", data.toString());
+        assertNotNull(result);
+        assertTrue(result.endsWith(",254,255]}"));
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", processor.transform("byte a; byte b; ubyte c;", "03FAFF"));
+    }
+
+    private void assertStringIsEqualToTree(String syntax, String data) throws ConversionException {
+        Bin2Json bin2Json = new Bin2Json(syntax);
+        assertEquals(bin2Json.convert(data).toString(), bin2Json.convertToString(data));
+    }
+}
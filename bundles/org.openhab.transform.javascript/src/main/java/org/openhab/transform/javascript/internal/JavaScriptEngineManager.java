@@ -20,6 +20,7 @@ import java.io.Reader;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.script.Bindings;
 import javax.script.Compilable;
 import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
@@ -27,6 +28,7 @@ import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.transform.TransformationException;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
@@ -34,6 +36,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Simple cache for compiled JavaScript files.
+ * <p>
+ * Only the compiled script and its engine are cached. Every evaluation runs with fresh {@link Bindings}, so top-level
+ * variables neither leak between calls nor between concurrent transformations of the same script.
  *
  * @author Thomas Kordelle - pre compiled scripts
  *
@@ -44,37 +49,59 @@ public class JavaScriptEngineManager {
 
     private final Logger logger = LoggerFactory.getLogger(JavaScriptEngineManager.class);
     private final ScriptEngineManager manager = new ScriptEngineManager();
-    /* keep memory foot print low. max 2 concurrent threads are estimated */
-    private final Map<String, CompiledScript> compiledScriptMap = new ConcurrentHashMap<>(4, 0.5f, 2);
+    private final String transformFolder;
+    private final Map<String, CompiledScript> compiledScriptMap = new ConcurrentHashMap<>();
+
+    public JavaScriptEngineManager() {
+        this(TransformationScriptWatcher.TRANSFORM_FOLDER);
+    }
+
+    JavaScriptEngineManager(String transformFolder) {
+        this.transformFolder = transformFolder;
+    }
 
     /**
-     * Get a pre compiled script {@link CompiledScript} from cache. If it is not in the cache, then load it from
-     * storage and put a pre compiled version into the cache.
+     * Evaluates a pre compiled script with new bindings.
      *
-     * @param filename name of the JavaScript file to load
-     * @return a pre compiled script {@link CompiledScript}
+     * @param filename name of the JavaScript file to evaluate
+     * @param variables the variables to bind for this evaluation
+     * @return the result of the script
      * @throws TransformationException if compile of JavaScript failed
+     * @throws ScriptException if execution of JavaScript failed
      */
-    protected CompiledScript getScript(final String filename) throws TransformationException {
-        synchronized (compiledScriptMap) {
-            CompiledScript compiledScript = compiledScriptMap.get(filename);
-            if (compiledScript != null) {
-                logger.debug("Loading JavaScript {} from cache.", filename);
-                return compiledScript;
-            } else {
-                final String path = TransformationScriptWatcher.TRANSFORM_FOLDER + File.separator + filename;
-                logger.debug("Loading script {} from storage ", path);
-                try (final Reader reader = new InputStreamReader(new FileInputStream(path))) {
-                    final ScriptEngine engine = manager.getEngineByName("javascript");
-                    final CompiledScript cScript = ((Compilable) engine).compile(reader);
-                    logger.debug("Putting compiled JavaScript {} to cache.", cScript);
-                    compiledScriptMap.put(filename, cScript);
-                    return cScript;
-                } catch (IOException | ScriptException e) {
-                    throw new TransformationException("An error occurred while loading JavaScript. " + e.getMessage(),
-                            e);
-                }
-            }
+    protected @Nullable Object eval(final String filename, final Map<String, ?> variables)
+            throws TransformationException, ScriptException {
+        final CompiledScript script = getScript(filename);
+        final Bindings bindings = script.getEngine().createBindings();
+        bindings.putAll(variables);
+        return script.eval(bindings);
+    }
+
+    private CompiledScript getScript(final String filename) throws TransformationException {
+        CompiledScript compiledScript = compiledScriptMap.get(filename);
+        if (compiledScript != null) {
+            logger.debug("Loading JavaScript {} from cache.", filename);
+            return compiledScript;
+        }
+        try {
+            // a concurrent removeFromCache waits until the script is compiled, so a modified file is never missed
+            return compiledScriptMap.computeIfAbsent(filename, this::compile);
+        } catch (CompileException e) {
+            throw e.getCause();
+        }
+    }
+
+    private CompiledScript compile(final String filename) {
+        final String path = transformFolder + File.separator + filename;
+        logger.debug("Loading script {} from storage ", path);
+        try (final Reader reader = new InputStreamReader(new FileInputStream(path))) {
+            final ScriptEngine engine = manager.getEngineByName("javascript");
+            final CompiledScript cScript = ((Compilable) engine).compile(reader);
+            logger.debug("Putting compiled JavaScript {} to cache.", cScript);
+            return cScript;
+        } catch (IOException | ScriptException e) {
+            throw new CompileException(
+                    new TransformationException("An error occurred while loading JavaScript. " + e.getMessage(), e));
         }
     }
 
@@ -87,4 +114,19 @@ public class JavaScriptEngineManager {
         logger.debug("Removing JavaScript {} from cache.", fileName);
         compiledScriptMap.remove(fileName);
     }
+
+    /**
+     * Carries a {@link TransformationException} out of {@link Map#computeIfAbsent}.
+     */
+    @SuppressWarnings("serial")
+    private static class CompileException extends RuntimeException {
+        CompileException(TransformationException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized TransformationException getCause() {
+            return (TransformationException) super.getCause();
+        }
+    }
 }
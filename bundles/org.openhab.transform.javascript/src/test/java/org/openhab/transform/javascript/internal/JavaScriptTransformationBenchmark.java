@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.javascript.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of concurrent transformations of one script. It is not part of the regular build and has to
+ * be run manually.
+ *
+ * @author agent - Initial contribution
+ */
+@Disabled
+public class JavaScriptTransformationBenchmark {
+
+    private static final String SCRIPT = "(function(i) { var data = JSON.parse(i); "
+            + "return String(data.temperature * 2); })(input)";
+    private static final String INPUT = "{\"temperature\":21.5,\"humidity\":48}";
+
+    private static final int THREADS = 8;
+    private static final int WARMUP_ITERATIONS = 1000;
+    private static final int ITERATIONS = 10000;
+
+    private final Logger logger = LoggerFactory.getLogger(JavaScriptTransformationBenchmark.class);
+
+    public @TempDir @NonNullByDefault({}) File folder;
+
+    @Test
+    public void benchmarkConcurrentTransformations() throws Exception {
+        Files.write(Paths.get(folder.getPath(), "temperature.js"), SCRIPT.getBytes(StandardCharsets.UTF_8));
+        JavaScriptTransformationService processor = new JavaScriptTransformationService();
+        processor.setJavaScriptEngineManager(new JavaScriptEngineManager(folder.getPath()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            run(executor, processor, WARMUP_ITERATIONS);
+
+            long start = System.nanoTime();
+            long[] latencies = run(executor, processor, ITERATIONS);
+            long time = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            logger.info("{} threads: {} transformations/s, p99 latency {} us", THREADS,
+                    latencies.length * TimeUnit.SECONDS.toNanos(1) / time,
+                    TimeUnit.NANOSECONDS.toMicros(latencies[latencies.length * 99 / 100]));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long[] run(ExecutorService executor, JavaScriptTransformationService processor, int iterations)
+            throws Exception {
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[iterations];
+                for (int i = 0; i < iterations; i++) {
+                    long start = System.nanoTime();
+                    String result = processor.transform("temperature.js", INPUT);
+                    latencies[i] = System.nanoTime() - start;
+                    assertEquals("43", result);
+                }
+                return latencies;
+            }));
+        }
+
+        long[] latencies = new long[THREADS * iterations];
+        for (int t = 0; t < THREADS; t++) {
+            System.arraycopy(futures.get(t).get(), 0, latencies, t * iterations, iterations);
+        }
+        return latencies;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.javascript.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import javax.script.ScriptEngineManager;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.core.transform.TransformationException;
+
+/**
+ * @author agent - Initial contribution
+ */
+public class JavaScriptTransformationServiceTest {
+
+    private static final String SCRIPT = "(function(i) { var data = JSON.parse(i); "
+            + "return String(data.temperature * 2); })(input)";
+    private static final String INPUT = "{\"temperature\":21.5,\"humidity\":48}";
+
+    public @TempDir @NonNullByDefault({}) File folder;
+
+    private JavaScriptEngineManager manager;
+    private JavaScriptTransformationService processor;
+
+    @BeforeEach
+    public void init() {
+        assumeTrue(new ScriptEngineManager().getEngineByName("javascript") != null, "no JavaScript engine available");
+
+        manager = new JavaScriptEngineManager(folder.getPath());
+        processor = new JavaScriptTransformationService();
+        processor.setJavaScriptEngineManager(manager);
+    }
+
+    @Test
+    public void testTransform() throws IOException, TransformationException {
+        writeScript("temperature.js", SCRIPT);
+
+        assertEquals("43", processor.transform("temperature.js", INPUT));
+        assertEquals("-6", processor.transform("temperature.js", "{\"temperature\":-3}"));
+    }
+
+    @Test
+    public void testGlobalsAreNotSharedBetweenScripts() throws IOException, TransformationException {
+        writeScript("first.js", "var value = input + '!'; value");
+        writeScript("second.js", "typeof value");
+
+        assertEquals("a!", processor.transform("first.js", "a"));
+        assertEquals("undefined", processor.transform("second.js", "b"));
+    }
+
+    @Test
+    public void testGlobalsAreNotSharedBetweenCalls() throws IOException, TransformationException {
+        writeScript("counter.js", "var count = (typeof count === 'undefined' ? 0 : count) + 1; input + count");
+
+        assertEquals("a1", processor.transform("counter.js", "a"));
+        assertEquals("b1", processor.transform("counter.js", "b"));
+    }
+
+    @Test
+    public void testModifiedScriptIsReloaded() throws IOException, TransformationException {
+        writeScript("script.js", "input + 1");
+        assertEquals("a1", processor.transform("script.js", "a"));
+
+        writeScript("script.js", "input + 2");
+        assertEquals("a1", processor.transform("script.js", "a"));
+
+        // as done by the TransformationScriptWatcher
+        manager.removeFromCache("script.js");
+        assertEquals("a2", processor.transform("script.js", "a"));
+    }
+
+    @Test
+    public void testInvalidScript() throws IOException {
+        writeScript("invalid.js", "input +");
+
+        assertThrows(TransformationException.class, () -> processor.transform("invalid.js", "a"));
+        assertThrows(TransformationException.class, () -> processor.transform("missing.js", "a"));
+    }
+
+    private void writeScript(String filename, String script) throws IOException {
+        Files.write(Paths.get(folder.getPath(), filename), script.getBytes(StandardCharsets.UTF_8));
+    }
+}
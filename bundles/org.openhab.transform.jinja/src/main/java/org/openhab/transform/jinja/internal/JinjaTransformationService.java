@@ -14,8 +14,10 @@ package org.openhab.transform.jinja.internal;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -30,11 +32,21 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.interpret.TemplateSyntaxException;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by Jinja2 Expressions.
+ * <p>
+ * Templates are parsed once and the parsed node trees are cached by the template text.
  *
  * @author Jochen Klein - Initial contribution
  *
@@ -45,7 +57,25 @@ public class JinjaTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
-    private Jinjava jinjava = new Jinjava();
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
+    // ObjectReader is immutable and thread-safe, contrary to a new ObjectMapper it does not need to be set up per call
+    private static final ObjectReader JSON_READER = new ObjectMapper().reader();
+
+    private final Jinjava jinjava = new Jinjava();
+
+    // parsed templates by template text, least recently used templates are removed
+    private final Map<String, Node> templates = Collections
+            .synchronizedMap(new LinkedHashMap<String, Node>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Node> eldest) {
+                    return size() > MAX_CACHED_TEMPLATES;
+                }
+            });
+
+    private final ThreadLocal<Map<String, @Nullable Object>> bindings = ThreadLocal.withInitial(HashMap::new);
 
     /**
      * Transforms the input <code>value</code> by Jinja template.
@@ -58,23 +88,61 @@ public class JinjaTransformationService implements TransformationService {
     public @Nullable String transform(String template, String value) throws TransformationException {
         logger.debug("about to transform '{}' by the function '{}'", value, template);
 
-        Map<String, @Nullable Object> bindings = new HashMap<>();
+        Map<String, @Nullable Object> bindings = this.bindings.get();
         bindings.put("value", value);
 
         try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
+            JsonNode tree = JSON_READER.readTree(value);
+            if (tree != null) {
+                bindings.put("value_json", toObject(tree));
+            }
         } catch (IOException e) {
             // ok, then value_json is null...
         }
 
-        String transformationResult = jinjava.render(template, bindings);
+        String transformationResult;
+        try {
+            transformationResult = render(template, bindings);
+        } finally {
+            bindings.clear();
+        }
 
         logger.debug("transformation resulted in '{}'", transformationResult);
 
         return transformationResult;
     }
 
+    /**
+     * Renders the template like {@link Jinjava#render(String, Map)}, but from the cached node tree of the template.
+     */
+    private String render(String template, Map<String, @Nullable Object> bindings) {
+        Context context = new Context(jinjava.getGlobalContext(), bindings);
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava, context, jinjava.getGlobalConfig());
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            Node root = templates.get(template);
+            if (root == null) {
+                root = interpreter.parse(template);
+                // templates with syntax errors are not cached, so the errors are reported on every call
+                if (interpreter.getErrors().isEmpty()) {
+                    templates.put(template, root);
+                }
+            }
+
+            String result = interpreter.render(root);
+            for (TemplateError error : interpreter.getErrors()) {
+                if (error.getSeverity() == ErrorType.FATAL) {
+                    throw new FatalTemplateErrorsException(template, interpreter.getErrors());
+                }
+            }
+            return result;
+        } catch (TemplateSyntaxException e) {
+            throw new FatalTemplateErrorsException(template, Collections.singletonList(TemplateError.fromException(e)));
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+    }
+
     private static @Nullable Object toObject(JsonNode node) {
         switch (node.getNodeType()) {
             case ARRAY: {
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jinja.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.transform.TransformationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of a cached template. It is not part of the regular build and has to be run manually.
+ *
+ * @author agent - Initial contribution
+ */
+@Disabled
+public class JinjaTransformationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5000;
+    private static final int ITERATIONS = 50000;
+
+    private final Logger logger = LoggerFactory.getLogger(JinjaTransformationBenchmark.class);
+
+    @Test
+    public void benchmarkTransform() throws TransformationException {
+        JinjaTransformationService processor = new JinjaTransformationService();
+        String template = "{{ value_json.temperature }}";
+        String json = "{\"temperature\":21.5,\"humidity\":48,\"battery\":97,\"linkquality\":110}";
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            processor.transform(template, json);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals("21.5", processor.transform(template, json));
+        }
+        long time = System.nanoTime() - start;
+
+        logger.info("'{}': {} messages/s", template, ITERATIONS * TimeUnit.SECONDS.toNanos(1) / time);
+    }
+}
@@ -18,6 +18,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.transform.TransformationException;
 
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+
 /**
  * @author Jochen Klein - Initial contribution
  */
@@ -59,4 +61,22 @@ public class JinjaTransformationServiceTest {
         // Asserts
         assertEquals("Hello world!", transformedResponse);
     }
+
+    @Test
+    public void testCachedTemplateWithDifferentValues() throws TransformationException {
+        String template = "{{ value_json.temperature }}";
+
+        assertEquals("21.5", processor.transform(template, "{\"temperature\":21.5}"));
+        assertEquals("-3", processor.transform(template, "{\"temperature\":-3}"));
+        // value_json of a previous call must not leak into the next one
+        assertEquals("", processor.transform(template, "not json"));
+        assertEquals("not json", processor.transform("{{ value }}", "not json"));
+    }
+
+    @Test
+    public void testInvalidTemplate() {
+        assertThrows(FatalTemplateErrorsException.class, () -> processor.transform("{% unknown %}", "1"));
+        // templates with errors are not cached
+        assertThrows(FatalTemplateErrorsException.class, () -> processor.transform("{% unknown %}", "1"));
+    }
 }
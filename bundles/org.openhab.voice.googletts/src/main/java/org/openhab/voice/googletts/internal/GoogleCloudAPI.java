@@ -13,16 +13,12 @@
 package org.openhab.voice.googletts.internal;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Dictionary;
@@ -43,6 +39,7 @@ import org.openhab.core.auth.client.oauth2.OAuthException;
 import org.openhab.core.auth.client.oauth2.OAuthFactory;
 import org.openhab.core.auth.client.oauth2.OAuthResponseException;
 import org.openhab.core.io.net.http.HttpRequestBuilder;
+import org.openhab.io.ttscache.TTSAudioCache;
 import org.openhab.voice.googletts.internal.protocol.AudioConfig;
 import org.openhab.voice.googletts.internal.protocol.AudioEncoding;
 import org.openhab.voice.googletts.internal.protocol.ListVoicesResponse;
@@ -67,9 +64,10 @@ import com.google.gson.GsonBuilder;
  */
 class GoogleCloudAPI {
 
-    private static final char EXTENSION_SEPARATOR = '.';
-    private static final char UNIX_SEPARATOR = '/';
-    private static final char WINDOWS_SEPARATOR = '\\';
+    /**
+     * Maximum size of the audio data kept in memory
+     */
+    private static final long MAX_MEMORY_BYTES = 4 * 1024 * 1024;
 
     private static final String BEARER = "Bearer ";
 
@@ -106,6 +104,12 @@ class GoogleCloudAPI {
      */
     private File cacheFolder;
 
+    /**
+     * Cache of the synthesized audio
+     */
+    private @Nullable TTSAudioCache cache;
+    private long cacheSize = -1;
+
     /**
      * Configuration
      */
@@ -165,11 +169,18 @@ class GoogleCloudAPI {
         }
 
         // maintain cache
+        TTSAudioCache cache = this.cache;
+        if (cache == null) {
+            cacheSize = config.cacheSize;
+            cache = new TTSAudioCache(cacheFolder, cacheSize * 1024 * 1024, MAX_MEMORY_BYTES);
+            this.cache = cache;
+        } else if (cacheSize != config.cacheSize) {
+            // the cache is kept, as its running downloads still write to the cache folder
+            cacheSize = config.cacheSize;
+            cache.setLimits(cacheSize * 1024 * 1024, MAX_MEMORY_BYTES);
+        }
         if (config.purgeCache) {
-            File[] files = cacheFolder.listFiles();
-            if (files != null && files.length > 0) {
-                Arrays.stream(files).forEach(File::delete);
-            }
+            cache.clear();
             logger.debug("Cache purged.");
         }
     }
@@ -321,19 +332,21 @@ class GoogleCloudAPI {
 
     byte[] synthesizeSpeech(String text, GoogleTTSVoice voice, String codec) {
         String[] format = getFormatForCodec(codec);
-        String fileNameInCache = getUniqueFilenameForText(text, voice.getTechnicalName());
-        File audioFileInCache = new File(cacheFolder, fileNameInCache + "." + format[1]);
+        String fileNameInCache = getUniqueFilenameForText(text, voice.getTechnicalName()) + "." + format[1];
+        TTSAudioCache cache = this.cache;
         try {
             // check if in cache
-            if (audioFileInCache.exists()) {
-                logger.debug("Audio file {} was found in cache.", audioFileInCache.getName());
-                return Files.readAllBytes(audioFileInCache.toPath());
+            byte[] audio = cache != null ? cache.getAudio(fileNameInCache) : null;
+            if (audio != null) {
+                logger.debug("Audio file {} was found in cache.", fileNameInCache);
+                return audio;
             }
 
             // if not in cache, get audio data and put to cache
-            byte[] audio = synthesizeSpeechByGoogle(text, voice, format[0]);
-            if (audio != null) {
-                saveAudioAndTextToFile(text, audioFileInCache, audio, voice.getTechnicalName());
+            audio = synthesizeSpeechByGoogle(text, voice, format[0]);
+            if (audio != null && cache != null) {
+                logger.debug("Caching audio file {}", fileNameInCache);
+                cache.put(fileNameInCache, getCacheDescription(text, voice.getTechnicalName()), audio);
             }
             return audio;
         } catch (AuthenticationException ex) {
@@ -342,60 +355,33 @@ class GoogleCloudAPI {
             initialized = false;
             voices.clear();
             return null;
-        } catch (FileNotFoundException ex) {
-            logger.warn("Could not write {} to cache", audioFileInCache, ex);
-            return null;
         } catch (IOException ex) {
-            logger.error("Could not write {} to cache", audioFileInCache, ex);
+            logger.error("Could not read from Google Cloud TTS service", ex);
             return null;
         }
     }
 
     /**
-     * Create cache entry.
+     * Creates the content of the text file of a cache entry.
      *
      * @param text Converted text.
-     * @param cacheFile Cache entry file.
-     * @param audio Byte array of the audio.
      * @param voiceName Used voice
-     * @throws IOException in case of file handling exceptions
+     * @return the description of the cache entry
      */
-    private void saveAudioAndTextToFile(String text, File cacheFile, byte[] audio, String voiceName)
-            throws IOException {
-        logger.debug("Caching audio file {}", cacheFile.getName());
-        try (FileOutputStream audioFileOutputStream = new FileOutputStream(cacheFile)) {
-            audioFileOutputStream.write(audio);
-        }
-
+    private String getCacheDescription(String text, String voiceName) {
         // write text to file for transparency too
         // this allows to know which contents is in which audio file
-        String textFileName = removeExtension(cacheFile.getName()) + ".txt";
-        logger.debug("Caching text file {}", textFileName);
-        try (FileOutputStream textFileOutputStream = new FileOutputStream(new File(cacheFolder, textFileName))) {
-            // @formatter:off
-            StringBuilder sb = new StringBuilder("Config: ")
-                    .append(config.toConfigString())
-                    .append(",voice=")
-                    .append(voiceName)
-                    .append(System.lineSeparator())
-                    .append("Text: ")
-                    .append(text)
-                    .append(System.lineSeparator());
-            // @formatter:on
-            textFileOutputStream.write(sb.toString().getBytes(StandardCharsets.UTF_8));
-        }
-    }
-
-    /**
-     * Removes the extension of a file name.
-     *
-     * @param fileName the file name to remove the extension of
-     * @return the filename without the extension
-     */
-    private String removeExtension(String fileName) {
-        int extensionPos = fileName.lastIndexOf(EXTENSION_SEPARATOR);
-        int lastSeparator = Math.max(fileName.lastIndexOf(UNIX_SEPARATOR), fileName.lastIndexOf(WINDOWS_SEPARATOR));
-        return lastSeparator > extensionPos ? fileName : fileName.substring(0, extensionPos);
+        // @formatter:off
+        return new StringBuilder("Config: ")
+                .append(config.toConfigString())
+                .append(",voice=")
+                .append(voiceName)
+                .append(System.lineSeparator())
+                .append("Text: ")
+                .append(text)
+                .append(System.lineSeparator())
+                .toString();
+        // @formatter:on
     }
 
     /**
@@ -12,6 +12,8 @@
  */
 package org.openhab.voice.googletts.internal;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -49,10 +51,21 @@ class GoogleTTSConfig {
      */
     public Boolean purgeCache = Boolean.FALSE;
 
+    /**
+     * Maximum size of the cache folder in MB, 0 for no limit.
+     */
+    public long cacheSize = 50;
+
+    /**
+     * Texts that are synthesized in advance with the preload voice.
+     */
+    public @Nullable String preloadVoice;
+    public List<String> preloadTexts = List.of();
+
     @Override
     public String toString() {
         return "GoogleTTSConfig{pitch=" + pitch + ", speakingRate=" + speakingRate + ", volumeGainDb=" + volumeGainDb
-                + ", purgeCache=" + purgeCache + '}';
+                + ", purgeCache=" + purgeCache + ", cacheSize=" + cacheSize + '}';
     }
 
     String toConfigString() {
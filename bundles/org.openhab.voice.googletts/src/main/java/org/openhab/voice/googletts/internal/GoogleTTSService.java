@@ -15,11 +15,14 @@ package org.openhab.voice.googletts.internal;
 import static org.openhab.voice.googletts.internal.GoogleTTSService.*;
 
 import java.io.File;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,6 +31,7 @@ import org.openhab.core.audio.AudioFormat;
 import org.openhab.core.audio.AudioStream;
 import org.openhab.core.audio.ByteArrayAudioStream;
 import org.openhab.core.auth.client.oauth2.OAuthFactory;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.voice.TTSException;
 import org.openhab.core.voice.TTSService;
@@ -86,6 +90,9 @@ public class GoogleTTSService implements TTSService {
     private static final String PARAM_SPEAKING_RATE = "speakingRate";
     private static final String PARAM_VOLUME_GAIN_DB = "volumeGainDb";
     private static final String PARAM_PURGE_CACHE = "purgeCache";
+    private static final String PARAM_CACHE_SIZE = "cacheSize";
+    private static final String PARAM_PRELOAD_VOICE = "preloadVoice";
+    private static final String PARAM_PRELOAD_TEXTS = "preloadTexts";
 
     /**
      * Logger.
@@ -229,6 +236,23 @@ public class GoogleTTSService implements TTSService {
             if (param != null) {
                 config.purgeCache = Boolean.parseBoolean(param);
             }
+
+            // cacheSize
+            param = newConfig.containsKey(PARAM_CACHE_SIZE) ? newConfig.get(PARAM_CACHE_SIZE).toString() : null;
+            if (param != null) {
+                config.cacheSize = (long) Double.parseDouble(param);
+            }
+
+            // preloadVoice and preloadTexts
+            param = newConfig.containsKey(PARAM_PRELOAD_VOICE) ? newConfig.get(PARAM_PRELOAD_VOICE).toString() : null;
+            config.preloadVoice = param;
+            Object texts = newConfig.get(PARAM_PRELOAD_TEXTS);
+            if (texts instanceof Collection) {
+                config.preloadTexts = ((Collection<?>) texts).stream().map(Object::toString)
+                        .collect(Collectors.toList());
+            } else {
+                config.preloadTexts = texts != null ? List.of(texts.toString()) : List.of();
+            }
             logger.trace("New configuration: {}", config.toString());
 
             if (config.clientId != null && !config.clientId.isEmpty() && config.clientSecret != null
@@ -237,6 +261,7 @@ public class GoogleTTSService implements TTSService {
                 if (apiImpl.isInitialized()) {
                     allVoices = initVoices();
                     audioFormats = initAudioFormats();
+                    preload();
                 }
             }
         } else {
@@ -244,6 +269,32 @@ public class GoogleTTSService implements TTSService {
         }
     }
 
+    /**
+     * Synthesizes the configured texts in advance, so that they are played without delay.
+     */
+    private void preload() {
+        String preloadVoice = config.preloadVoice;
+        List<String> texts = config.preloadTexts;
+        if (preloadVoice == null || preloadVoice.isEmpty() || texts.isEmpty()) {
+            return;
+        }
+        Voice voice = allVoices.stream().filter(v -> v.getUID().equals(preloadVoice)).findAny().orElse(null);
+        if (voice == null) {
+            logger.warn("Voice {} for preloading texts is unsupported", preloadVoice);
+            return;
+        }
+        ThreadPoolManager.getPool(SERVICE_ID).submit(() -> {
+            for (String text : texts) {
+                String trimmedText = text.trim();
+                if (!trimmedText.isEmpty() && apiImpl.synthesizeSpeech(trimmedText, (GoogleTTSVoice) voice,
+                        AudioFormat.CODEC_MP3) == null) {
+                    logger.warn("Could not preload '{}'", trimmedText);
+                }
+            }
+            logger.debug("Preloaded {} texts for voice {}", texts.size(), preloadVoice);
+        });
+    }
+
     @Override
     public String getId() {
         return SERVICE_ID;
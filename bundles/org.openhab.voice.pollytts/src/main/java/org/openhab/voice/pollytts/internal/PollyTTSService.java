@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -28,10 +29,12 @@ import org.openhab.core.OpenHAB;
 import org.openhab.core.audio.AudioException;
 import org.openhab.core.audio.AudioFormat;
 import org.openhab.core.audio.AudioStream;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.voice.TTSException;
 import org.openhab.core.voice.TTSService;
 import org.openhab.core.voice.Voice;
+import org.openhab.io.ttscache.TTSAudioCache;
 import org.openhab.voice.pollytts.internal.cloudapi.CachedPollyTTSCloudImpl;
 import org.openhab.voice.pollytts.internal.cloudapi.PollyTTSConfig;
 import org.osgi.framework.Constants;
@@ -76,6 +79,11 @@ public class PollyTTSService implements TTSService {
      */
     private static final String CACHE_FOLDER_NAME = "cache";
 
+    /**
+     * Maximum size of the audio data kept in memory
+     */
+    private static final long MAX_MEMORY_BYTES = 4 * 1024 * 1024;
+
     private final Logger logger = LoggerFactory.getLogger(PollyTTSService.class);
 
     /**
@@ -83,6 +91,11 @@ public class PollyTTSService implements TTSService {
      */
     private CachedPollyTTSCloudImpl pollyTTSImpl;
 
+    /**
+     * Cache of the speech files, kept when the configuration changes
+     */
+    private TTSAudioCache cache;
+
     /**
      * Set of supported voices
      */
@@ -106,14 +119,20 @@ public class PollyTTSService implements TTSService {
             pollyTTSConfig = new PollyTTSConfig(config);
             logger.debug("Using configuration {}", config);
 
-            // create cache folder
-            File cacheFolder = new File(new File(OpenHAB.getUserDataFolder(), CACHE_FOLDER_NAME), SERVICE_PID);
-            if (!cacheFolder.exists()) {
-                cacheFolder.mkdirs();
+            long maxCacheBytes = pollyTTSConfig.getCacheSize() * 1024 * 1024;
+            if (cache == null) {
+                // create cache folder
+                File cacheFolder = new File(new File(OpenHAB.getUserDataFolder(), CACHE_FOLDER_NAME), SERVICE_PID);
+                if (!cacheFolder.exists()) {
+                    cacheFolder.mkdirs();
+                }
+                logger.info("Using cache folder {}", cacheFolder.getAbsolutePath());
+                cache = new TTSAudioCache(cacheFolder, maxCacheBytes, MAX_MEMORY_BYTES);
+            } else {
+                cache.setLimits(maxCacheBytes, MAX_MEMORY_BYTES);
             }
-            logger.info("Using cache folder {}", cacheFolder.getAbsolutePath());
 
-            pollyTTSImpl = new CachedPollyTTSCloudImpl(pollyTTSConfig, cacheFolder);
+            pollyTTSImpl = new CachedPollyTTSCloudImpl(pollyTTSConfig, cache);
 
             audioFormats.clear();
             audioFormats.addAll(initAudioFormats());
@@ -122,6 +141,8 @@ public class PollyTTSService implements TTSService {
             voices.addAll(initVoices());
 
             logger.debug("PollyTTS service initialized");
+
+            preload();
         } catch (IllegalArgumentException e) {
             logger.warn("Failed to initialize PollyTTS: {}", e.getMessage());
         } catch (Exception e) {
@@ -167,13 +188,9 @@ public class PollyTTSService implements TTSService {
         // now create the input stream for given text, locale, format. There is
         // only a default voice
         try {
-            File cacheAudioFile = pollyTTSImpl.getTextToSpeechAsFile(text, voice.getLabel(),
-                    getApiAudioFormat(requestedFormat));
-            if (cacheAudioFile == null) {
-                throw new TTSException("Could not read from PollyTTS service");
-            }
+            AudioStream audioStream = pollyTTSImpl.getTextToSpeechAsStream(text, voice.getLabel(),
+                    getApiAudioFormat(requestedFormat), requestedFormat);
             logger.debug("Audio Stream for '{}' in format {}", text, requestedFormat);
-            AudioStream audioStream = new PollyTTSAudioStream(cacheAudioFile, requestedFormat);
             return audioStream;
         } catch (AudioException ex) {
             throw new TTSException("Could not create AudioStream: " + ex.getMessage(), ex);
@@ -182,6 +199,39 @@ public class PollyTTSService implements TTSService {
         }
     }
 
+    /**
+     * Synthesizes the configured texts in advance, so that they are played without delay.
+     */
+    private void preload() {
+        String preloadVoice = pollyTTSConfig.getPreloadVoice();
+        List<String> texts = pollyTTSConfig.getPreloadTexts();
+        if (preloadVoice.isEmpty() || texts.isEmpty()) {
+            return;
+        }
+        Voice voice = voices.stream().filter(v -> v.getUID().equals(preloadVoice)).findAny().orElse(null);
+        if (voice == null) {
+            logger.warn("Voice {} for preloading texts is unsupported", preloadVoice);
+            return;
+        }
+        CachedPollyTTSCloudImpl impl = pollyTTSImpl;
+        String audioFormat = "default".equals(pollyTTSConfig.getAudioFormat()) ? CODEC_MP3
+                : pollyTTSConfig.getAudioFormat();
+        ThreadPoolManager.getPool(SERVICE_ID).submit(() -> {
+            for (String text : texts) {
+                String trimmedText = text.trim();
+                if (trimmedText.isEmpty()) {
+                    continue;
+                }
+                try {
+                    impl.getTextToSpeechAsFile(trimmedText, voice.getLabel(), audioFormat);
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Could not preload '{}': {}", trimmedText, e.getMessage());
+                }
+            }
+            logger.debug("Preloaded {} texts for voice {}", texts.size(), preloadVoice);
+        });
+    }
+
     private Set<Voice> initVoices() {
         // @formatter:off
         return pollyTTSImpl.getAvailableLocales().stream()
@@ -13,10 +13,7 @@
 package org.openhab.voice.pollytts.internal.cloudapi;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -24,6 +21,10 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
+import org.openhab.core.audio.AudioException;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+import org.openhab.io.ttscache.TTSAudioCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,55 +36,38 @@ import org.slf4j.LoggerFactory;
  */
 public class CachedPollyTTSCloudImpl extends PollyTTSCloudImpl {
 
-    private static final int READ_BUFFER_SIZE = 4096;
-
     private final Logger logger = LoggerFactory.getLogger(CachedPollyTTSCloudImpl.class);
 
-    private final File cacheFolder;
+    private final TTSAudioCache cache;
 
     /**
-     * Create the file folder to hold the the cached speech files.
-     * check to make sure the directory exist and
-     * create it if necessary
+     * Use the given cache of the speech files. The cache is shared between the instances created for
+     * each configuration, as its downloads may still be running when the configuration changes.
      */
-    public CachedPollyTTSCloudImpl(PollyTTSConfig config, File cacheFolder) throws IOException {
+    public CachedPollyTTSCloudImpl(PollyTTSConfig config, TTSAudioCache cache) {
         super(config);
-        this.cacheFolder = cacheFolder;
+        this.cache = cache;
     }
 
     /**
-     * Fetch the specified text as an audio file.
-     * The audio file will be obtained from the cached folder if it
-     * exist or generated by use to the external voice service.
-     * The cached file txt description time stamp will be updated
-     * to identify last use.
+     * Fetch the specified text as an audio stream.
+     * The audio will be obtained from the cache if it exists, otherwise it
+     * is played while it is downloaded from the external voice service.
+     * The time stamp of the cached file is updated to identify last use.
      */
-    public File getTextToSpeechAsFile(String text, String label, String audioFormat) throws IOException {
-        String fileNameInCache = getUniqueFilenameForText(text, label);
-        // check if in cache
-        File audioFileInCache = new File(cacheFolder, fileNameInCache + "." + audioFormat.toLowerCase());
-        if (audioFileInCache.exists()) {
-            // update use date
-            updateTimeStamp(audioFileInCache);
-            updateTimeStamp(new File(cacheFolder, fileNameInCache + ".txt"));
-            purgeAgedFiles();
-            return audioFileInCache;
-        }
+    public AudioStream getTextToSpeechAsStream(String text, String label, String audioFormat, AudioFormat format)
+            throws IOException, AudioException {
+        purgeAgedFiles();
+        return cache.get(getUniqueFilenameForText(text, label) + "." + audioFormat.toLowerCase(), text, format,
+                () -> getTextToSpeech(text, label, audioFormat));
+    }
 
-        // if not in cache, get audio data and put to cache
-        try (InputStream is = getTextToSpeech(text, label, audioFormat);
-                FileOutputStream fos = new FileOutputStream(audioFileInCache)) {
-            copyStream(is, fos);
-            // write text to file for transparency too
-            // this allows to know which contents is in which audio file
-            File txtFileInCache = new File(cacheFolder, fileNameInCache + ".txt");
-            writeText(txtFileInCache, text);
-            // return from cache
-            return audioFileInCache;
-        } catch (IOException ex) {
-            logger.warn("Could not write {} to cache, return null", audioFileInCache, ex);
-            return null;
-        }
+    /**
+     * Fetch the specified text into the cache if it is not cached yet.
+     */
+    public File getTextToSpeechAsFile(String text, String label, String audioFormat) throws IOException {
+        return cache.prefetch(getUniqueFilenameForText(text, label) + "." + audioFormat.toLowerCase(), text,
+                () -> getTextToSpeech(text, label, audioFormat));
     }
 
     /**
@@ -112,29 +96,7 @@ public class CachedPollyTTSCloudImpl extends PollyTTSCloudImpl {
         return fileName;
     }
 
-    // helper methods
-
-    private void copyStream(InputStream inputStream, OutputStream outputStream) throws IOException {
-        byte[] bytes = new byte[READ_BUFFER_SIZE];
-        int read = inputStream.read(bytes, 0, READ_BUFFER_SIZE);
-        while (read > 0) {
-            outputStream.write(bytes, 0, read);
-            read = inputStream.read(bytes, 0, READ_BUFFER_SIZE);
-        }
-    }
-
-    private void writeText(File file, String text) throws IOException {
-        try (OutputStream outputStream = new FileOutputStream(file)) {
-            outputStream.write(text.getBytes(StandardCharsets.UTF_8));
-        }
-    }
-
-    private void updateTimeStamp(File file) throws IOException {
-        // update use date for cache management
-        file.setLastModified(System.currentTimeMillis());
-    }
-
-    private void purgeAgedFiles() throws IOException {
+    private void purgeAgedFiles() {
         // just exit if expiration set to 0/disabled
         if (config.getExpireDate() == 0) {
             return;
@@ -146,16 +108,7 @@ public class CachedPollyTTSCloudImpl extends PollyTTSCloudImpl {
         logger.debug("PollyTTS cache cleaner lastdelete {}", diff);
         if (diff > (2 * oneDayMillis)) {
             config.setLastDelete(now);
-            long xDaysAgo = config.getExpireDate() * oneDayMillis;
-            // Now search folders and delete old files
-            int filesDeleted = 0;
-            for (File file : cacheFolder.listFiles()) {
-                diff = now - file.lastModified();
-                if (diff > xDaysAgo) {
-                    filesDeleted++;
-                    file.delete();
-                }
-            }
+            int filesDeleted = cache.purgeOlderThan(config.getExpireDate() * oneDayMillis);
             logger.debug("PollyTTS cache cleaner deleted '{}' aged files", filesDeleted);
         }
     }
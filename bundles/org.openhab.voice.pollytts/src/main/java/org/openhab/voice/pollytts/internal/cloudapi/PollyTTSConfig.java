@@ -12,6 +12,7 @@
  */
 package org.openhab.voice.pollytts.internal.cloudapi;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,6 +30,9 @@ public class PollyTTSConfig {
     private static final String SERVICE_REGION = "serviceRegion";
     private static final String AUDIO_FORMAT = "audioFormat";
     private static final String CACHE_EXPIRATION = "cacheExpiration";
+    private static final String CACHE_SIZE = "cacheSize";
+    private static final String PRELOAD_VOICE = "preloadVoice";
+    private static final String PRELOAD_TEXTS = "preloadTexts";
 
     private String accessKey = "";
     private String secretKey = "";
@@ -36,6 +40,9 @@ public class PollyTTSConfig {
     private int expireDate = 0;
     private String audioFormat = "default";
     private long lastDelete;
+    private long cacheSize = 50;
+    private String preloadVoice = "";
+    private List<String> preloadTexts = List.of();
 
     public PollyTTSConfig(Map<String, Object> config) {
         assertValidConfig(config);
@@ -46,6 +53,14 @@ public class PollyTTSConfig {
         audioFormat = config.getOrDefault(AUDIO_FORMAT, audioFormat).toString();
         expireDate = (int) Double
                 .parseDouble(config.getOrDefault(CACHE_EXPIRATION, Double.toString(expireDate)).toString());
+        cacheSize = (long) Double.parseDouble(config.getOrDefault(CACHE_SIZE, Long.toString(cacheSize)).toString());
+        preloadVoice = config.getOrDefault(PRELOAD_VOICE, preloadVoice).toString();
+        Object texts = config.get(PRELOAD_TEXTS);
+        if (texts instanceof Collection) {
+            preloadTexts = ((Collection<?>) texts).stream().map(Object::toString).collect(Collectors.toList());
+        } else if (texts != null) {
+            preloadTexts = List.of(texts.toString());
+        }
     }
 
     private void assertValidConfig(Map<String, Object> config) {
@@ -78,6 +93,27 @@ public class PollyTTSConfig {
         return expireDate;
     }
 
+    /**
+     * get the maximum size of the cache folder in MB, 0 for no limit
+     */
+    public long getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * get the voice UID used to synthesize the preload texts
+     */
+    public String getPreloadVoice() {
+        return preloadVoice;
+    }
+
+    /**
+     * get the texts that are synthesized in advance
+     */
+    public List<String> getPreloadTexts() {
+        return preloadTexts;
+    }
+
     /**
      * returns audio format specified for audio
      */
@@ -104,6 +140,7 @@ public class PollyTTSConfig {
         StringBuilder builder = new StringBuilder();
         builder.append("PollyTTSConfig [accessKey=").append(accessKey).append(", secretKey=").append(secretKey)
                 .append(", serviceRegion=").append(serviceRegion).append(", expireDate=").append(expireDate)
+                .append(", cacheSize=").append(cacheSize)
                 .append(", audioFormat=").append(audioFormat).append(", lastDelete=").append(lastDelete).append("]");
         return builder.toString();
     }
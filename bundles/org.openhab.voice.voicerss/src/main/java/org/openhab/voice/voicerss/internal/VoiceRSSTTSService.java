@@ -14,16 +14,21 @@ package org.openhab.voice.voicerss.internal;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.openhab.core.OpenHAB;
 import org.openhab.core.audio.AudioException;
 import org.openhab.core.audio.AudioFormat;
 import org.openhab.core.audio.AudioStream;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.voice.TTSException;
 import org.openhab.core.voice.TTSService;
@@ -52,6 +57,17 @@ public class VoiceRSSTTSService implements TTSService {
     private static final String CONFIG_API_KEY = "apiKey";
     private String apiKey;
 
+    /** Maximum size of the cache folder in MB, 0 for no limit. */
+    private static final String CONFIG_CACHE_SIZE = "cacheSize";
+    private static final long DEFAULT_CACHE_SIZE = 50;
+    private long cacheSize = DEFAULT_CACHE_SIZE;
+
+    /** Texts that are synthesized in advance with the preload voice. */
+    private static final String CONFIG_PRELOAD_VOICE = "preloadVoice";
+    private static final String CONFIG_PRELOAD_TEXTS = "preloadTexts";
+    private String preloadVoice;
+    private List<String> preloadTexts = List.of();
+
     private final Logger logger = LoggerFactory.getLogger(VoiceRSSTTSService.class);
 
     /**
@@ -80,6 +96,7 @@ public class VoiceRSSTTSService implements TTSService {
             audioFormats = initAudioFormats();
 
             logger.debug("Using VoiceRSS cache folder {}", getCacheFolderName());
+            preload(preloadTexts);
         } catch (IllegalStateException e) {
             logger.error("Failed to activate VoiceRSS: {}", e.getMessage(), e);
         }
@@ -88,8 +105,70 @@ public class VoiceRSSTTSService implements TTSService {
     @Modified
     protected void modified(Map<String, Object> config) {
         if (config != null) {
+            final String previousApiKey = apiKey;
+            final String previousVoice = preloadVoice;
+            final List<String> previousTexts = preloadTexts;
             apiKey = config.containsKey(CONFIG_API_KEY) ? config.get(CONFIG_API_KEY).toString() : null;
+            long cacheSize = config.containsKey(CONFIG_CACHE_SIZE)
+                    ? (long) Double.parseDouble(config.get(CONFIG_CACHE_SIZE).toString())
+                    : DEFAULT_CACHE_SIZE;
+            boolean cacheSizeChanged = cacheSize != this.cacheSize;
+            this.cacheSize = cacheSize;
+            if (voiceRssImpl != null && cacheSizeChanged) {
+                // the cache is kept, as its running downloads still write to the cache folder
+                voiceRssImpl.setMaxCacheBytes(cacheSize * 1024 * 1024);
+            }
+            preloadVoice = config.containsKey(CONFIG_PRELOAD_VOICE) ? config.get(CONFIG_PRELOAD_VOICE).toString()
+                    : null;
+            Object texts = config.get(CONFIG_PRELOAD_TEXTS);
+            if (texts instanceof Collection) {
+                preloadTexts = ((Collection<?>) texts).stream().map(Object::toString).collect(Collectors.toList());
+            } else {
+                preloadTexts = texts != null ? List.of(texts.toString()) : List.of();
+            }
+            if (voiceRssImpl != null) {
+                if (previousApiKey == null || !Objects.equals(previousVoice, preloadVoice)) {
+                    preload(preloadTexts);
+                } else {
+                    // the other texts are already cached with this voice
+                    preload(preloadTexts.stream().filter(text -> !previousTexts.contains(text))
+                            .collect(Collectors.toList()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Synthesizes the given texts in advance with the preload voice, so that they are played without delay.
+     *
+     * @param texts the texts to synthesize
+     */
+    private void preload(List<String> texts) {
+        final String apiKey = this.apiKey;
+        final String preloadVoice = this.preloadVoice;
+        if (apiKey == null || preloadVoice == null || texts.isEmpty()) {
+            return;
         }
+        Voice voice = voices.stream().filter(v -> v.getUID().equals(preloadVoice)).findAny().orElse(null);
+        if (voice == null) {
+            logger.warn("Voice {} for preloading texts is unsupported", preloadVoice);
+            return;
+        }
+        final CachedVoiceRSSCloudImpl impl = voiceRssImpl;
+        ThreadPoolManager.getPool(getId()).submit(() -> {
+            for (String text : texts) {
+                String trimmedText = text.trim();
+                if (trimmedText.isEmpty()) {
+                    continue;
+                }
+                try {
+                    impl.getTextToSpeechAsFile(apiKey, trimmedText, voice.getLocale().toLanguageTag(), "MP3");
+                } catch (IOException e) {
+                    logger.warn("Could not preload '{}': {}", trimmedText, e.getMessage());
+                }
+            }
+            logger.debug("Preloaded {} texts for voice {}", texts.size(), preloadVoice);
+        });
     }
 
     @Override
@@ -135,12 +214,8 @@ public class VoiceRSSTTSService implements TTSService {
         // now create the input stream for given text, locale, format. There is
         // only a default voice
         try {
-            File cacheAudioFile = voiceRssImpl.getTextToSpeechAsFile(apiKey, trimmedText,
-                    voice.getLocale().toLanguageTag(), getApiAudioFormat(requestedFormat));
-            if (cacheAudioFile == null) {
-                throw new TTSException("Could not read from VoiceRSS service");
-            }
-            return new VoiceRSSAudioStream(cacheAudioFile, requestedFormat);
+            return voiceRssImpl.getTextToSpeechAsStream(apiKey, trimmedText, voice.getLocale().toLanguageTag(),
+                    getApiAudioFormat(requestedFormat), requestedFormat);
         } catch (AudioException ex) {
             throw new TTSException("Could not create AudioStream: " + ex.getMessage(), ex);
         } catch (IOException ex) {
@@ -213,7 +288,7 @@ public class VoiceRSSTTSService implements TTSService {
     }
 
     private CachedVoiceRSSCloudImpl initVoiceImplementation() {
-        return new CachedVoiceRSSCloudImpl(getCacheFolderName());
+        return new CachedVoiceRSSCloudImpl(getCacheFolderName(), cacheSize * 1024 * 1024);
     }
 
     private String getCacheFolderName() {
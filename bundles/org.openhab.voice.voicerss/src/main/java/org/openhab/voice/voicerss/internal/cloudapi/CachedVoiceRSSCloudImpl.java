@@ -13,16 +13,16 @@
 package org.openhab.voice.voicerss.internal.cloudapi;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
+import org.openhab.core.audio.AudioException;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+import org.openhab.io.ttscache.TTSAudioCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,52 +35,60 @@ import org.slf4j.LoggerFactory;
  */
 public class CachedVoiceRSSCloudImpl extends VoiceRSSCloudImpl {
 
+    /**
+     * Maximum size of the audio data kept in memory
+     */
+    private static final long MAX_MEMORY_BYTES = 4 * 1024 * 1024;
+
     private final Logger logger = LoggerFactory.getLogger(CachedVoiceRSSCloudImpl.class);
 
-    private final File cacheFolder;
+    private final TTSAudioCache cache;
+
+    public CachedVoiceRSSCloudImpl(String cacheFolderName) {
+        this(cacheFolderName, 0);
+    }
 
     /**
-     * Stream buffer size
+     * @param cacheFolderName the folder of the cached audio files
+     * @param maxCacheBytes the maximum total size of the cached audio files, 0 for no limit
      */
-    private static final int READ_BUFFER_SIZE = 4096;
-
-    public CachedVoiceRSSCloudImpl(String cacheFolderName) {
+    public CachedVoiceRSSCloudImpl(String cacheFolderName, long maxCacheBytes) {
         if (cacheFolderName == null) {
             throw new IllegalStateException("Folder for cache must be defined");
         }
-        // Lazy create the cache folder
-        cacheFolder = new File(cacheFolderName);
-        if (!cacheFolder.exists()) {
-            cacheFolder.mkdirs();
-        }
+        cache = new TTSAudioCache(new File(cacheFolderName), maxCacheBytes, MAX_MEMORY_BYTES);
+    }
+
+    /**
+     * Changes the maximum total size of the cached audio files.
+     *
+     * @param maxCacheBytes the maximum total size of the cached audio files, 0 for no limit
+     */
+    public void setMaxCacheBytes(long maxCacheBytes) {
+        cache.setLimits(maxCacheBytes, MAX_MEMORY_BYTES);
+    }
+
+    /**
+     * Get the given text as audio stream. If the audio is not cached yet, the returned stream reads it while it is
+     * downloaded to the cache.
+     */
+    public AudioStream getTextToSpeechAsStream(String apiKey, String text, String locale, String audioFormat,
+            AudioFormat format) throws IOException, AudioException {
+        return cache.get(getFileNameInCache(text, locale, audioFormat), text, format,
+                () -> super.getTextToSpeech(apiKey, text, locale, audioFormat));
     }
 
+    /**
+     * Get the given text as cached audio file, downloading it if it is not cached yet.
+     */
     public File getTextToSpeechAsFile(String apiKey, String text, String locale, String audioFormat)
             throws IOException {
-        String fileNameInCache = getUniqueFilenameForText(text, locale);
-        // check if in cache
-        File audioFileInCache = new File(cacheFolder, fileNameInCache + "." + audioFormat.toLowerCase());
-        if (audioFileInCache.exists()) {
-            return audioFileInCache;
-        }
+        return cache.prefetch(getFileNameInCache(text, locale, audioFormat), text,
+                () -> super.getTextToSpeech(apiKey, text, locale, audioFormat));
+    }
 
-        // if not in cache, get audio data and put to cache
-        try (InputStream is = super.getTextToSpeech(apiKey, text, locale, audioFormat);
-                FileOutputStream fos = new FileOutputStream(audioFileInCache)) {
-            copyStream(is, fos);
-            // write text to file for transparency too
-            // this allows to know which contents is in which audio file
-            File txtFileInCache = new File(cacheFolder, fileNameInCache + ".txt");
-            writeText(txtFileInCache, text);
-            // return from cache
-            return audioFileInCache;
-        } catch (FileNotFoundException ex) {
-            logger.warn("Could not write {} to cache", audioFileInCache, ex);
-            return null;
-        } catch (IOException ex) {
-            logger.error("Could not write {} to cache", audioFileInCache, ex);
-            return null;
-        }
+    private String getFileNameInCache(String text, String locale, String audioFormat) {
+        return getUniqueFilenameForText(text, locale) + "." + audioFormat.toLowerCase();
     }
 
     /**
@@ -108,21 +116,4 @@ public class CachedVoiceRSSCloudImpl extends VoiceRSSCloudImpl {
             return null;
         }
     }
-
-    // helper methods
-
-    private void copyStream(InputStream inputStream, OutputStream outputStream) throws IOException {
-        byte[] bytes = new byte[READ_BUFFER_SIZE];
-        int read = inputStream.read(bytes, 0, READ_BUFFER_SIZE);
-        while (read > 0) {
-            outputStream.write(bytes, 0, read);
-            read = inputStream.read(bytes, 0, READ_BUFFER_SIZE);
-        }
-    }
-
-    private void writeText(File file, String text) throws IOException {
-        try (OutputStream outputStream = new FileOutputStream(file)) {
-            outputStream.write(text.getBytes(StandardCharsets.UTF_8));
-        }
-    }
 }